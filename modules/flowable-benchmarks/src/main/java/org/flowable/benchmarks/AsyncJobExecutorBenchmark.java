@@ -0,0 +1,134 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.Collections;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput (jobs per second) of the async executor for a process with one async service task.
+ * 
+ * The executeJobs benchmark starts the process instances while the async executor is running, so the jobs are handed to the executor directly after the transaction that creates them.
+ * The acquireAndExecuteJobs benchmark creates the jobs while the async executor is shut down, so that they all need to be acquired from the database once it is started.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncJobExecutorBenchmark {
+
+    public static final int JOB_COUNT = 200;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected AsyncExecutor asyncExecutor;
+    protected Semaphore executedJobs = new Semaphore(0);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = BenchmarkEngines.createProcessEngineConfiguration("asyncJobExecutorBenchmark");
+        processEngineConfiguration.setAsyncExecutorActivate(true);
+        processEngineConfiguration.setEventListeners(Collections.<FlowableEventListener>singletonList(new FlowableEventListener() {
+
+            public void onEvent(FlowableEvent event) {
+                if (event.getType() == FlowableEngineEventType.JOB_EXECUTION_SUCCESS) {
+                    executedJobs.release();
+                }
+            }
+
+            public boolean isFailOnException() {
+                return false;
+            }
+
+        }));
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        runtimeService = processEngine.getRuntimeService();
+        asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmarks/asyncServiceTask.bpmn20.xml")
+                .deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(JOB_COUNT)
+    public void executeJobs() throws InterruptedException {
+        startProcessInstances();
+        executedJobs.acquire(JOB_COUNT);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(JOB_COUNT)
+    public void acquireAndExecuteJobs(AcquisitionState acquisitionState) throws InterruptedException {
+        asyncExecutor.start();
+        executedJobs.acquire(JOB_COUNT);
+    }
+
+    protected void startProcessInstances() {
+        for (int i = 0; i < JOB_COUNT; i++) {
+            runtimeService.startProcessInstanceByKey("asyncServiceTask");
+        }
+    }
+
+    /**
+     * Creates the jobs with the async executor shut down before every invocation of the acquireAndExecuteJobs benchmark.
+     */
+    @State(Scope.Thread)
+    public static class AcquisitionState {
+
+        protected AsyncExecutor asyncExecutor;
+
+        @Setup(Level.Invocation)
+        public void createJobs(AsyncJobExecutorBenchmark benchmark) {
+            asyncExecutor = benchmark.asyncExecutor;
+            asyncExecutor.shutdown();
+            benchmark.startProcessInstances();
+        }
+
+        @TearDown(Level.Invocation)
+        public void restartAsyncExecutor() {
+            asyncExecutor.start();
+        }
+
+    }
+
+}
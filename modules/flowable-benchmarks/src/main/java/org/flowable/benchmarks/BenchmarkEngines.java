@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+
+/**
+ * Creates the engines used by the benchmarks: every engine gets its own in-memory H2 database.
+ */
+public class BenchmarkEngines {
+
+    public static ProcessEngineConfigurationImpl createProcessEngineConfiguration(String name) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName(name);
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=1000;MVCC=TRUE");
+        processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        return processEngineConfiguration;
+    }
+
+    public static ProcessEngine createProcessEngine(String name) {
+        return createProcessEngineConfiguration(name).buildProcessEngine();
+    }
+
+    public static DmnEngine createDmnEngine(String name) {
+        DmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setEngineName(name);
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=1000;MVCC=TRUE");
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        return dmnEngineConfiguration.buildDmnEngine();
+    }
+
+}
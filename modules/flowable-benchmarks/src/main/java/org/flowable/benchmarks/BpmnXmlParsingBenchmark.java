@@ -0,0 +1,122 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.ExclusiveGateway;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.flowable.engine.common.impl.util.io.BytesStreamSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a generated process model with the {@link BpmnXMLConverter}. The model consists of a number of blocks, each being an exclusive gateway with two user tasks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BpmnXmlParsingBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int blockCount;
+
+    protected byte[] bpmnXml;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bpmnXml = new BpmnXMLConverter().convertToXML(createModel(blockCount));
+    }
+
+    @Benchmark
+    public BpmnModel parseModel() {
+        return new BpmnXMLConverter().convertToBpmnModel(new BytesStreamSource(bpmnXml), false, false);
+    }
+
+    @Benchmark
+    public BpmnModel parseModelWithSchemaValidation() {
+        return new BpmnXMLConverter().convertToBpmnModel(new BytesStreamSource(bpmnXml), true, false);
+    }
+
+    protected BpmnModel createModel(int blockCount) {
+        Process process = new Process();
+        process.setId("largeProcess");
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        process.addFlowElement(startEvent);
+
+        FlowNode previous = startEvent;
+        for (int i = 0; i < blockCount; i++) {
+            ExclusiveGateway fork = new ExclusiveGateway();
+            fork.setId("fork" + i);
+            process.addFlowElement(fork);
+            addSequenceFlow(process, previous, fork, null);
+
+            ExclusiveGateway join = new ExclusiveGateway();
+            join.setId("join" + i);
+            process.addFlowElement(join);
+
+            for (int j = 0; j < 2; j++) {
+                UserTask userTask = new UserTask();
+                userTask.setId("task" + i + "_" + j);
+                userTask.setName("Task " + i + " " + j);
+                userTask.setAssignee("${initiator}");
+                process.addFlowElement(userTask);
+
+                addSequenceFlow(process, fork, userTask, "${choice == " + j + "}");
+                addSequenceFlow(process, userTask, join, null);
+            }
+
+            previous = join;
+        }
+
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+        process.addFlowElement(endEvent);
+        addSequenceFlow(process, previous, endEvent, null);
+
+        BpmnModel bpmnModel = new BpmnModel();
+        bpmnModel.addProcess(process);
+        bpmnModel.setTargetNamespace("http://flowable.org/benchmarks");
+        return bpmnModel;
+    }
+
+    protected void addSequenceFlow(Process process, FlowNode source, FlowNode target, String conditionExpression) {
+        SequenceFlow sequenceFlow = new SequenceFlow(source.getId(), target.getId());
+        sequenceFlow.setId(source.getId() + "_" + target.getId());
+        sequenceFlow.setConditionExpression(conditionExpression);
+        process.addFlowElement(sequenceFlow);
+    }
+
+}
@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Flushes a {@link org.flowable.engine.impl.db.DbSqlSession} with a given number of dirty entities: every invocation loads the variable instances of a process instance and changes all of them,
+ * after which the command context flushes the updates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DbSqlSessionFlushBenchmark {
+
+    @Param({ "10", "100", "1000" })
+    public int dirtyEntityCount;
+
+    @Param({ "false", "true" })
+    public boolean batchFlushEnabled;
+
+    @Param({ "false", "true" })
+    public boolean entityChangeTrackingEnabled;
+
+    protected ProcessEngine processEngine;
+    protected String processInstanceId;
+    protected int invocationCount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ProcessEngineConfigurationImpl processEngineConfiguration = BenchmarkEngines.createProcessEngineConfiguration("dbSqlSessionFlushBenchmark");
+        processEngineConfiguration.setBatchFlushEnabled(batchFlushEnabled);
+        processEngineConfiguration.setEnableEntityChangeTracking(entityChangeTrackingEnabled);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmarks/linear.bpmn20.xml")
+                .deploy();
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        for (int i = 0; i < dirtyEntityCount; i++) {
+            variables.put("var" + i, "value");
+        }
+        processInstanceId = processEngine.getRuntimeService().startProcessInstanceByKey("linear", variables).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public int flushDirtyEntities() {
+        final String newValue = "value" + (invocationCount++);
+        return processEngine.getManagementService().executeCommand(new Command<Integer>() {
+
+            public Integer execute(CommandContext commandContext) {
+                List<VariableInstanceEntity> variableInstances = commandContext.getVariableInstanceEntityManager().findVariableInstancesByExecutionId(processInstanceId);
+                for (VariableInstanceEntity variableInstance : variableInstances) {
+                    variableInstance.setTextValue(newValue);
+                }
+                return variableInstances.size();
+            }
+
+        });
+    }
+
+}
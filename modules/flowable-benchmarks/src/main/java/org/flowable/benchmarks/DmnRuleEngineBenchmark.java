@@ -0,0 +1,126 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+import org.flowable.dmn.engine.impl.context.Context;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
+import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.dmn.xml.converter.DmnXMLConverter;
+import org.flowable.engine.common.api.io.InputStreamProvider;
+import org.flowable.engine.common.impl.util.io.InputStreamSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a decision table directly on the {@link RuleEngineExecutorImpl}, bypassing the deployment cache and command stack,
+ * with the expressions compiled on every execution and with the expressions precompiled as done for deployed decision tables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DmnRuleEngineBenchmark {
+
+    /**
+     * The age for which the decision is evaluated: the first rule matches 17, the last rule matches 90.
+     */
+    @Param({ "17", "90" })
+    public int age;
+
+    protected DmnEngine dmnEngine;
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+    protected RuleEngineExecutorImpl ruleEngineExecutor;
+    protected Decision decision;
+    protected CompiledDecisionTable compiledDecisionTable;
+    protected Map<String, Object> inputVariables;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dmnEngine = BenchmarkEngines.createDmnEngine("dmnRuleEngineBenchmark");
+        dmnEngineConfiguration = dmnEngine.getDmnEngineConfiguration();
+        ruleEngineExecutor = (RuleEngineExecutorImpl) dmnEngineConfiguration.getRuleEngineExecutor();
+
+        InputStreamProvider inputStreamProvider = new InputStreamSource(getClass().getClassLoader().getResourceAsStream("org/flowable/benchmarks/ageCategory.dmn"));
+        DmnDefinition dmnDefinition = new DmnXMLConverter().convertToDmnModel(inputStreamProvider, false, false);
+        decision = dmnDefinition.getDecisions().get(0);
+        compiledDecisionTable = CompiledDecisionTable.compile((DecisionTable) decision.getExpression(), dmnEngineConfiguration.getCustomExpressionFunctions());
+
+        inputVariables = new HashMap<String, Object>();
+        inputVariables.put("age", age);
+        inputVariables.put("country", "BE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dmnEngine.close();
+    }
+
+    @Benchmark
+    public RuleEngineExecutionResult executeDecision() {
+        // The rule engine needs the configuration from the context, which is normally set by the command stack
+        Context.setDmnEngineConfiguration(dmnEngineConfiguration);
+        try {
+            return dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, inputVariables,
+                    dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        } finally {
+            Context.removeDmnEngineConfiguration();
+        }
+    }
+
+    @Benchmark
+    public RuleEngineExecutionResult executePrecompiledDecision() {
+        Context.setDmnEngineConfiguration(dmnEngineConfiguration);
+        try {
+            return ruleEngineExecutor.execute(decision, compiledDecisionTable, inputVariables,
+                    dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        } finally {
+            Context.removeDmnEngineConfiguration();
+        }
+    }
+
+    @Benchmark
+    public RuleEngineExecutionResult executePrecompiledDecisionWithoutAuditTrail() {
+        Context.setDmnEngineConfiguration(dmnEngineConfiguration);
+        try {
+            return ruleEngineExecutor.execute(decision, compiledDecisionTable, inputVariables,
+                    dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers(), DecisionExecutionAuditMode.NONE);
+        } finally {
+            Context.removeDmnEngineConfiguration();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.delegate.Expression;
+import org.flowable.engine.impl.el.DefaultExpressionManager;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates and evaluates expressions with the {@link DefaultExpressionManager}, against an execution that only has transient variables (so no engine or command context is needed).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionBenchmark {
+
+    @Param({ "${amount > 1000 && customer.equals('gold')}", "${amount * 2 + 10}", "Hello ${customer}" })
+    public String expressionText;
+
+    protected DefaultExpressionManager expressionManager;
+    protected Expression expression;
+    protected ExecutionEntityImpl execution;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        expressionManager = new DefaultExpressionManager();
+        expression = expressionManager.createExpression(expressionText);
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("amount", 2500);
+        variables.put("customer", "gold");
+        execution = ExecutionEntityImpl.createWithEmptyRelationshipCollections();
+        execution.setTransientVariables(variables);
+    }
+
+    @Benchmark
+    public Expression createExpression() {
+        return expressionManager.createExpression(expressionText);
+    }
+
+    @Benchmark
+    public Object evaluateExpression() {
+        return expression.getValue(execution);
+    }
+
+    @Benchmark
+    public Object createAndEvaluateExpression() {
+        return expressionManager.createExpression(expressionText).getValue(execution);
+    }
+
+}
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts a process instance and completes all of its user tasks, for a linear, a parallel gateway and a multi instance process model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProcessExecutionBenchmark {
+
+    @Param({ "linear", "parallelGateway", "multiInstance" })
+    public String processDefinitionKey;
+
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        processEngine = BenchmarkEngines.createProcessEngine("processExecutionBenchmark");
+        runtimeService = processEngine.getRuntimeService();
+        taskService = processEngine.getTaskService();
+
+        processEngine.getRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmarks/" + processDefinitionKey + ".bpmn20.xml")
+                .deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        processEngine.close();
+    }
+
+    @Benchmark
+    public String startAndCompleteProcessInstance() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey(processDefinitionKey);
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        while (!tasks.isEmpty()) {
+            for (Task task : tasks) {
+                taskService.complete(task.getId());
+            }
+            tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        }
+
+        return processInstance.getId();
+    }
+
+}
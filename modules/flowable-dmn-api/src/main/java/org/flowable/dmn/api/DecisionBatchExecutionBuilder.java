@@ -0,0 +1,92 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+
+/**
+ * Builder for executing one decision for many sets of input variables, for example to re-evaluate a large number of records.
+ * 
+ * A builder instance can be obtained through {@link DmnRuleService#createDecisionBatchExecutionBuilder()}.
+ * 
+ * The decision is resolved once, when {@link #execute()} or {@link #executeWithAuditTrail()} is called, and all input variables are executed with the
+ * same deployed version of the decision. The input variables are read and the decision is executed while iterating over the results, so the input
+ * variables can be streamed from a source that doesn't fit in memory. The results are returned in the order of the input variables.
+ */
+public interface DecisionBatchExecutionBuilder {
+
+    /**
+     * The key of the decision to execute, required.
+     */
+    DecisionBatchExecutionBuilder decisionKey(String decisionKey);
+
+    /**
+     * Executes the latest decision with the key that is deployed with the given parent deployment.
+     */
+    DecisionBatchExecutionBuilder parentDeploymentId(String parentDeploymentId);
+
+    /**
+     * Executes the latest decision with the key of the given tenant.
+     */
+    DecisionBatchExecutionBuilder tenantId(String tenantId);
+
+    /**
+     * The input variables for each execution of the decision, required. The maps are modified by the executions, as with the single executions.
+     */
+    DecisionBatchExecutionBuilder inputVariables(Iterable<Map<String, Object>> inputVariables);
+
+    /**
+     * The input variables for each execution of the decision, required. The iterator is only used by the thread that iterates over the results.
+     */
+    DecisionBatchExecutionBuilder inputVariables(Iterator<Map<String, Object>> inputVariables);
+
+    /**
+     * The number of executions of the decision for the next input variables that run in parallel while the results are read, on the decision batch
+     * executor service of the DMN engine configuration. By default (1) the decision is executed by the thread that iterates over the results.
+     */
+    DecisionBatchExecutionBuilder parallelism(int parallelism);
+
+    /**
+     * How much of the audit trail is captured by {@link #executeWithAuditTrail()}. By default the audit mode of the DMN engine configuration is used.
+     * {@link #execute()} never captures the audit trail.
+     */
+    DecisionBatchExecutionBuilder auditMode(DecisionExecutionAuditMode auditMode);
+
+    /**
+     * Executes the decision for the input variables.
+     * 
+     * @return an iterator with a List with Maps containing rule outputs for each input variables.
+     * @throws FlowableObjectNotFoundException
+     *             when the decision does not exist.
+     * @throws FlowableException
+     *             when an error occurs while executing the decision, when calling next on the returned iterator.
+     */
+    Iterator<List<Map<String, Object>>> execute();
+
+    /**
+     * Executes the decision for the input variables. The results contain the audit trail of each execution.
+     * 
+     * @return an iterator with the {@link RuleEngineExecutionResult} for each input variables.
+     * @throws FlowableObjectNotFoundException
+     *             when the decision does not exist.
+     * @throws FlowableException
+     *             when an error occurs while executing the decision, when calling next on the returned iterator.
+     */
+    Iterator<RuleEngineExecutionResult> executeWithAuditTrail();
+
+}
@@ -0,0 +1,44 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.api;
+
+/**
+ * How much of the audit trail ({@link DecisionExecutionAuditContainer}) is captured for a decision execution that returns its audit trail.
+ * 
+ * Executions without a captured audit trail still return an audit container with the decision key, start and end time, the failed flag and the
+ * exception message, but without the input variables and the rule executions.
+ */
+public enum DecisionExecutionAuditMode {
+
+    /**
+     * The full audit trail is captured for every execution.
+     */
+    FULL,
+
+    /**
+     * The audit trail is not captured.
+     */
+    NONE,
+
+    /**
+     * The full audit trail is captured for one in every N executions, where N is the sample rate of the DMN engine configuration.
+     */
+    SAMPLED,
+
+    /**
+     * The audit trail is only kept for executions that fail. Only the valid rules and the failed expressions are recorded, and the input variables
+     * are copied when the execution fails.
+     */
+    ON_FAILURE
+
+}
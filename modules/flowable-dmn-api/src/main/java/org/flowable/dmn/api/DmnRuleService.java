@@ -273,4 +273,30 @@ public interface DmnRuleService {
      *             when an error occurs while executing the decision.
      */
     RuleEngineExecutionSingleResult executeDecisionByKeyParentDeploymentIdAndTenantIdWithAuditTrailSingleResult(String decisionKey, String parentDeploymentId, Map<String, Object> inputVariables, String tenantId);
+
+    /**
+     * Execute a decision identified by it's key, parent deployment id and tenant id.
+     * Result contains the audit trail that is captured according to the given audit mode.
+     *
+     * @param decisionKey
+     *            the decision key, cannot be null
+     * @param inputVariables
+     *            map with input variables
+     * @param auditMode
+     *            how much of the audit trail is captured, the audit mode of the DMN engine configuration when null
+     * @return the {@link RuleEngineExecutionResult} for this execution
+     * @throws FlowableObjectNotFoundException
+     *             when the decision with given key does not exist.
+     * @throws FlowableException
+     *             when an error occurs while executing the decision.
+     */
+    RuleEngineExecutionResult executeDecisionByKeyParentDeploymentIdAndTenantIdWithAuditTrail(String decisionKey, String parentDeploymentId, Map<String, Object> inputVariables, String tenantId,
+            DecisionExecutionAuditMode auditMode);
+
+    /**
+     * Create a builder to execute a decision for many input variables at once.
+     *
+     * @return the {@link DecisionBatchExecutionBuilder}
+     */
+    DecisionBatchExecutionBuilder createDecisionBatchExecutionBuilder();
 }
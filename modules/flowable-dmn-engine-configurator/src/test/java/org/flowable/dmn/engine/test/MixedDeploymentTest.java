@@ -12,15 +12,24 @@
  */
 package org.flowable.dmn.engine.test;
 
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.junit.Test;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * @author Yvo Swillens
@@ -50,4 +59,38 @@ public class MixedDeploymentTest extends AbstractFlowableDmnEngineConfiguratorTe
         assertEquals(1l, decisionTableList.size());
         assertEquals("decision1", decisionTableList.get(0).getKey());
     }
+
+    @Test
+    @Deployment(resources = { "org/flowable/dmn/engine/test/deployment/oneDecisionTaskWithAuditModeProcess.bpmn20.xml",
+            "org/flowable/dmn/engine/test/deployment/auditModeDecision.dmn" })
+    public void executeDecisionTaskWithAuditMode() {
+        RuntimeService runtimeService = cachedProcessEngine.getRuntimeService();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("inputVariable1", 1);
+        variables.put("auditMode", "on_failure");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneDecisionTaskWithAuditModeProcess", variables);
+        assertEquals("result1", runtimeService.getVariable(processInstance.getId(), "outputVariable1"));
+
+        // the audit mode of the process engine configuration is used when the decisionAuditMode field is empty
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) cachedProcessEngine.getProcessEngineConfiguration();
+        processEngineConfiguration.setDmnDecisionExecutionAuditMode(DecisionExecutionAuditMode.FULL);
+        try {
+            variables.put("inputVariable1", 2);
+            variables.put("auditMode", "");
+            processInstance = runtimeService.startProcessInstanceByKey("oneDecisionTaskWithAuditModeProcess", variables);
+            assertEquals("result2", runtimeService.getVariable(processInstance.getId(), "outputVariable1"));
+
+        } finally {
+            processEngineConfiguration.setDmnDecisionExecutionAuditMode(null);
+        }
+
+        variables.put("auditMode", "unknown");
+        try {
+            runtimeService.startProcessInstanceByKey("oneDecisionTaskWithAuditModeProcess", variables);
+            fail("Expected exception for an invalid audit mode");
+        } catch (FlowableIllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("not a valid audit mode"));
+        }
+    }
 }
@@ -20,12 +20,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnManagementService;
 import org.flowable.dmn.api.DmnRepositoryService;
 import org.flowable.dmn.api.DmnRuleService;
@@ -66,7 +72,6 @@ import org.flowable.dmn.engine.impl.parser.DmnParseFactory;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.Deployer;
-import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntityManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntityManagerImpl;
@@ -88,6 +93,8 @@ import org.flowable.engine.common.impl.cfg.BeansConfigurationHelper;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.runtime.Clock;
 import org.mvel2.integration.PropertyHandler;
 import org.slf4j.Logger;
@@ -165,6 +172,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
     protected DeploymentManager deploymentManager;
 
     protected int decisionCacheLimit = -1; // By default, no limit
+
+    /**
+     * When enabled, the decision cache is a {@link ConcurrentDeploymentCache}, which doesn't lock on lookups, evicts the least frequently used decisions
+     * when the decisionCacheLimit is reached and keeps hit/miss statistics.
+     */
+    protected boolean enableConcurrentDecisionCache;
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
 
     // CUSTOM EXPRESSION FUNCTIONS
@@ -195,6 +208,39 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to true to index the input entries of decision tables when they are deployed or cached, so that only the rules that can match the input
+     * values are evaluated. Input entries that compare the input variable with a literal (==, &lt;, &lt;=, &gt; or &gt;=) are indexed, rules with other
+     * input entries are always evaluated. The decision results are the same, but the rules that are skipped are not part of the audit trail.
+     */
+    protected boolean enableDecisionTableIndex;
+
+    /**
+     * The minimum number of rules of a decision table to be indexed when {@link #enableDecisionTableIndex} is set. Evaluating all rules of small
+     * decision tables is cheaper than looking them up.
+     */
+    protected int decisionTableIndexMinRuleCount = 16;
+
+    /**
+     * How much of the audit trail is captured by the decision executions that return it. The executions that don't return the audit trail never capture
+     * it.
+     */
+    protected DecisionExecutionAuditMode decisionExecutionAuditMode = DecisionExecutionAuditMode.FULL;
+
+    /**
+     * The full audit trail is captured for one in every N executions when the audit mode is {@link DecisionExecutionAuditMode#SAMPLED}.
+     */
+    protected int decisionExecutionAuditSampleRate = 100;
+
+    /**
+     * The executor service that executes the decisions of batch executions with a parallelism greater than 1, shared by all batch executions. When not
+     * set, a pool of {@link #decisionBatchThreadPoolSize} daemon threads is created, of which the threads stop when they have been idle for
+     * {@link #decisionBatchThreadKeepAliveTime} milliseconds.
+     */
+    protected ExecutorService decisionBatchExecutorService;
+    protected int decisionBatchThreadPoolSize = 8;
+    protected long decisionBatchThreadKeepAliveTime = 10000L;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -257,6 +303,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         initCustomExpressionFunctions();
         initHitPolicyBehaviors();
         initRuleEngineExecutor();
+        initDecisionBatchExecutorService();
     }
 
     // services
@@ -469,7 +516,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
 
         // Decision cache
         if (decisionCache == null) {
-            if (decisionCacheLimit <= 0) {
+            if (enableConcurrentDecisionCache) {
+                decisionCache = new ConcurrentDeploymentCache<DecisionTableCacheEntry>(decisionCacheLimit);
+            } else if (decisionCacheLimit <= 0) {
                 decisionCache = new DefaultDeploymentCache<DecisionTableCacheEntry>();
             } else {
                 decisionCache = new DefaultDeploymentCache<DecisionTableCacheEntry>(decisionCacheLimit);
@@ -611,6 +660,16 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         ruleEngineExecutor = new RuleEngineExecutorImpl(hitPolicyBehaviors);
     }
 
+    public void initDecisionBatchExecutorService() {
+        if (decisionBatchExecutorService == null) {
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(decisionBatchThreadPoolSize, decisionBatchThreadPoolSize,
+                    decisionBatchThreadKeepAliveTime, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+                    new BasicThreadFactory.Builder().namingPattern("flowable-dmn-batch-execution-thread-%d").daemon(true).build());
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            decisionBatchExecutorService = threadPoolExecutor;
+        }
+    }
+
 
     // getters and setters
     // //////////////////////////////////////////////////////
@@ -830,6 +889,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableConcurrentDecisionCache() {
+        return enableConcurrentDecisionCache;
+    }
+
+    public DmnEngineConfiguration setEnableConcurrentDecisionCache(boolean enableConcurrentDecisionCache) {
+        this.enableConcurrentDecisionCache = enableConcurrentDecisionCache;
+        return this;
+    }
+
     public DeploymentCache<DecisionTableCacheEntry> getDecisionCache() {
         return decisionCache;
     }
@@ -1002,6 +1070,69 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isEnableDecisionTableIndex() {
+        return enableDecisionTableIndex;
+    }
+
+    public DmnEngineConfiguration setEnableDecisionTableIndex(boolean enableDecisionTableIndex) {
+        this.enableDecisionTableIndex = enableDecisionTableIndex;
+        return this;
+    }
+
+    public int getDecisionTableIndexMinRuleCount() {
+        return decisionTableIndexMinRuleCount;
+    }
+
+    public DmnEngineConfiguration setDecisionTableIndexMinRuleCount(int decisionTableIndexMinRuleCount) {
+        this.decisionTableIndexMinRuleCount = decisionTableIndexMinRuleCount;
+        return this;
+    }
+
+    public DecisionExecutionAuditMode getDecisionExecutionAuditMode() {
+        return decisionExecutionAuditMode;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditMode(DecisionExecutionAuditMode decisionExecutionAuditMode) {
+        this.decisionExecutionAuditMode = decisionExecutionAuditMode;
+        return this;
+    }
+
+    public int getDecisionExecutionAuditSampleRate() {
+        return decisionExecutionAuditSampleRate;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditSampleRate(int decisionExecutionAuditSampleRate) {
+        this.decisionExecutionAuditSampleRate = decisionExecutionAuditSampleRate;
+        return this;
+    }
+
+    public ExecutorService getDecisionBatchExecutorService() {
+        return decisionBatchExecutorService;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchExecutorService(ExecutorService decisionBatchExecutorService) {
+        this.decisionBatchExecutorService = decisionBatchExecutorService;
+        return this;
+    }
+
+    public int getDecisionBatchThreadPoolSize() {
+        return decisionBatchThreadPoolSize;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchThreadPoolSize(int decisionBatchThreadPoolSize) {
+        this.decisionBatchThreadPoolSize = decisionBatchThreadPoolSize;
+        return this;
+    }
+
+    public long getDecisionBatchThreadKeepAliveTime() {
+        return decisionBatchThreadKeepAliveTime;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchThreadKeepAliveTime(long decisionBatchThreadKeepAliveTime) {
+        this.decisionBatchThreadKeepAliveTime = decisionBatchThreadKeepAliveTime;
+        return this;
+    }
+
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
         return this;
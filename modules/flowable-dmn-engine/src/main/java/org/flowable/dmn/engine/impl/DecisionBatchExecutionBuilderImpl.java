@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionBatchExecutionBuilder;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
+public class DecisionBatchExecutionBuilderImpl implements DecisionBatchExecutionBuilder {
+
+    protected DmnRuleServiceImpl ruleService;
+
+    protected String decisionKey;
+    protected String parentDeploymentId;
+    protected String tenantId;
+    protected Iterator<Map<String, Object>> inputVariables;
+    protected int parallelism = 1;
+    protected DecisionExecutionAuditMode auditMode;
+
+    public DecisionBatchExecutionBuilderImpl(DmnRuleServiceImpl ruleService) {
+        this.ruleService = ruleService;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder decisionKey(String decisionKey) {
+        this.decisionKey = decisionKey;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder parentDeploymentId(String parentDeploymentId) {
+        this.parentDeploymentId = parentDeploymentId;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder tenantId(String tenantId) {
+        this.tenantId = tenantId;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder inputVariables(Iterable<Map<String, Object>> inputVariables) {
+        if (inputVariables == null) {
+            throw new FlowableIllegalArgumentException("inputVariables is null");
+        }
+        this.inputVariables = inputVariables.iterator();
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder inputVariables(Iterator<Map<String, Object>> inputVariables) {
+        this.inputVariables = inputVariables;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder parallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new FlowableIllegalArgumentException("parallelism must be at least 1");
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    public DecisionBatchExecutionBuilder auditMode(DecisionExecutionAuditMode auditMode) {
+        this.auditMode = auditMode;
+        return this;
+    }
+
+    @Override
+    public Iterator<List<Map<String, Object>>> execute() {
+        final Iterator<RuleEngineExecutionResult> executionResults = ruleService.executeDecisionBatch(this, false);
+        return new Iterator<List<Map<String, Object>>>() {
+
+            @Override
+            public boolean hasNext() {
+                return executionResults.hasNext();
+            }
+
+            @Override
+            public List<Map<String, Object>> next() {
+                return executionResults.next().getDecisionResult();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<RuleEngineExecutionResult> executeWithAuditTrail() {
+        return ruleService.executeDecisionBatch(this, true);
+    }
+
+    public String getDecisionKey() {
+        return decisionKey;
+    }
+
+    public String getParentDeploymentId() {
+        return parentDeploymentId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public Iterator<Map<String, Object>> getInputVariables() {
+        return inputVariables;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public DecisionExecutionAuditMode getAuditMode() {
+        return auditMode;
+    }
+
+}
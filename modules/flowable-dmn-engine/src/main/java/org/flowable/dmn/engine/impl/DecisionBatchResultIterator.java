@@ -0,0 +1,172 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.context.Context;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.engine.common.api.FlowableException;
+
+/**
+ * Executes a resolved decision for each input variables while iterating over the results.
+ * 
+ * Without executor service the decision is executed by the thread calling {@link #next()}. With an executor service, the executions of the next
+ * input variables (up to the parallelism) are submitted ahead, and {@link #next()} waits for the oldest one so the results keep the order of the
+ * input variables. The input variables are only read by the thread calling {@link #next()}. The executor service is shared with other batch
+ * executions and is not shut down by the iterator.
+ * 
+ * When an execution fails, {@link #next()} throws its exception, the pending executions are cancelled and {@link #hasNext()} returns false.
+ */
+public class DecisionBatchResultIterator implements Iterator<RuleEngineExecutionResult> {
+
+    protected final DmnEngineConfiguration dmnEngineConfiguration;
+    protected final DecisionTableCacheEntry decisionTableCacheEntry;
+    protected final Iterator<Map<String, Object>> inputVariables;
+    protected final boolean auditTrail;
+    protected final DecisionExecutionAuditMode auditMode;
+
+    protected final ExecutorService executorService;
+    protected final int maxPendingExecutions;
+    protected final Deque<Future<RuleEngineExecutionResult>> pendingExecutions = new ArrayDeque<>();
+    protected boolean failed;
+
+    public DecisionBatchResultIterator(DmnEngineConfiguration dmnEngineConfiguration, DecisionTableCacheEntry decisionTableCacheEntry,
+            Iterator<Map<String, Object>> inputVariables, boolean auditTrail, DecisionExecutionAuditMode auditMode, ExecutorService executorService,
+            int parallelism) {
+
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+        this.decisionTableCacheEntry = decisionTableCacheEntry;
+        this.inputVariables = inputVariables;
+        this.auditTrail = auditTrail;
+        this.auditMode = auditMode;
+        this.executorService = executorService;
+        this.maxPendingExecutions = parallelism;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !failed && (!pendingExecutions.isEmpty() || inputVariables.hasNext());
+    }
+
+    @Override
+    public RuleEngineExecutionResult next() {
+        if (failed) {
+            throw new NoSuchElementException();
+        }
+
+        if (executorService == null) {
+            if (!inputVariables.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            try {
+                return executeDecision(inputVariables.next());
+            } catch (RuntimeException e) {
+                failed = true;
+                throw e;
+            }
+        }
+
+        submitExecutions();
+        Future<RuleEngineExecutionResult> execution = pendingExecutions.poll();
+        if (execution == null) {
+            throw new NoSuchElementException();
+        }
+
+        // Keep the threads busy while the result is read
+        submitExecutions();
+
+        try {
+            return execution.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelExecutions();
+            throw new FlowableException("Interrupted while waiting for a decision execution", e);
+
+        } catch (ExecutionException e) {
+            cancelExecutions();
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Error while executing decision " + decisionTableCacheEntry.getDecisionTableEntity().getKey(), e.getCause());
+        }
+    }
+
+    protected void submitExecutions() {
+        while (pendingExecutions.size() < maxPendingExecutions && inputVariables.hasNext()) {
+            final Map<String, Object> variables = inputVariables.next();
+            pendingExecutions.add(executorService.submit(new Callable<RuleEngineExecutionResult>() {
+
+                @Override
+                public RuleEngineExecutionResult call() {
+                    return executeDecision(variables);
+                }
+            }));
+        }
+    }
+
+    protected void cancelExecutions() {
+        for (Future<RuleEngineExecutionResult> pendingExecution : pendingExecutions) {
+            pendingExecution.cancel(false);
+        }
+        pendingExecutions.clear();
+        failed = true;
+    }
+
+    protected RuleEngineExecutionResult executeDecision(Map<String, Object> variables) {
+        // The rule engine needs the configuration from the context, which is normally set by the command stack
+        Context.setDmnEngineConfiguration(dmnEngineConfiguration);
+        try {
+            RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+            RuleEngineExecutionResult executionResult;
+            if (ruleEngineExecutor instanceof RuleEngineExecutorImpl) {
+                executionResult = ((RuleEngineExecutorImpl) ruleEngineExecutor).execute(decisionTableCacheEntry.getDecision(),
+                        decisionTableCacheEntry.getCompiledDecisionTable(), variables, dmnEngineConfiguration.getCustomExpressionFunctions(),
+                        dmnEngineConfiguration.getCustomPropertyHandlers(), auditMode);
+            } else {
+                executionResult = ruleEngineExecutor.execute(decisionTableCacheEntry.getDecision(), variables,
+                        dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+            }
+
+            if (!auditTrail) {
+                return new RuleEngineExecutionResult(executionResult.getDecisionResult(), null);
+            }
+            if (executionResult.getAuditTrail() != null) {
+                executionResult.getAuditTrail().setDmnDeploymentId(decisionTableCacheEntry.getDecisionTableEntity().getDeploymentId());
+            }
+            return executionResult;
+
+        } finally {
+            Context.removeDmnEngineConfiguration();
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+}
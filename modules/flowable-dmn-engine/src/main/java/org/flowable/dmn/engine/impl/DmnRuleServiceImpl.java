@@ -12,12 +12,16 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.dmn.api.DecisionBatchExecutionBuilder;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnRuleService;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.api.RuleEngineExecutionSingleResult;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionSingleResultCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionSingleResultWithAuditTrailCmd;
@@ -104,8 +108,23 @@ public class DmnRuleServiceImpl extends ServiceImpl implements DmnRuleService {
         return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(decisionKey, parentDeploymentId, inputVariables, tenantId));
     }
 
+    @Override
+    public RuleEngineExecutionResult executeDecisionByKeyParentDeploymentIdAndTenantIdWithAuditTrail(String decisionKey, String parentDeploymentId, Map<String, Object> inputVariables, String tenantId,
+            DecisionExecutionAuditMode auditMode) {
+        return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(decisionKey, parentDeploymentId, inputVariables, tenantId, auditMode));
+    }
+
     @Override
     public RuleEngineExecutionSingleResult executeDecisionByKeyParentDeploymentIdAndTenantIdWithAuditTrailSingleResult(String decisionKey, String parentDeploymentId, Map<String, Object> inputVariables, String tenantId) {
         return commandExecutor.execute(new ExecuteDecisionSingleResultWithAuditTrailCmd(decisionKey, parentDeploymentId, inputVariables, tenantId));
     }
+
+    @Override
+    public DecisionBatchExecutionBuilder createDecisionBatchExecutionBuilder() {
+        return new DecisionBatchExecutionBuilderImpl(this);
+    }
+
+    public Iterator<RuleEngineExecutionResult> executeDecisionBatch(DecisionBatchExecutionBuilderImpl decisionBatchExecutionBuilder, boolean auditTrail) {
+        return commandExecutor.execute(new ExecuteDecisionBatchCmd(decisionBatchExecutionBuilder, auditTrail));
+    }
 }
\ No newline at end of file
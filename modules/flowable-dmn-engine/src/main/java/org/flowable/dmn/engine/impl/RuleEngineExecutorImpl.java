@@ -16,16 +16,20 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.FlowableDmnExpressionException;
 import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.context.Context;
 import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
 import org.flowable.dmn.engine.impl.mvel.ExecutionVariableFactory;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContext;
 import org.flowable.dmn.engine.impl.mvel.MvelExecutionContextBuilder;
@@ -50,6 +54,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     private static final Logger logger = LoggerFactory.getLogger(RuleEngineExecutorImpl.class);
 
     protected Map<String, AbstractHitPolicy> hitPolicyBehaviors;
+    protected final AtomicLong auditSampleCounter = new AtomicLong();
 
     public RuleEngineExecutorImpl(Map<String, AbstractHitPolicy> hitPolicyBehaviors) {
         this.hitPolicyBehaviors = hitPolicyBehaviors;
@@ -65,6 +70,34 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     @Override
     public RuleEngineExecutionResult execute(Decision decision, Map<String, Object> inputVariables,
                                              Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
+        return execute(decision, null, inputVariables, customExpressionFunctions, propertyHandlers);
+    }
+
+    /**
+     * Executes the given decision table, using the precompiled input and output entries when available
+     *
+     * @param decision              the DMN decision
+     * @param compiledDecisionTable the compiled expressions of the decision table, can be null
+     * @param inputVariables        map with input variables
+     * @return updated execution variables map
+     */
+    public RuleEngineExecutionResult execute(Decision decision, CompiledDecisionTable compiledDecisionTable, Map<String, Object> inputVariables,
+                                             Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
+        return execute(decision, compiledDecisionTable, inputVariables, customExpressionFunctions, propertyHandlers, DecisionExecutionAuditMode.FULL);
+    }
+
+    /**
+     * Executes the given decision table, capturing the audit trail according to the audit mode
+     *
+     * @param decision              the DMN decision
+     * @param compiledDecisionTable the compiled expressions of the decision table, can be null
+     * @param inputVariables        map with input variables
+     * @param auditMode             how much of the audit trail is captured, the full audit trail when null
+     * @return updated execution variables map
+     */
+    public RuleEngineExecutionResult execute(Decision decision, CompiledDecisionTable compiledDecisionTable, Map<String, Object> inputVariables,
+                                             Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers,
+                                             DecisionExecutionAuditMode auditMode) {
         if (decision == null) {
             throw new IllegalArgumentException("no decision provided");
         }
@@ -73,11 +106,29 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             throw new IllegalArgumentException("no decision table present in decision");
         }
 
+        if (auditMode == DecisionExecutionAuditMode.SAMPLED) {
+            auditMode = isAuditTrailSampled() ? DecisionExecutionAuditMode.FULL : DecisionExecutionAuditMode.NONE;
+        }
+        return executeDecision(decision, compiledDecisionTable, inputVariables, customExpressionFunctions, propertyHandlers, auditMode);
+    }
+
+    /**
+     * @return true for one in every N executions, where N is the audit sample rate of the DMN engine configuration
+     */
+    protected boolean isAuditTrailSampled() {
+        int sampleRate = Context.getDmnEngineConfiguration().getDecisionExecutionAuditSampleRate();
+        return sampleRate <= 1 || auditSampleCounter.incrementAndGet() % sampleRate == 0;
+    }
+
+    protected RuleEngineExecutionResult executeDecision(Decision decision, CompiledDecisionTable compiledDecisionTable, Map<String, Object> inputVariables,
+            Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers, DecisionExecutionAuditMode auditMode) {
+
         DecisionTable currentDecisionTable = (DecisionTable) decision.getExpression();
 
         // create execution context and audit trail
         MvelExecutionContext executionContext = MvelExecutionContextBuilder.build(decision, inputVariables,
-            customExpressionFunctions, propertyHandlers);
+            customExpressionFunctions, propertyHandlers, auditMode);
+        executionContext.setCompiledDecisionTable(compiledDecisionTable);
 
         List<Map<String, Object>> decisionResult = null;
         RuleEngineExecutionResult executionResult;
@@ -117,7 +168,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
+            for (DecisionRule rule : getRulesToEvaluate(decisionTable, executionContext)) {
                 Boolean ruleResult = executeRule(rule, executionContext);
 
                 if (ruleResult) {
@@ -125,6 +176,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                     if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof EvaluateRuleValidityBehavior) {
                         ((EvaluateRuleValidityBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
                     }
+                    executionContext.addValidRuleNumber(rule.getRuleNumber());
 
                     // add valid rule output(s)
                     validRuleOutputEntries.put(rule.getRuleNumber(), rule.getOutputEntries());
@@ -161,6 +213,21 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return executionContext.getDecisionResults();
     }
 
+    /**
+     * @return the rules that can match the input variables according to the index of the decision table, or all rules when there is no index.
+     *         The rules that are left out would evaluate to false, so skipping them doesn't change the outcome of any hit policy.
+     */
+    protected List<DecisionRule> getRulesToEvaluate(DecisionTable decisionTable, MvelExecutionContext executionContext) {
+        CompiledDecisionTable compiledDecisionTable = executionContext.getCompiledDecisionTable();
+        if (compiledDecisionTable == null || compiledDecisionTable.getDecisionTableIndex() == null) {
+            return decisionTable.getRules();
+        }
+
+        List<DecisionRule> candidateRules = compiledDecisionTable.getDecisionTableIndex().getCandidateRules(executionContext.getStackVariables());
+        logger.debug("Evaluating {} of {} rules of table {}", candidateRules.size(), decisionTable.getRules().size(), decisionTable.getId());
+        return candidateRules;
+    }
+
     protected Boolean executeRule(DecisionRule rule, MvelExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
@@ -15,6 +15,7 @@ package org.flowable.dmn.engine.impl.audit;
 import java.util.Map;
 
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.engine.impl.context.Context;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionTable;
@@ -29,6 +30,17 @@ public class DecisionExecutionAuditUtil {
     private static final Logger logger = LoggerFactory.getLogger(DecisionExecutionAuditUtil.class);
 
     public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, Map<String, Object> inputVariables) {
+        return initializeRuleExecutionAudit(decision, inputVariables, DecisionExecutionAuditMode.FULL);
+    }
+
+    /**
+     * @param auditMode
+     *            {@link DecisionExecutionAuditMode#FULL} or null for the full audit trail, {@link DecisionExecutionAuditMode#ON_FAILURE} for a
+     *            {@link DecisionExecutionFailureAuditContainer} and any other mode for a {@link DecisionExecutionSummaryAuditContainer} that doesn't copy
+     *            the input variables and doesn't record the rule executions.
+     */
+    public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, Map<String, Object> inputVariables,
+            DecisionExecutionAuditMode auditMode) {
 
         if (decision == null || decision.getId() == null) {
             logger.error("decision does not contain key");
@@ -45,6 +57,15 @@ public class DecisionExecutionAuditUtil {
         String decisionKey = decision.getId();
         String decisionName = decision.getName();
 
+        if (auditMode == DecisionExecutionAuditMode.ON_FAILURE) {
+            return new DecisionExecutionFailureAuditContainer(decisionKey, decisionName, decisionTable.getHitPolicy(),
+                Context.getDmnEngineConfiguration().isStrictMode(), inputVariables);
+
+        } else if (auditMode != null && auditMode != DecisionExecutionAuditMode.FULL) {
+            return new DecisionExecutionSummaryAuditContainer(decisionKey, decisionName, decisionTable.getHitPolicy(),
+                Context.getDmnEngineConfiguration().isStrictMode());
+        }
+
         return new DecisionExecutionAuditContainer(decisionKey, decisionName, decisionTable.getHitPolicy(),
             Context.getDmnEngineConfiguration().isStrictMode(), inputVariables);
     }
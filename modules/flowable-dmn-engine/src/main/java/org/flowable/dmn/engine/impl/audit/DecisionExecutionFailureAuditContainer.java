@@ -0,0 +1,90 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.dmn.api.ExpressionExecution;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.model.HitPolicy;
+
+/**
+ * Audit container of an execution for which the audit trail is only kept when it fails. Instead of recording every rule execution, only the valid
+ * rules and the expressions that failed are recorded, and the input variables are only copied when the execution is marked as failed. When the
+ * execution ends without failure, the recorded rule executions are dropped.
+ *
+ * The input variables of a failed execution are copied at the time of the failure, so they include the default values added by the execution for
+ * missing input variables.
+ */
+public class DecisionExecutionFailureAuditContainer extends DecisionExecutionSummaryAuditContainer {
+
+    protected Map<String, Object> executionInputVariables;
+
+    public DecisionExecutionFailureAuditContainer(String decisionKey, String decisionName, HitPolicy hitPolicy, Boolean strictMode,
+            Map<String, Object> inputVariables) {
+        super(decisionKey, decisionName, hitPolicy, strictMode);
+        this.executionInputVariables = inputVariables;
+        this.ruleExecutions = new HashMap<>();
+    }
+
+    @Override
+    public void markRuleEnd(int ruleNumber) {
+        RuleExecutionAuditContainer ruleExecution = ruleExecutions.get(ruleNumber);
+        if (ruleExecution != null) {
+            ruleExecution.markRuleEnd();
+        }
+    }
+
+    @Override
+    public void markRuleValid(int ruleNumber) {
+        getOrCreateRuleExecution(ruleNumber).setValid();
+    }
+
+    @Override
+    public void addInputEntry(int ruleNumber, int inputNumber, String inputEntryId, String exceptionMessage, Boolean executionResult) {
+        getOrCreateRuleExecution(ruleNumber).addConditionResult(inputNumber, new ExpressionExecution(inputEntryId, exceptionMessage, executionResult));
+    }
+
+    @Override
+    public void addOutputEntry(int ruleNumber, int outputNumber, String outputEntryId, String exceptionMessage, Object executionResult) {
+        getOrCreateRuleExecution(ruleNumber).addConclusionResult(outputNumber, new ExpressionExecution(outputEntryId, exceptionMessage, executionResult));
+    }
+
+    @Override
+    public void setFailed() {
+        super.setFailed();
+        this.inputVariableTypes = getVariablesTypeMap(executionInputVariables);
+        this.inputVariables = createDefensiveCopyInputVariables(executionInputVariables);
+    }
+
+    @Override
+    public void stopAudit() {
+        super.stopAudit();
+        if (!failed) {
+            ruleExecutions = Collections.<Integer, RuleExecutionAuditContainer> emptyMap();
+        }
+        executionInputVariables = null;
+    }
+
+    protected RuleExecutionAuditContainer getOrCreateRuleExecution(int ruleNumber) {
+        RuleExecutionAuditContainer ruleExecution = ruleExecutions.get(ruleNumber);
+        if (ruleExecution == null) {
+            ruleExecution = new RuleExecutionAuditContainer(ruleNumber);
+            ruleExecutions.put(ruleNumber, ruleExecution);
+        }
+        return ruleExecution;
+    }
+
+}
@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+import java.util.Collections;
+import java.util.Date;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.RuleExecutionAuditContainer;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.HitPolicy;
+
+/**
+ * Audit container of an execution for which the audit trail is not captured. Only the decision, the start and end time, the failed flag and the
+ * exception message are kept: the input variables are not copied and the rule executions are not recorded.
+ */
+public class DecisionExecutionSummaryAuditContainer extends DecisionExecutionAuditContainer {
+
+    public DecisionExecutionSummaryAuditContainer(String decisionKey, String decisionName, HitPolicy hitPolicy, Boolean strictMode) {
+        this.startTime = new Date();
+        this.decisionKey = decisionKey;
+        this.decisionName = decisionName;
+        this.hitPolicy = hitPolicy.getValue();
+        this.strictMode = strictMode;
+        this.inputVariables = Collections.emptyMap();
+        this.inputVariableTypes = Collections.emptyMap();
+        this.ruleExecutions = Collections.<Integer, RuleExecutionAuditContainer> emptyMap();
+    }
+
+    @Override
+    public void addRuleEntry(DecisionRule rule) {
+    }
+
+    @Override
+    public void markRuleEnd(int ruleNumber) {
+    }
+
+    @Override
+    public void markRuleValid(int ruleNumber) {
+    }
+
+    @Override
+    public void addInputEntry(int ruleNumber, int inputNumber, String inputEntryId, Boolean executionResult) {
+    }
+
+    @Override
+    public void addInputEntry(int ruleNumber, int inputNumber, String inputEntryId, String exceptionMessage, Boolean executionResult) {
+    }
+
+    @Override
+    public void addOutputEntry(int ruleNumber, int outputNumber, String outputEntryId, Object executionResult) {
+    }
+
+    @Override
+    public void addOutputEntry(int ruleNumber, int outputNumber, String outputEntryId, String exceptionMessage, Object executionResult) {
+    }
+
+}
@@ -13,9 +13,12 @@
 package org.flowable.dmn.engine.impl.cmd;
 
 import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
 import org.flowable.dmn.engine.impl.interceptor.Command;
 import org.flowable.dmn.engine.impl.interceptor.CommandContext;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
@@ -39,6 +42,7 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable{
     protected String parentDeploymentId;
     protected Map<String, Object> variables;
     protected String tenantId;
+    protected DecisionExecutionAuditMode auditMode;
 
     protected DmnDecisionTable resolveDecisionTable(DeploymentManager deploymentManager) {
         DmnDecisionTable decisionTable = null;
@@ -77,6 +81,32 @@ public abstract class AbstractExecuteDecisionCmd implements Serializable{
         return decisionTable;
     }
 
+    /**
+     * Executes the decision table with the variables of this command, using the compiled expressions of the decision table cache entry.
+     */
+    protected RuleEngineExecutionResult executeDecision(DmnEngineConfiguration dmnEngineConfiguration, DmnDecisionTable decisionTable,
+            DecisionExecutionAuditMode auditMode) {
+        DecisionTableCacheEntry decisionTableCacheEntry = dmnEngineConfiguration.getDeploymentManager().resolveDecisionTable(decisionTable);
+
+        RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        if (ruleEngineExecutor instanceof RuleEngineExecutorImpl) {
+            return ((RuleEngineExecutorImpl) ruleEngineExecutor).execute(decisionTableCacheEntry.getDecision(),
+                    decisionTableCacheEntry.getCompiledDecisionTable(), variables, dmnEngineConfiguration.getCustomExpressionFunctions(),
+                    dmnEngineConfiguration.getCustomPropertyHandlers(), auditMode);
+        }
+
+        // a custom rule engine executor compiles the expressions itself and decides which audit trail it captures
+        return ruleEngineExecutor.execute(decisionTableCacheEntry.getDecision(), variables, dmnEngineConfiguration.getCustomExpressionFunctions(),
+                dmnEngineConfiguration.getCustomPropertyHandlers());
+    }
+
+    /**
+     * @return the audit mode of this command, or the audit mode of the DMN engine configuration when it's not set.
+     */
+    protected DecisionExecutionAuditMode resolveAuditMode(DmnEngineConfiguration dmnEngineConfiguration) {
+        return auditMode != null ? auditMode : dmnEngineConfiguration.getDecisionExecutionAuditMode();
+    }
+
     protected Decision resolveDecision(DeploymentManager deploymentManager, DmnDecisionTable decisionTable) {
         if (decisionTable == null) {
             throw new IllegalArgumentException("decisionTable is null");
@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.DecisionBatchExecutionBuilderImpl;
+import org.flowable.dmn.engine.impl.DecisionBatchResultIterator;
+import org.flowable.dmn.engine.impl.interceptor.Command;
+import org.flowable.dmn.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+
+/**
+ * Resolves the decision once and returns an iterator that executes it for each input variables, outside of this command.
+ */
+public class ExecuteDecisionBatchCmd extends AbstractExecuteDecisionCmd implements Command<Iterator<RuleEngineExecutionResult>> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected transient Iterator<Map<String, Object>> inputVariables;
+    protected int parallelism;
+    protected boolean auditTrail;
+
+    public ExecuteDecisionBatchCmd(DecisionBatchExecutionBuilderImpl decisionBatchExecutionBuilder, boolean auditTrail) {
+        this.decisionKey = decisionBatchExecutionBuilder.getDecisionKey();
+        this.parentDeploymentId = decisionBatchExecutionBuilder.getParentDeploymentId();
+        this.tenantId = decisionBatchExecutionBuilder.getTenantId();
+        this.inputVariables = decisionBatchExecutionBuilder.getInputVariables();
+        this.parallelism = decisionBatchExecutionBuilder.getParallelism();
+        this.auditMode = decisionBatchExecutionBuilder.getAuditMode();
+        this.auditTrail = auditTrail;
+    }
+
+    public Iterator<RuleEngineExecutionResult> execute(CommandContext commandContext) {
+        if (decisionKey == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+        if (inputVariables == null) {
+            throw new FlowableIllegalArgumentException("inputVariables is null");
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = commandContext.getDmnEngineConfiguration();
+        DmnDecisionTable decisionTable = resolveDecisionTable(dmnEngineConfiguration.getDeploymentManager());
+        DecisionTableCacheEntry decisionTableCacheEntry = dmnEngineConfiguration.getDeploymentManager().resolveDecisionTable(decisionTable);
+
+        ExecutorService executorService = parallelism > 1 ? dmnEngineConfiguration.getDecisionBatchExecutorService() : null;
+
+        // the audit trail is only captured when it's returned
+        DecisionExecutionAuditMode executionAuditMode = auditTrail ? resolveAuditMode(dmnEngineConfiguration) : DecisionExecutionAuditMode.NONE;
+
+        return new DecisionBatchResultIterator(dmnEngineConfiguration, decisionTableCacheEntry, inputVariables, auditTrail, executionAuditMode,
+                executorService, parallelism);
+    }
+
+}
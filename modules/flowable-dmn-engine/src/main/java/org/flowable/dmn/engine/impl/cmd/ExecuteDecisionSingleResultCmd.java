@@ -12,12 +12,12 @@
  */
 package org.flowable.dmn.engine.impl.cmd;
 
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.interceptor.Command;
 import org.flowable.dmn.engine.impl.interceptor.CommandContext;
-import org.flowable.dmn.model.Decision;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 
@@ -52,10 +52,8 @@ public class ExecuteDecisionSingleResultCmd extends AbstractExecuteDecisionCmd i
         
         DmnEngineConfiguration dmnEngineConfiguration = commandContext.getDmnEngineConfiguration();
         DmnDecisionTable decisionTable = resolveDecisionTable(dmnEngineConfiguration.getDeploymentManager());
-        Decision decision = resolveDecision(dmnEngineConfiguration.getDeploymentManager(), decisionTable);
-
-        RuleEngineExecutionResult executionResult = dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, variables,
-                dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        // the audit trail is not returned, so it isn't captured
+        RuleEngineExecutionResult executionResult = executeDecision(dmnEngineConfiguration, decisionTable, DecisionExecutionAuditMode.NONE);
 
         Map<String, Object> decisionResult = null;
         if (executionResult != null && executionResult.getDecisionResult() != null && !executionResult.getDecisionResult().isEmpty()) {
@@ -20,7 +20,6 @@ import org.flowable.dmn.api.RuleEngineExecutionSingleResult;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.interceptor.Command;
 import org.flowable.dmn.engine.impl.interceptor.CommandContext;
-import org.flowable.dmn.model.Decision;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 
@@ -52,10 +51,7 @@ public class ExecuteDecisionSingleResultWithAuditTrailCmd extends AbstractExecut
 
         DmnEngineConfiguration dmnEngineConfiguration = commandContext.getDmnEngineConfiguration();
         DmnDecisionTable decisionTable = resolveDecisionTable(dmnEngineConfiguration.getDeploymentManager());
-        Decision decision = resolveDecision(dmnEngineConfiguration.getDeploymentManager(), decisionTable);
-
-        RuleEngineExecutionResult executionResult = dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, variables,
-                dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        RuleEngineExecutionResult executionResult = executeDecision(dmnEngineConfiguration, decisionTable, resolveAuditMode(dmnEngineConfiguration));
 
         Map<String, Object> decisionResult = null;
 
@@ -12,12 +12,12 @@
  */
 package org.flowable.dmn.engine.impl.cmd;
 
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.interceptor.Command;
 import org.flowable.dmn.engine.impl.interceptor.CommandContext;
-import org.flowable.dmn.model.Decision;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 
 import java.util.Map;
@@ -43,6 +43,12 @@ public class ExecuteDecisionWithAuditTrailCmd extends AbstractExecuteDecisionCmd
         this.tenantId = tenantId;
     }
 
+    public ExecuteDecisionWithAuditTrailCmd(String decisionKey, String parentDeploymentId, Map<String, Object> variables, String tenantId,
+            DecisionExecutionAuditMode auditMode) {
+        this(decisionKey, parentDeploymentId, variables, tenantId);
+        this.auditMode = auditMode;
+    }
+
     public RuleEngineExecutionResult execute(CommandContext commandContext) {
         if (decisionKey == null) {
             throw new FlowableIllegalArgumentException("decisionKey is null");
@@ -50,10 +56,7 @@ public class ExecuteDecisionWithAuditTrailCmd extends AbstractExecuteDecisionCmd
 
         DmnEngineConfiguration dmnEngineConfiguration = commandContext.getDmnEngineConfiguration();
         DmnDecisionTable decisionTable = resolveDecisionTable(dmnEngineConfiguration.getDeploymentManager());
-        Decision decision = resolveDecision(dmnEngineConfiguration.getDeploymentManager(), decisionTable);
-
-        RuleEngineExecutionResult executionResult = dmnEngineConfiguration.getRuleEngineExecutor().execute(decision, variables,
-                dmnEngineConfiguration.getCustomExpressionFunctions(), dmnEngineConfiguration.getCustomPropertyHandlers());
+        RuleEngineExecutionResult executionResult = executeDecision(dmnEngineConfiguration, decisionTable, resolveAuditMode(dmnEngineConfiguration));
 
         return executionResult;
     }
@@ -14,12 +14,15 @@ package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.dmn.engine.DmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.context.Context;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.mvel.DecisionTableIndex;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
-import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 
 /**
  * Updates caches and artifacts for a deployment and its decision tables
@@ -38,6 +41,16 @@ public class CachingAndArtifactsManager {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecisionTable(decisionTable);
             Decision decision = parsedDeployment.getDecisionForDecisionTable(decisionTable);
             DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
+            if (decision.getExpression() instanceof DecisionTable) {
+                DecisionTable decisionTableExpression = (DecisionTable) decision.getExpression();
+                CompiledDecisionTable compiledDecisionTable = CompiledDecisionTable.compile(decisionTableExpression,
+                        dmnEngineConfiguration.getCustomExpressionFunctions());
+                if (dmnEngineConfiguration.isEnableDecisionTableIndex()
+                        && decisionTableExpression.getRules().size() >= dmnEngineConfiguration.getDecisionTableIndexMinRuleCount()) {
+                    compiledDecisionTable.setDecisionTableIndex(DecisionTableIndex.build(decisionTableExpression, compiledDecisionTable));
+                }
+                cacheEntry.setCompiledDecisionTable(compiledDecisionTable);
+            }
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
             // Add to deployment for further usage
@@ -36,13 +36,15 @@ public class HitPolicyUnique extends AbstractHitPolicy implements EvaluateRuleVa
 
     @Override
     public void evaluateRuleValidity(int ruleNumber, MvelExecutionContext executionContext) {
-        //TODO: not on audit container
-        for (Map.Entry<Integer, RuleExecutionAuditContainer> entry : executionContext.getAuditContainer().getRuleExecutions().entrySet()) {
-            if (entry.getKey().equals(ruleNumber) == false && entry.getValue().isValid()) {
-                String hitPolicyViolatedMessage = String.format("HitPolicy UNIQUE violated: rule %d is valid but rule %d was already valid", ruleNumber, entry.getKey());
+        for (Integer validRuleNumber : executionContext.getValidRuleNumbers()) {
+            if (validRuleNumber.equals(ruleNumber) == false) {
+                String hitPolicyViolatedMessage = String.format("HitPolicy UNIQUE violated: rule %d is valid but rule %d was already valid", ruleNumber, validRuleNumber);
 
                 if (Context.getDmnEngineConfiguration().isStrictMode()) {
-                    executionContext.getAuditContainer().getRuleExecutions().get(ruleNumber).setExceptionMessage(hitPolicyViolatedMessage);
+                    RuleExecutionAuditContainer ruleExecution = executionContext.getAuditContainer().getRuleExecutions().get(ruleNumber);
+                    if (ruleExecution != null) {
+                        ruleExecution.setExceptionMessage(hitPolicyViolatedMessage);
+                    }
                     throw new FlowableException("HitPolicy UNIQUE violated");
                 }
             }
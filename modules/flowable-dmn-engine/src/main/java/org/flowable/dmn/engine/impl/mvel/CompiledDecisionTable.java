@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.LiteralExpression;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.dmn.model.RuleOutputClauseContainer;
+import org.flowable.dmn.model.UnaryTests;
+import org.mvel2.MVEL;
+import org.mvel2.ParserContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The compiled MVEL expressions of the input and output entries of a decision table, so that executing the decision table doesn't need to pre parse and
+ * compile every entry again. Created once per decision table when it is deployed or loaded into the decision table cache.
+ * 
+ * Entries that can't be compiled are not present: they are compiled when executed, as before, so that the error is reported in the audit trail of
+ * the execution.
+ */
+public class CompiledDecisionTable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledDecisionTable.class);
+
+    protected final Map<UnaryTests, Serializable> compiledInputEntries = new IdentityHashMap<>();
+    protected final Map<LiteralExpression, Serializable> compiledOutputEntries = new IdentityHashMap<>();
+    protected DecisionTableIndex decisionTableIndex;
+
+    public static CompiledDecisionTable compile(DecisionTable decisionTable, Map<String, Method> customExpressionFunctions) {
+        CompiledDecisionTable compiledDecisionTable = new CompiledDecisionTable();
+        ParserContext parserContext = createParserContext(customExpressionFunctions);
+
+        for (DecisionRule rule : decisionTable.getRules()) {
+            for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+                UnaryTests inputEntry = inputContainer.getInputEntry();
+                if (inputEntry != null && StringUtils.isNotEmpty(inputEntry.getText()) && inputContainer.getInputClause() != null
+                        && inputContainer.getInputClause().getInputExpression() != null) {
+
+                    String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(),
+                            inputContainer.getInputClause().getInputExpression().getText());
+                    Serializable compiledExpression = compileExpression(parsedExpression, parserContext);
+                    if (compiledExpression != null) {
+                        compiledDecisionTable.compiledInputEntries.put(inputEntry, compiledExpression);
+                    }
+                }
+            }
+
+            for (RuleOutputClauseContainer outputContainer : rule.getOutputEntries()) {
+                LiteralExpression outputEntry = outputContainer.getOutputEntry();
+                if (outputEntry != null && StringUtils.isNotEmpty(outputEntry.getText())) {
+                    Serializable compiledExpression = compileExpression(outputEntry.getText(), parserContext);
+                    if (compiledExpression != null) {
+                        compiledDecisionTable.compiledOutputEntries.put(outputEntry, compiledExpression);
+                    }
+                }
+            }
+        }
+
+        return compiledDecisionTable;
+    }
+
+    public static ParserContext createParserContext(Map<String, Method> customExpressionFunctions) {
+        ParserContext parserContext = new ParserContext();
+        if (customExpressionFunctions != null) {
+            for (Map.Entry<String, Method> config : customExpressionFunctions.entrySet()) {
+                parserContext.addImport(config.getKey(), config.getValue());
+            }
+        }
+        return parserContext;
+    }
+
+    protected static Serializable compileExpression(String expression, ParserContext parserContext) {
+        try {
+            return MVEL.compileExpression(expression, parserContext);
+        } catch (Exception e) {
+            logger.debug("Could not precompile expression {}, it will be compiled when executed", expression, e);
+            return null;
+        }
+    }
+
+    /**
+     * @return the compiled condition of the input entry, or null when the input entry needs to be compiled.
+     */
+    public Serializable getCompiledInputEntry(UnaryTests inputEntry) {
+        return compiledInputEntries.get(inputEntry);
+    }
+
+    /**
+     * @return the compiled expression of the output entry, or null when the output entry needs to be compiled.
+     */
+    public Serializable getCompiledOutputEntry(LiteralExpression outputEntry) {
+        return compiledOutputEntries.get(outputEntry);
+    }
+
+    public int getCompiledInputEntryCount() {
+        return compiledInputEntries.size();
+    }
+
+    public int getCompiledOutputEntryCount() {
+        return compiledOutputEntries.size();
+    }
+
+    /**
+     * @return the index of the input entries, or null when the rules of the decision table are all evaluated.
+     */
+    public DecisionTableIndex getDecisionTableIndex() {
+        return decisionTableIndex;
+    }
+
+    public void setDecisionTableIndex(DecisionTableIndex decisionTableIndex) {
+        this.decisionTableIndex = decisionTableIndex;
+    }
+
+}
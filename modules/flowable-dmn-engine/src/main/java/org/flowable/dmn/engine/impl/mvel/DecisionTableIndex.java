@@ -0,0 +1,380 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.mvel;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+
+/**
+ * Index of the input entries of a decision table, used to find the rules that can match the input variables without evaluating every rule.
+ * 
+ * An input entry is indexed when it compares the input variable with a literal: == with a number, string or boolean literal goes into a hash index,
+ * and &lt;, &lt;=, &gt; or &gt;= with a number literal goes into an interval index. Empty input entries match any value. Rules with any other input
+ * entry in a column are candidates for every value of that column, so they are always evaluated.
+ * 
+ * A column is only used when its input expression is a plain variable, and only for values of which the comparison with the literal is known
+ * exactly: strings, booleans and numbers that MVEL compares without loss of precision. For any other value the column doesn't exclude rules.
+ * The candidate rules are returned in rule order and are evaluated as usual, so the index only skips rules that would evaluate to false and the
+ * hit policies behave the same.
+ */
+public class DecisionTableIndex {
+
+    protected static final Pattern VARIABLE_PATTERN = Pattern.compile("[a-zA-Z_$][a-zA-Z0-9_$]*");
+    protected static final Pattern ENTRY_PATTERN = Pattern.compile("(==|<=|>=|<|>)\\s*(.+)");
+    protected static final Pattern NUMBER_PATTERN = Pattern.compile("-?\\d{1,9}(\\.\\d{1,6})?");
+    protected static final Pattern STRING_PATTERN = Pattern.compile("'([^'\\\\]*)'|\"([^\"\\\\]*)\"");
+
+    // Larger longs lose precision when MVEL compares them with a decimal
+    protected static final long MAX_EXACT_LONG = 1L << 53;
+
+    protected final List<DecisionRule> rules;
+    protected final List<ColumnIndex> columnIndexes = new ArrayList<>();
+    protected final List<String> inputVariableIds = new ArrayList<>();
+    protected final BitSet alwaysEvaluatedRules = new BitSet();
+
+    protected DecisionTableIndex(List<DecisionRule> rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Rules with input entries that could not be precompiled are always evaluated, so that their compilation error is reported as without index.
+     *
+     * @return the index of the decision table, or null when none of the input columns can be indexed.
+     */
+    public static DecisionTableIndex build(DecisionTable decisionTable, CompiledDecisionTable compiledDecisionTable) {
+        DecisionTableIndex decisionTableIndex = new DecisionTableIndex(decisionTable.getRules());
+        for (int i = 0; i < decisionTable.getRules().size(); i++) {
+            for (RuleInputClauseContainer inputContainer : decisionTable.getRules().get(i).getInputEntries()) {
+                if (inputContainer.getInputEntry() != null && StringUtils.isNotEmpty(inputContainer.getInputEntry().getText())
+                        && compiledDecisionTable.getCompiledInputEntry(inputContainer.getInputEntry()) == null) {
+                    decisionTableIndex.alwaysEvaluatedRules.set(i);
+                }
+            }
+        }
+
+        for (InputClause inputClause : decisionTable.getInputs()) {
+            if (inputClause.getInputExpression() == null || inputClause.getInputExpression().getText() == null) {
+                continue;
+            }
+
+            decisionTableIndex.inputVariableIds.add(inputClause.getInputExpression().getText());
+            String variableName = inputClause.getInputExpression().getText().trim();
+            if (!VARIABLE_PATTERN.matcher(variableName).matches()) {
+                continue;
+            }
+
+            ColumnIndex columnIndex = new ColumnIndex(variableName, decisionTable.getRules().size());
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int i = 0; i < rules.size(); i++) {
+                columnIndex.addEntry(i, getInputEntryText(rules.get(i), inputClause));
+            }
+
+            if (columnIndex.isSelective()) {
+                columnIndex.sortRanges();
+                decisionTableIndex.columnIndexes.add(columnIndex);
+            }
+        }
+
+        return decisionTableIndex.columnIndexes.isEmpty() ? null : decisionTableIndex;
+    }
+
+    protected static String getInputEntryText(DecisionRule rule, InputClause inputClause) {
+        for (RuleInputClauseContainer inputContainer : rule.getInputEntries()) {
+            if (inputContainer.getInputClause() == inputClause) {
+                return inputContainer.getInputEntry() != null ? StringUtils.trimToEmpty(inputContainer.getInputEntry().getText()) : "";
+            }
+        }
+
+        // A rule without an entry for the input is never skipped for this column
+        return null;
+    }
+
+    /**
+     * @return the rules that can match the given input variables, in rule order.
+     */
+    public List<DecisionRule> getCandidateRules(Map<String, Object> inputVariables) {
+        if (!containsInputVariables(inputVariables)) {
+            // Evaluating all rules reports the missing variable as without index
+            return rules;
+        }
+
+        BitSet candidates = null;
+        for (ColumnIndex columnIndex : columnIndexes) {
+            BitSet columnCandidates = columnIndex.getCandidates(inputVariables);
+            if (columnCandidates != null) {
+                if (candidates == null) {
+                    candidates = columnCandidates;
+                } else {
+                    candidates.and(columnCandidates);
+                }
+            }
+        }
+
+        if (candidates == null) {
+            return rules;
+        }
+        candidates.or(alwaysEvaluatedRules);
+
+        List<DecisionRule> candidateRules = new ArrayList<>(candidates.cardinality());
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            candidateRules.add(rules.get(i));
+        }
+        return candidateRules;
+    }
+
+    protected boolean containsInputVariables(Map<String, Object> inputVariables) {
+        if (inputVariables == null) {
+            return false;
+        }
+        for (String inputVariableId : inputVariableIds) {
+            String rootVariableId = inputVariableId.contains(".") ? inputVariableId.substring(0, inputVariableId.indexOf('.')) : inputVariableId;
+            if (!inputVariables.containsKey(rootVariableId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getIndexedColumnCount() {
+        return columnIndexes.size();
+    }
+
+    protected static BigDecimal toIndexKey(BigDecimal number) {
+        return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+    }
+
+    /**
+     * @return the value as a decimal, or null when MVEL might not compare the value exactly with a number literal.
+     */
+    protected static BigDecimal toExactDecimal(Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return BigDecimal.valueOf(((Number) value).longValue());
+
+        } else if (value instanceof Long) {
+            long longValue = (Long) value;
+            return Math.abs(longValue) <= MAX_EXACT_LONG ? BigDecimal.valueOf(longValue) : null;
+
+        } else if (value instanceof Double) {
+            double doubleValue = (Double) value;
+            // The shortest decimal representation keeps the ordering of doubles, and the literals are exact doubles
+            return Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) ? null : new BigDecimal(Double.toString(doubleValue));
+        }
+
+        return null;
+    }
+
+    protected static class ColumnIndex {
+
+        protected final String variableName;
+        protected final int ruleCount;
+
+        protected final Map<Object, BitSet> equalityIndex = new HashMap<>();
+        protected final BitSet numberEqualityRules = new BitSet();
+        protected final BitSet stringEqualityRules = new BitSet();
+        protected final BitSet booleanEqualityRules = new BitSet();
+
+        // Entries with > and >=, and entries with < and <=, sorted by bound
+        protected final List<RangeEntry> lowerBoundEntries = new ArrayList<>();
+        protected final List<RangeEntry> upperBoundEntries = new ArrayList<>();
+        protected final BitSet rangeRules = new BitSet();
+
+        public ColumnIndex(String variableName, int ruleCount) {
+            this.variableName = variableName;
+            this.ruleCount = ruleCount;
+        }
+
+        public void addEntry(int ruleIndex, String text) {
+            if (text == null || text.isEmpty()) {
+                return;
+            }
+
+            Matcher entryMatcher = ENTRY_PATTERN.matcher(text);
+            if (!entryMatcher.matches()) {
+                return;
+            }
+
+            String operator = entryMatcher.group(1);
+            String literal = entryMatcher.group(2).trim();
+
+            BigDecimal number = parseNumber(literal);
+            if (number != null) {
+                if ("==".equals(operator)) {
+                    addEquality(ruleIndex, toIndexKey(number), numberEqualityRules);
+                } else {
+                    RangeEntry rangeEntry = new RangeEntry(ruleIndex, number, operator.length() == 2);
+                    if (operator.charAt(0) == '>') {
+                        lowerBoundEntries.add(rangeEntry);
+                    } else {
+                        upperBoundEntries.add(rangeEntry);
+                    }
+                    rangeRules.set(ruleIndex);
+                }
+
+            } else if ("==".equals(operator)) {
+                Matcher stringMatcher = STRING_PATTERN.matcher(literal);
+                if (stringMatcher.matches()) {
+                    addEquality(ruleIndex, stringMatcher.group(1) != null ? stringMatcher.group(1) : stringMatcher.group(2), stringEqualityRules);
+                } else if ("true".equals(literal) || "false".equals(literal)) {
+                    addEquality(ruleIndex, Boolean.valueOf(literal), booleanEqualityRules);
+                }
+            }
+        }
+
+        protected void addEquality(int ruleIndex, Object key, BitSet equalityRules) {
+            BitSet keyRules = equalityIndex.get(key);
+            if (keyRules == null) {
+                keyRules = new BitSet(ruleCount);
+                equalityIndex.put(key, keyRules);
+            }
+            keyRules.set(ruleIndex);
+            equalityRules.set(ruleIndex);
+        }
+
+        protected BigDecimal parseNumber(String literal) {
+            if (!NUMBER_PATTERN.matcher(literal).matches()) {
+                return null;
+            }
+            BigDecimal number = new BigDecimal(literal);
+            // Only literals that are exact as a double, since MVEL compares decimals as doubles
+            if (number.compareTo(new BigDecimal(Double.toString(number.doubleValue()))) != 0) {
+                return null;
+            }
+            return number;
+        }
+
+        public boolean isSelective() {
+            return !equalityIndex.isEmpty() || !rangeRules.isEmpty();
+        }
+
+        public void sortRanges() {
+            Comparator<RangeEntry> boundComparator = new Comparator<RangeEntry>() {
+
+                @Override
+                public int compare(RangeEntry entry1, RangeEntry entry2) {
+                    return entry1.bound.compareTo(entry2.bound);
+                }
+            };
+            Collections.sort(lowerBoundEntries, boundComparator);
+            Collections.sort(upperBoundEntries, boundComparator);
+        }
+
+        /**
+         * @return the rules that can match the value of the column variable, or null when the value doesn't exclude any rule.
+         */
+        public BitSet getCandidates(Map<String, Object> inputVariables) {
+            Object value = inputVariables != null ? inputVariables.get(variableName) : null;
+            if (value == null) {
+                return null;
+            }
+
+            BitSet candidates = new BitSet(ruleCount);
+            candidates.set(0, ruleCount);
+
+            if (value instanceof String) {
+                excludeAndAddMatches(candidates, stringEqualityRules, value);
+
+            } else if (value instanceof Boolean) {
+                excludeAndAddMatches(candidates, booleanEqualityRules, value);
+
+            } else {
+                BigDecimal number = toExactDecimal(value);
+                if (number == null) {
+                    return null;
+                }
+                excludeAndAddMatches(candidates, numberEqualityRules, toIndexKey(number));
+
+                candidates.andNot(rangeRules);
+                addLowerBoundMatches(candidates, number);
+                addUpperBoundMatches(candidates, number);
+            }
+
+            return candidates;
+        }
+
+        protected void excludeAndAddMatches(BitSet candidates, BitSet equalityRules, Object key) {
+            candidates.andNot(equalityRules);
+            BitSet keyRules = equalityIndex.get(key);
+            if (keyRules != null) {
+                candidates.or(keyRules);
+            }
+        }
+
+        // Entries > bound and >= bound with bound below the value, or equal to it for >=
+        protected void addLowerBoundMatches(BitSet candidates, BigDecimal value) {
+            for (RangeEntry entry : lowerBoundEntries) {
+                int comparison = entry.bound.compareTo(value);
+                if (comparison > 0) {
+                    break;
+                }
+                if (comparison < 0 || entry.inclusive) {
+                    candidates.set(entry.ruleIndex);
+                }
+            }
+        }
+
+        // Entries < bound and <= bound with bound above the value, or equal to it for <=
+        protected void addUpperBoundMatches(BitSet candidates, BigDecimal value) {
+            int index = findFirstBoundNotBelow(upperBoundEntries, value);
+            for (int i = index; i < upperBoundEntries.size(); i++) {
+                RangeEntry entry = upperBoundEntries.get(i);
+                if (entry.bound.compareTo(value) > 0 || entry.inclusive) {
+                    candidates.set(entry.ruleIndex);
+                }
+            }
+        }
+
+        protected int findFirstBoundNotBelow(List<RangeEntry> entries, BigDecimal value) {
+            int low = 0;
+            int high = entries.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (entries.get(middle).bound.compareTo(value) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+    }
+
+    protected static class RangeEntry {
+
+        protected final int ruleIndex;
+        protected final BigDecimal bound;
+        protected final boolean inclusive;
+
+        public RangeEntry(int ruleIndex, BigDecimal bound, boolean inclusive) {
+            this.ruleIndex = ruleIndex;
+            this.bound = bound;
+            this.inclusive = inclusive;
+        }
+
+    }
+
+}
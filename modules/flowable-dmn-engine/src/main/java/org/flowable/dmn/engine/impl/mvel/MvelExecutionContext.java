@@ -38,6 +38,8 @@ public class MvelExecutionContext {
     protected DecisionExecutionAuditContainer auditContainer;
     protected Map<String, List<Object>> outputValues = new HashMap<>();
     protected BuiltinAggregator aggregator;
+    protected CompiledDecisionTable compiledDecisionTable;
+    protected List<Integer> validRuleNumbers = new ArrayList<>();
 
     public void checkExecutionContext(String variableId) {
 
@@ -71,6 +73,17 @@ public class MvelExecutionContext {
         ruleResult.put(outputName, outputValue);
     }
 
+    public void addValidRuleNumber(int ruleNumber) {
+        validRuleNumbers.add(ruleNumber);
+    }
+
+    /**
+     * @return the numbers of the rules that were evaluated as valid so far, independent of the audit trail.
+     */
+    public List<Integer> getValidRuleNumbers() {
+        return validRuleNumbers;
+    }
+
     public void setStackVariables(Map<String, Object> variables) {
         this.stackVariables = variables;
     }
@@ -134,4 +147,12 @@ public class MvelExecutionContext {
     public void setAggregator(BuiltinAggregator aggregator) {
         this.aggregator = aggregator;
     }
+
+    public CompiledDecisionTable getCompiledDecisionTable() {
+        return compiledDecisionTable;
+    }
+
+    public void setCompiledDecisionTable(CompiledDecisionTable compiledDecisionTable) {
+        this.compiledDecisionTable = compiledDecisionTable;
+    }
 }
@@ -17,12 +17,12 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.InputClause;
 import org.flowable.dmn.model.OutputClause;
-import org.mvel2.ParserContext;
 import org.mvel2.integration.PropertyHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,22 +36,19 @@ public class MvelExecutionContextBuilder {
 
     public static MvelExecutionContext build(Decision decision, Map<String, Object> inputVariables,
             Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
+        return build(decision, inputVariables, customExpressionFunctions, propertyHandlers, DecisionExecutionAuditMode.FULL);
+    }
+
+    public static MvelExecutionContext build(Decision decision, Map<String, Object> inputVariables,
+            Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers, DecisionExecutionAuditMode auditMode) {
 
         MvelExecutionContext executionContext = new MvelExecutionContext();
 
         // initialize audit trail
-        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables));
-
-        ParserContext parserContext = new ParserContext();
+        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, inputVariables, auditMode));
 
         // add custom functions to context
-        if (customExpressionFunctions != null && !customExpressionFunctions.isEmpty()) {
-            for (Map.Entry<String, Method> config : customExpressionFunctions.entrySet()) {
-                parserContext.addImport(config.getKey(), config.getValue());
-            }
-        }
-
-        executionContext.setParserContext(parserContext);
+        executionContext.setParserContext(CompiledDecisionTable.createParserContext(customExpressionFunctions));
 
         // add property handlers to context
         if (propertyHandlers != null) {
@@ -52,11 +52,15 @@ public class MvelExpressionExecutor {
         // check if variable is present MVEL execution context
         executionContext.checkExecutionContext(inputClause.getInputExpression().getText());
 
-        // pre parse expression
-        String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText());
-
-        // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(parsedExpression, executionContext.getParserContext());
+        // use the precompiled expression, or pre parse and compile the MVEL expression
+        Serializable compiledExpression = null;
+        if (executionContext.getCompiledDecisionTable() != null) {
+            compiledExpression = executionContext.getCompiledDecisionTable().getCompiledInputEntry(inputEntry);
+        }
+        if (compiledExpression == null) {
+            String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText());
+            compiledExpression = MVEL.compileExpression(parsedExpression, executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Boolean result;
@@ -64,6 +68,7 @@ public class MvelExpressionExecutor {
         try {
             result = MVEL.executeExpression(compiledExpression, executionContext.getStackVariables(), Boolean.class);
         } catch (Exception ex) {
+            String parsedExpression = MvelConditionExpressionPreParser.parse(inputEntry.getText(), inputClause.getInputExpression().getText());
             logger.warn("Error while executing input entry: {}", parsedExpression, ex);
             throw new FlowableDmnExpressionException("error while executing input entry", parsedExpression, ex);
         }
@@ -82,8 +87,14 @@ public class MvelExpressionExecutor {
             throw new IllegalArgumentException("execution context is required");
         }
 
-        // compile MVEL expression
-        Serializable compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        // use the precompiled expression, or compile the MVEL expression
+        Serializable compiledExpression = null;
+        if (executionContext.getCompiledDecisionTable() != null) {
+            compiledExpression = executionContext.getCompiledDecisionTable().getCompiledOutputEntry(outputEntry);
+        }
+        if (compiledExpression == null) {
+            compiledExpression = MVEL.compileExpression(outputEntry.getText(), executionContext.getParserContext());
+        }
 
         // execute MVEL expression
         Object result = null;
@@ -13,20 +13,11 @@
 package org.flowable.dmn.engine.impl.persistence.deploy;
 
 /**
- * Interface for cache implementations.
+ * Interface for cache implementations of this engine. The methods are defined by the {@link org.flowable.engine.common.impl.persistence.deploy.DeploymentCache}
+ * shared by all engines, which is the type that is used for the caches of the engine configuration.
  * 
  * @author Joram Barrez
  */
-public interface DeploymentCache<T> {
-
-    T get(String id);
-
-    boolean contains(String id);
-
-    void add(String id, T object);
-
-    void remove(String id);
-
-    void clear();
+public interface DeploymentCache<T> extends org.flowable.engine.common.impl.persistence.deploy.DeploymentCache<T> {
 
 }
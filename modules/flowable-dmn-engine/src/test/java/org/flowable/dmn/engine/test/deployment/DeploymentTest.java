@@ -17,14 +17,20 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.impl.mvel.CompiledDecisionTable;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
 import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.junit.Test;
 
 public class DeploymentTest extends AbstractFlowableDmnTest {
@@ -59,6 +65,59 @@ public class DeploymentTest extends AbstractFlowableDmnTest {
         assertEquals("decision", decision.getKey());
     }
 
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void deploySingleDecisionWithConcurrentDecisionCache() {
+        DeploymentCache<DecisionTableCacheEntry> originalCache = dmnEngineConfiguration.getDeploymentManager().getDecisionCache();
+        ConcurrentDeploymentCache<DecisionTableCacheEntry> concurrentCache = new ConcurrentDeploymentCache<>(1);
+        dmnEngineConfiguration.getDeploymentManager().setDecisionCache(concurrentCache);
+        try {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("input1", 5);
+            assertEquals("test2", ruleService.executeDecisionByKeySingleResult("decision", variables).get("output1"));
+            assertEquals(1, concurrentCache.size());
+            assertTrue(concurrentCache.getMissCount() > 0);
+
+            long hitCount = concurrentCache.getHitCount();
+            variables.put("input1", 10);
+            assertEquals("test3", ruleService.executeDecisionByKeySingleResult("decision", variables).get("output1"));
+            assertTrue(concurrentCache.getHitCount() > hitCount);
+
+        } finally {
+            dmnEngineConfiguration.getDeploymentManager().setDecisionCache(originalCache);
+        }
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void deploySingleDecisionAndValidateCompiledDecisionTable() {
+        DmnDecisionTable decision = repositoryService.createDecisionTableQuery()
+                .latestVersion()
+                .decisionTableKey("decision")
+                .singleResult();
+
+        CompiledDecisionTable compiledDecisionTable = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId())
+                .getCompiledDecisionTable();
+        assertNotNull(compiledDecisionTable);
+        assertEquals(3, compiledDecisionTable.getCompiledInputEntryCount());
+        assertEquals(6, compiledDecisionTable.getCompiledOutputEntryCount());
+
+        // the decision table is compiled again when it is loaded into the cache
+        dmnEngineConfiguration.getDeploymentManager().getDecisionCache().clear();
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("input1", 5);
+        Map<String, Object> result = ruleService.executeDecisionByKeySingleResult("decision", variables);
+        assertEquals("test2", result.get("output1"));
+
+        compiledDecisionTable = dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decision.getId()).getCompiledDecisionTable();
+        assertNotNull(compiledDecisionTable);
+        assertEquals(3, compiledDecisionTable.getCompiledInputEntryCount());
+
+        variables.put("input1", 10);
+        result = ruleService.executeDecisionByKeySingleResult("decision", variables);
+        assertEquals("test3", result.get("output1"));
+    }
+
     @Test
     @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
     public void deploySingleDecisionAndValidateVersioning() {
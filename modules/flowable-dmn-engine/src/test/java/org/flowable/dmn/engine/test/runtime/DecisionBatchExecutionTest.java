@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.flowable.dmn.model.Decision;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mvel2.integration.PropertyHandler;
+
+public class DecisionBatchExecutionTest extends AbstractFlowableDmnTest {
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void executeDecisionBatch() {
+        Iterator<List<Map<String, Object>>> results = ruleService.createDecisionBatchExecutionBuilder()
+                .decisionKey("decision")
+                .inputVariables(createInputVariables(100))
+                .execute();
+
+        assertResults(results, 100);
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void executeDecisionBatchInParallel() {
+        Iterator<List<Map<String, Object>>> results = ruleService.createDecisionBatchExecutionBuilder()
+                .decisionKey("decision")
+                .inputVariables(createInputVariables(1000).iterator())
+                .parallelism(4)
+                .execute();
+
+        assertResults(results, 1000);
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void executeDecisionBatchWithAuditTrail() {
+        DmnDecisionTable decisionTable = repositoryService.createDecisionTableQuery().decisionTableKey("decision").singleResult();
+
+        Iterator<RuleEngineExecutionResult> results = ruleService.createDecisionBatchExecutionBuilder()
+                .decisionKey("decision")
+                .inputVariables(createInputVariables(10))
+                .parallelism(2)
+                .executeWithAuditTrail();
+
+        int count = 0;
+        while (results.hasNext()) {
+            RuleEngineExecutionResult result = results.next();
+            Assert.assertEquals(1, result.getDecisionResult().size());
+            Assert.assertNotNull(result.getAuditTrail());
+            Assert.assertEquals(decisionTable.getDeploymentId(), result.getAuditTrail().getDmnDeploymentId());
+            Assert.assertFalse(result.getAuditTrail().isFailed());
+            count++;
+        }
+        Assert.assertEquals(10, count);
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+    public void executeDecisionBatchInParallelAfterFailure() {
+        final RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        dmnEngineConfiguration.setRuleEngineExecutor(new RuleEngineExecutor() {
+
+            @Override
+            public RuleEngineExecutionResult execute(Decision decision, Map<String, Object> inputVariables,
+                    Map<String, Method> customExpressionFunctions, Map<Class<?>, PropertyHandler> propertyHandlers) {
+                if (inputVariables.get("input1").equals(5)) {
+                    throw new FlowableException("Failed for input 5");
+                }
+                return ruleEngineExecutor.execute(decision, inputVariables, customExpressionFunctions, propertyHandlers);
+            }
+        });
+
+        try {
+            Iterator<List<Map<String, Object>>> results = ruleService.createDecisionBatchExecutionBuilder()
+                    .decisionKey("decision")
+                    .inputVariables(createInputVariables(100))
+                    .parallelism(4)
+                    .execute();
+
+            int count = 0;
+            try {
+                while (results.hasNext()) {
+                    results.next();
+                    count++;
+                }
+                Assert.fail("Expected FlowableException");
+            } catch (FlowableException e) {
+                Assert.assertEquals("Failed for input 5", e.getMessage());
+            }
+            Assert.assertEquals(5, count);
+            Assert.assertFalse(results.hasNext());
+
+            // the executor service is shared by the batch executions
+            Assert.assertFalse(dmnEngineConfiguration.getDecisionBatchExecutorService().isShutdown());
+
+        } finally {
+            dmnEngineConfiguration.setRuleEngineExecutor(ruleEngineExecutor);
+        }
+    }
+
+    @Test
+    public void executeDecisionBatchUnknownDecision() {
+        try {
+            ruleService.createDecisionBatchExecutionBuilder()
+                    .decisionKey("unknown")
+                    .inputVariables(createInputVariables(1))
+                    .execute();
+            Assert.fail("Expected FlowableObjectNotFoundException");
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = FlowableIllegalArgumentException.class)
+    public void executeDecisionBatchInvalidParallelism() {
+        ruleService.createDecisionBatchExecutionBuilder().parallelism(0);
+    }
+
+    protected List<Map<String, Object>> createInputVariables(int count) {
+        List<Map<String, Object>> inputVariables = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("input1", i % 20);
+            inputVariables.add(variables);
+        }
+        return inputVariables;
+    }
+
+    protected void assertResults(Iterator<List<Map<String, Object>>> results, int expectedCount) {
+        int count = 0;
+        while (results.hasNext()) {
+            List<Map<String, Object>> result = results.next();
+            Assert.assertEquals(1, result.size());
+
+            int input = count % 20;
+            String expectedOutput = input > 10 ? "test" : input < 10 ? "test2" : "test3";
+            Assert.assertEquals("result " + count, expectedOutput, result.get(0).get("output1"));
+            count++;
+        }
+        Assert.assertEquals(expectedCount, count);
+    }
+
+}
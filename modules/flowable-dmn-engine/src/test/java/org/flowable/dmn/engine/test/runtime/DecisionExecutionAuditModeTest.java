@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DecisionExecutionAuditModeTest extends AbstractFlowableDmnTest {
+
+    protected static final String UNIQUE_HIT_POLICY = "org/flowable/dmn/engine/test/runtime/DecisionExecutionAuditModeTest.uniqueHitPolicy.dmn";
+
+    @After
+    public void resetAuditMode() {
+        dmnEngineConfiguration.setDecisionExecutionAuditMode(DecisionExecutionAuditMode.FULL);
+        dmnEngineConfiguration.setDecisionExecutionAuditSampleRate(100);
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = UNIQUE_HIT_POLICY)
+    public void fullAuditMode() {
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", createInputVariables(25));
+
+        Assert.assertEquals("gt 10", result.getDecisionResult().get(0).get("outputVariable1"));
+        Assert.assertFalse(result.getAuditTrail().isFailed());
+        Assert.assertEquals(3, result.getAuditTrail().getRuleExecutions().size());
+        Assert.assertEquals(25, result.getAuditTrail().getInputVariables().get("inputVariable1"));
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = UNIQUE_HIT_POLICY)
+    public void noAuditMode() {
+        dmnEngineConfiguration.setDecisionExecutionAuditMode(DecisionExecutionAuditMode.NONE);
+
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", createInputVariables(25));
+
+        Assert.assertEquals("gt 10", result.getDecisionResult().get(0).get("outputVariable1"));
+        DecisionExecutionAuditContainer auditTrail = result.getAuditTrail();
+        Assert.assertEquals("decision1", auditTrail.getDecisionKey());
+        Assert.assertNotNull(auditTrail.getStartTime());
+        Assert.assertNotNull(auditTrail.getEndTime());
+        Assert.assertFalse(auditTrail.isFailed());
+        Assert.assertTrue(auditTrail.getRuleExecutions().isEmpty());
+        Assert.assertTrue(auditTrail.getInputVariables().isEmpty());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = UNIQUE_HIT_POLICY)
+    public void noAuditModeUniqueHitPolicyViolated() {
+        dmnEngineConfiguration.setDecisionExecutionAuditMode(DecisionExecutionAuditMode.NONE);
+
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", createInputVariables(5));
+
+        Assert.assertNull(result.getDecisionResult());
+        Assert.assertTrue(result.getAuditTrail().isFailed());
+        Assert.assertNotNull(result.getAuditTrail().getExceptionMessage());
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().isEmpty());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = UNIQUE_HIT_POLICY)
+    public void sampledAuditMode() {
+        dmnEngineConfiguration.setDecisionExecutionAuditMode(DecisionExecutionAuditMode.SAMPLED);
+        dmnEngineConfiguration.setDecisionExecutionAuditSampleRate(3);
+
+        int capturedAuditTrails = 0;
+        for (int i = 0; i < 9; i++) {
+            RuleEngineExecutionResult result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", createInputVariables(25));
+            Assert.assertEquals("gt 10", result.getDecisionResult().get(0).get("outputVariable1"));
+            if (!result.getAuditTrail().getRuleExecutions().isEmpty()) {
+                capturedAuditTrails++;
+            }
+        }
+        Assert.assertEquals(3, capturedAuditTrails);
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = UNIQUE_HIT_POLICY)
+    public void onFailureAuditMode() {
+        dmnEngineConfiguration.setDecisionExecutionAuditMode(DecisionExecutionAuditMode.ON_FAILURE);
+
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", createInputVariables(25));
+        Assert.assertEquals("gt 10", result.getDecisionResult().get(0).get("outputVariable1"));
+        Assert.assertFalse(result.getAuditTrail().isFailed());
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().isEmpty());
+
+        // the failed execution keeps the valid rules and the failure
+        result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", createInputVariables(5));
+        Assert.assertTrue(result.getAuditTrail().isFailed());
+        Assert.assertEquals("HitPolicy UNIQUE violated", result.getAuditTrail().getExceptionMessage());
+        Assert.assertEquals(2, result.getAuditTrail().getRuleExecutions().size());
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().get(1).isValid());
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().get(3).isValid());
+        Assert.assertNotNull(result.getAuditTrail().getRuleExecutions().get(3).getExceptionMessage());
+        // the input variables are copied when the execution fails, with the default value of the output variable
+        Assert.assertEquals(2, result.getAuditTrail().getInputVariables().size());
+        Assert.assertEquals(5, result.getAuditTrail().getInputVariables().get("inputVariable1"));
+        Assert.assertEquals("", result.getAuditTrail().getInputVariables().get("outputVariable1"));
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = UNIQUE_HIT_POLICY)
+    public void auditModeOfExecution() {
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKeyParentDeploymentIdAndTenantIdWithAuditTrail("decision1", null,
+                createInputVariables(25), null, DecisionExecutionAuditMode.NONE);
+        Assert.assertEquals("gt 10", result.getDecisionResult().get(0).get("outputVariable1"));
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().isEmpty());
+
+        // the audit mode of the configuration is used when none is given
+        result = ruleService.executeDecisionByKeyParentDeploymentIdAndTenantIdWithAuditTrail("decision1", null,
+                createInputVariables(25), null, null);
+        Assert.assertEquals(3, result.getAuditTrail().getRuleExecutions().size());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = UNIQUE_HIT_POLICY)
+    public void auditModeOfBatchExecution() {
+        Iterator<RuleEngineExecutionResult> results = ruleService.createDecisionBatchExecutionBuilder()
+                .decisionKey("decision1")
+                .inputVariables(Arrays.asList(createInputVariables(25), createInputVariables(5)))
+                .auditMode(DecisionExecutionAuditMode.ON_FAILURE)
+                .executeWithAuditTrail();
+
+        RuleEngineExecutionResult result = results.next();
+        Assert.assertFalse(result.getAuditTrail().isFailed());
+        Assert.assertTrue(result.getAuditTrail().getRuleExecutions().isEmpty());
+
+        result = results.next();
+        Assert.assertTrue(result.getAuditTrail().isFailed());
+        Assert.assertEquals(2, result.getAuditTrail().getRuleExecutions().size());
+        Assert.assertFalse(results.hasNext());
+    }
+
+    protected Map<String, Object> createInputVariables(Object inputVariable1) {
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("inputVariable1", inputVariable1);
+        return inputVariables;
+    }
+
+}
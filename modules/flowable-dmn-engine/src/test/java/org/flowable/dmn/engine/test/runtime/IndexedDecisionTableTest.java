@@ -0,0 +1,132 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
+import org.flowable.dmn.engine.impl.mvel.DecisionTableIndex;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.dmn.engine.test.DmnDeploymentAnnotation;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexedDecisionTableTest extends AbstractFlowableDmnTest {
+
+    protected static final List<Object> AGES = Arrays.<Object> asList(-1, 0, 0.1, 0.2, 17, 18, 18.0, 25, 30.5, 42, 65, 65.5, 66, 100L,
+            1L << 60, 20f, "25");
+
+    protected static final List<Object> COUNTRIES = Arrays.<Object> asList("BE", "NL", "DE", "FR", "US", 5);
+
+    @After
+    public void resetIndex() {
+        dmnEngineConfiguration.setEnableDecisionTableIndex(false);
+        dmnEngineConfiguration.setDecisionTableIndexMinRuleCount(16);
+    }
+
+    @Test
+    @DmnDeploymentAnnotation
+    public void ruleOrderHitPolicy() {
+        assertSameResultsWithIndex();
+
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("age", 25);
+        inputVariables.put("country", "NL");
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", inputVariables);
+
+        List<Object> outputs = new ArrayList<>();
+        for (Map<String, Object> ruleResult : result.getDecisionResult()) {
+            outputs.add(ruleResult.get("outputVariable1"));
+        }
+        Assert.assertEquals(4, outputs.size());
+        Assert.assertTrue(outputs.containsAll(Arrays.asList("adultNL", "positive", "age25", "notBelgianFrom25")));
+
+        // only the candidate rules are evaluated: the 4 matching rules and the rule with the startsWith entry
+        Assert.assertEquals(5, result.getAuditTrail().getRuleExecutions().size());
+    }
+
+    @Test
+    @DmnDeploymentAnnotation
+    public void firstHitPolicy() {
+        assertSameResultsWithIndex();
+
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("age", 27);
+        inputVariables.put("country", "DE");
+        Assert.assertEquals("germany", ruleService.executeDecisionByKeySingleResult("decision1", inputVariables).get("outputVariable1"));
+    }
+
+    @Test
+    @DmnDeploymentAnnotation(resources = "org/flowable/dmn/engine/test/runtime/IndexedDecisionTableTest.ruleOrderHitPolicy.dmn")
+    public void missingInputVariable() {
+        Map<String, Object> inputVariables = new HashMap<>();
+        inputVariables.put("age", 25);
+
+        RuleEngineExecutionResult expectedResult = ruleService.executeDecisionByKeyWithAuditTrail("decision1", inputVariables);
+        enableIndex();
+        RuleEngineExecutionResult result = ruleService.executeDecisionByKeyWithAuditTrail("decision1", inputVariables);
+
+        Assert.assertEquals(expectedResult.getDecisionResult(), result.getDecisionResult());
+        Assert.assertEquals(expectedResult.getAuditTrail().isFailed(), result.getAuditTrail().isFailed());
+        Assert.assertEquals(expectedResult.getAuditTrail().getRuleExecutions().size(), result.getAuditTrail().getRuleExecutions().size());
+    }
+
+    protected void assertSameResultsWithIndex() {
+        List<List<Map<String, Object>>> expectedResults = executeAll();
+        Assert.assertNull(getDecisionTableIndex());
+
+        enableIndex();
+        List<List<Map<String, Object>>> results = executeAll();
+        DecisionTableIndex decisionTableIndex = getDecisionTableIndex();
+        Assert.assertNotNull(decisionTableIndex);
+        Assert.assertEquals(2, decisionTableIndex.getIndexedColumnCount());
+
+        for (int i = 0; i < expectedResults.size(); i++) {
+            Assert.assertEquals("input " + i, expectedResults.get(i), results.get(i));
+        }
+    }
+
+    protected List<List<Map<String, Object>>> executeAll() {
+        List<List<Map<String, Object>>> results = new ArrayList<>();
+        for (Object age : AGES) {
+            for (Object country : COUNTRIES) {
+                Map<String, Object> inputVariables = new HashMap<>();
+                inputVariables.put("age", age);
+                inputVariables.put("country", country);
+                results.add(ruleService.executeDecisionByKey("decision1", inputVariables));
+            }
+        }
+        return results;
+    }
+
+    protected void enableIndex() {
+        dmnEngineConfiguration.setEnableDecisionTableIndex(true);
+        dmnEngineConfiguration.setDecisionTableIndexMinRuleCount(1);
+
+        // the index is created when the decision table is cached again
+        dmnEngineConfiguration.getDeploymentManager().getDecisionCache().clear();
+    }
+
+    protected DecisionTableIndex getDecisionTableIndex() {
+        DmnDecisionTable decisionTable = repositoryService.createDecisionTableQuery().decisionTableKey("decision1").singleResult();
+        return dmnEngineConfiguration.getDeploymentManager().getDecisionCache().get(decisionTable.getId()).getCompiledDecisionTable()
+                .getDecisionTableIndex();
+    }
+
+}
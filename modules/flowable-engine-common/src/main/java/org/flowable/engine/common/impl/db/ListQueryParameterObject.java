@@ -23,6 +23,7 @@ public class ListQueryParameterObject {
     protected int firstResult;
     protected Object parameter;
     protected String databaseType;
+    protected String orderByColumns;
 
     public ListQueryParameterObject() {
     }
@@ -74,9 +75,16 @@ public class ListQueryParameterObject {
     }
 
     public String getOrderByColumns() {
+        if (orderByColumns != null) {
+            return orderByColumns;
+        }
         return getOrderBy();
     }
 
+    public void setOrderByColumns(String orderByColumns) {
+        this.orderByColumns = orderByColumns;
+    }
+
     public void setDatabaseType(String databaseType) {
         this.databaseType = databaseType;
     }
@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.el;
+
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentWeightedCache;
+
+/**
+ * Bounded cache of parsed expressions (e.g. a {@code javax.el.ValueExpression}), by expression text, used by the expression managers of the engines so
+ * that expressions created at runtime are only parsed once.
+ * 
+ * A parsed expression depends on the context it was parsed with (for example the available functions), so every expression manager has its own cache.
+ * See {@link ConcurrentWeightedCache} for the eviction.
+ */
+public class ParsedExpressionCache<T> extends ConcurrentWeightedCache<T> {
+
+    public static final int DEFAULT_LIMIT = 1000;
+
+    public ParsedExpressionCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    /**
+     * Cache which holds at most the given number of parsed expressions.
+     */
+    public ParsedExpressionCache(int limit) {
+        super(limit);
+    }
+
+    /**
+     * @return the share of lookups that found a parsed expression, between 0 and 1.
+     */
+    public double getHitRate() {
+        long hits = getHitCount();
+        long lookups = hits + getMissCount();
+        return lookups > 0 ? (double) hits / lookups : 0.0;
+    }
+
+}
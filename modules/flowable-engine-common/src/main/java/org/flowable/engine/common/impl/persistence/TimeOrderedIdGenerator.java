@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.impl.cfg.IdGenerator;
+
+/**
+ * {@link IdGenerator} implementation that generates time-ordered ids without a database round trip.
+ *
+ * An id consists of a 48 bit millisecond timestamp, a 16 bit sequence and a 64 bit node id, formatted like a UUID
+ * (e.g. 015f2d1c-8a3b-0000-6c1e-95e2f0a4b7d3). Ids generated later always sort after earlier ones, both
+ * numerically and as strings, so new rows are appended to the end of the primary key indexes instead of
+ * being spread over them as happens with random UUIDs.
+ *
+ * The timestamp and sequence are shared by all instances on the same classloader, so different engines (process, DMN, form, content, IDM)
+ * can each use their own instance without ever generating the same id. When more than 65536 ids are requested within the same
+ * millisecond, or when the system clock moves backwards, the timestamp part keeps increasing from the last generated value.
+ *
+ * The node id distinguishes ids generated by different JVMs. By default a random value is used, but a unique value can be
+ * configured for each node of a cluster through {@link #setNodeId(long)}.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+    protected static final int SEQUENCE_BITS = 16;
+
+    // different engines on the same classloader share the timestamp and sequence.
+    protected static final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+    protected long nodeId;
+
+    public TimeOrderedIdGenerator() {
+        this(new SecureRandom().nextLong());
+    }
+
+    public TimeOrderedIdGenerator(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public String getNextId() {
+        return new UUID(nextTimestampAndSequence(), nodeId).toString();
+    }
+
+    protected long nextTimestampAndSequence() {
+        long current = System.currentTimeMillis() << SEQUENCE_BITS;
+        while (true) {
+            long last = lastTimestampAndSequence.get();
+            long next = Math.max(last + 1, current);
+            if (lastTimestampAndSequence.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(long nodeId) {
+        this.nodeId = nodeId;
+    }
+
+}
@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+/**
+ * {@link DeploymentCache} that doesn't lock on lookups and evicts the least frequently used objects when its limit is reached. It can be used as deployment
+ * cache by all engines.
+ * 
+ * See {@link ConcurrentWeightedCache} for details.
+ */
+public class ConcurrentDeploymentCache<T> extends ConcurrentWeightedCache<T> implements MonitoredDeploymentCache<T> {
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        super();
+    }
+
+    /**
+     * Cache which holds at most the given number of objects.
+     */
+    public ConcurrentDeploymentCache(long limit) {
+        super(limit);
+    }
+
+    /**
+     * Cache of which the total weight of the objects, as calculated by the given weigher, doesn't exceed the given maximum weight.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, CacheWeigher<T> weigher) {
+        super(maxWeight, weigher);
+    }
+
+}
@@ -0,0 +1,316 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Concurrent cache that is bounded by the total weight of its objects, as calculated by a {@link CacheWeigher}.
+ *
+ * Lookups never lock: they only bump a small per-object access frequency, which stops changing once an object is 'hot', and a striped hit/miss counter. Adding or removing objects doesn't
+ * lock either, unless the maximum weight is exceeded. The objects to evict are then chosen by sampling: a few objects are taken from a sweep over the cache
+ * and the least frequently used one of them (oldest when equal) is evicted, so an eviction doesn't depend on the number of cached objects. The frequencies
+ * are halved once every agingSampleFactor times the cache size lookups and additions, so that objects which were popular a long time ago eventually become
+ * candidates for eviction too, while recent popularity still makes a difference.
+ *
+ * Hits, misses and evictions are counted and can be used for monitoring the cache effectiveness.
+ */
+public class ConcurrentWeightedCache<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrentWeightedCache.class);
+
+    protected static final int MAX_FREQUENCY = 15;
+    protected static final int EVICTION_SAMPLE_SIZE = 8;
+    protected static final int DEFAULT_AGING_SAMPLE_FACTOR = 10;
+
+    protected ConcurrentHashMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<String, CacheEntry<T>>();
+    protected long maxWeight;
+    protected CacheWeigher<T> weigher;
+
+    protected ReentrantLock evictionLock = new ReentrantLock();
+    protected AtomicLong insertionCounter = new AtomicLong();
+    protected AtomicLong weightedSize = new AtomicLong();
+    protected StripedCounter hitCount = new StripedCounter();
+    protected StripedCounter missCount = new StripedCounter();
+    protected AtomicLong evictionCount = new AtomicLong();
+
+    // Only used while holding the eviction lock
+    protected Iterator<Map.Entry<String, CacheEntry<T>>> evictionSweep;
+    protected long operationCountAtLastAging;
+    protected int agingSampleFactor = DEFAULT_AGING_SAMPLE_FACTOR;
+
+    /** Cache with no limit */
+    public ConcurrentWeightedCache() {
+        this(-1);
+    }
+
+    /**
+     * Cache which holds at most the given number of objects.
+     */
+    public ConcurrentWeightedCache(long limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache of which the total weight of the objects, as calculated by the given weigher, doesn't exceed the given maximum weight.
+     */
+    public ConcurrentWeightedCache(long maxWeight, CacheWeigher<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        entry.recordAccess();
+        return entry.object;
+    }
+
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    public void add(String id, T object) {
+        CacheEntry<T> entry = new CacheEntry<T>(object, weigh(id, object), insertionCounter.incrementAndGet());
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        weightedSize.addAndGet(entry.weight);
+        if (previousEntry != null) {
+            weightedSize.addAndGet(-previousEntry.weight);
+        }
+
+        if (maxWeight > 0 && weightedSize.get() > maxWeight) {
+            evict(id);
+        }
+    }
+
+    public void remove(String id) {
+        CacheEntry<T> entry = cache.remove(id);
+        if (entry != null) {
+            weightedSize.addAndGet(-entry.weight);
+        }
+    }
+
+    public void clear() {
+        for (String id : new ArrayList<String>(cache.keySet())) {
+            remove(id);
+        }
+    }
+
+    protected int weigh(String id, T object) {
+        if (weigher == null) {
+            return 1;
+        }
+        return Math.max(1, weigher.weigh(id, object));
+    }
+
+    /**
+     * Evicts sampled, least frequently used objects until the cache is within its maximum weight again. The object with the given id, which was just added,
+     * is never evicted.
+     */
+    protected void evict(String addedId) {
+        evictionLock.lock();
+        try {
+            ageIfNeeded();
+
+            while (weightedSize.get() > maxWeight) {
+                EvictionCandidate<T> victim = sampleVictim(addedId);
+                if (victim == null) {
+                    break; // Only the added object is left
+                }
+
+                if (cache.remove(victim.id, victim.entry)) {
+                    weightedSize.addAndGet(-victim.entry.weight);
+                    evictionCount.incrementAndGet();
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Cache limit is reached, {} is evicted", victim.id);
+                    }
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next objects of the sweep over the cache and returns the least frequently used one of them. Caches that are not larger than the sample are
+     * searched completely.
+     */
+    protected EvictionCandidate<T> sampleVictim(String addedId) {
+        if (cache.size() <= EVICTION_SAMPLE_SIZE) {
+            return selectVictim(cache.entrySet().iterator(), Integer.MAX_VALUE, addedId);
+        }
+
+        if (evictionSweep == null || !evictionSweep.hasNext()) {
+            evictionSweep = cache.entrySet().iterator();
+        }
+        EvictionCandidate<T> victim = selectVictim(evictionSweep, EVICTION_SAMPLE_SIZE, addedId);
+        if (victim == null) {
+            // The sweep reached the end of the cache, start over
+            evictionSweep = cache.entrySet().iterator();
+            victim = selectVictim(evictionSweep, EVICTION_SAMPLE_SIZE, addedId);
+        }
+        return victim;
+    }
+
+    protected EvictionCandidate<T> selectVictim(Iterator<Map.Entry<String, CacheEntry<T>>> entries, int sampleSize, String addedId) {
+        EvictionCandidate<T> victim = null;
+        for (int sampled = 0; sampled < sampleSize && entries.hasNext(); sampled++) {
+            Map.Entry<String, CacheEntry<T>> entry = entries.next();
+            if (!entry.getKey().equals(addedId)) {
+                EvictionCandidate<T> candidate = new EvictionCandidate<T>(entry.getKey(), entry.getValue());
+                if (victim == null || candidate.compareTo(victim) < 0) {
+                    victim = candidate;
+                }
+            }
+        }
+        return victim;
+    }
+
+    /**
+     * Halves all frequencies once enough lookups and additions were done since the previous aging. This is amortized over these operations.
+     */
+    protected void ageIfNeeded() {
+        long operationCount = hitCount.sum() + insertionCounter.get();
+        if (operationCount - operationCountAtLastAging >= (long) agingSampleFactor * Math.max(1, cache.size())) {
+            for (CacheEntry<T> entry : cache.values()) {
+                entry.age();
+            }
+            operationCountAtLastAging = operationCount;
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getWeightedSize() {
+        return weightedSize.get();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public int getAgingSampleFactor() {
+        return agingSampleFactor;
+    }
+
+    /**
+     * Sets after how many lookups and additions, as a multiple of the cache size, the access frequencies are halved.
+     */
+    public void setAgingSampleFactor(int agingSampleFactor) {
+        this.agingSampleFactor = agingSampleFactor;
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T object;
+        protected final int weight;
+        protected final long insertionOrder;
+        protected final AtomicInteger frequency = new AtomicInteger(1);
+
+        public CacheEntry(T object, int weight, long insertionOrder) {
+            this.object = object;
+            this.weight = weight;
+            this.insertionOrder = insertionOrder;
+        }
+
+        public void recordAccess() {
+            // Once at the maximum, hot objects no longer cause writes on lookup
+            if (frequency.get() < MAX_FREQUENCY) {
+                frequency.incrementAndGet();
+            }
+        }
+
+        public void age() {
+            int current = frequency.get();
+            frequency.compareAndSet(current, current >> 1);
+        }
+
+    }
+
+    /**
+     * Counter that is spread over multiple slots, so lookups from different threads don't all update the same memory location.
+     */
+    protected static class StripedCounter {
+
+        protected static final int STRIPES = 16;
+        protected static final int PADDING = 8; // 8 longs = one cache line
+
+        protected final AtomicLongArray counts = new AtomicLongArray(STRIPES * PADDING);
+
+        public void increment() {
+            int stripe = (int) (Thread.currentThread().getId() % STRIPES);
+            counts.incrementAndGet(stripe * PADDING);
+        }
+
+        public long sum() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += counts.get(i * PADDING);
+            }
+            return sum;
+        }
+
+    }
+
+    protected static class EvictionCandidate<T> implements Comparable<EvictionCandidate<T>> {
+
+        protected final String id;
+        protected final CacheEntry<T> entry;
+        protected final int frequency;
+
+        public EvictionCandidate(String id, CacheEntry<T> entry) {
+            this.id = id;
+            this.entry = entry;
+            this.frequency = entry.frequency.get();
+        }
+
+        public int compareTo(EvictionCandidate<T> other) {
+            if (frequency != other.frequency) {
+                return frequency < other.frequency ? -1 : 1;
+            }
+            return entry.insertionOrder < other.entry.insertionOrder ? -1 : (entry.insertionOrder == other.entry.insertionOrder ? 0 : 1);
+        }
+
+    }
+
+}
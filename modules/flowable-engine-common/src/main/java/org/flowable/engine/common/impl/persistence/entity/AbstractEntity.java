@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.common.impl.persistence.entity;
 
+import java.util.Objects;
+
 import org.flowable.engine.common.impl.db.HasRevision;
 
 /**
@@ -28,6 +30,8 @@ public abstract class AbstractEntity implements Entity, HasRevision {
     protected boolean isUpdated;
     protected boolean isDeleted;
 
+    protected boolean isChanged;
+
     @Override
     public String getId() {
         return id;
@@ -74,4 +78,22 @@ public abstract class AbstractEntity implements Entity, HasRevision {
         this.isDeleted = isDeleted;
     }
 
+    public boolean isChanged() {
+        return isChanged;
+    }
+
+    public void setChanged(boolean isChanged) {
+        this.isChanged = isChanged;
+    }
+
+    /**
+     * Sets the changed flag when a field of the persistent state gets a different value. Only used by entities that keep track of their changes
+     * themselves, the changed flag of other entities is never set.
+     */
+    protected void trackChange(Object oldValue, Object newValue) {
+        if (!isChanged && !Objects.equals(oldValue, newValue)) {
+            isChanged = true;
+        }
+    }
+
 }
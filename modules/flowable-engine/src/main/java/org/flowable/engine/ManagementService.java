@@ -27,6 +27,7 @@ import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.engine.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.runtime.AsyncExecutorNode;
 import org.flowable.engine.runtime.DeadLetterJobQuery;
 import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.JobQuery;
@@ -332,4 +333,10 @@ public interface ManagementService {
      */
     void deleteEventLogEntry(long logNr);
 
+    /**
+     * Returns the async executors that are registered in the node registry, ordered by lock owner. Every async executor with an enabled heartbeat
+     * registers itself and updates its heartbeat time periodically. Async executors whose heartbeat timed out are removed by the other async executors.
+     */
+    List<AsyncExecutorNode> getAsyncExecutorNodes();
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine;
 
+import java.io.InputStream;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -651,6 +652,23 @@ public interface RuntimeService {
      */
     <T> T getVariable(String executionId, String variableName, Class<T> variableClass);
 
+    /**
+     * The stored bytes of a variable that is kept in the byte array table (serializable, long string, long json and byte array variables), i.e. the java
+     * serialized form for serializable and long string variables. The value is not deserialized, so this is the cheapest way to read large variable values
+     * that are processed as a stream. Searching for the variable is done in all scopes that are visible to the given execution (including parent scopes).
+     *
+     * @param executionId
+     *            id of execution, cannot be null.
+     * @param variableName
+     *            name of variable, cannot be null.
+     * @return the bytes of the variable or null if the variable is undefined or the value of the variable is null.
+     * @throws FlowableObjectNotFoundException
+     *             when no execution is found for the given executionId.
+     * @throws FlowableIllegalArgumentException
+     *             when the variable is not stored in the byte array table.
+     */
+    InputStream getVariableInputStream(String executionId, String variableName);
+
     /**
      * Check whether or not this execution has variable set with the given name, Searching for the variable is done in all scopes that are visible to the given execution (including parent scopes).
      */
@@ -682,6 +700,13 @@ public interface RuntimeService {
      */
     <T> T getVariableLocal(String executionId, String variableName, Class<T> variableClass);
 
+    /**
+     * The stored bytes of a variable that is kept in the byte array table, when the variable is set for the execution (and not searching parent scopes).
+     *
+     * @see #getVariableInputStream(String, String)
+     */
+    InputStream getVariableInputStreamLocal(String executionId, String variableName);
+
     /**
      * Check whether or not this execution has a local variable set with the given name.
      */
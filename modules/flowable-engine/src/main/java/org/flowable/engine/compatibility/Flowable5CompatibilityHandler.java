@@ -86,6 +86,8 @@ public interface Flowable5CompatibilityHandler {
 
     VariableInstance getExecutionVariableInstance(String executionId, String variableName, boolean isLocal);
 
+    InputStream getExecutionVariableInputStream(String executionId, String variableName, boolean isLocal);
+
     Map<String, Object> getExecutionVariables(String executionId, Collection<String> variableNames, boolean isLocal);
 
     Map<String, VariableInstance> getExecutionVariableInstances(String executionId, Collection<String> variableNames, boolean isLocal);
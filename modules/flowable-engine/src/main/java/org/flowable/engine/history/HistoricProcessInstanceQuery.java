@@ -302,6 +302,12 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
      */
     HistoricProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit);
 
+    /**
+     * Leave out the variables that are stored in the byte array table (serializable, long string, long json and byte array variables) when the variables
+     * are included in the query result, so large values are not fetched.
+     */
+    HistoricProcessInstanceQuery excludeByteArrayVariables();
+
     /**
      * Only select process instances that failed due to an exception happening during a job execution.
      */
@@ -69,6 +69,7 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
     protected String involvedUser;
     protected boolean includeProcessVariables;
     protected Integer processInstanceVariablesLimit;
+    protected boolean excludeByteArrayVariables;
     protected boolean withJobException;
     protected String tenantId;
     protected String tenantIdLike;
@@ -330,6 +331,11 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return this;
     }
 
+    public HistoricProcessInstanceQuery excludeByteArrayVariables() {
+        this.excludeByteArrayVariables = true;
+        return this;
+    }
+
     public Integer getProcessInstanceVariablesLimit() {
         return processInstanceVariablesLimit;
     }
@@ -767,6 +773,10 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         return includeProcessVariables;
     }
 
+    public boolean isExcludeByteArrayVariables() {
+        return excludeByteArrayVariables;
+    }
+
     public boolean isWithException() {
         return withJobException;
     }
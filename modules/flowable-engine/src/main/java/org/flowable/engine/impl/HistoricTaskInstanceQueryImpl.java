@@ -106,6 +106,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
     protected Integer taskVariablesLimit;
+    protected boolean excludeByteArrayVariables;
     protected boolean includeIdentityLinks;
     protected List<HistoricTaskInstanceQueryImpl> orQueryObjects = new ArrayList<HistoricTaskInstanceQueryImpl>();
     protected HistoricTaskInstanceQueryImpl currentOrQueryObject;
@@ -1090,6 +1091,11 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    public HistoricTaskInstanceQuery excludeByteArrayVariables() {
+        this.excludeByteArrayVariables = true;
+        return this;
+    }
+
     public HistoricTaskInstanceQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
         return this;
@@ -1435,6 +1441,10 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeProcessVariables;
     }
 
+    public boolean isExcludeByteArrayVariables() {
+        return excludeByteArrayVariables;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
@@ -31,6 +31,7 @@ import org.flowable.engine.impl.cmd.DeleteSuspendedJobCmd;
 import org.flowable.engine.impl.cmd.DeleteTimerJobCmd;
 import org.flowable.engine.impl.cmd.ExecuteCustomSqlCmd;
 import org.flowable.engine.impl.cmd.ExecuteJobCmd;
+import org.flowable.engine.impl.cmd.GetAsyncExecutorNodesCmd;
 import org.flowable.engine.impl.cmd.GetEventLogEntriesCmd;
 import org.flowable.engine.impl.cmd.GetJobExceptionStacktraceCmd;
 import org.flowable.engine.impl.cmd.GetPropertiesCmd;
@@ -48,6 +49,7 @@ import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.db.DbSqlSessionFactory;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.runtime.AsyncExecutorNode;
 import org.flowable.engine.runtime.DeadLetterJobQuery;
 import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.JobQuery;
@@ -238,4 +240,9 @@ public class ManagementServiceImpl extends ServiceImpl implements ManagementServ
         commandExecutor.execute(new DeleteEventLogEntry(logNr));
     }
 
+    @Override
+    public List<AsyncExecutorNode> getAsyncExecutorNodes() {
+        return commandExecutor.execute(new GetAsyncExecutorNodesCmd());
+    }
+
 }
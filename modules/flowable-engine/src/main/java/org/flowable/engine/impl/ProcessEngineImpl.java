@@ -34,6 +34,7 @@ import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.db.PrefetchingDbIdGenerator;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.form.api.FormRepositoryService;
@@ -120,6 +121,10 @@ public class ProcessEngineImpl implements ProcessEngine {
             asyncExecutor.shutdown();
         }
 
+        if (processEngineConfiguration.getIdGenerator() instanceof PrefetchingDbIdGenerator) {
+            ((PrefetchingDbIdGenerator) processEngineConfiguration.getIdGenerator()).shutdown();
+        }
+
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
             closeRunnable.run();
@@ -66,6 +66,7 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
     protected SuspensionState suspensionState;
     protected boolean includeProcessVariables;
     protected Integer processInstanceVariablesLimit;
+    protected boolean excludeByteArrayVariables;
     protected boolean withJobException;
     protected String name;
     protected String nameLike;
@@ -388,6 +389,11 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return this;
     }
 
+    public ProcessInstanceQuery excludeByteArrayVariables() {
+        this.excludeByteArrayVariables = true;
+        return this;
+    }
+
     public Integer getProcessInstanceVariablesLimit() {
         return processInstanceVariablesLimit;
     }
@@ -822,6 +828,10 @@ public class ProcessInstanceQueryImpl extends AbstractVariableQueryImpl<ProcessI
         return includeProcessVariables;
     }
 
+    public boolean isExcludeByteArrayVariables() {
+        return excludeByteArrayVariables;
+    }
+
     public boolean iswithException() {
         return withJobException;
     }
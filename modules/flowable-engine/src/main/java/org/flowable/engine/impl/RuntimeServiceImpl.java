@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -41,6 +42,7 @@ import org.flowable.engine.impl.cmd.GetDataObjectCmd;
 import org.flowable.engine.impl.cmd.GetDataObjectsCmd;
 import org.flowable.engine.impl.cmd.GetEnabledActivitiesForAdhocSubProcessCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariableCmd;
+import org.flowable.engine.impl.cmd.GetExecutionVariableInputStreamCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariableInstanceCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariableInstancesCmd;
 import org.flowable.engine.impl.cmd.GetExecutionVariablesCmd;
@@ -214,6 +216,10 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         return variableClass.cast(getVariable(executionId, variableName));
     }
 
+    public InputStream getVariableInputStream(String executionId, String variableName) {
+        return commandExecutor.execute(new GetExecutionVariableInputStreamCmd(executionId, variableName, false));
+    }
+
     public boolean hasVariable(String executionId, String variableName) {
         return commandExecutor.execute(new HasExecutionVariableCmd(executionId, variableName, false));
     }
@@ -230,6 +236,10 @@ public class RuntimeServiceImpl extends ServiceImpl implements RuntimeService {
         return variableClass.cast(getVariableLocal(executionId, variableName));
     }
 
+    public InputStream getVariableInputStreamLocal(String executionId, String variableName) {
+        return commandExecutor.execute(new GetExecutionVariableInputStreamCmd(executionId, variableName, true));
+    }
+
     public boolean hasVariableLocal(String executionId, String variableName) {
         return commandExecutor.execute(new HasExecutionVariableCmd(executionId, variableName, true));
     }
@@ -103,6 +103,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
     protected Integer taskVariablesLimit;
+    protected boolean excludeByteArrayVariables;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
     protected boolean bothCandidateAndAssigned;
@@ -1129,6 +1130,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    public TaskQuery excludeByteArrayVariables() {
+        this.excludeByteArrayVariables = true;
+        return this;
+    }
+
     public TaskQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
         return this;
@@ -1562,6 +1568,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeProcessVariables;
     }
 
+    public boolean isExcludeByteArrayVariables() {
+        return excludeByteArrayVariables;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
@@ -17,6 +17,7 @@ import java.util.UUID;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.UnacquireOwnedJobsCmd;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
 import org.flowable.engine.runtime.Job;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -45,6 +46,9 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
+    protected boolean adaptiveAsyncJobAcquisition;
+    protected int minAsyncJobAcquireWaitTimeInMillis = 100;
+    protected boolean fusedTimerJobExecution;
 
     protected String lockOwner = UUID.randomUUID().toString();
     protected int timerLockTimeInMillis = 5 * 60 * 1000;
@@ -54,6 +58,19 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
     protected int resetExpiredJobsInterval = 60 * 1000;
     protected int resetExpiredJobsPageSize = 3;
 
+    protected boolean heartbeatEnabled;
+    protected int heartbeatIntervalInMillis = 10 * 1000;
+    protected int heartbeatTimeoutInMillis = -1;
+
+    protected AsyncJobAcquisitionMetrics asyncJobAcquisitionMetrics = new AsyncJobAcquisitionMetrics();
+    protected ExpiredJobRecoveryMetrics expiredJobRecoveryMetrics = new ExpiredJobRecoveryMetrics();
+
+    protected boolean timerWheelEnabled;
+    protected int timerWheelLookAheadTimeInMillis = 30 * 1000;
+    protected int timerWheelTickDurationInMillis = 10;
+    protected int timerWheelSize = 64;
+    protected int timerWheelCapacity = 10000;
+
     // Job queue used when async executor is not yet started and jobs are already added.
     // This is mainly used for testing purpose.
     protected LinkedList<Job> temporaryJobQueue = new LinkedList<Job>();
@@ -80,15 +97,34 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected abstract boolean executeAsyncJob(final Job job, Runnable runnable);
 
+    /**
+     * Notifies the executor that an async job was created by this engine and could not be handed to this executor, so it can acquire jobs
+     * sooner than planned.
+     */
+    public void asyncJobAdded(Job job) {
+        AcquireAsyncJobsDueRunnable runnable = asyncJobsDueRunnable;
+        if (runnable != null) {
+            runnable.asyncJobAdded();
+        }
+    }
+
     protected void unlockOwnedJobs() {
         processEngineConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(lockOwner, null));
     }
 
     protected Runnable createRunnableForJob(final Job job) {
-        if (executeAsyncRunnableFactory == null) {
-            return new ExecuteAsyncRunnable(job, processEngineConfiguration);
+        if (executeAsyncRunnableFactory != null) {
+            if (!(job instanceof TimerJobEntity)) {
+                return executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, processEngineConfiguration);
+            } else if (executeAsyncRunnableFactory instanceof ExecuteTimerJobRunnableFactory) {
+                return ((ExecuteTimerJobRunnableFactory) executeAsyncRunnableFactory).createExecuteTimerJobRunnable((TimerJobEntity) job, processEngineConfiguration);
+            }
+        }
+
+        if (job instanceof TimerJobEntity) {
+            return new ExecuteTimerJobRunnable((TimerJobEntity) job, processEngineConfiguration);
         } else {
-            return executeAsyncRunnableFactory.createExecuteAsyncRunnable(job, processEngineConfiguration);
+            return new ExecuteAsyncRunnable(job, processEngineConfiguration);
         }
     }
 
@@ -109,15 +145,22 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected void initializeRunnables() {
         if (timerJobRunnable == null) {
-            timerJobRunnable = new AcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager());
+            if (timerWheelEnabled) {
+                timerJobRunnable = new TimerWheelAcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager(),
+                        timerWheelLookAheadTimeInMillis, timerWheelTickDurationInMillis, timerWheelSize, timerWheelCapacity);
+            } else {
+                timerJobRunnable = new AcquireTimerJobsRunnable(this, processEngineConfiguration.getJobManager());
+            }
         }
 
         if (resetExpiredJobsRunnable == null) {
             resetExpiredJobsRunnable = new ResetExpiredJobsRunnable(this);
+            resetExpiredJobsRunnable.setMetrics(expiredJobRecoveryMetrics);
         }
 
         if (!isMessageQueueMode && asyncJobsDueRunnable == null) {
             asyncJobsDueRunnable = new AcquireAsyncJobsDueRunnable(this);
+            asyncJobsDueRunnable.setMetrics(asyncJobAcquisitionMetrics);
         }
     }
 
@@ -263,6 +306,103 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.asyncJobsDueRunnable = asyncJobsDueRunnable;
     }
 
+    public boolean isAdaptiveAsyncJobAcquisition() {
+        return adaptiveAsyncJobAcquisition;
+    }
+
+    public void setAdaptiveAsyncJobAcquisition(boolean adaptiveAsyncJobAcquisition) {
+        this.adaptiveAsyncJobAcquisition = adaptiveAsyncJobAcquisition;
+    }
+
+    public int getMinAsyncJobAcquireWaitTimeInMillis() {
+        return minAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    public void setMinAsyncJobAcquireWaitTimeInMillis(int minAsyncJobAcquireWaitTimeInMillis) {
+        this.minAsyncJobAcquireWaitTimeInMillis = minAsyncJobAcquireWaitTimeInMillis;
+    }
+
+    /**
+     * When true, acquired timer jobs are executed by the async executor threads in the same transaction that deletes the timer job, instead of being
+     * moved to an executable job first.
+     */
+    public boolean isFusedTimerJobExecution() {
+        // In message queue mode, jobs are not executed by this executor
+        return fusedTimerJobExecution && !isMessageQueueMode;
+    }
+
+    public void setFusedTimerJobExecution(boolean fusedTimerJobExecution) {
+        this.fusedTimerJobExecution = fusedTimerJobExecution;
+    }
+
+    /**
+     * @return the runnable that fires the timer jobs leased by this executor, or null when the timer wheel is not enabled or the executor is not
+     *         started.
+     */
+    public TimerWheelAcquireTimerJobsRunnable getTimerWheel() {
+        AcquireTimerJobsRunnable runnable = timerJobRunnable;
+        if (runnable instanceof TimerWheelAcquireTimerJobsRunnable) {
+            return (TimerWheelAcquireTimerJobsRunnable) runnable;
+        }
+        return null;
+    }
+
+    public boolean isTimerWheelEnabled() {
+        return timerWheelEnabled;
+    }
+
+    public void setTimerWheelEnabled(boolean timerWheelEnabled) {
+        this.timerWheelEnabled = timerWheelEnabled;
+    }
+
+    public int getTimerWheelLookAheadTimeInMillis() {
+        return timerWheelLookAheadTimeInMillis;
+    }
+
+    public void setTimerWheelLookAheadTimeInMillis(int timerWheelLookAheadTimeInMillis) {
+        this.timerWheelLookAheadTimeInMillis = timerWheelLookAheadTimeInMillis;
+    }
+
+    public int getTimerWheelTickDurationInMillis() {
+        return timerWheelTickDurationInMillis;
+    }
+
+    public void setTimerWheelTickDurationInMillis(int timerWheelTickDurationInMillis) {
+        this.timerWheelTickDurationInMillis = timerWheelTickDurationInMillis;
+    }
+
+    public int getTimerWheelSize() {
+        return timerWheelSize;
+    }
+
+    public void setTimerWheelSize(int timerWheelSize) {
+        this.timerWheelSize = timerWheelSize;
+    }
+
+    public int getTimerWheelCapacity() {
+        return timerWheelCapacity;
+    }
+
+    public void setTimerWheelCapacity(int timerWheelCapacity) {
+        this.timerWheelCapacity = timerWheelCapacity;
+    }
+
+    public AsyncJobAcquisitionMetrics getAsyncJobAcquisitionMetrics() {
+        return asyncJobAcquisitionMetrics;
+    }
+
+    public void setAsyncJobAcquisitionMetrics(AsyncJobAcquisitionMetrics asyncJobAcquisitionMetrics) {
+        this.asyncJobAcquisitionMetrics = asyncJobAcquisitionMetrics;
+    }
+
+    public ExpiredJobRecoveryMetrics getExpiredJobRecoveryMetrics() {
+        return expiredJobRecoveryMetrics;
+    }
+
+    public void setExpiredJobRecoveryMetrics(ExpiredJobRecoveryMetrics expiredJobRecoveryMetrics) {
+        this.expiredJobRecoveryMetrics = expiredJobRecoveryMetrics;
+    }
+
     public void setResetExpiredJobsRunnable(ResetExpiredJobsRunnable resetExpiredJobsRunnable) {
         this.resetExpiredJobsRunnable = resetExpiredJobsRunnable;
     }
@@ -291,6 +431,37 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.resetExpiredJobsPageSize = resetExpiredJobsPageSize;
     }
 
+    /**
+     * When true, the async executor registers itself as an {@link org.flowable.engine.runtime.AsyncExecutorNode} and writes a heartbeat every heartbeat
+     * interval. The jobs locked by async executors whose heartbeat didn't change for the heartbeat timeout are released right away.
+     */
+    public boolean isHeartbeatEnabled() {
+        return heartbeatEnabled;
+    }
+
+    public void setHeartbeatEnabled(boolean heartbeatEnabled) {
+        this.heartbeatEnabled = heartbeatEnabled;
+    }
+
+    public int getHeartbeatIntervalInMillis() {
+        return heartbeatIntervalInMillis;
+    }
+
+    public void setHeartbeatIntervalInMillis(int heartbeatIntervalInMillis) {
+        this.heartbeatIntervalInMillis = heartbeatIntervalInMillis;
+    }
+
+    /**
+     * @return the time during which the heartbeat of an async executor must change before its locks are released, by default the async job lock time.
+     */
+    public int getHeartbeatTimeoutInMillis() {
+        return heartbeatTimeoutInMillis > 0 ? heartbeatTimeoutInMillis : asyncJobLockTimeInMillis;
+    }
+
+    public void setHeartbeatTimeoutInMillis(int heartbeatTimeoutInMillis) {
+        this.heartbeatTimeoutInMillis = heartbeatTimeoutInMillis;
+    }
+
     public ExecuteAsyncRunnableFactory getExecuteAsyncRunnableFactory() {
         return executeAsyncRunnableFactory;
     }
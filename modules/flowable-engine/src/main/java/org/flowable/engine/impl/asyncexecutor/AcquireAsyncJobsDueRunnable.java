@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.asyncexecutor;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -37,6 +38,16 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    protected AsyncJobAcquisitionMetrics metrics = new AsyncJobAcquisitionMetrics();
+
+    // State of the adaptive acquisition, only used by the acquisition thread (except for asyncJobAdded)
+    protected volatile boolean asyncJobAdded;
+    protected long backoffWaitTime;
+    protected double drainRate;
+    protected int lastRemainingCapacity = -1;
+    protected long lastRemainingCapacityTime;
+    protected long lastAcquisitionTime;
+
     public AcquireAsyncJobsDueRunnable(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
     }
@@ -48,6 +59,14 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
 
         while (!isInterrupted) {
+            if (isAdaptiveAsyncJobAcquisition()) {
+                long millisToWait = acquireAndExecuteJobsAdaptively(commandExecutor);
+                if (millisToWait > 0) {
+                    sleepUnlessAsyncJobAdded(millisToWait);
+                }
+                continue;
+            }
+
             final long millisToWait;
 
             int remainingCapacity = asyncExecutor.getRemainingCapacity();
@@ -73,10 +92,12 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
     }
 
     protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
+        long start = System.nanoTime();
         try {
             AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, remainingCapacity));
 
             List<JobEntity> rejectedJobs = offerJobs(acquiredJobs);
+            metrics.acquisitionSucceeded(acquiredJobs.size(), rejectedJobs.size(), System.nanoTime() - start);
 
             log.debug("Jobs acquired: {}, rejected: {}", acquiredJobs.size(), rejectedJobs.size());
             if (rejectedJobs.size() > 0) {
@@ -89,23 +110,129 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
             }
 
         } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            metrics.acquisitionContended(System.nanoTime() - start);
+            logOptimisticLockingException(optimisticLockingException);
+        } catch (Throwable e) {
+            metrics.acquisitionFailed(System.nanoTime() - start);
+            log.error("exception during async job acquisition: {}", e.getMessage(), e);
+        }
+
+        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+    }
+
+    /**
+     * Acquires jobs and returns the time to wait before the next acquisition, which is determined as follows:
+     * <ul>
+     * <li>When no jobs are found, or the acquisition failed because another executor acquired the same jobs, the wait time doubles on every attempt,
+     * starting at the minimum wait time and bounded by the default async job acquire wait time.</li>
+     * <li>When a full batch was acquired more jobs are probably due, so the next acquisition is done as soon as the thread pool queue has room
+     * for another full batch, estimated from the rate at which the queue drains.</li>
+     * <li>Otherwise all due jobs were acquired and the minimum wait time is used.</li>
+     * </ul>
+     */
+    protected long acquireAndExecuteJobsAdaptively(CommandExecutor commandExecutor) {
+        if (asyncJobAdded) {
+            asyncJobAdded = false;
+            backoffWaitTime = 0;
+        }
+
+        int remainingCapacity = asyncExecutor.getRemainingCapacity();
+        updateDrainRate(remainingCapacity);
+        if (remainingCapacity <= 0) {
+            long millisToWait = getWaitTimeForCapacity(remainingCapacity);
             if (log.isDebugEnabled()) {
-                log.debug("Optimistic locking exception during async job acquisition. If you have multiple async executors running against the same database, "
-                        + "this exception means that this thread tried to acquire a due async job, which already was acquired by another async executor acquisition thread."
-                        + "This is expected behavior in a clustered environment. "
-                        + "You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. " + "Exception message: {}",
-                        optimisticLockingException.getMessage());
+                log.debug("queue is full; sleeping for {} ms", millisToWait);
+            }
+            return millisToWait;
+        }
+
+        int maxJobs = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        long start = System.nanoTime();
+        lastAcquisitionTime = System.currentTimeMillis();
+        try {
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, maxJobs));
+
+            List<JobEntity> rejectedJobs = offerJobs(acquiredJobs);
+            metrics.acquisitionSucceeded(acquiredJobs.size(), rejectedJobs.size(), System.nanoTime() - start);
+
+            log.debug("Jobs acquired: {}, rejected: {}", acquiredJobs.size(), rejectedJobs.size());
+            if (acquiredJobs.size() == 0) {
+                return getBackoffWaitTime();
             }
+
+            backoffWaitTime = 0;
+            // The offered jobs took up capacity, so the drain rate is measured from here on
+            remainingCapacity = asyncExecutor.getRemainingCapacity();
+            lastRemainingCapacity = remainingCapacity;
+            lastRemainingCapacityTime = System.currentTimeMillis();
+            if (rejectedJobs.size() > 0 || acquiredJobs.size() >= maxJobs) {
+                return getWaitTimeForCapacity(remainingCapacity);
+            }
+            return getMinAsyncJobAcquireWaitTimeInMillis();
+
+        } catch (FlowableOptimisticLockingException optimisticLockingException) {
+            metrics.acquisitionContended(System.nanoTime() - start);
+            logOptimisticLockingException(optimisticLockingException);
         } catch (Throwable e) {
+            metrics.acquisitionFailed(System.nanoTime() - start);
             log.error("exception during async job acquisition: {}", e.getMessage(), e);
         }
 
-        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        return getBackoffWaitTime();
+    }
+
+    protected long getBackoffWaitTime() {
+        long minWaitTime = getMinAsyncJobAcquireWaitTimeInMillis();
+        long maxWaitTime = Math.max(minWaitTime, asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+        if (backoffWaitTime <= 0) {
+            backoffWaitTime = minWaitTime;
+        } else {
+            backoffWaitTime = Math.min(backoffWaitTime * 2, maxWaitTime);
+        }
+        return backoffWaitTime;
+    }
+
+    /**
+     * Updates the estimated number of jobs leaving the thread pool queue per millisecond, based on how much capacity was freed since the last call.
+     */
+    protected void updateDrainRate(int remainingCapacity) {
+        long now = System.currentTimeMillis();
+        if (lastRemainingCapacity >= 0 && now > lastRemainingCapacityTime) {
+            double currentDrainRate = Math.max(0, remainingCapacity - lastRemainingCapacity) / (double) (now - lastRemainingCapacityTime);
+            drainRate = drainRate == 0 ? currentDrainRate : (drainRate + currentDrainRate) / 2;
+        }
+        lastRemainingCapacity = remainingCapacity;
+        lastRemainingCapacityTime = now;
+    }
+
+    /**
+     * @return the time needed for the thread pool queue to have room for a full batch of jobs.
+     */
+    protected long getWaitTimeForCapacity(int remainingCapacity) {
+        int missingCapacity = asyncExecutor.getMaxAsyncJobsDuePerAcquisition() - remainingCapacity;
+        if (missingCapacity <= 0) {
+            return 0L;
+        }
+        if (drainRate <= 0) {
+            return getBackoffWaitTime();
+        }
+        long millisToWait = (long) Math.ceil(missingCapacity / drainRate);
+        return Math.min(millisToWait, asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+    }
+
+    protected void logOptimisticLockingException(FlowableOptimisticLockingException optimisticLockingException) {
+        if (log.isDebugEnabled()) {
+            log.debug("Optimistic locking exception during async job acquisition. If you have multiple async executors running against the same database, "
+                    + "this exception means that this thread tried to acquire a due async job, which already was acquired by another async executor acquisition thread."
+                    + "This is expected behavior in a clustered environment. "
+                    + "You can ignore this message if you indeed have multiple async executor acquisition threads running against the same database. " + "Exception message: {}",
+                    optimisticLockingException.getMessage());
+        }
     }
 
     protected List<JobEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
         List<JobEntity> rejected = new ArrayList<JobEntity>();
-        for (JobEntity job : acquiredJobs.getJobs()) {
+        for (JobEntity job : shareJobs(acquiredJobs.getJobs())) {
             boolean jobSuccessFullyOffered = asyncExecutor.executeAsyncJob(job);
             if (!jobSuccessFullyOffered) {
                 rejected.add(job);
@@ -114,6 +241,36 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         return rejected;
     }
 
+    /**
+     * @return the acquired jobs in the order in which they are offered: by the share of their job class when a {@link FairShareJobQueue} is used, so
+     *         the jobs that are rejected when the queue is full are those of the job classes that already have more than their share.
+     */
+    protected Collection<JobEntity> shareJobs(Collection<JobEntity> jobs) {
+        if (asyncExecutor instanceof DefaultAsyncJobExecutor) {
+            FairShareJobQueue queue = ((DefaultAsyncJobExecutor) asyncExecutor).getFairShareJobQueue();
+            if (queue != null) {
+                return queue.shareJobs(jobs, jobs.size());
+            }
+        }
+        return jobs;
+    }
+
+    /**
+     * Called when an async job was created by the engine. When the adaptive acquisition is used, the acquisition thread is woken up so that the
+     * next acquisition is done after the minimum wait time, instead of waiting until the (backed off) wait time has passed.
+     */
+    public void asyncJobAdded() {
+        if (!isAdaptiveAsyncJobAcquisition()) {
+            return;
+        }
+        synchronized (MONITOR) {
+            asyncJobAdded = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -123,6 +280,22 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    protected void sleepUnlessAsyncJobAdded(long millisToWait) {
+        if (!asyncJobAdded) {
+            sleep(millisToWait);
+        }
+
+        if (asyncJobAdded && !isInterrupted) {
+            // Don't query the database more often than the minimum wait time, even when many jobs are added
+            long minWaitTime = getMinAsyncJobAcquireWaitTimeInMillis();
+            long millisSinceLastAcquisition = System.currentTimeMillis() - lastAcquisitionTime;
+            while (millisSinceLastAcquisition < minWaitTime && !isInterrupted) {
+                sleep(minWaitTime - millisSinceLastAcquisition);
+                millisSinceLastAcquisition = System.currentTimeMillis() - lastAcquisitionTime;
+            }
+        }
+    }
+
     protected void sleep(long millisToWait) {
         if (millisToWait > 0) {
             try {
@@ -149,4 +322,23 @@ public class AcquireAsyncJobsDueRunnable implements Runnable {
         }
     }
 
+    protected boolean isAdaptiveAsyncJobAcquisition() {
+        return asyncExecutor instanceof AbstractAsyncExecutor && ((AbstractAsyncExecutor) asyncExecutor).isAdaptiveAsyncJobAcquisition();
+    }
+
+    protected int getMinAsyncJobAcquireWaitTimeInMillis() {
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            return ((AbstractAsyncExecutor) asyncExecutor).getMinAsyncJobAcquireWaitTimeInMillis();
+        }
+        return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+    }
+
+    public AsyncJobAcquisitionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(AsyncJobAcquisitionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
 }
@@ -56,16 +56,24 @@ public class AcquireTimerJobsRunnable implements Runnable {
             try {
                 final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
 
-                commandExecutor.execute(new Command<Void>() {
+                if (isFusedTimerJobExecution()) {
+                    // The timer jobs are executed directly, without moving them to executable jobs first
+                    for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                        asyncExecutor.executeAsyncJob(job);
+                    }
+
+                } else {
+                    commandExecutor.execute(new Command<Void>() {
 
-                    @Override
-                    public Void execute(CommandContext commandContext) {
-                        for (TimerJobEntity job : acquiredJobs.getJobs()) {
-                            jobManager.moveTimerJobToExecutableJob(job);
+                        @Override
+                        public Void execute(CommandContext commandContext) {
+                            for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                                jobManager.moveTimerJobToExecutableJob(job);
+                            }
+                            return null;
                         }
-                        return null;
-                    }
-                });
+                    });
+                }
 
                 // if all jobs were executed
                 millisToWait = asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
@@ -115,6 +123,10 @@ public class AcquireTimerJobsRunnable implements Runnable {
         log.info("stopped async job due acquisition");
     }
 
+    protected boolean isFusedTimerJobExecution() {
+        return asyncExecutor instanceof AbstractAsyncExecutor && ((AbstractAsyncExecutor) asyncExecutor).isFusedTimerJobExecution();
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -0,0 +1,171 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntity;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntityManager;
+import org.flowable.engine.runtime.AsyncExecutorNode;
+
+/**
+ * Writes the heartbeat of an async executor in the node registry (registering it when needed) and releases all job and timer job locks of the
+ * async executors whose heartbeat didn't change for the heartbeat timeout. Those nodes are removed from the registry.
+ * 
+ * The heartbeat times written by the other nodes are never compared with the clock of this node: this node only remembers, in its
+ * {@link HeartbeatObservations}, when it first read the current heartbeat of each other node, and all time comparisons use its own engine clock.
+ * Clock differences between the nodes therefore don't make a node look dead. A node is detected as dead at most one heartbeat interval after the
+ * timeout. A node that comes back after it was considered dead registers itself again with its next heartbeat: the jobs it was executing were
+ * released and fail with an optimistic locking exception when it tries to complete them.
+ */
+public class AsyncExecutorHeartbeatCmd implements Command<AsyncExecutorHeartbeatCmd.Result> {
+
+    protected String lockOwner;
+    protected String hostName;
+    protected int remainingCapacity;
+    protected Date startTime;
+    protected int heartbeatTimeoutInMillis;
+    protected HeartbeatObservations heartbeatObservations;
+
+    public AsyncExecutorHeartbeatCmd(String lockOwner, String hostName, int remainingCapacity, Date startTime, int heartbeatTimeoutInMillis,
+            HeartbeatObservations heartbeatObservations) {
+        this.lockOwner = lockOwner;
+        this.hostName = hostName;
+        this.remainingCapacity = remainingCapacity;
+        this.startTime = startTime;
+        this.heartbeatTimeoutInMillis = heartbeatTimeoutInMillis;
+        this.heartbeatObservations = heartbeatObservations;
+    }
+
+    @Override
+    public Result execute(CommandContext commandContext) {
+        Date now = commandContext.getProcessEngineConfiguration().getClock().getCurrentTime();
+        AsyncExecutorNodeEntityManager asyncExecutorNodeEntityManager = commandContext.getAsyncExecutorNodeEntityManager();
+
+        if (asyncExecutorNodeEntityManager.updateHeartbeat(lockOwner, hostName, remainingCapacity, now) == 0) {
+            AsyncExecutorNodeEntity asyncExecutorNode = asyncExecutorNodeEntityManager.create();
+            asyncExecutorNode.setId(lockOwner);
+            asyncExecutorNode.setHostName(hostName);
+            asyncExecutorNode.setRemainingCapacity(remainingCapacity);
+            asyncExecutorNode.setStartTime(startTime != null ? startTime : now);
+            asyncExecutorNode.setHeartbeatTime(now);
+            asyncExecutorNodeEntityManager.insert(asyncExecutorNode, false);
+        }
+
+        Result result = new Result();
+        Set<String> otherLockOwners = new HashSet<String>();
+        for (AsyncExecutorNode asyncExecutorNode : asyncExecutorNodeEntityManager.findAllAsyncExecutorNodes()) {
+            String otherLockOwner = asyncExecutorNode.getLockOwner();
+            if (lockOwner.equals(otherLockOwner)) {
+                continue;
+            }
+            otherLockOwners.add(otherLockOwner);
+
+            Date heartbeatTime = asyncExecutorNode.getHeartbeatTime();
+            long observationTime = heartbeatObservations.observe(otherLockOwner, heartbeatTime, now.getTime());
+            if (now.getTime() - observationTime < heartbeatTimeoutInMillis) {
+                continue;
+            }
+
+            // Only removed when its heartbeat still didn't change. Another node that detects the same dead node concurrently finds no node to remove.
+            if (asyncExecutorNodeEntityManager.deleteAsyncExecutorNode(otherLockOwner, heartbeatTime) > 0) {
+                result.deadNodeCount++;
+                result.jobCount += commandContext.getJobEntityManager().releaseJobLocks(otherLockOwner);
+                result.timerJobCount += commandContext.getTimerJobEntityManager().releaseTimerJobLocks(otherLockOwner);
+                otherLockOwners.remove(otherLockOwner);
+            }
+        }
+        heartbeatObservations.retain(otherLockOwners);
+        return result;
+    }
+
+    /**
+     * @return the name of the local host, used to identify the machine of an async executor in the node registry.
+     */
+    public static String getLocalHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    /**
+     * The heartbeats of the other async executors as seen by one async executor: the last heartbeat time read for each node, and the time on the clock
+     * of the observing async executor at which that heartbeat was first read. Kept by the observing async executor between its heartbeats.
+     */
+    public static class HeartbeatObservations {
+
+        protected final Map<String, Date> heartbeatTimes = new HashMap<String, Date>();
+        protected final Map<String, Long> observationTimes = new HashMap<String, Long>();
+
+        /**
+         * @return the time at which the given heartbeat of the node was first observed.
+         */
+        public synchronized long observe(String lockOwner, Date heartbeatTime, long now) {
+            Date lastHeartbeatTime = heartbeatTimes.get(lockOwner);
+            Long observationTime = observationTimes.get(lockOwner);
+            if (observationTime == null || !sameTime(lastHeartbeatTime, heartbeatTime)) {
+                heartbeatTimes.put(lockOwner, heartbeatTime);
+                observationTime = now;
+                observationTimes.put(lockOwner, observationTime);
+            }
+            return observationTime;
+        }
+
+        /**
+         * Forgets the nodes that are not in the given lock owners anymore.
+         */
+        public synchronized void retain(Set<String> lockOwners) {
+            heartbeatTimes.keySet().retainAll(lockOwners);
+            observationTimes.keySet().retainAll(lockOwners);
+        }
+
+        protected boolean sameTime(Date time, Date otherTime) {
+            if (time == null || otherTime == null) {
+                return time == otherTime;
+            }
+            return time.getTime() == otherTime.getTime();
+        }
+
+    }
+
+    public static class Result {
+
+        protected int deadNodeCount;
+        protected int jobCount;
+        protected int timerJobCount;
+
+        public int getDeadNodeCount() {
+            return deadNodeCount;
+        }
+
+        public int getJobCount() {
+            return jobCount;
+        }
+
+        public int getTimerJobCount() {
+            return timerJobCount;
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters describing the async job acquisitions done by one or more {@link AcquireAsyncJobsDueRunnable} instances.
+ *
+ * The hit rate (the fraction of acquisitions that returned at least one job) and the acquisition latency show whether the acquisition wait times are
+ * well suited for the job load: a low hit rate means the database is queried too often, a high hit rate combined with many rejected jobs means the
+ * thread pool queue is too small.
+ */
+public class AsyncJobAcquisitionMetrics {
+
+    protected final AtomicLong acquisitionCount = new AtomicLong();
+    protected final AtomicLong emptyAcquisitionCount = new AtomicLong();
+    protected final AtomicLong contendedAcquisitionCount = new AtomicLong();
+    protected final AtomicLong failedAcquisitionCount = new AtomicLong();
+    protected final AtomicLong acquiredJobCount = new AtomicLong();
+    protected final AtomicLong rejectedJobCount = new AtomicLong();
+    protected final AtomicLong totalAcquisitionTime = new AtomicLong();
+    protected final AtomicLong maxAcquisitionTime = new AtomicLong();
+
+    public void acquisitionSucceeded(int acquiredJobs, int rejectedJobs, long durationInNanos) {
+        recordAcquisition(durationInNanos);
+        if (acquiredJobs == 0) {
+            emptyAcquisitionCount.incrementAndGet();
+        }
+        acquiredJobCount.addAndGet(acquiredJobs);
+        rejectedJobCount.addAndGet(rejectedJobs);
+    }
+
+    /**
+     * The acquisition failed because another executor acquired (one of) the same jobs concurrently.
+     */
+    public void acquisitionContended(long durationInNanos) {
+        recordAcquisition(durationInNanos);
+        contendedAcquisitionCount.incrementAndGet();
+    }
+
+    public void acquisitionFailed(long durationInNanos) {
+        recordAcquisition(durationInNanos);
+        failedAcquisitionCount.incrementAndGet();
+    }
+
+    protected void recordAcquisition(long durationInNanos) {
+        acquisitionCount.incrementAndGet();
+        totalAcquisitionTime.addAndGet(durationInNanos);
+
+        long max = maxAcquisitionTime.get();
+        while (durationInNanos > max && !maxAcquisitionTime.compareAndSet(max, durationInNanos)) {
+            max = maxAcquisitionTime.get();
+        }
+    }
+
+    public void reset() {
+        acquisitionCount.set(0);
+        emptyAcquisitionCount.set(0);
+        contendedAcquisitionCount.set(0);
+        failedAcquisitionCount.set(0);
+        acquiredJobCount.set(0);
+        rejectedJobCount.set(0);
+        totalAcquisitionTime.set(0);
+        maxAcquisitionTime.set(0);
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount.get();
+    }
+
+    public long getEmptyAcquisitionCount() {
+        return emptyAcquisitionCount.get();
+    }
+
+    public long getContendedAcquisitionCount() {
+        return contendedAcquisitionCount.get();
+    }
+
+    public long getFailedAcquisitionCount() {
+        return failedAcquisitionCount.get();
+    }
+
+    public long getAcquiredJobCount() {
+        return acquiredJobCount.get();
+    }
+
+    public long getRejectedJobCount() {
+        return rejectedJobCount.get();
+    }
+
+    /**
+     * @return the fraction (between 0 and 1) of the acquisitions that returned at least one job.
+     */
+    public double getHitRate() {
+        long acquisitions = acquisitionCount.get();
+        if (acquisitions == 0) {
+            return 0;
+        }
+        long hits = acquisitions - emptyAcquisitionCount.get() - contendedAcquisitionCount.get() - failedAcquisitionCount.get();
+        return Math.max(0, hits) / (double) acquisitions;
+    }
+
+    public double getAverageAcquisitionTimeInMillis() {
+        long acquisitions = acquisitionCount.get();
+        if (acquisitions == 0) {
+            return 0;
+        }
+        return totalAcquisitionTime.get() / (double) acquisitions / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxAcquisitionTimeInMillis() {
+        return maxAcquisitionTime.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
@@ -12,6 +12,9 @@
  */
 package org.flowable.engine.impl.asyncexecutor;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -64,15 +67,55 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
     /** The queue used for job execution work */
     protected BlockingQueue<Runnable> threadPoolQueue;
 
+    /**
+     * When set (and no thread pool queue is set), a {@link FairShareJobQueue} is used that shares the threads between the classes of jobs determined by
+     * this classifier
+     */
+    protected JobClassifier jobClassifier;
+
+    /** The weights of the job classes in the {@link FairShareJobQueue}, job classes without weight have weight 1 */
+    protected Map<String, Integer> jobClassWeights;
+
     /** The executor service used for job execution */
     protected ExecutorService executorService;
 
+    /**
+     * Whether exclusive jobs are executed in one serial lane per process instance, which locks the process instance once for all its queued jobs
+     */
+    protected boolean exclusiveJobLanesEnabled;
+
+    /** The lanes used for exclusive jobs, when enabled */
+    protected ExclusiveJobLanes exclusiveJobLanes;
+
+    /** The job handler types of the non-exclusive jobs that are executed in batches, several jobs per transaction */
+    protected Set<String> batchJobHandlerTypes;
+
+    /** The maximum number of jobs executed in one transaction when jobs are executed in batches */
+    protected int jobBatchSize = 10;
+
+    /** The batches used for batchable jobs, when batch job handler types are set */
+    protected JobBatches jobBatches;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution
      */
     protected long secondsToWaitOnShutdown = 60L;
 
     protected boolean executeAsyncJob(final Job job, Runnable runnable) {
+        ExclusiveJobLanes lanes = exclusiveJobLanes;
+        if (lanes != null && lanes.isLaneJob(job)) {
+            return lanes.execute(job);
+        }
+
+        JobBatches batches = jobBatches;
+        if (batches != null && batches.isBatchJob(job)) {
+            if (batches.execute(job)) {
+                return true;
+            }
+            unacquireJob(job);
+            return false;
+        }
+
         try {
             executorService.execute(runnable);
             return true;
@@ -88,24 +131,28 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             // after the async executor has been hinted that a new async job is created)
             // or not (when executed in the acquire thread runnable)
 
-            CommandContext commandContext = Context.getCommandContext();
-            if (commandContext != null) {
-                commandContext.getJobManager().unacquire(job);
-
-            } else {
-                processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
-                    public Void execute(CommandContext commandContext) {
-                        commandContext.getJobManager().unacquire(job);
-                        return null;
-                    }
-                });
-            }
+            unacquireJob(job);
 
             // Job queue full, returning true so (if wanted) the acquiring can be throttled
             return false;
         }
     }
 
+    protected void unacquireJob(final Job job) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            commandContext.getJobManager().unacquire(job);
+
+        } else {
+            processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    commandContext.getJobManager().unacquire(job);
+                    return null;
+                }
+            });
+        }
+    }
+
     @Override
     protected void startAdditionalComponents() {
         if (!isMessageQueueMode) {
@@ -127,8 +174,13 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     protected void initAsyncJobExecutionThreadPool() {
         if (threadPoolQueue == null) {
-            log.info("Creating thread pool queue of size {}", queueSize);
-            threadPoolQueue = new ArrayBlockingQueue<Runnable>(queueSize);
+            if (jobClassifier != null) {
+                log.info("Creating fair share thread pool queue of size {} with job classifier {}", queueSize, jobClassifier.getClass().getName());
+                threadPoolQueue = new FairShareJobQueue(queueSize, jobClassifier, jobClassWeights);
+            } else {
+                log.info("Creating thread pool queue of size {}", queueSize);
+                threadPoolQueue = new ArrayBlockingQueue<Runnable>(queueSize);
+            }
         }
 
         if (executorService == null) {
@@ -138,6 +190,15 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             executorService = new ThreadPoolExecutor(corePoolSize, maxPoolSize, keepAliveTime, TimeUnit.MILLISECONDS, threadPoolQueue, threadFactory);
         }
 
+        if (exclusiveJobLanesEnabled && exclusiveJobLanes == null) {
+            exclusiveJobLanes = new ExclusiveJobLanes(this, executorService);
+        }
+
+        if (batchJobHandlerTypes != null && !batchJobHandlerTypes.isEmpty() && jobBatches == null) {
+            log.info("Executing jobs with handler types {} in batches of {} jobs", batchJobHandlerTypes, jobBatchSize);
+            jobBatches = new JobBatches(this, executorService, batchJobHandlerTypes, jobBatchSize, queueSize, maxPoolSize, jobClassifier);
+        }
+
         if (unlockOwnedJobs) {
             unlockOwnedJobs();
         }
@@ -159,6 +220,8 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             }
 
             executorService = null;
+            exclusiveJobLanes = null;
+            jobBatches = null;
         }
     }
 
@@ -295,6 +358,73 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.secondsToWaitOnShutdown = secondsToWaitOnShutdown;
     }
 
+    public JobClassifier getJobClassifier() {
+        return jobClassifier;
+    }
+
+    public void setJobClassifier(JobClassifier jobClassifier) {
+        this.jobClassifier = jobClassifier;
+    }
+
+    public Map<String, Integer> getJobClassWeights() {
+        return jobClassWeights;
+    }
+
+    public void setJobClassWeights(Map<String, Integer> jobClassWeights) {
+        this.jobClassWeights = jobClassWeights;
+    }
+
+    /**
+     * @return the queue depth and wait time per job class when a {@link FairShareJobQueue} is used, or an empty map otherwise.
+     */
+    public Map<String, JobClassStatistics> getJobClassStatistics() {
+        FairShareJobQueue queue = getFairShareJobQueue();
+        if (queue != null) {
+            return queue.getJobClassStatistics();
+        }
+        return Collections.emptyMap();
+    }
+
+    /**
+     * @return the thread pool queue when it is a {@link FairShareJobQueue}, or null otherwise.
+     */
+    public FairShareJobQueue getFairShareJobQueue() {
+        BlockingQueue<Runnable> queue = threadPoolQueue;
+        return queue instanceof FairShareJobQueue ? (FairShareJobQueue) queue : null;
+    }
+
+    public boolean isExclusiveJobLanesEnabled() {
+        return exclusiveJobLanesEnabled;
+    }
+
+    public void setExclusiveJobLanesEnabled(boolean exclusiveJobLanesEnabled) {
+        this.exclusiveJobLanesEnabled = exclusiveJobLanesEnabled;
+    }
+
+    public ExclusiveJobLanes getExclusiveJobLanes() {
+        return exclusiveJobLanes;
+    }
+
+    public Set<String> getBatchJobHandlerTypes() {
+        return batchJobHandlerTypes;
+    }
+
+    public void setBatchJobHandlerTypes(Set<String> batchJobHandlerTypes) {
+        this.batchJobHandlerTypes = batchJobHandlerTypes;
+    }
+
+    public int getJobBatchSize() {
+        return jobBatchSize;
+    }
+
+    public void setJobBatchSize(int jobBatchSize) {
+        this.jobBatchSize = jobBatchSize;
+    }
+
+    public JobBatches getJobBatches() {
+        return jobBatches;
+    }
+
     public boolean isUnlockOwnedJobs() {
         return unlockOwnedJobs;
     }
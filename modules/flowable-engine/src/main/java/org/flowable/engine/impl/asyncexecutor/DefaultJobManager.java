@@ -14,6 +14,7 @@ package org.flowable.engine.impl.asyncexecutor;
 
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -37,6 +38,7 @@ import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.calendar.BusinessCalendar;
 import org.flowable.engine.impl.calendar.CycleBusinessCalendar;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.TransactionListener;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.el.NoExecutionVariableScope;
 import org.flowable.engine.impl.interceptor.CommandContext;
@@ -121,9 +123,31 @@ public class DefaultJobManager implements JobManager {
         if (timerJob == null) {
             throw new FlowableException("Empty timer job can not be scheduled");
         }
+        leaseTimerJobIfNeeded(timerJob);
         processEngineConfiguration.getTimerJobEntityManager().insert(timerJob);
     }
 
+    /**
+     * When the async executor uses a timer wheel and the timer job is due within its look-ahead window, the timer job is inserted leased (locked) by
+     * the async executor, and added to the wheel when the transaction is committed.
+     */
+    protected void leaseTimerJobIfNeeded(final TimerJobEntity timerJob) {
+        final TimerWheelAcquireTimerJobsRunnable timerWheel = getTimerWheel();
+        if (timerWheel == null || Context.getTransactionContext() == null || !timerWheel.isWithinLookAheadWindow(timerJob.getDuedate())) {
+            return;
+        }
+
+        long currentTime = processEngineConfiguration.getClock().getCurrentTime().getTime();
+        timerJob.setLockOwner(getAsyncExecutor().getLockOwner());
+        timerJob.setLockExpirationTime(new Date(currentTime + timerWheel.getLookAheadTimeInMillis() + getAsyncExecutor().getTimerLockTimeInMillis()));
+
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+            public void execute(CommandContext commandContext) {
+                timerWheel.schedule(timerJob.getId(), timerJob.getDuedate());
+            }
+        });
+    }
+
     private void sendTimerScheduledEvent(TimerJobEntity timerJob) {
         CommandContext commandContext = Context.getCommandContext();
         FlowableEventDispatcher eventDispatcher = commandContext.getEventDispatcher();
@@ -180,6 +204,23 @@ public class DefaultJobManager implements JobManager {
         return null;
     }
 
+    @Override
+    public JobEntity moveTimerJobToExecutableJobAndExecute(TimerJobEntity timerJob) {
+        if (timerJob == null) {
+            throw new FlowableException("Empty timer job can not be executed");
+        }
+
+        // The insert and the delete done when executing the job cancel each other out when the session is flushed
+        JobEntity executableJob = createExecutableJobFromOtherJob(timerJob);
+        boolean insertSuccessful = processEngineConfiguration.getJobEntityManager().insertJobEntity(executableJob);
+        if (insertSuccessful) {
+            processEngineConfiguration.getTimerJobEntityManager().delete(timerJob);
+            execute(executableJob);
+            return executableJob;
+        }
+        return null;
+    }
+
     @Override
     public TimerJobEntity moveJobToTimerJob(AbstractJobEntity job) {
         TimerJobEntity timerJob = createTimerJobFromOtherJob(job);
@@ -294,6 +335,13 @@ public class DefaultJobManager implements JobManager {
             // for a reason (eg queue full or exclusive lock failure). No need to try it immediately again,
             // as the chance of failure will be high.
 
+        } else if (job instanceof TimerJobEntity) {
+            // Timer jobs acquired for fused execution: release the lock, so the timer job is acquired again
+            TimerJobEntity timerJob = (TimerJobEntity) job;
+            if (timerJob.getLockOwner() != null) {
+                processEngineConfiguration.getTimerJobEntityManager().releaseTimerJobLeases(timerJob.getLockOwner(), Collections.singletonList(timerJob.getId()));
+            }
+
         } else {
             // It could be a v5 job, so simply unlock it.
             processEngineConfiguration.getJobEntityManager().resetExpiredJob(job.getId());
@@ -576,6 +624,14 @@ public class DefaultJobManager implements JobManager {
         return processEngineConfiguration.getAsyncExecutor();
     }
 
+    protected TimerWheelAcquireTimerJobsRunnable getTimerWheel() {
+        AsyncExecutor asyncExecutor = getAsyncExecutor();
+        if (asyncExecutor instanceof AbstractAsyncExecutor && asyncExecutor.isActive()) {
+            return ((AbstractAsyncExecutor) asyncExecutor).getTimerWheel();
+        }
+        return null;
+    }
+
     protected ExecutionEntityManager getExecutionEntityManager() {
         return processEngineConfiguration.getExecutionEntityManager();
     }
@@ -0,0 +1,285 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.LockExclusiveJobCmd;
+import org.flowable.engine.impl.cmd.UnlockExclusiveJobCmd;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Routes the exclusive jobs offered to the async executor to one serial lane per process instance.
+ * 
+ * A lane locks its process instance once, executes the queued jobs of that process instance back to back and unlocks the process instance when no
+ * more jobs are queued. Without lanes, each exclusive job locks and unlocks the process instance in separate transactions, and jobs of the same process
+ * instance that are executed concurrently fail to get the lock and are unacquired.
+ * 
+ * When a lane runs for more than half the async job lock time, the lock of the process instance is extended without unlocking it, and so is the lock
+ * of the jobs still queued in the lane, so they are not reset as expired jobs while they wait. When the lock of the process instance can't be
+ * extended, the queued jobs are unacquired.
+ */
+public class ExclusiveJobLanes {
+
+    private static Logger log = LoggerFactory.getLogger(ExclusiveJobLanes.class);
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected final Executor executor;
+
+    protected final Map<String, Lane> lanes = new HashMap<String, Lane>();
+
+    public ExclusiveJobLanes(AsyncExecutor asyncExecutor, Executor executor) {
+        this.asyncExecutor = asyncExecutor;
+        this.processEngineConfiguration = asyncExecutor.getProcessEngineConfiguration();
+        this.executor = executor;
+    }
+
+    /**
+     * @return true when the job should be executed in the lane of its process instance.
+     */
+    public boolean isLaneJob(Job job) {
+        if (!(job instanceof JobEntity) || !job.isExclusive() || job.getProcessInstanceId() == null) {
+            return false;
+        }
+        // v5 jobs lock the process instance themselves
+        return !processEngineConfiguration.isFlowable5CompatibilityEnabled()
+                || !Flowable5Util.isFlowable5ProcessDefinitionId(processEngineConfiguration, job.getProcessDefinitionId());
+    }
+
+    /**
+     * Adds the job to the lane of its process instance, starting the lane when it isn't running yet.
+     * 
+     * @return false when the lane could not be started because the executor rejected it. The jobs of the lane are unacquired in that case.
+     */
+    public boolean execute(Job job) {
+        String processInstanceId = job.getProcessInstanceId();
+        Lane lane;
+        synchronized (lanes) {
+            lane = lanes.get(processInstanceId);
+            if (lane != null) {
+                lane.jobs.add(job);
+                return true;
+            }
+
+            lane = new Lane(processInstanceId, job);
+            lane.jobs.add(job);
+            lanes.put(processInstanceId, lane);
+        }
+
+        try {
+            executor.execute(lane);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            unacquireJobs(lane);
+            return false;
+        }
+    }
+
+    public int getLaneCount() {
+        synchronized (lanes) {
+            return lanes.size();
+        }
+    }
+
+    protected Job nextJob(Lane lane) {
+        synchronized (lanes) {
+            return lane.jobs.poll();
+        }
+    }
+
+    protected boolean lockProcessInstance(Job job) {
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new LockExclusiveJobCmd(job));
+            return true;
+
+        } catch (Throwable lockException) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not lock process instance {}. Unlocking the jobs of its lane so they can be acquired again. Caught exception: {}",
+                        job.getProcessInstanceId(), lockException.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Extends the lock of the process instance of the lane, locked until the given lock time, and of the jobs queued in the lane, in one transaction.
+     * 
+     * @return the new lock time of the process instance, or null when it could not be extended.
+     */
+    protected Date renewLocks(final Lane lane, final Date lockTime) {
+        final List<String> queuedJobIds = new ArrayList<String>();
+        synchronized (lanes) {
+            for (Job job : lane.jobs) {
+                queuedJobIds.add(job.getId());
+            }
+        }
+
+        try {
+            return processEngineConfiguration.getCommandExecutor().execute(new Command<Date>() {
+                public Date execute(CommandContext commandContext) {
+                    Date newLockTime = commandContext.getExecutionEntityManager().extendProcessInstanceLockTime(lane.processInstanceId, lockTime);
+                    if (newLockTime != null && !queuedJobIds.isEmpty()) {
+                        commandContext.getJobEntityManager().extendJobLocks(asyncExecutor.getLockOwner(), queuedJobIds, newLockTime);
+                    }
+                    return newLockTime;
+                }
+            });
+
+        } catch (Throwable t) {
+            log.error("Error while extending the lock of process instance {}", lane.processInstanceId, t);
+            return null;
+        }
+    }
+
+    protected Date getLockTime() {
+        return new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + asyncExecutor.getAsyncJobLockTimeInMillis());
+    }
+
+    protected void unlockProcessInstance(Job job) {
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new UnlockExclusiveJobCmd(job));
+        } catch (Throwable t) {
+            log.error("Error while unlocking process instance {}", job.getProcessInstanceId(), t);
+        }
+    }
+
+    protected void unacquireJobs(Lane lane) {
+        final List<Job> jobs;
+        synchronized (lanes) {
+            lanes.remove(lane.processInstanceId);
+            jobs = new ArrayList<Job>(lane.jobs);
+            lane.jobs.clear();
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            for (Job job : jobs) {
+                commandContext.getJobManager().unacquire(job);
+            }
+
+        } else {
+            processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    for (Job job : jobs) {
+                        commandContext.getJobManager().unacquire(job);
+                    }
+                    return null;
+                }
+            });
+        }
+    }
+
+    protected class Lane implements Runnable {
+
+        protected final String processInstanceId;
+        protected final Job job;
+        protected final LinkedList<Job> jobs = new LinkedList<Job>();
+
+        public Lane(String processInstanceId, Job job) {
+            this.processInstanceId = processInstanceId;
+            this.job = job;
+        }
+
+        /**
+         * @return the job that started the lane.
+         */
+        public Job getJob() {
+            return job;
+        }
+
+        public void run() {
+            long lockRenewalTime = asyncExecutor.getAsyncJobLockTimeInMillis() / 2;
+            while (true) {
+                Job lockJob;
+                synchronized (lanes) {
+                    lockJob = jobs.peek();
+                    if (lockJob == null) {
+                        // Jobs offered from now on start a new lane
+                        lanes.remove(processInstanceId);
+                        return;
+                    }
+                }
+
+                if (!lockProcessInstance(lockJob)) {
+                    unacquireJobs(this);
+                    return;
+                }
+                Date lockTime = getLockTime();
+
+                boolean locked = true;
+                long lastRenewalTime = System.currentTimeMillis();
+                try {
+                    Job job = nextJob(this);
+                    while (job != null) {
+                        new LaneJobRunnable(job, processEngineConfiguration).run();
+
+                        if (System.currentTimeMillis() - lastRenewalTime > lockRenewalTime) {
+                            Date renewedLockTime = renewLocks(this, lockTime);
+                            if (renewedLockTime == null) {
+                                locked = false;
+                                unacquireJobs(this);
+                                return;
+                            }
+                            lockTime = renewedLockTime;
+                            lastRenewalTime = System.currentTimeMillis();
+                        }
+                        job = nextJob(this);
+                    }
+
+                } finally {
+                    if (locked) {
+                        unlockProcessInstance(lockJob);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Executes a job of a lane, the process instance is already locked by the lane.
+     */
+    protected static class LaneJobRunnable extends ExecuteAsyncRunnable {
+
+        public LaneJobRunnable(Job job, ProcessEngineConfigurationImpl processEngineConfiguration) {
+            super(job, processEngineConfiguration);
+        }
+
+        @Override
+        protected boolean lockJobIfNeeded() {
+            return true;
+        }
+
+        @Override
+        protected void unlockJobIfNeeded() {
+        }
+
+    }
+
+}
@@ -206,4 +206,8 @@ public class ExecuteAsyncRunnable implements Runnable {
         });
     }
 
+    public Job getJob() {
+        return job;
+    }
+
 }
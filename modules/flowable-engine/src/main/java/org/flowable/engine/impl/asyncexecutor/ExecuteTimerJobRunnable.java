@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.ExecuteTimerJobCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a timer job acquired (locked) by the async executor in a single transaction: the timer job is deleted and its job handler is executed
+ * without writing an executable job to the database first, and without that job having to be acquired again.
+ * 
+ * When the execution fails, the transaction is rolled back, the timer job is moved to an executable job and the failure is handled right away by the
+ * {@link org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory}, so the failed attempt counts against the retries of the job like any other
+ * async job failure. Only when the timer job was changed concurrently, it is moved to an executable job and executed again without losing a retry.
+ */
+public class ExecuteTimerJobRunnable extends ExecuteAsyncRunnable {
+
+    private static Logger log = LoggerFactory.getLogger(ExecuteTimerJobRunnable.class);
+
+    protected String lockOwner;
+
+    public ExecuteTimerJobRunnable(TimerJobEntity timerJob, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(timerJob, processEngineConfiguration);
+        this.lockOwner = timerJob.getLockOwner();
+    }
+
+    @Override
+    protected boolean isHandledByV5Engine() {
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(processEngineConfiguration, job.getProcessDefinitionId())) {
+            // The v5 engine executes regular async jobs only
+            moveToExecutableJob();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected void executeJob() {
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new ExecuteTimerJobCmd(jobId, lockOwner));
+
+        } catch (FlowableOptimisticLockingException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Optimistic locking exception during timer job execution, moving timer job {} to an executable job. Exception message: {}",
+                        jobId, e.getMessage());
+            }
+            moveToExecutableJob();
+
+        } catch (Throwable exception) {
+            // The failed job handling works on executable jobs, it decrements the retries and moves the job back to a timer job or dead letter job
+            moveToExecutableJob();
+            handleFailedJob(exception);
+
+            String message = "Timer job " + jobId + " failed";
+            log.error(message, exception);
+        }
+    }
+
+    protected void moveToExecutableJob() {
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    TimerJobEntity timerJob = commandContext.getTimerJobEntityManager().findById(jobId);
+                    if (timerJob != null && (lockOwner == null || lockOwner.equals(timerJob.getLockOwner()))) {
+                        commandContext.getJobManager().moveTimerJobToExecutableJob(timerJob);
+                    }
+                    return null;
+                }
+            });
+
+        } catch (Throwable e) {
+            log.error("Could not move timer job {} to an executable job", jobId, e);
+        }
+    }
+
+}
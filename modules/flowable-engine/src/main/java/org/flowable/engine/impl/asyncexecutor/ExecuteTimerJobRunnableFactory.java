@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * {@link ExecuteAsyncRunnableFactory} that also produces the {@link Runnable} that executes an acquired timer job directly (see
+ * {@link AbstractAsyncExecutor#isFusedTimerJobExecution()}). A factory that does not implement this interface is only used for async jobs, acquired timer
+ * jobs are then executed with an {@link ExecuteTimerJobRunnable}.
+ */
+public interface ExecuteTimerJobRunnableFactory extends ExecuteAsyncRunnableFactory {
+
+    Runnable createExecuteTimerJobRunnable(TimerJobEntity timerJob, ProcessEngineConfigurationImpl processEngineConfiguration);
+
+}
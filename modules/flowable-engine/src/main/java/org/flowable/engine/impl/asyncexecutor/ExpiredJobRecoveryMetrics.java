@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters describing the recovery of jobs with an expired lock, or locked by an async executor whose heartbeat timed out, done by one or more
+ * {@link ResetExpiredJobsRunnable} instances.
+ *
+ * The recovery delay is the time the oldest expired lock of a recovery run stayed expired before it was released. It is bounded by the reset expired
+ * jobs interval; a growing recovery delay or recovery duration means the recovery can't keep up with the executors that go down.
+ */
+public class ExpiredJobRecoveryMetrics {
+
+    protected final AtomicLong recoveryCount = new AtomicLong();
+    protected final AtomicLong failedRecoveryCount = new AtomicLong();
+    protected final AtomicLong recoveredLockOwnerCount = new AtomicLong();
+    protected final AtomicLong recoveredDeadNodeCount = new AtomicLong();
+    protected final AtomicLong recoveredJobCount = new AtomicLong();
+    protected final AtomicLong recoveredTimerJobCount = new AtomicLong();
+    protected final AtomicLong totalRecoveryTime = new AtomicLong();
+    protected final AtomicLong maxRecoveryTime = new AtomicLong();
+    protected final AtomicLong maxRecoveryDelay = new AtomicLong();
+
+    public void recoverySucceeded(ReleaseExpiredJobLocksCmd.Result result, long durationInNanos) {
+        recordRecovery(durationInNanos);
+        recoveredLockOwnerCount.addAndGet(result.getLockOwnerCount());
+        recoveredJobCount.addAndGet(result.getJobCount());
+        recoveredTimerJobCount.addAndGet(result.getTimerJobCount());
+        updateMax(maxRecoveryDelay, result.getMaxRecoveryDelayInMillis());
+    }
+
+    /**
+     * The locks of async executors whose heartbeat timed out were released. The recovery delay is not known here, but bounded by the heartbeat timeout.
+     */
+    public void deadNodesRecovered(AsyncExecutorHeartbeatCmd.Result result, long durationInNanos) {
+        recordRecovery(durationInNanos);
+        recoveredDeadNodeCount.addAndGet(result.getDeadNodeCount());
+        recoveredJobCount.addAndGet(result.getJobCount());
+        recoveredTimerJobCount.addAndGet(result.getTimerJobCount());
+    }
+
+    public void recoveryFailed(long durationInNanos) {
+        recordRecovery(durationInNanos);
+        failedRecoveryCount.incrementAndGet();
+    }
+
+    protected void recordRecovery(long durationInNanos) {
+        recoveryCount.incrementAndGet();
+        totalRecoveryTime.addAndGet(durationInNanos);
+        updateMax(maxRecoveryTime, durationInNanos);
+    }
+
+    protected void updateMax(AtomicLong max, long value) {
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    public void reset() {
+        recoveryCount.set(0);
+        failedRecoveryCount.set(0);
+        recoveredLockOwnerCount.set(0);
+        recoveredDeadNodeCount.set(0);
+        recoveredJobCount.set(0);
+        recoveredTimerJobCount.set(0);
+        totalRecoveryTime.set(0);
+        maxRecoveryTime.set(0);
+        maxRecoveryDelay.set(0);
+    }
+
+    public long getRecoveryCount() {
+        return recoveryCount.get();
+    }
+
+    public long getFailedRecoveryCount() {
+        return failedRecoveryCount.get();
+    }
+
+    public long getRecoveredLockOwnerCount() {
+        return recoveredLockOwnerCount.get();
+    }
+
+    /**
+     * @return the number of async executors whose locks were released because their heartbeat timed out.
+     */
+    public long getRecoveredDeadNodeCount() {
+        return recoveredDeadNodeCount.get();
+    }
+
+    public long getRecoveredJobCount() {
+        return recoveredJobCount.get();
+    }
+
+    public long getRecoveredTimerJobCount() {
+        return recoveredTimerJobCount.get();
+    }
+
+    public double getAverageRecoveryTimeInMillis() {
+        long recoveries = recoveryCount.get();
+        if (recoveries == 0) {
+            return 0;
+        }
+        return totalRecoveryTime.get() / (double) recoveries / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxRecoveryTimeInMillis() {
+        return maxRecoveryTime.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * @return the longest time a lock stayed expired before it was released.
+     */
+    public long getMaxRecoveryDelayInMillis() {
+        return maxRecoveryDelay.get();
+    }
+
+}
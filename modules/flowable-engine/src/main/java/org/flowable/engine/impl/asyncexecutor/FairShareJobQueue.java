@@ -0,0 +1,489 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Bounded queue for the thread pool of the {@link DefaultAsyncJobExecutor} that shares the threads fairly between classes of jobs, instead of
+ * executing the jobs in the order they were acquired.
+ *
+ * The jobs are classified with a {@link JobClassifier} (for example by job handler type, process definition key or tenant) and each class gets its own
+ * queue. Threads take jobs from the class queues in a weighted round robin: a class with weight 3 gets three jobs executed for every job of a class with
+ * weight 1 when both have jobs waiting. A flood of jobs of one class therefore only delays the other classes by the share of that class. The queue depth
+ * and wait times of each class are available through {@link #getJobClassStatistics()}.
+ *
+ * The share is also applied when jobs are acquired, through {@link #shareJobs(Collection, int)}: of the jobs found in the order of the database, the
+ * acquisition keeps the jobs of each class according to its weight and the jobs of the class already queued, so a class with many due jobs doesn't
+ * take all the room left in the queue, and the jobs that don't fit are the jobs of the classes that already have more than their share.
+ */
+public class FairShareJobQueue extends AbstractQueue<Runnable> implements BlockingQueue<Runnable> {
+
+    public static final String DEFAULT_JOB_CLASS = "default";
+
+    protected final int capacity;
+    protected final JobClassifier jobClassifier;
+    protected final Map<String, Integer> jobClassWeights;
+    protected int defaultJobClassWeight = 1;
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    protected final Condition notEmpty = lock.newCondition();
+    protected final Condition notFull = lock.newCondition();
+
+    protected final Map<String, JobClassQueue> jobClassQueues = new HashMap<String, JobClassQueue>();
+    protected final List<JobClassQueue> rotation = new ArrayList<JobClassQueue>();
+    protected int rotationIndex;
+    protected int count;
+
+    protected final ConcurrentMap<String, JobClassStatistics> jobClassStatistics = new ConcurrentHashMap<String, JobClassStatistics>();
+
+    public FairShareJobQueue(int capacity, JobClassifier jobClassifier, Map<String, Integer> jobClassWeights) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.jobClassifier = jobClassifier;
+        this.jobClassWeights = jobClassWeights != null ? jobClassWeights : Collections.<String, Integer> emptyMap();
+    }
+
+    protected String classify(Runnable runnable) {
+        Job job = null;
+        if (runnable instanceof ExecuteAsyncRunnable) {
+            job = ((ExecuteAsyncRunnable) runnable).getJob();
+        } else if (runnable instanceof ExclusiveJobLanes.Lane) {
+            job = ((ExclusiveJobLanes.Lane) runnable).getJob();
+        } else if (runnable instanceof JobBatches.Worker) {
+            job = ((JobBatches.Worker) runnable).getJob();
+        }
+
+        return job != null ? classify(job) : DEFAULT_JOB_CLASS;
+    }
+
+    protected String classify(Job job) {
+        String jobClass = null;
+        if (jobClassifier != null) {
+            jobClass = jobClassifier.classify(job);
+        }
+        return jobClass != null ? jobClass : DEFAULT_JOB_CLASS;
+    }
+
+    /**
+     * Orders the given jobs by the share of their job class: the next job is always taken from the job class with the lowest number of queued and
+     * already taken jobs relative to its weight. Within a job class, the order of the given jobs is kept.
+     *
+     * @return at most maxJobs of the given jobs, in the order in which they should be offered to the queue.
+     */
+    public <T extends Job> List<T> shareJobs(Collection<T> jobs, int maxJobs) {
+        Map<String, LinkedList<T>> jobsByClass = new LinkedHashMap<String, LinkedList<T>>();
+        for (T job : jobs) {
+            String jobClass = classify(job);
+            LinkedList<T> classJobs = jobsByClass.get(jobClass);
+            if (classJobs == null) {
+                classJobs = new LinkedList<T>();
+                jobsByClass.put(jobClass, classJobs);
+            }
+            classJobs.add(job);
+        }
+
+        Map<String, Integer> loads = new HashMap<String, Integer>();
+        lock.lock();
+        try {
+            for (String jobClass : jobsByClass.keySet()) {
+                JobClassQueue jobClassQueue = jobClassQueues.get(jobClass);
+                loads.put(jobClass, jobClassQueue != null ? jobClassQueue.elements.size() : 0);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        List<T> sharedJobs = new ArrayList<T>(Math.min(jobs.size(), maxJobs));
+        while (sharedJobs.size() < maxJobs && !jobsByClass.isEmpty()) {
+            String nextJobClass = null;
+            double nextLoad = 0;
+            for (String jobClass : jobsByClass.keySet()) {
+                double load = (loads.get(jobClass) + 1) / (double) getWeight(jobClass);
+                if (nextJobClass == null || load < nextLoad) {
+                    nextJobClass = jobClass;
+                    nextLoad = load;
+                }
+            }
+
+            LinkedList<T> classJobs = jobsByClass.get(nextJobClass);
+            sharedJobs.add(classJobs.poll());
+            loads.put(nextJobClass, loads.get(nextJobClass) + 1);
+            if (classJobs.isEmpty()) {
+                jobsByClass.remove(nextJobClass);
+            }
+        }
+        return sharedJobs;
+    }
+
+    protected int getWeight(String jobClass) {
+        Integer weight = jobClassWeights.get(jobClass);
+        return weight != null && weight > 0 ? weight : defaultJobClassWeight;
+    }
+
+    protected JobClassStatistics getStatistics(String jobClass) {
+        JobClassStatistics statistics = jobClassStatistics.get(jobClass);
+        if (statistics == null) {
+            statistics = new JobClassStatistics(jobClass);
+            JobClassStatistics existingStatistics = jobClassStatistics.putIfAbsent(jobClass, statistics);
+            if (existingStatistics != null) {
+                statistics = existingStatistics;
+            }
+        }
+        return statistics;
+    }
+
+    // Called with the lock held
+    protected void enqueue(Runnable runnable, String jobClass) {
+        JobClassQueue jobClassQueue = jobClassQueues.get(jobClass);
+        if (jobClassQueue == null) {
+            jobClassQueue = new JobClassQueue(jobClass, getWeight(jobClass), getStatistics(jobClass));
+            jobClassQueues.put(jobClass, jobClassQueue);
+            rotation.add(jobClassQueue);
+        }
+
+        jobClassQueue.elements.add(new Element(runnable, System.nanoTime()));
+        jobClassQueue.statistics.jobEnqueued();
+        count++;
+        notEmpty.signal();
+    }
+
+    // Called with the lock held, when count > 0
+    protected Runnable dequeue() {
+        if (rotationIndex >= rotation.size()) {
+            rotationIndex = 0;
+        }
+
+        JobClassQueue jobClassQueue = rotation.get(rotationIndex);
+        Element element = jobClassQueue.elements.poll();
+        count--;
+        jobClassQueue.credits--;
+        jobClassQueue.statistics.jobDequeued(System.nanoTime() - element.enqueueTime);
+
+        if (jobClassQueue.elements.isEmpty()) {
+            // Empty class queues leave the rotation, the next class queue moves to the current index
+            removeJobClassQueue(rotationIndex);
+        } else if (jobClassQueue.credits <= 0) {
+            jobClassQueue.credits = jobClassQueue.weight;
+            rotationIndex++;
+        }
+
+        notFull.signal();
+        return element.runnable;
+    }
+
+    protected void removeJobClassQueue(int index) {
+        JobClassQueue jobClassQueue = rotation.remove(index);
+        jobClassQueues.remove(jobClassQueue.jobClass);
+    }
+
+    @Override
+    public boolean offer(Runnable runnable) {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+        String jobClass = classify(runnable);
+        lock.lock();
+        try {
+            if (count >= capacity) {
+                return false;
+            }
+            enqueue(runnable, jobClass);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean offer(Runnable runnable, long timeout, TimeUnit unit) throws InterruptedException {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+        String jobClass = classify(runnable);
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            enqueue(runnable, jobClass);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(Runnable runnable) throws InterruptedException {
+        if (runnable == null) {
+            throw new NullPointerException();
+        }
+        String jobClass = classify(runnable);
+        lock.lockInterruptibly();
+        try {
+            while (count >= capacity) {
+                notFull.await();
+            }
+            enqueue(runnable, jobClass);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll() {
+        lock.lock();
+        try {
+            return count > 0 ? dequeue() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable take() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (count == 0) {
+                notEmpty.await();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Runnable peek() {
+        lock.lock();
+        try {
+            if (count == 0) {
+                return null;
+            }
+            JobClassQueue jobClassQueue = rotation.get(rotationIndex < rotation.size() ? rotationIndex : 0);
+            return jobClassQueue.elements.peek().runnable;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        lock.lock();
+        try {
+            for (int i = 0; i < rotation.size(); i++) {
+                JobClassQueue jobClassQueue = rotation.get(i);
+                Iterator<Element> iterator = jobClassQueue.elements.iterator();
+                while (iterator.hasNext()) {
+                    if (iterator.next().runnable == o) {
+                        iterator.remove();
+                        count--;
+                        jobClassQueue.statistics.jobRemoved();
+                        if (jobClassQueue.elements.isEmpty()) {
+                            removeJobClassQueue(i);
+                            if (rotationIndex > i) {
+                                rotationIndex--;
+                            }
+                        }
+                        notFull.signal();
+                        return true;
+                    }
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        lock.lock();
+        try {
+            return capacity - count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super Runnable> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        lock.lock();
+        try {
+            int drained = 0;
+            while (count > 0 && drained < maxElements) {
+                c.add(dequeue());
+                drained++;
+            }
+            return drained;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the queued runnables, in no particular order.
+     */
+    @Override
+    public Iterator<Runnable> iterator() {
+        final List<Runnable> runnables = new ArrayList<Runnable>();
+        lock.lock();
+        try {
+            for (JobClassQueue jobClassQueue : rotation) {
+                for (Element element : jobClassQueue.elements) {
+                    runnables.add(element.runnable);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        final Iterator<Runnable> iterator = runnables.iterator();
+        return new Iterator<Runnable>() {
+
+            protected Runnable current;
+
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            public Runnable next() {
+                current = iterator.next();
+                return current;
+            }
+
+            public void remove() {
+                if (current == null) {
+                    throw new IllegalStateException();
+                }
+                FairShareJobQueue.this.remove(current);
+                current = null;
+            }
+        };
+    }
+
+    /**
+     * @return the statistics of all job classes that were queued so far, by job class.
+     */
+    public Map<String, JobClassStatistics> getJobClassStatistics() {
+        return Collections.unmodifiableMap(jobClassStatistics);
+    }
+
+    public JobClassifier getJobClassifier() {
+        return jobClassifier;
+    }
+
+    public Map<String, Integer> getJobClassWeights() {
+        return jobClassWeights;
+    }
+
+    public int getDefaultJobClassWeight() {
+        return defaultJobClassWeight;
+    }
+
+    public void setDefaultJobClassWeight(int defaultJobClassWeight) {
+        this.defaultJobClassWeight = defaultJobClassWeight;
+    }
+
+    protected static class JobClassQueue {
+
+        protected final String jobClass;
+        protected final int weight;
+        protected final JobClassStatistics statistics;
+        protected final ArrayDeque<Element> elements = new ArrayDeque<Element>();
+        protected int credits;
+
+        public JobClassQueue(String jobClass, int weight, JobClassStatistics statistics) {
+            this.jobClass = jobClass;
+            this.weight = weight;
+            this.statistics = statistics;
+            this.credits = weight;
+        }
+
+    }
+
+    protected static class Element {
+
+        protected final Runnable runnable;
+        protected final long enqueueTime;
+
+        public Element(Runnable runnable, long enqueueTime) {
+            this.runnable = runnable;
+            this.enqueueTime = enqueueTime;
+        }
+
+    }
+
+}
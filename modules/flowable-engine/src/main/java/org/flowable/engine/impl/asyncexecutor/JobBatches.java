@@ -0,0 +1,273 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.ExecuteAsyncJobsCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Groups the batchable jobs offered to the async executor, so that a worker thread executes several of them in one transaction instead of one
+ * transaction per job. This removes the per-transaction overhead for high volumes of small jobs.
+ * 
+ * A job is batchable when it is not exclusive and its job handler type is one of the configured batch job handler types. Offered jobs wait in a bounded
+ * list until a worker takes them, at most batch size jobs at a time. A new worker is started when there is no worker yet, or when a full batch is waiting.
+ * When the transaction of a batch fails, the jobs of the batch are executed again one by one, so a failing job doesn't roll back the other jobs and
+ * gets the regular retry handling.
+ * 
+ * While jobs are pending, their locks are extended every half async job lock time, so they are not reset as expired jobs while they wait for a worker.
+ * 
+ * When a {@link JobClassifier} is set, the jobs are batched per job class and a worker only executes jobs of one class, so a {@link FairShareJobQueue}
+ * with the same classifier can share the threads between the workers of the different classes.
+ */
+public class JobBatches {
+
+    private static Logger log = LoggerFactory.getLogger(JobBatches.class);
+
+    protected final AsyncExecutor asyncExecutor;
+    protected final ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected final Executor executor;
+    protected final Set<String> batchJobHandlerTypes;
+    protected final int batchSize;
+    protected final int capacity;
+    protected final int maxWorkers;
+    protected final JobClassifier jobClassifier;
+
+    protected final Map<String, JobClassBatches> jobClassBatches = new HashMap<String, JobClassBatches>();
+    protected int pendingJobCount;
+    protected int workerCount;
+    protected long lastLockRenewalTime = System.currentTimeMillis();
+
+    public JobBatches(AsyncExecutor asyncExecutor, Executor executor, Set<String> batchJobHandlerTypes, int batchSize, int capacity, int maxWorkers) {
+        this(asyncExecutor, executor, batchJobHandlerTypes, batchSize, capacity, maxWorkers, null);
+    }
+
+    public JobBatches(AsyncExecutor asyncExecutor, Executor executor, Set<String> batchJobHandlerTypes, int batchSize, int capacity, int maxWorkers,
+            JobClassifier jobClassifier) {
+        this.asyncExecutor = asyncExecutor;
+        this.processEngineConfiguration = asyncExecutor.getProcessEngineConfiguration();
+        this.executor = executor;
+        this.batchJobHandlerTypes = batchJobHandlerTypes != null ? batchJobHandlerTypes : Collections.<String> emptySet();
+        this.batchSize = Math.max(1, batchSize);
+        this.capacity = capacity;
+        this.maxWorkers = Math.max(1, maxWorkers);
+        this.jobClassifier = jobClassifier;
+    }
+
+    /**
+     * @return true when the job can be executed in a batch with other jobs.
+     */
+    public boolean isBatchJob(Job job) {
+        if (!(job instanceof JobEntity) || job.isExclusive() || !batchJobHandlerTypes.contains(job.getJobHandlerType())) {
+            return false;
+        }
+        // v5 jobs are executed by the v5 engine
+        return !processEngineConfiguration.isFlowable5CompatibilityEnabled()
+                || !Flowable5Util.isFlowable5ProcessDefinitionId(processEngineConfiguration, job.getProcessDefinitionId());
+    }
+
+    /**
+     * Adds the job to the pending jobs of its job class, starting a worker for the job class when needed.
+     * 
+     * @return false when the job was not accepted, because there are too many pending jobs or the executor rejected the worker. The caller needs to
+     *         unacquire the job in that case.
+     */
+    public boolean execute(Job job) {
+        String jobClass = classify(job);
+        JobClassBatches batches;
+        synchronized (jobClassBatches) {
+            if (pendingJobCount >= capacity) {
+                return false;
+            }
+            batches = jobClassBatches.get(jobClass);
+            if (batches == null) {
+                batches = new JobClassBatches(jobClass);
+                jobClassBatches.put(jobClass, batches);
+            }
+            batches.pendingJobs.add(job);
+            pendingJobCount++;
+
+            if (batches.workerCount > 0 && (batches.pendingJobs.size() < batchSize * batches.workerCount || workerCount >= maxWorkers)) {
+                // The running workers of the job class will take the job
+                return true;
+            }
+            batches.workerCount++;
+            workerCount++;
+        }
+
+        try {
+            executor.execute(new Worker(batches, job));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            synchronized (jobClassBatches) {
+                batches.workerCount--;
+                workerCount--;
+                if (batches.workerCount > 0) {
+                    return true;
+                }
+                // No worker to take the job
+                batches.pendingJobs.remove(job);
+                pendingJobCount--;
+                if (batches.pendingJobs.isEmpty()) {
+                    jobClassBatches.remove(jobClass);
+                }
+                return false;
+            }
+        }
+    }
+
+    public int getPendingJobCount() {
+        synchronized (jobClassBatches) {
+            return pendingJobCount;
+        }
+    }
+
+    protected String classify(Job job) {
+        String jobClass = null;
+        if (jobClassifier != null) {
+            jobClass = jobClassifier.classify(job);
+        }
+        return jobClass != null ? jobClass : FairShareJobQueue.DEFAULT_JOB_CLASS;
+    }
+
+    protected List<Job> nextBatch(JobClassBatches batches) {
+        synchronized (jobClassBatches) {
+            List<Job> batch = new ArrayList<Job>(Math.min(batchSize, batches.pendingJobs.size()));
+            while (batch.size() < batchSize && !batches.pendingJobs.isEmpty()) {
+                batch.add(batches.pendingJobs.poll());
+            }
+            pendingJobCount -= batch.size();
+            if (batch.isEmpty()) {
+                batches.workerCount--;
+                workerCount--;
+                if (batches.workerCount == 0) {
+                    jobClassBatches.remove(batches.jobClass);
+                }
+            }
+            return batch;
+        }
+    }
+
+    protected void executeBatch(List<Job> batch) {
+        if (batch.size() > 1) {
+            List<String> jobIds = new ArrayList<String>(batch.size());
+            for (Job job : batch) {
+                jobIds.add(job.getId());
+            }
+
+            try {
+                processEngineConfiguration.getCommandExecutor().execute(new ExecuteAsyncJobsCmd(jobIds));
+                return;
+
+            } catch (Throwable exception) {
+                log.debug("Batch of {} jobs failed, executing the jobs separately: {}", batch.size(), exception.getMessage());
+            }
+        }
+
+        for (Job job : batch) {
+            new ExecuteAsyncRunnable(job, processEngineConfiguration).run();
+        }
+    }
+
+    /**
+     * Extends the locks of the pending jobs when they were last extended more than half the async job lock time ago.
+     */
+    protected void renewLocksIfNeeded() {
+        final List<String> pendingJobIds = new ArrayList<String>();
+        synchronized (jobClassBatches) {
+            long now = System.currentTimeMillis();
+            if (pendingJobCount == 0 || now - lastLockRenewalTime <= asyncExecutor.getAsyncJobLockTimeInMillis() / 2) {
+                return;
+            }
+            lastLockRenewalTime = now;
+            for (JobClassBatches batches : jobClassBatches.values()) {
+                for (Job job : batches.pendingJobs) {
+                    pendingJobIds.add(job.getId());
+                }
+            }
+        }
+
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    Date lockExpirationTime = new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + asyncExecutor.getAsyncJobLockTimeInMillis());
+                    commandContext.getJobEntityManager().extendJobLocks(asyncExecutor.getLockOwner(), pendingJobIds, lockExpirationTime);
+                    return null;
+                }
+            });
+
+        } catch (Throwable t) {
+            log.error("Error while extending the locks of {} pending batch jobs", pendingJobIds.size(), t);
+        }
+    }
+
+    protected static class JobClassBatches {
+
+        protected final String jobClass;
+        protected final LinkedList<Job> pendingJobs = new LinkedList<Job>();
+        protected int workerCount;
+
+        public JobClassBatches(String jobClass) {
+            this.jobClass = jobClass;
+        }
+    }
+
+    /**
+     * Executes the pending jobs of one job class, batch after batch, until no more jobs of the job class are pending.
+     */
+    protected class Worker implements Runnable {
+
+        protected final JobClassBatches batches;
+        protected final Job job;
+
+        public Worker(JobClassBatches batches, Job job) {
+            this.batches = batches;
+            this.job = job;
+        }
+
+        /**
+         * @return the job that started the worker, all jobs executed by the worker have the same job class.
+         */
+        public Job getJob() {
+            return job;
+        }
+
+        public void run() {
+            List<Job> batch = nextBatch(batches);
+            while (!batch.isEmpty()) {
+                executeBatch(batch);
+                renewLocksIfNeeded();
+                batch = nextBatch(batches);
+            }
+        }
+    }
+
+}
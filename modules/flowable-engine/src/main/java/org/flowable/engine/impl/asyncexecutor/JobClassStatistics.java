@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Queue depth and wait time of one job class of a {@link FairShareJobQueue}.
+ */
+public class JobClassStatistics {
+
+    protected final String jobClass;
+    protected final AtomicInteger queueSize = new AtomicInteger();
+    protected final AtomicLong enqueuedJobCount = new AtomicLong();
+    protected final AtomicLong dequeuedJobCount = new AtomicLong();
+    protected final AtomicLong totalWaitTime = new AtomicLong();
+    protected final AtomicLong maxWaitTime = new AtomicLong();
+
+    public JobClassStatistics(String jobClass) {
+        this.jobClass = jobClass;
+    }
+
+    public void jobEnqueued() {
+        queueSize.incrementAndGet();
+        enqueuedJobCount.incrementAndGet();
+    }
+
+    public void jobDequeued(long waitTimeInNanos) {
+        queueSize.decrementAndGet();
+        dequeuedJobCount.incrementAndGet();
+        totalWaitTime.addAndGet(waitTimeInNanos);
+
+        long max = maxWaitTime.get();
+        while (waitTimeInNanos > max && !maxWaitTime.compareAndSet(max, waitTimeInNanos)) {
+            max = maxWaitTime.get();
+        }
+    }
+
+    /**
+     * A job was removed from the queue without being executed.
+     */
+    public void jobRemoved() {
+        queueSize.decrementAndGet();
+    }
+
+    public String getJobClass() {
+        return jobClass;
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    public long getEnqueuedJobCount() {
+        return enqueuedJobCount.get();
+    }
+
+    public long getDequeuedJobCount() {
+        return dequeuedJobCount.get();
+    }
+
+    public double getAverageWaitTimeInMillis() {
+        long dequeued = dequeuedJobCount.get();
+        if (dequeued == 0) {
+            return 0;
+        }
+        return totalWaitTime.get() / (double) dequeued / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxWaitTimeInMillis() {
+        return maxWaitTime.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
@@ -0,0 +1,26 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Classifies jobs by the type of their job handler (e.g. async-continuation, trigger-timer).
+ */
+public class JobHandlerTypeJobClassifier implements JobClassifier {
+
+    public String classify(Job job) {
+        return job.getJobHandlerType() != null ? job.getJobHandlerType() : FairShareJobQueue.DEFAULT_JOB_CLASS;
+    }
+
+}
@@ -73,6 +73,14 @@ public interface JobManager {
      */
     JobEntity moveTimerJobToExecutableJob(TimerJobEntity timerJob);
 
+    /**
+     * Moves a {@link TimerJobEntity} to become an async {@link JobEntity} and executes that job in the current transaction.
+     * 
+     * As the executable job is inserted and deleted in the same transaction, it is never written to the datastore. Returns the executed job, or null
+     * when the job could not be created (for example because its execution doesn't exist anymore).
+     */
+    JobEntity moveTimerJobToExecutableJobAndExecute(TimerJobEntity timerJob);
+
     /**
      * Moves an {@link AbstractJobEntity} to become a {@link TimerJobEntity}.
      * 
@@ -0,0 +1,33 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Classifies jobs by the key of their process definition. The key is taken from the process definition id, which has the form key:version:id. Process
+ * definition ids that don't have that form (which happens when the key is very long) are used as they are.
+ */
+public class ProcessDefinitionKeyJobClassifier implements JobClassifier {
+
+    public String classify(Job job) {
+        String processDefinitionId = job.getProcessDefinitionId();
+        if (processDefinitionId == null) {
+            return FairShareJobQueue.DEFAULT_JOB_CLASS;
+        }
+
+        int index = processDefinitionId.indexOf(':');
+        return index > 0 ? processDefinitionId.substring(0, index) : processDefinitionId;
+    }
+
+}
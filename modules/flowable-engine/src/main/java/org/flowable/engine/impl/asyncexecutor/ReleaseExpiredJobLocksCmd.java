@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobEntityManager;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntityManager;
+
+/**
+ * Releases the expired locks of the async jobs and timer jobs with one update statement per lock owner and table, instead of resetting the expired jobs
+ * one by one.
+ * 
+ * The lock owners that have jobs with an expired lock are looked up first. Every update only matches the jobs of one lock owner whose lock is expired,
+ * so jobs that are still locked by a live lock owner are never touched. The revision of the released jobs is incremented: a lock owner that is still
+ * executing one of them fails with an optimistic locking exception when it tries to complete it.
+ */
+public class ReleaseExpiredJobLocksCmd implements Command<ReleaseExpiredJobLocksCmd.Result> {
+
+    @Override
+    public Result execute(CommandContext commandContext) {
+        Date now = commandContext.getProcessEngineConfiguration().getClock().getCurrentTime();
+        JobEntityManager jobEntityManager = commandContext.getJobEntityManager();
+        TimerJobEntityManager timerJobEntityManager = commandContext.getTimerJobEntityManager();
+
+        Map<String, Date> jobLockOwners = jobEntityManager.findExpiredJobLockOwners(now);
+        Map<String, Date> timerJobLockOwners = timerJobEntityManager.findExpiredTimerJobLockOwners(now);
+
+        Result result = new Result(now);
+        Set<String> lockOwners = new HashSet<String>(jobLockOwners.keySet());
+        lockOwners.addAll(timerJobLockOwners.keySet());
+        for (String lockOwner : lockOwners) {
+            if (jobLockOwners.containsKey(lockOwner)) {
+                result.jobCount += jobEntityManager.releaseExpiredJobLocks(lockOwner, now);
+                result.updateMinLockExpirationTime(jobLockOwners.get(lockOwner));
+            }
+            if (timerJobLockOwners.containsKey(lockOwner)) {
+                result.timerJobCount += timerJobEntityManager.releaseExpiredTimerJobLocks(lockOwner, now);
+                result.updateMinLockExpirationTime(timerJobLockOwners.get(lockOwner));
+            }
+        }
+        result.lockOwnerCount = lockOwners.size();
+        return result;
+    }
+
+    public static class Result {
+
+        protected final Date releaseTime;
+        protected int lockOwnerCount;
+        protected int jobCount;
+        protected int timerJobCount;
+        protected Date minLockExpirationTime;
+
+        public Result(Date releaseTime) {
+            this.releaseTime = releaseTime;
+        }
+
+        protected void updateMinLockExpirationTime(Date lockExpirationTime) {
+            if (lockExpirationTime != null && (minLockExpirationTime == null || lockExpirationTime.before(minLockExpirationTime))) {
+                minLockExpirationTime = lockExpirationTime;
+            }
+        }
+
+        public Date getReleaseTime() {
+            return releaseTime;
+        }
+
+        public int getLockOwnerCount() {
+            return lockOwnerCount;
+        }
+
+        public int getJobCount() {
+            return jobCount;
+        }
+
+        public int getTimerJobCount() {
+            return timerJobCount;
+        }
+
+        /**
+         * @return the oldest expiration time of the released locks, or null when no locks were released.
+         */
+        public Date getMinLockExpirationTime() {
+            return minLockExpirationTime;
+        }
+
+        /**
+         * @return the time the oldest released lock stayed expired before it was released.
+         */
+        public long getMaxRecoveryDelayInMillis() {
+            return minLockExpirationTime != null ? Math.max(0L, releaseTime.getTime() - minLockExpirationTime.getTime()) : 0L;
+        }
+
+    }
+
+}
@@ -12,12 +12,13 @@
  */
 package org.flowable.engine.impl.asyncexecutor;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Date;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
-import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.runtime.Job;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,7 +28,11 @@ import org.slf4j.LoggerFactory;
  * 
  * When a job is executed, it is first locked (lock owner and lock time is set). A job is expired when this lock time is exceeded. This can happen when an executor goes down before completing a task.
  * 
- * This runnable will find such jobs and reset them, so they can be picked up again.
+ * This runnable will find such jobs and reset them, so they can be picked up again. The expired locks are released in bulk, per lock owner, for the async
+ * jobs as well as the timer jobs.
+ * 
+ * When the heartbeat is enabled, this runnable also writes the heartbeat of the async executor every heartbeat interval. The locks of async executors
+ * whose heartbeat timed out are released right away, without waiting for the locks to expire.
  * 
  * @author Joram Barrez
  */
@@ -41,6 +46,12 @@ public class ResetExpiredJobsRunnable implements Runnable {
     protected final Object MONITOR = new Object();
     protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
 
+    protected ExpiredJobRecoveryMetrics metrics = new ExpiredJobRecoveryMetrics();
+
+    protected Date startTime;
+    protected String hostName;
+    protected AsyncExecutorHeartbeatCmd.HeartbeatObservations heartbeatObservations = new AsyncExecutorHeartbeatCmd.HeartbeatObservations();
+
     public ResetExpiredJobsRunnable(AsyncExecutor asyncExecutor) {
         this.asyncExecutor = asyncExecutor;
     }
@@ -49,38 +60,32 @@ public class ResetExpiredJobsRunnable implements Runnable {
         log.info("starting to reset expired jobs");
         Thread.currentThread().setName("flowable-reset-expired-jobs");
 
-        while (!isInterrupted) {
-
-            try {
-
-                List<JobEntity> expiredJobs = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor()
-                        .execute(new FindExpiredJobsCmd(asyncExecutor.getResetExpiredJobsPageSize()));
+        CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+        startTime = asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime();
+        long nextResetTime = 0L;
+        long nextHeartbeatTime = 0L;
 
-                List<String> expiredJobIds = new ArrayList<String>(expiredJobs.size());
-                for (JobEntity expiredJob : expiredJobs) {
-                    expiredJobIds.add(expiredJob.getId());
-                }
+        while (!isInterrupted) {
 
-                if (expiredJobIds.size() > 0) {
-                    asyncExecutor.getProcessEngineConfiguration().getCommandExecutor().execute(
-                            new ResetExpiredJobsCmd(expiredJobIds));
-                }
+            if (isHeartbeatEnabled() && System.currentTimeMillis() >= nextHeartbeatTime) {
+                heartbeat(commandExecutor);
+                nextHeartbeatTime = System.currentTimeMillis() + ((AbstractAsyncExecutor) asyncExecutor).getHeartbeatIntervalInMillis();
+            }
 
-            } catch (Throwable e) {
-                if (e instanceof FlowableOptimisticLockingException) {
-                    log.debug("Optimistic lock exception while resetting locked jobs", e);
-                } else {
-                    log.error("exception during resetting expired jobs: {}", e.getMessage(), e);
-                }
+            if (System.currentTimeMillis() >= nextResetTime) {
+                resetExpiredJobs(commandExecutor);
+                nextResetTime = System.currentTimeMillis() + asyncExecutor.getResetExpiredJobsInterval();
             }
 
             // Sleep
             try {
 
+                long nextRunTime = isHeartbeatEnabled() ? Math.min(nextResetTime, nextHeartbeatTime) : nextResetTime;
+                long millisToWait = nextRunTime - System.currentTimeMillis();
                 synchronized (MONITOR) {
-                    if (!isInterrupted) {
+                    if (!isInterrupted && millisToWait > 0) {
                         isWaiting.set(true);
-                        MONITOR.wait(asyncExecutor.getResetExpiredJobsInterval());
+                        MONITOR.wait(millisToWait);
                     }
                 }
 
@@ -94,9 +99,94 @@ public class ResetExpiredJobsRunnable implements Runnable {
 
         }
 
+        if (isHeartbeatEnabled()) {
+            unregister(commandExecutor);
+        }
+
         log.info("stopped resetting expired jobs");
     }
 
+    /**
+     * Writes the heartbeat of the async executor and releases the locks of the async executors whose heartbeat timed out, see
+     * {@link AsyncExecutorHeartbeatCmd}.
+     */
+    protected void heartbeat(CommandExecutor commandExecutor) {
+        long start = System.nanoTime();
+        try {
+            AsyncExecutorHeartbeatCmd.Result result = commandExecutor.execute(new AsyncExecutorHeartbeatCmd(asyncExecutor.getLockOwner(), getHostName(),
+                    asyncExecutor.getRemainingCapacity(), startTime, ((AbstractAsyncExecutor) asyncExecutor).getHeartbeatTimeoutInMillis(), heartbeatObservations));
+
+            if (result.getDeadNodeCount() > 0) {
+                metrics.deadNodesRecovered(result, System.nanoTime() - start);
+                log.info("Released the locks of {} jobs and {} timer jobs of {} async executors without heartbeat",
+                        result.getJobCount(), result.getTimerJobCount(), result.getDeadNodeCount());
+            }
+
+        } catch (Throwable e) {
+            if (e instanceof FlowableOptimisticLockingException) {
+                log.debug("Optimistic lock exception while writing the async executor heartbeat", e);
+            } else {
+                log.error("exception during async executor heartbeat: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Removes the async executor from the node registry, so the other nodes don't have to wait for its heartbeat to time out.
+     */
+    protected void unregister(CommandExecutor commandExecutor) {
+        try {
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    commandContext.getAsyncExecutorNodeEntityManager().deleteAsyncExecutorNode(asyncExecutor.getLockOwner(), null);
+                    return null;
+                }
+            });
+        } catch (Throwable e) {
+            log.warn("Could not unregister async executor {}, it will be removed when its heartbeat times out", asyncExecutor.getLockOwner(), e);
+        }
+    }
+
+    /**
+     * @return true when the heartbeat of the async executor is enabled, which is only supported by the {@link AbstractAsyncExecutor}.
+     */
+    protected boolean isHeartbeatEnabled() {
+        return asyncExecutor instanceof AbstractAsyncExecutor && ((AbstractAsyncExecutor) asyncExecutor).isHeartbeatEnabled();
+    }
+
+    protected String getHostName() {
+        if (hostName == null) {
+            hostName = AsyncExecutorHeartbeatCmd.getLocalHostName();
+        }
+        return hostName;
+    }
+
+    /**
+     * Releases the expired locks of the async jobs and timer jobs of all lock owners, see {@link ReleaseExpiredJobLocksCmd}.
+     */
+    protected void resetExpiredJobs(CommandExecutor commandExecutor) {
+        long start = System.nanoTime();
+        try {
+            ReleaseExpiredJobLocksCmd.Result result = commandExecutor.execute(new ReleaseExpiredJobLocksCmd());
+            metrics.recoverySucceeded(result, System.nanoTime() - start);
+
+            if (result.getLockOwnerCount() > 0) {
+                log.info("Released the expired locks of {} jobs and {} timer jobs of {} lock owners, the oldest lock was expired for {} ms",
+                        result.getJobCount(), result.getTimerJobCount(), result.getLockOwnerCount(), result.getMaxRecoveryDelayInMillis());
+            }
+
+        } catch (Throwable e) {
+            metrics.recoveryFailed(System.nanoTime() - start);
+            if (e instanceof FlowableOptimisticLockingException) {
+                log.debug("Optimistic lock exception while resetting locked jobs", e);
+            } else {
+                log.error("exception during resetting expired jobs: {}", e.getMessage(), e);
+            }
+        }
+    }
+
     public void stop() {
         synchronized (MONITOR) {
             isInterrupted = true;
@@ -106,4 +196,12 @@ public class ResetExpiredJobsRunnable implements Runnable {
         }
     }
 
+    public ExpiredJobRecoveryMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(ExpiredJobRecoveryMetrics metrics) {
+        this.metrics = metrics;
+    }
+
 }
@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Classifies jobs by their tenant.
+ */
+public class TenantJobClassifier implements JobClassifier {
+
+    public String classify(Job job) {
+        return StringUtils.isNotEmpty(job.getTenantId()) ? job.getTenantId() : FairShareJobQueue.DEFAULT_JOB_CLASS;
+    }
+
+}
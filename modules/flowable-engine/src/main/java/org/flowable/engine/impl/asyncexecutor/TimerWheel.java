@@ -0,0 +1,227 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel: a ring of buckets, each covering one tick, with an overflow wheel (whose tick is the interval of this wheel) for items
+ * that are due after the interval of this wheel. Adding an item and advancing the wheel by one tick are constant time operations, independent of the number
+ * of scheduled items.
+ *
+ * When the wheel is advanced, the items of the bucket of the new tick are flushed. Items flushed from an overflow wheel are added again, which puts them in a
+ * bucket of a wheel with a smaller tick, until they end up in the current tick of the innermost wheel. Items are returned by {@link #advance(long)} once
+ * the current tick of the innermost wheel contains their due time, so they can be up to one tick early: callers need to check the due time of the items.
+ *
+ * This class is not thread-safe.
+ */
+public class TimerWheel<T> {
+
+    protected final long tickDuration;
+    protected final int wheelSize;
+    protected final long interval;
+    protected final List<Entry<T>>[] buckets;
+
+    protected long currentTime;
+    protected TimerWheel<T> overflowWheel;
+    protected int size;
+
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long tickDuration, int wheelSize, long startTime) {
+        if (tickDuration <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("Tick duration must be positive and wheel size must be greater than 1");
+        }
+        this.tickDuration = tickDuration;
+        this.wheelSize = wheelSize;
+        this.interval = tickDuration * wheelSize;
+        this.buckets = new List[wheelSize];
+        this.currentTime = startTime - (startTime % tickDuration);
+    }
+
+    /**
+     * Schedules the item for the given due time.
+     *
+     * @return false when the item is due within the current tick and was not added. The caller should fire it itself.
+     */
+    public boolean add(T item, long dueTime) {
+        boolean added = add(new Entry<T>(item, dueTime));
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    protected boolean add(Entry<T> entry) {
+        if (entry.dueTime < currentTime + tickDuration) {
+            return false;
+
+        } else if (entry.dueTime < currentTime + interval) {
+            int index = (int) ((entry.dueTime / tickDuration) % wheelSize);
+            List<Entry<T>> bucket = buckets[index];
+            if (bucket == null) {
+                bucket = new ArrayList<Entry<T>>();
+                buckets[index] = bucket;
+            }
+            bucket.add(entry);
+            return true;
+
+        } else {
+            if (overflowWheel == null) {
+                overflowWheel = new TimerWheel<T>(interval, wheelSize, currentTime);
+            }
+            return overflowWheel.add(entry);
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time.
+     *
+     * @return the items that are due within the current tick, in no particular order.
+     */
+    public List<Entry<T>> advance(long time) {
+        List<Entry<T>> expired = new ArrayList<Entry<T>>();
+        if (size == 0) {
+            // Nothing to flush, skip the empty ticks
+            skipTo(time);
+            return expired;
+        }
+
+        List<Entry<T>> flushed = new ArrayList<Entry<T>>();
+        if (time - currentTime >= interval) {
+            // All buckets of this wheel would be flushed, so it's cheaper to add all items again than to advance tick by tick
+            collectEntries(flushed);
+            currentTime = time - (time % tickDuration);
+            for (Entry<T> entry : flushed) {
+                if (!add(entry)) {
+                    expired.add(entry);
+                }
+            }
+            size -= expired.size();
+            return expired;
+        }
+
+        while (currentTime + tickDuration <= time) {
+            currentTime += tickDuration;
+            flushBucket(flushed);
+            if (overflowWheel != null) {
+                overflowWheel.advanceOverflow(currentTime, flushed);
+            }
+
+            for (Entry<T> entry : flushed) {
+                if (!add(entry)) {
+                    expired.add(entry);
+                }
+            }
+            flushed.clear();
+        }
+
+        size -= expired.size();
+        return expired;
+    }
+
+    protected void advanceOverflow(long time, List<Entry<T>> flushed) {
+        while (currentTime + tickDuration <= time) {
+            currentTime += tickDuration;
+            flushBucket(flushed);
+            if (overflowWheel != null) {
+                overflowWheel.advanceOverflow(currentTime, flushed);
+            }
+        }
+    }
+
+    protected void flushBucket(List<Entry<T>> flushed) {
+        int index = (int) ((currentTime / tickDuration) % wheelSize);
+        List<Entry<T>> bucket = buckets[index];
+        if (bucket != null) {
+            flushed.addAll(bucket);
+            buckets[index] = null;
+        }
+    }
+
+    protected void skipTo(long time) {
+        if (currentTime + tickDuration <= time) {
+            currentTime = time - (time % tickDuration);
+            if (overflowWheel != null) {
+                overflowWheel.skipTo(time);
+            }
+        }
+    }
+
+    /**
+     * Removes all items from the wheel.
+     *
+     * @return the removed items.
+     */
+    public List<T> clear() {
+        List<Entry<T>> entries = new ArrayList<Entry<T>>(size);
+        collectEntries(entries);
+        size = 0;
+
+        List<T> items = new ArrayList<T>(entries.size());
+        for (Entry<T> entry : entries) {
+            items.add(entry.item);
+        }
+        return items;
+    }
+
+    protected void collectEntries(List<Entry<T>> entries) {
+        for (int i = 0; i < buckets.length; i++) {
+            if (buckets[i] != null) {
+                entries.addAll(buckets[i]);
+                buckets[i] = null;
+            }
+        }
+        if (overflowWheel != null) {
+            overflowWheel.collectEntries(entries);
+            overflowWheel = null;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getCurrentTime() {
+        return currentTime;
+    }
+
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
+    public static class Entry<T> {
+
+        protected final T item;
+        protected final long dueTime;
+
+        public Entry(T item, long dueTime) {
+            this.item = item;
+            this.dueTime = dueTime;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public long getDueTime() {
+            return dueTime;
+        }
+
+    }
+
+}
@@ -0,0 +1,318 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link AcquireTimerJobsRunnable} that leases the timer jobs that are due within a look-ahead window and keeps them in a {@link TimerWheel}, so each
+ * timer job is moved to an executable job at its due date instead of at the next poll of the database.
+ *
+ * The timer jobs are leased by locking them for the lock owner of the async executor, until the end of the look-ahead window plus the timer lock time.
+ * Timer jobs scheduled by this engine within the look-ahead window are leased when they are inserted and go straight into the wheel (see
+ * {@link #isWithinLookAheadWindow(Date)}). When the runnable is stopped, the leases of the timer jobs that were not fired yet are released. Leases of
+ * a node that stopped without releasing them expire and are taken over by another node that uses a timer wheel.
+ */
+public class TimerWheelAcquireTimerJobsRunnable extends AcquireTimerJobsRunnable {
+
+    private static Logger log = LoggerFactory.getLogger(TimerWheelAcquireTimerJobsRunnable.class);
+
+    protected static final int RELEASE_BATCH_SIZE = 500;
+
+    protected long lookAheadTimeInMillis;
+    protected long tickDurationInMillis;
+    protected int wheelSize;
+    protected int capacity;
+
+    protected final Object wheelLock = new Object();
+    protected TimerWheel<String> timerWheel;
+    protected List<TimerWheel.Entry<String>> dueEntries = new ArrayList<TimerWheel.Entry<String>>();
+
+    // Both in the time of the engine clock, which is also used for the due dates of the timer jobs
+    protected long lastLeaseTime;
+    protected long nextLeaseTime;
+
+    public TimerWheelAcquireTimerJobsRunnable(AsyncExecutor asyncExecutor, JobManager jobManager, long lookAheadTimeInMillis, long tickDurationInMillis,
+            int wheelSize, int capacity) {
+        super(asyncExecutor, jobManager);
+        this.lookAheadTimeInMillis = lookAheadTimeInMillis;
+        this.tickDurationInMillis = tickDurationInMillis;
+        this.wheelSize = wheelSize;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void run() {
+        log.info("starting to acquire timer jobs with a timer wheel");
+        Thread.currentThread().setName("flowable-acquire-timer-jobs");
+
+        CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+
+        while (!isInterrupted) {
+            try {
+                long now = getCurrentTime();
+                // A clock that was set back (e.g. in tests) would otherwise postpone the next lease
+                if (now >= nextLeaseTime || now < lastLeaseTime) {
+                    leaseTimerJobs(commandExecutor);
+                    lastLeaseTime = now;
+                    nextLeaseTime = now + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+                }
+
+                fireDueTimerJobs(commandExecutor);
+
+            } catch (Throwable e) {
+                log.error("exception during timer job acquisition: {}", e.getMessage(), e);
+            }
+
+            // The engine clock can be moved forward while sleeping, so never sleep longer than the acquire wait time
+            millisToWait = Math.min(nextLeaseTime - getCurrentTime(), asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis());
+            if (hasScheduledTimerJobs()) {
+                millisToWait = Math.min(millisToWait, tickDurationInMillis);
+            }
+            sleep(millisToWait);
+        }
+
+        releaseLeases(commandExecutor);
+        log.info("stopped timer job acquisition with a timer wheel");
+    }
+
+    /**
+     * Leases timer jobs that are due before the end of the look-ahead window, page by page, until no more timer jobs are found or the wheel is full.
+     * A page never leases more timer jobs than the wheel has room for.
+     */
+    protected void leaseTimerJobs(CommandExecutor commandExecutor) {
+        final long now = getCurrentTime();
+        final Date maxDueDate = new Date(now + lookAheadTimeInMillis);
+        final Date lockExpirationTime = new Date(now + lookAheadTimeInMillis + asyncExecutor.getTimerLockTimeInMillis());
+
+        List<TimerJobEntity> leasedTimerJobs;
+        int pageSize;
+        do {
+            final int remainingCapacity = capacity - getScheduledTimerJobCount();
+            if (remainingCapacity <= 0) {
+                return;
+            }
+            pageSize = Math.min(Math.max(1, asyncExecutor.getMaxTimerJobsPerAcquisition()), remainingCapacity);
+            final Page page = new Page(0, pageSize);
+
+            try {
+                leasedTimerJobs = commandExecutor.execute(new Command<List<TimerJobEntity>>() {
+
+                    @Override
+                    public List<TimerJobEntity> execute(CommandContext commandContext) {
+                        return commandContext.getTimerJobEntityManager().leaseTimerJobs(maxDueDate, page,
+                                asyncExecutor.getLockOwner(), lockExpirationTime);
+                    }
+                });
+
+            } catch (FlowableOptimisticLockingException e) {
+                log.debug("Optimistic locking exception while leasing timer jobs, another node leased them first: {}", e.getMessage());
+                return;
+            }
+
+            for (TimerJobEntity timerJob : leasedTimerJobs) {
+                schedule(timerJob.getId(), timerJob.getDuedate());
+            }
+        } while (leasedTimerJobs.size() >= pageSize && !isInterrupted);
+    }
+
+    /**
+     * Adds a leased timer job to the wheel. Can be called from any thread.
+     */
+    public void schedule(String timerJobId, Date dueDate) {
+        synchronized (wheelLock) {
+            if (timerWheel == null) {
+                timerWheel = new TimerWheel<String>(tickDurationInMillis, wheelSize, getCurrentTime());
+            }
+            long dueTime = dueDate != null ? dueDate.getTime() : 0L;
+            if (!timerWheel.add(timerJobId, dueTime)) {
+                dueEntries.add(new TimerWheel.Entry<String>(timerJobId, dueTime));
+            }
+        }
+
+        // Wake up the acquisition thread, it might be sleeping until the next lease
+        synchronized (MONITOR) {
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * @return true when the given due date is within the look-ahead window, so that the timer job can be leased and added to the wheel with
+     *         {@link #schedule(String, Date)} directly.
+     */
+    public boolean isWithinLookAheadWindow(Date dueDate) {
+        return !isInterrupted && dueDate != null && dueDate.getTime() <= getCurrentTime() + lookAheadTimeInMillis;
+    }
+
+    /**
+     * Fires the timer jobs that are due, as long as the async executor has capacity left. The remaining due timer jobs are kept for the next tick.
+     * 
+     * @return the number of timer jobs that were fired
+     */
+    protected int fireDueTimerJobs(CommandExecutor commandExecutor) {
+        List<TimerWheel.Entry<String>> dueTimerJobs = collectDueTimerJobs();
+        for (int i = 0; i < dueTimerJobs.size(); i++) {
+            if (asyncExecutor.getRemainingCapacity() <= 0) {
+                synchronized (wheelLock) {
+                    dueEntries.addAll(dueTimerJobs.subList(i, dueTimerJobs.size()));
+                }
+                return i;
+            }
+            fireTimerJob(commandExecutor, dueTimerJobs.get(i).getItem());
+        }
+        return dueTimerJobs.size();
+    }
+
+    protected List<TimerWheel.Entry<String>> collectDueTimerJobs() {
+        List<TimerWheel.Entry<String>> timerJobs = new ArrayList<TimerWheel.Entry<String>>();
+        synchronized (wheelLock) {
+            if (timerWheel == null) {
+                return timerJobs;
+            }
+
+            long now = getCurrentTime();
+            dueEntries.addAll(timerWheel.advance(now));
+
+            // Timer jobs due later in the current tick are kept until they are due
+            Iterator<TimerWheel.Entry<String>> iterator = dueEntries.iterator();
+            while (iterator.hasNext()) {
+                TimerWheel.Entry<String> entry = iterator.next();
+                if (entry.getDueTime() <= now) {
+                    timerJobs.add(entry);
+                    iterator.remove();
+                }
+            }
+        }
+        return timerJobs;
+    }
+
+    protected void fireTimerJob(CommandExecutor commandExecutor, final String timerJobId) {
+        try {
+            TimerJobEntity timerJobToExecute = commandExecutor.execute(new Command<TimerJobEntity>() {
+
+                @Override
+                public TimerJobEntity execute(CommandContext commandContext) {
+                    TimerJobEntity timerJob = commandContext.getTimerJobEntityManager().findById(timerJobId);
+
+                    // The timer job could have been deleted (e.g. the process instance was cancelled), or the lease could have expired
+                    if (timerJob == null || !asyncExecutor.getLockOwner().equals(timerJob.getLockOwner())) {
+                        return null;
+                    }
+
+                    if (isFusedTimerJobExecution()) {
+                        return timerJob;
+                    }
+                    jobManager.moveTimerJobToExecutableJob(timerJob);
+                    return null;
+                }
+            });
+
+            if (timerJobToExecute != null) {
+                asyncExecutor.executeAsyncJob(timerJobToExecute);
+            }
+
+        } catch (FlowableOptimisticLockingException e) {
+            log.debug("Optimistic locking exception while firing timer job {}, it was changed concurrently: {}", timerJobId, e.getMessage());
+        } catch (Throwable e) {
+            log.error("exception while firing timer job {}: {}", timerJobId, e.getMessage(), e);
+        }
+    }
+
+    protected void releaseLeases(CommandExecutor commandExecutor) {
+        final List<String> timerJobIds;
+        synchronized (wheelLock) {
+            if (timerWheel == null) {
+                return;
+            }
+            timerJobIds = timerWheel.clear();
+            for (TimerWheel.Entry<String> entry : dueEntries) {
+                timerJobIds.add(entry.getItem());
+            }
+            dueEntries.clear();
+        }
+
+        for (int i = 0; i < timerJobIds.size(); i += RELEASE_BATCH_SIZE) {
+            final List<String> batch = timerJobIds.subList(i, Math.min(i + RELEASE_BATCH_SIZE, timerJobIds.size()));
+            try {
+                commandExecutor.execute(new Command<Void>() {
+
+                    @Override
+                    public Void execute(CommandContext commandContext) {
+                        commandContext.getTimerJobEntityManager().releaseTimerJobLeases(asyncExecutor.getLockOwner(), batch);
+                        return null;
+                    }
+                });
+            } catch (Throwable e) {
+                log.warn("Could not release the leases of {} timer jobs, they will be available again when the leases expire", batch.size(), e);
+            }
+        }
+    }
+
+    protected void sleep(long millisToWait) {
+        if (millisToWait > 0) {
+            try {
+                synchronized (MONITOR) {
+                    if (!isInterrupted) {
+                        isWaiting.set(true);
+                        MONITOR.wait(millisToWait);
+                    }
+                }
+            } catch (InterruptedException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("timer job acquisition wait interrupted");
+                }
+            } finally {
+                isWaiting.set(false);
+            }
+        }
+    }
+
+    protected boolean hasScheduledTimerJobs() {
+        synchronized (wheelLock) {
+            return !dueEntries.isEmpty() || (timerWheel != null && !timerWheel.isEmpty());
+        }
+    }
+
+    public int getScheduledTimerJobCount() {
+        synchronized (wheelLock) {
+            return dueEntries.size() + (timerWheel != null ? timerWheel.size() : 0);
+        }
+    }
+
+    protected long getCurrentTime() {
+        return asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime().getTime();
+    }
+
+    public long getLookAheadTimeInMillis() {
+        return lookAheadTimeInMillis;
+    }
+
+    public long getTickDurationInMillis() {
+        return tickDurationInMillis;
+    }
+
+}
@@ -104,6 +104,13 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         return determineAsyncExecutor().getRemainingCapacity();
     }
 
+    public void asyncJobAdded(Job job) {
+        AsyncExecutor asyncExecutor = determineAsyncExecutor();
+        if (asyncExecutor instanceof AbstractAsyncExecutor) {
+            ((AbstractAsyncExecutor) asyncExecutor).asyncJobAdded(job);
+        }
+    }
+
     public JobManager getJobManager() {
         // Should never be accessed on this class, should be accessed on the actual AsyncExecutor
         throw new UnsupportedOperationException();
@@ -213,6 +220,35 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    public void setAdaptiveAsyncJobAcquisition(boolean adaptiveAsyncJobAcquisition) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            if (asyncExecutor instanceof AbstractAsyncExecutor) {
+                ((AbstractAsyncExecutor) asyncExecutor).setAdaptiveAsyncJobAcquisition(adaptiveAsyncJobAcquisition);
+            }
+        }
+    }
+
+    public void setMinAsyncJobAcquireWaitTimeInMillis(int minAsyncJobAcquireWaitTimeInMillis) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            if (asyncExecutor instanceof AbstractAsyncExecutor) {
+                ((AbstractAsyncExecutor) asyncExecutor).setMinAsyncJobAcquireWaitTimeInMillis(minAsyncJobAcquireWaitTimeInMillis);
+            }
+        }
+    }
+
+    public boolean isFusedTimerJobExecution() {
+        AsyncExecutor asyncExecutor = determineAsyncExecutor();
+        return asyncExecutor instanceof AbstractAsyncExecutor && ((AbstractAsyncExecutor) asyncExecutor).isFusedTimerJobExecution();
+    }
+
+    public void setFusedTimerJobExecution(boolean fusedTimerJobExecution) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            if (asyncExecutor instanceof AbstractAsyncExecutor) {
+                ((AbstractAsyncExecutor) asyncExecutor).setFusedTimerJobExecution(fusedTimerJobExecution);
+            }
+        }
+    }
+
     public int getMaxAsyncJobsDuePerAcquisition() {
         return determineAsyncExecutor().getMaxAsyncJobsDuePerAcquisition();
     }
@@ -80,10 +80,12 @@ public class SharedExecutorServiceAsyncExecutor extends DefaultAsyncJobExecutor
         timerJobAcquisitionThreads.put(tenantId, new Thread(timerRunnable));
 
         TenantAwareAcquireAsyncJobsDueRunnable asyncJobsRunnable = new TenantAwareAcquireAsyncJobsDueRunnable(this, tenantInfoHolder, tenantId);
+        asyncJobsRunnable.setMetrics(asyncJobAcquisitionMetrics);
         asyncJobAcquisitionRunnables.put(tenantId, asyncJobsRunnable);
         asyncJobAcquisitionThreads.put(tenantId, new Thread(asyncJobsRunnable));
 
         TenantAwareResetExpiredJobsRunnable resetExpiredJobsRunnable = new TenantAwareResetExpiredJobsRunnable(this, tenantInfoHolder, tenantId);
+        resetExpiredJobsRunnable.setMetrics(expiredJobRecoveryMetrics);
         resetExpiredJobsRunnables.put(tenantId, resetExpiredJobsRunnable);
         resetExpiredJobsThreads.put(tenantId, new Thread(resetExpiredJobsRunnable));
 
@@ -99,6 +101,14 @@ public class SharedExecutorServiceAsyncExecutor extends DefaultAsyncJobExecutor
         stopThreadsForTenant(tenantId);
     }
 
+    @Override
+    public void asyncJobAdded(Job job) {
+        TenantAwareAcquireAsyncJobsDueRunnable runnable = asyncJobAcquisitionRunnables.get(tenantInfoHolder.getCurrentTenantId());
+        if (runnable != null) {
+            runnable.asyncJobAdded();
+        }
+    }
+
     @Override
     protected void unlockOwnedJobs() {
         for (String tenantId : timerJobAcquisitionThreads.keySet()) {
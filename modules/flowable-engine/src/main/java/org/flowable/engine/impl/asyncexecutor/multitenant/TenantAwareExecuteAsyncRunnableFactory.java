@@ -13,10 +13,11 @@
 
 package org.flowable.engine.impl.asyncexecutor.multitenant;
 
-import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.engine.impl.asyncexecutor.ExecuteTimerJobRunnableFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.multitenant.TenantInfoHolder;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
 import org.flowable.engine.runtime.Job;
 
 /**
@@ -24,7 +25,7 @@ import org.flowable.engine.runtime.Job;
  * 
  * @author Joram Barrez
  */
-public class TenantAwareExecuteAsyncRunnableFactory implements ExecuteAsyncRunnableFactory {
+public class TenantAwareExecuteAsyncRunnableFactory implements ExecuteTimerJobRunnableFactory {
 
     protected TenantInfoHolder tenantInfoHolder;
     protected String tenantId;
@@ -38,4 +39,8 @@ public class TenantAwareExecuteAsyncRunnableFactory implements ExecuteAsyncRunna
         return new TenantAwareExecuteAsyncRunnable(job, processEngineConfiguration, tenantInfoHolder, tenantId);
     }
 
+    public Runnable createExecuteTimerJobRunnable(TimerJobEntity timerJob, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        return new TenantAwareExecuteTimerJobRunnable(timerJob, processEngineConfiguration, tenantInfoHolder, tenantId);
+    }
+
 }
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor.multitenant;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutorHeartbeatCmd;
+
+/**
+ * Acquisition state of one tenant of the {@link TenantMultiplexingAsyncExecutor}: when its jobs are acquired next, and how many of its jobs are queued or
+ * executing in the shared thread pool.
+ */
+public class TenantJobAcquisitionState {
+
+    protected final String tenantId;
+
+    protected final AtomicInteger activeJobCount = new AtomicInteger();
+    protected final AtomicLong acquiredJobCount = new AtomicLong();
+    protected final AtomicLong probeCount = new AtomicLong();
+
+    protected volatile boolean asyncJobAdded;
+
+    // Only used by the acquisition thread
+    protected boolean idle;
+    protected long backoffWaitTime;
+    protected long nextAsyncJobAcquisitionTime;
+    protected long nextTimerJobAcquisitionTime;
+    protected long nextResetExpiredJobsTime;
+    protected long nextHeartbeatTime;
+    protected AsyncExecutorHeartbeatCmd.HeartbeatObservations heartbeatObservations = new AsyncExecutorHeartbeatCmd.HeartbeatObservations();
+
+    public TenantJobAcquisitionState(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * @return the number of jobs of this tenant that are queued or executing in the shared thread pool.
+     */
+    public int getActiveJobCount() {
+        return activeJobCount.get();
+    }
+
+    public long getAcquiredJobCount() {
+        return acquiredJobCount.get();
+    }
+
+    /**
+     * @return the number of existence probes done for this tenant while it had no due async jobs.
+     */
+    public long getProbeCount() {
+        return probeCount.get();
+    }
+
+    /**
+     * @return true when the last acquisition of this tenant found no due async jobs. Idle tenants are probed for due jobs with backed off wait times.
+     */
+    public boolean isIdle() {
+        return idle;
+    }
+
+    public void asyncJobAdded() {
+        asyncJobAdded = true;
+    }
+
+    protected void jobStarted() {
+        activeJobCount.incrementAndGet();
+    }
+
+    protected void jobFinished() {
+        activeJobCount.decrementAndGet();
+    }
+
+}
@@ -0,0 +1,377 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor.multitenant;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutorHeartbeatCmd;
+import org.flowable.engine.impl.asyncexecutor.AsyncJobAcquisitionMetrics;
+import org.flowable.engine.impl.asyncexecutor.ReleaseExpiredJobLocksCmd;
+import org.flowable.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Acquisition loop of the {@link TenantMultiplexingAsyncExecutor}: one thread that acquires the async jobs, timer jobs and expired jobs of all tenants.
+ * 
+ * Every round visits the tenants, starting one tenant further than the previous round so no tenant is always served first. For each tenant at most
+ * the max async jobs due per acquisition are acquired, limited by the room left in the thread pool queue and the max concurrent jobs of the tenant.
+ * A tenant whose last acquisition found no jobs is idle: it is probed with a single row query (without locking) after a wait time that doubles on every
+ * empty probe, from the min to the default async job acquire wait time, and is only acquired again when the probe finds a due job. An async job added
+ * for a tenant ends the wait time of that tenant. Timer jobs and expired jobs are handled per tenant at their usual intervals, as is the heartbeat
+ * of the async executor in the node registry of each tenant.
+ */
+public class TenantMultiplexingAcquireJobsRunnable implements Runnable {
+
+    private static Logger log = LoggerFactory.getLogger(TenantMultiplexingAcquireJobsRunnable.class);
+
+    protected final TenantMultiplexingAsyncExecutor asyncExecutor;
+    protected final TenantInfoHolder tenantInfoHolder;
+
+    protected volatile boolean isInterrupted;
+    protected final Object MONITOR = new Object();
+    protected final AtomicBoolean isWaiting = new AtomicBoolean(false);
+    protected volatile boolean wakeUpRequested;
+
+    protected AsyncJobAcquisitionMetrics metrics = new AsyncJobAcquisitionMetrics();
+    protected int rotationOffset;
+
+    protected Date startTime;
+    protected String hostName;
+
+    public TenantMultiplexingAcquireJobsRunnable(TenantMultiplexingAsyncExecutor asyncExecutor, TenantInfoHolder tenantInfoHolder) {
+        this.asyncExecutor = asyncExecutor;
+        this.tenantInfoHolder = tenantInfoHolder;
+    }
+
+    public synchronized void run() {
+        log.info("starting to acquire jobs for all tenants");
+        Thread.currentThread().setName("flowable-acquire-tenant-jobs");
+
+        CommandExecutor commandExecutor = asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+        startTime = asyncExecutor.getProcessEngineConfiguration().getClock().getCurrentTime();
+        hostName = AsyncExecutorHeartbeatCmd.getLocalHostName();
+
+        while (!isInterrupted) {
+            long millisToWait;
+            try {
+                millisToWait = acquireJobs(commandExecutor);
+            } catch (Throwable e) {
+                log.error("exception during job acquisition: {}", e.getMessage(), e);
+                millisToWait = asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+            }
+
+            if (millisToWait > 0) {
+                sleep(millisToWait);
+            }
+        }
+
+        if (asyncExecutor.isHeartbeatEnabled()) {
+            unregister(commandExecutor);
+        }
+
+        log.info("stopped job acquisition for all tenants");
+    }
+
+    /**
+     * Does one round over all tenants.
+     * 
+     * @return the time to wait before the next round.
+     */
+    protected long acquireJobs(CommandExecutor commandExecutor) {
+        wakeUpRequested = false;
+
+        List<TenantJobAcquisitionState> tenantStates = asyncExecutor.getTenantStatesSnapshot();
+        int tenantCount = tenantStates.size();
+        if (tenantCount == 0) {
+            return asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        }
+        rotationOffset = (rotationOffset + 1) % tenantCount;
+
+        boolean moreJobsDue = false;
+        boolean queueFull = false;
+        long now = System.currentTimeMillis();
+        long nextAcquisitionTime = now + asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+
+        for (int i = 0; i < tenantCount && !isInterrupted; i++) {
+            TenantJobAcquisitionState tenantState = tenantStates.get((rotationOffset + i) % tenantCount);
+
+            tenantInfoHolder.setCurrentTenantId(tenantState.getTenantId());
+            try {
+                if (now >= tenantState.nextTimerJobAcquisitionTime) {
+                    acquireTimerJobs(commandExecutor, tenantState);
+                }
+                if (asyncExecutor.isHeartbeatEnabled() && now >= tenantState.nextHeartbeatTime) {
+                    heartbeat(commandExecutor, tenantState);
+                }
+                if (now >= tenantState.nextResetExpiredJobsTime) {
+                    resetExpiredJobs(commandExecutor, tenantState);
+                }
+
+                if (!queueFull) {
+                    int remainingCapacity = asyncExecutor.getRemainingCapacity();
+                    if (remainingCapacity <= 0) {
+                        queueFull = true;
+                    } else if (acquireAsyncJobs(commandExecutor, tenantState, remainingCapacity)) {
+                        moreJobsDue = true;
+                    }
+                }
+
+            } finally {
+                tenantInfoHolder.clearCurrentTenantId();
+            }
+
+            nextAcquisitionTime = Math.min(nextAcquisitionTime, Math.min(tenantState.nextTimerJobAcquisitionTime, tenantState.nextAsyncJobAcquisitionTime));
+        }
+
+        if (moreJobsDue) {
+            return 0L;
+        }
+        if (queueFull) {
+            return asyncExecutor.getMinAsyncJobAcquireWaitTimeInMillis();
+        }
+        return Math.max(0L, nextAcquisitionTime - System.currentTimeMillis());
+    }
+
+    /**
+     * @return true when more async jobs are probably due for the tenant.
+     */
+    protected boolean acquireAsyncJobs(CommandExecutor commandExecutor, TenantJobAcquisitionState tenantState, int remainingCapacity) {
+        boolean asyncJobAdded = tenantState.asyncJobAdded;
+        long now = System.currentTimeMillis();
+        if (!asyncJobAdded && now < tenantState.nextAsyncJobAcquisitionTime) {
+            return false;
+        }
+
+        int maxJobs = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
+        int maxConcurrentJobs = asyncExecutor.getMaxConcurrentJobsPerTenant();
+        if (maxConcurrentJobs > 0) {
+            maxJobs = Math.min(maxJobs, maxConcurrentJobs - tenantState.getActiveJobCount());
+            if (maxJobs <= 0) {
+                // The tenant is at its maximum, its jobs are acquired again when some of them have finished
+                tenantState.nextAsyncJobAcquisitionTime = now + asyncExecutor.getMinAsyncJobAcquireWaitTimeInMillis();
+                return false;
+            }
+        }
+
+        tenantState.asyncJobAdded = false;
+        if (tenantState.idle && !asyncJobAdded && !hasDueAsyncJobs(commandExecutor, tenantState)) {
+            backOff(tenantState, now);
+            return false;
+        }
+
+        long start = System.nanoTime();
+        try {
+            AcquiredJobEntities acquiredJobs = commandExecutor.execute(new AcquireJobsCmd(asyncExecutor, maxJobs));
+
+            int rejectedJobs = 0;
+            for (JobEntity job : acquiredJobs.getJobs()) {
+                if (!asyncExecutor.executeAsyncJob(job)) {
+                    rejectedJobs++;
+                }
+            }
+            metrics.acquisitionSucceeded(acquiredJobs.size(), rejectedJobs, System.nanoTime() - start);
+            tenantState.acquiredJobCount.addAndGet(acquiredJobs.size() - rejectedJobs);
+
+            if (acquiredJobs.size() == 0) {
+                backOff(tenantState, now);
+                return false;
+            }
+
+            tenantState.idle = false;
+            tenantState.backoffWaitTime = 0;
+            tenantState.nextAsyncJobAcquisitionTime = now;
+            return rejectedJobs == 0 && acquiredJobs.size() >= maxJobs;
+
+        } catch (FlowableOptimisticLockingException e) {
+            metrics.acquisitionContended(System.nanoTime() - start);
+            log.debug("Optimistic locking exception during async job acquisition for tenant {}, another executor acquired the same jobs: {}",
+                    tenantState.getTenantId(), e.getMessage());
+            tenantState.nextAsyncJobAcquisitionTime = now + asyncExecutor.getMinAsyncJobAcquireWaitTimeInMillis();
+
+        } catch (Throwable e) {
+            metrics.acquisitionFailed(System.nanoTime() - start);
+            log.error("exception during async job acquisition for tenant {}: {}", tenantState.getTenantId(), e.getMessage(), e);
+            tenantState.nextAsyncJobAcquisitionTime = now + asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis();
+        }
+        return false;
+    }
+
+    protected boolean hasDueAsyncJobs(CommandExecutor commandExecutor, TenantJobAcquisitionState tenantState) {
+        tenantState.probeCount.incrementAndGet();
+        return commandExecutor.execute(new Command<Boolean>() {
+
+            @Override
+            public Boolean execute(CommandContext commandContext) {
+                return !commandContext.getJobEntityManager().findJobsToExecute(new Page(0, 1)).isEmpty();
+            }
+        });
+    }
+
+    protected void backOff(TenantJobAcquisitionState tenantState, long now) {
+        long minWaitTime = asyncExecutor.getMinAsyncJobAcquireWaitTimeInMillis();
+        long maxWaitTime = Math.max(minWaitTime, asyncExecutor.getDefaultAsyncJobAcquireWaitTimeInMillis());
+        if (tenantState.backoffWaitTime <= 0) {
+            tenantState.backoffWaitTime = minWaitTime;
+        } else {
+            tenantState.backoffWaitTime = Math.min(maxWaitTime, tenantState.backoffWaitTime * 2);
+        }
+
+        tenantState.idle = true;
+        tenantState.nextAsyncJobAcquisitionTime = now + tenantState.backoffWaitTime;
+    }
+
+    protected void acquireTimerJobs(CommandExecutor commandExecutor, TenantJobAcquisitionState tenantState) {
+        long now = System.currentTimeMillis();
+        tenantState.nextTimerJobAcquisitionTime = now + asyncExecutor.getDefaultTimerJobAcquireWaitTimeInMillis();
+        try {
+            final AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                        commandContext.getJobManager().moveTimerJobToExecutableJob(job);
+                    }
+                    return null;
+                }
+            });
+
+            if (acquiredJobs.size() >= asyncExecutor.getMaxTimerJobsPerAcquisition()) {
+                tenantState.nextTimerJobAcquisitionTime = now;
+            }
+
+        } catch (FlowableOptimisticLockingException e) {
+            log.debug("Optimistic locking exception during timer job acquisition for tenant {}, another executor acquired the same timer jobs: {}",
+                    tenantState.getTenantId(), e.getMessage());
+        } catch (Throwable e) {
+            log.error("exception during timer job acquisition for tenant {}: {}", tenantState.getTenantId(), e.getMessage(), e);
+        }
+    }
+
+    protected void resetExpiredJobs(CommandExecutor commandExecutor, TenantJobAcquisitionState tenantState) {
+        tenantState.nextResetExpiredJobsTime = System.currentTimeMillis() + asyncExecutor.getResetExpiredJobsInterval();
+        long start = System.nanoTime();
+        try {
+            ReleaseExpiredJobLocksCmd.Result result = commandExecutor.execute(new ReleaseExpiredJobLocksCmd());
+            asyncExecutor.getExpiredJobRecoveryMetrics().recoverySucceeded(result, System.nanoTime() - start);
+
+        } catch (FlowableOptimisticLockingException e) {
+            asyncExecutor.getExpiredJobRecoveryMetrics().recoveryFailed(System.nanoTime() - start);
+            log.debug("Optimistic lock exception while resetting expired jobs for tenant {}", tenantState.getTenantId(), e);
+        } catch (Throwable e) {
+            asyncExecutor.getExpiredJobRecoveryMetrics().recoveryFailed(System.nanoTime() - start);
+            log.error("exception during resetting expired jobs for tenant {}: {}", tenantState.getTenantId(), e.getMessage(), e);
+        }
+    }
+
+    protected void heartbeat(CommandExecutor commandExecutor, TenantJobAcquisitionState tenantState) {
+        tenantState.nextHeartbeatTime = System.currentTimeMillis() + asyncExecutor.getHeartbeatIntervalInMillis();
+        long start = System.nanoTime();
+        try {
+            AsyncExecutorHeartbeatCmd.Result result = commandExecutor.execute(new AsyncExecutorHeartbeatCmd(asyncExecutor.getLockOwner(), hostName,
+                    asyncExecutor.getRemainingCapacity(), startTime, asyncExecutor.getHeartbeatTimeoutInMillis(), tenantState.heartbeatObservations));
+            if (result.getDeadNodeCount() > 0) {
+                asyncExecutor.getExpiredJobRecoveryMetrics().deadNodesRecovered(result, System.nanoTime() - start);
+            }
+
+        } catch (FlowableOptimisticLockingException e) {
+            log.debug("Optimistic lock exception while writing the async executor heartbeat for tenant {}", tenantState.getTenantId(), e);
+        } catch (Throwable e) {
+            log.error("exception during async executor heartbeat for tenant {}: {}", tenantState.getTenantId(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Removes the async executor from the node registry of every tenant.
+     */
+    protected void unregister(CommandExecutor commandExecutor) {
+        for (TenantJobAcquisitionState tenantState : asyncExecutor.getTenantStatesSnapshot()) {
+            tenantInfoHolder.setCurrentTenantId(tenantState.getTenantId());
+            try {
+                commandExecutor.execute(new Command<Void>() {
+
+                    @Override
+                    public Void execute(CommandContext commandContext) {
+                        commandContext.getAsyncExecutorNodeEntityManager().deleteAsyncExecutorNode(asyncExecutor.getLockOwner(), null);
+                        return null;
+                    }
+                });
+            } catch (Throwable e) {
+                log.warn("Could not unregister the async executor for tenant {}", tenantState.getTenantId(), e);
+            } finally {
+                tenantInfoHolder.clearCurrentTenantId();
+            }
+        }
+    }
+
+    /**
+     * Ends the current wait, so that the next round starts right away.
+     */
+    public void wakeUp() {
+        wakeUpRequested = true;
+        synchronized (MONITOR) {
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    public void stop() {
+        synchronized (MONITOR) {
+            isInterrupted = true;
+            if (isWaiting.compareAndSet(true, false)) {
+                MONITOR.notifyAll();
+            }
+        }
+    }
+
+    protected void sleep(long millisToWait) {
+        try {
+            synchronized (MONITOR) {
+                if (!isInterrupted && !wakeUpRequested) {
+                    isWaiting.set(true);
+                    MONITOR.wait(millisToWait);
+                }
+            }
+        } catch (InterruptedException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("job acquisition wait interrupted");
+            }
+        } finally {
+            isWaiting.set(false);
+        }
+    }
+
+    public AsyncJobAcquisitionMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(AsyncJobAcquisitionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+}
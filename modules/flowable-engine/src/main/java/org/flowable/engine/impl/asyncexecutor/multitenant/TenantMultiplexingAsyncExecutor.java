@@ -0,0 +1,255 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.asyncexecutor.multitenant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.multitenant.TenantInfoHolder;
+import org.flowable.engine.impl.cmd.UnacquireOwnedJobsCmd;
+import org.flowable.engine.runtime.Job;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Multi tenant {@link AsyncExecutor} that multiplexes the job acquisition of all tenants over one thread.
+ * 
+ * Instead of acquisition threads per tenant, one {@link TenantMultiplexingAcquireJobsRunnable} rotates over the tenants: it acquires the async jobs, timer
+ * jobs and expired jobs of each tenant in turn, with the tenant set as current tenant. Tenants without due async jobs are probed for due jobs with a cheap
+ * single row query, with a wait time that backs off while the tenant stays idle. The acquired jobs of all tenants are executed by one bounded thread pool.
+ * When {@link #setMaxConcurrentJobsPerTenant(int)} is set, no more jobs are acquired for a tenant that has that many jobs queued or executing, so one busy
+ * tenant can't take all threads.
+ * 
+ * Exclusive job lanes, job batches and fused timer job execution are not used by this executor, they don't set the tenant for the jobs they execute.
+ * The timer wheel isn't used either.
+ */
+public class TenantMultiplexingAsyncExecutor extends DefaultAsyncJobExecutor implements TenantAwareAsyncExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantMultiplexingAsyncExecutor.class);
+
+    protected TenantInfoHolder tenantInfoHolder;
+
+    protected final ConcurrentMap<String, TenantJobAcquisitionState> tenantStates = new ConcurrentHashMap<String, TenantJobAcquisitionState>();
+
+    /** The maximum number of jobs of one tenant that are queued or executing in the thread pool, 0 means no maximum */
+    protected int maxConcurrentJobsPerTenant;
+
+    protected TenantMultiplexingAcquireJobsRunnable acquireJobsRunnable;
+    protected Thread acquireJobsThread;
+
+    public TenantMultiplexingAsyncExecutor(TenantInfoHolder tenantInfoHolder) {
+        this.tenantInfoHolder = tenantInfoHolder;
+
+        setExecuteAsyncRunnableFactory(new ExecuteAsyncRunnableFactory() {
+
+            @Override
+            public Runnable createExecuteAsyncRunnable(Job job, ProcessEngineConfigurationImpl processEngineConfiguration) {
+                String tenantId = TenantMultiplexingAsyncExecutor.this.tenantInfoHolder.getCurrentTenantId();
+                return new TenantJobRunnable(job, processEngineConfiguration, TenantMultiplexingAsyncExecutor.this.tenantInfoHolder,
+                        tenantId, tenantStates.get(tenantId));
+            }
+
+        });
+    }
+
+    @Override
+    public Set<String> getTenantIds() {
+        return tenantStates.keySet();
+    }
+
+    @Override
+    public void addTenantAsyncExecutor(String tenantId, boolean startExecutor) {
+        tenantStates.putIfAbsent(tenantId, new TenantJobAcquisitionState(tenantId));
+        // The tenant is picked up by the running acquisition thread, if any
+        TenantMultiplexingAcquireJobsRunnable runnable = acquireJobsRunnable;
+        if (runnable != null) {
+            runnable.wakeUp();
+        }
+    }
+
+    @Override
+    public void removeTenantAsyncExecutor(String tenantId) {
+        tenantStates.remove(tenantId);
+    }
+
+    /**
+     * @return the acquisition state of the given tenant, or null if the tenant isn't known.
+     */
+    public TenantJobAcquisitionState getTenantState(String tenantId) {
+        return tenantStates.get(tenantId);
+    }
+
+    public Collection<TenantJobAcquisitionState> getTenantStates() {
+        return tenantStates.values();
+    }
+
+    @Override
+    public void asyncJobAdded(Job job) {
+        String tenantId = tenantInfoHolder.getCurrentTenantId();
+        TenantJobAcquisitionState tenantState = tenantId != null ? tenantStates.get(tenantId) : null;
+        if (tenantState != null) {
+            tenantState.asyncJobAdded();
+            TenantMultiplexingAcquireJobsRunnable runnable = acquireJobsRunnable;
+            if (runnable != null) {
+                runnable.wakeUp();
+            }
+        }
+    }
+
+    @Override
+    public boolean isFusedTimerJobExecution() {
+        return false;
+    }
+
+    @Override
+    protected boolean executeAsyncJob(Job job, Runnable runnable) {
+        TenantJobAcquisitionState tenantState = runnable instanceof TenantJobRunnable ? ((TenantJobRunnable) runnable).tenantState : null;
+        if (tenantState != null) {
+            tenantState.jobStarted();
+        }
+
+        try {
+            executorService.execute(runnable);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            if (tenantState != null) {
+                tenantState.jobFinished();
+            }
+            unacquireJob(job);
+            return false;
+        }
+    }
+
+    @Override
+    protected void initializeRunnables() {
+        if (acquireJobsRunnable == null) {
+            acquireJobsRunnable = new TenantMultiplexingAcquireJobsRunnable(this, tenantInfoHolder);
+            acquireJobsRunnable.setMetrics(asyncJobAcquisitionMetrics);
+        }
+    }
+
+    @Override
+    protected void startAdditionalComponents() {
+        initAsyncJobExecutionThreadPool();
+
+        if (acquireJobsThread == null) {
+            acquireJobsThread = new Thread(acquireJobsRunnable);
+        }
+        acquireJobsThread.start();
+    }
+
+    @Override
+    protected void initAsyncJobExecutionThreadPool() {
+        if (exclusiveJobLanesEnabled || (batchJobHandlerTypes != null && !batchJobHandlerTypes.isEmpty())) {
+            logger.warn("Exclusive job lanes and job batches are not supported by the {}, they are disabled", getClass().getSimpleName());
+            exclusiveJobLanesEnabled = false;
+            batchJobHandlerTypes = null;
+        }
+        super.initAsyncJobExecutionThreadPool();
+    }
+
+    @Override
+    protected void unlockOwnedJobs() {
+        for (String tenantId : tenantStates.keySet()) {
+            tenantInfoHolder.setCurrentTenantId(tenantId);
+            try {
+                processEngineConfiguration.getCommandExecutor().execute(new UnacquireOwnedJobsCmd(lockOwner, tenantId));
+            } finally {
+                tenantInfoHolder.clearCurrentTenantId();
+            }
+        }
+    }
+
+    @Override
+    protected void stopRunnables() {
+        if (acquireJobsRunnable != null) {
+            acquireJobsRunnable.stop();
+        }
+        super.stopRunnables();
+    }
+
+    @Override
+    protected void shutdownAdditionalComponents() {
+        if (acquireJobsThread != null) {
+            try {
+                acquireJobsThread.join();
+            } catch (InterruptedException e) {
+                logger.warn("Interrupted while waiting for the job acquisition thread to terminate", e);
+            }
+            acquireJobsThread = null;
+        }
+        acquireJobsRunnable = null;
+
+        stopExecutingAsyncJobs();
+    }
+
+    /**
+     * @return the tenants to acquire jobs for. The order is stable as long as no tenants are added or removed.
+     */
+    protected List<TenantJobAcquisitionState> getTenantStatesSnapshot() {
+        return new ArrayList<TenantJobAcquisitionState>(tenantStates.values());
+    }
+
+    public TenantInfoHolder getTenantInfoHolder() {
+        return tenantInfoHolder;
+    }
+
+    public int getMaxConcurrentJobsPerTenant() {
+        return maxConcurrentJobsPerTenant;
+    }
+
+    public void setMaxConcurrentJobsPerTenant(int maxConcurrentJobsPerTenant) {
+        this.maxConcurrentJobsPerTenant = maxConcurrentJobsPerTenant;
+    }
+
+    public TenantMultiplexingAcquireJobsRunnable getAcquireJobsRunnable() {
+        return acquireJobsRunnable;
+    }
+
+    /**
+     * Executes a job with its tenant set as current tenant, and keeps track of the active jobs of the tenant.
+     */
+    protected static class TenantJobRunnable extends TenantAwareExecuteAsyncRunnable {
+
+        protected TenantJobAcquisitionState tenantState;
+
+        public TenantJobRunnable(Job job, ProcessEngineConfigurationImpl processEngineConfiguration, TenantInfoHolder tenantInfoHolder, String tenantId,
+                TenantJobAcquisitionState tenantState) {
+            super(job, processEngineConfiguration, tenantInfoHolder, tenantId);
+            this.tenantState = tenantState;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                if (tenantState != null) {
+                    tenantState.jobFinished();
+                }
+            }
+        }
+
+    }
+
+}
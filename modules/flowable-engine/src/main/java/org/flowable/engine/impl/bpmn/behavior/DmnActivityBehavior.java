@@ -17,7 +17,10 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.flowable.bpmn.model.FieldExtension;
 import org.flowable.bpmn.model.Task;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.api.RuleEngineExecutionResult;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
@@ -28,6 +31,8 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.el.ExpressionManager;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -38,7 +43,10 @@ public class DmnActivityBehavior extends TaskActivityBehavior {
 
     private static final long serialVersionUID = 1L;
 
+    private static final Logger logger = LoggerFactory.getLogger(DmnActivityBehavior.class);
+
     protected static final String EXPRESSION_DECISION_TABLE_REFERENCE_KEY = "decisionTableReferenceKey";
+    protected static final String EXPRESSION_DECISION_AUDIT_MODE = "decisionAuditMode";
 
     protected Task task;
 
@@ -88,14 +96,54 @@ public class DmnActivityBehavior extends TaskActivityBehavior {
 
         DmnRuleService ruleService = processEngineConfiguration.getDmnEngineRuleService();
 
-        List<Map<String, Object>> executionResult = ruleService.executeDecisionByKeyParentDeploymentIdAndTenantId(finaldecisionTableKeyValue,
-                processDefinition.getDeploymentId(), execution.getVariables(), execution.getTenantId());
+        List<Map<String, Object>> executionResult = null;
+        DecisionExecutionAuditMode auditMode = getDecisionExecutionAuditMode(execution, processEngineConfiguration);
+        if (auditMode == null || auditMode == DecisionExecutionAuditMode.NONE) {
+            executionResult = ruleService.executeDecisionByKeyParentDeploymentIdAndTenantId(finaldecisionTableKeyValue,
+                    processDefinition.getDeploymentId(), execution.getVariables(), execution.getTenantId());
+
+        } else {
+            RuleEngineExecutionResult ruleEngineExecutionResult = ruleService.executeDecisionByKeyParentDeploymentIdAndTenantIdWithAuditTrail(
+                    finaldecisionTableKeyValue, processDefinition.getDeploymentId(), execution.getVariables(), execution.getTenantId(), auditMode);
+
+            DecisionExecutionAuditContainer auditTrail = ruleEngineExecutionResult.getAuditTrail();
+            if (auditTrail != null && Boolean.TRUE.equals(auditTrail.isFailed())) {
+                logger.warn("Execution of decision {} by dmn task {} failed: {} (rule executions: {})", finaldecisionTableKeyValue, task.getId(),
+                        auditTrail.getExceptionMessage(), auditTrail.getRuleExecutions().size());
+            }
+            executionResult = ruleEngineExecutionResult.getDecisionResult();
+        }
 
         setVariablesOnExecution(executionResult, finaldecisionTableKeyValue, execution, processEngineConfiguration.getObjectMapper());
 
         leave(execution);
     }
 
+    /**
+     * @return the audit mode of the decisionAuditMode field of the task, or the audit mode of the process engine configuration when the field is not set.
+     */
+    protected DecisionExecutionAuditMode getDecisionExecutionAuditMode(DelegateExecution execution, ProcessEngineConfigurationImpl processEngineConfiguration) {
+        FieldExtension fieldExtension = DelegateHelper.getFlowElementField(execution, EXPRESSION_DECISION_AUDIT_MODE);
+        if (fieldExtension == null) {
+            return processEngineConfiguration.getDmnDecisionExecutionAuditMode();
+        }
+
+        Object auditModeValue = fieldExtension.getStringValue();
+        if (fieldExtension.getExpression() != null && fieldExtension.getExpression().length() > 0) {
+            auditModeValue = processEngineConfiguration.getExpressionManager().createExpression(fieldExtension.getExpression()).getValue(execution);
+        }
+
+        if (auditModeValue == null || auditModeValue.toString().length() == 0) {
+            return processEngineConfiguration.getDmnDecisionExecutionAuditMode();
+        }
+
+        try {
+            return DecisionExecutionAuditMode.valueOf(auditModeValue.toString().trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new FlowableIllegalArgumentException("decisionAuditMode of dmn task " + task.getId() + " is not a valid audit mode: " + auditModeValue);
+        }
+    }
+
     protected void setVariablesOnExecution(List<Map<String, Object>> executionResult, String decisionKey, DelegateExecution execution, ObjectMapper objectMapper) {
         if (executionResult == null || executionResult.isEmpty()) {
             return;
@@ -53,6 +53,12 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * Experimental setting: if true, entities that track their own changes (executions, tasks, variables and jobs) are not copied when loaded and not compared when flushing. Instead, their setters
+     * flag the entity as changed, which makes flushing commands that read a lot of data but change little considerably cheaper.
+     */
+    protected boolean enableEntityChangeTracking;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -101,4 +107,12 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableEntityChangeTracking() {
+        return enableEntityChangeTracking;
+    }
+
+    public void setEnableEntityChangeTracking(boolean enableEntityChangeTracking) {
+        this.enableEntityChangeTracking = enableEntityChangeTracking;
+    }
+
 }
@@ -32,6 +32,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
+import javax.el.ValueExpression;
 import javax.xml.namespace.QName;
 
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
@@ -42,6 +43,7 @@ import org.apache.ibatis.transaction.TransactionFactory;
 import org.apache.ibatis.transaction.managed.ManagedTransactionFactory;
 import org.apache.ibatis.type.JdbcType;
 import org.flowable.content.api.ContentService;
+import org.flowable.dmn.api.DecisionExecutionAuditMode;
 import org.flowable.dmn.api.DmnRepositoryService;
 import org.flowable.dmn.api.DmnRuleService;
 import org.flowable.engine.CandidateManager;
@@ -64,8 +66,11 @@ import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
+import org.flowable.engine.common.impl.el.ParsedExpressionCache;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.impl.transaction.ContextAwareJdbcTransactionFactory;
 import org.flowable.engine.common.runtime.Clock;
 import org.flowable.engine.compatibility.DefaultFlowable5CompatibilityHandlerFactory;
@@ -93,6 +98,9 @@ import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.engine.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.engine.impl.asyncexecutor.FairShareJobQueue;
+import org.flowable.engine.impl.asyncexecutor.JobClassifier;
+import org.flowable.engine.impl.asyncexecutor.JobHandlerTypeJobClassifier;
 import org.flowable.engine.impl.asyncexecutor.JobManager;
 import org.flowable.engine.impl.bpmn.data.ItemInstance;
 import org.flowable.engine.impl.bpmn.deployer.BpmnDeployer;
@@ -195,14 +203,19 @@ import org.flowable.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.persistence.GenericManagerFactory;
+import org.flowable.engine.impl.persistence.cache.ChangeTrackingEntityCacheImpl;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
 import org.flowable.engine.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.Deployer;
-import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.DeploymentCacheInvalidationTransport;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.deploy.PropertyDeploymentCacheInvalidationTransport;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntityManager;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
@@ -255,6 +268,7 @@ import org.flowable.engine.impl.persistence.entity.TimerJobEntityManager;
 import org.flowable.engine.impl.persistence.entity.TimerJobEntityManagerImpl;
 import org.flowable.engine.impl.persistence.entity.VariableInstanceEntityManager;
 import org.flowable.engine.impl.persistence.entity.VariableInstanceEntityManagerImpl;
+import org.flowable.engine.impl.persistence.entity.data.AsyncExecutorNodeDataManager;
 import org.flowable.engine.impl.persistence.entity.data.AttachmentDataManager;
 import org.flowable.engine.impl.persistence.entity.data.ByteArrayDataManager;
 import org.flowable.engine.impl.persistence.entity.data.CommentDataManager;
@@ -280,6 +294,7 @@ import org.flowable.engine.impl.persistence.entity.data.SuspendedJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.TaskDataManager;
 import org.flowable.engine.impl.persistence.entity.data.TimerJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.VariableInstanceDataManager;
+import org.flowable.engine.impl.persistence.entity.data.impl.MybatisAsyncExecutorNodeDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisAttachmentDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisByteArrayDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisCommentDataManager;
@@ -306,6 +321,7 @@ import org.flowable.engine.impl.persistence.entity.data.impl.MybatisTaskDataMana
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisTimerJobDataManager;
 import org.flowable.engine.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
 import org.flowable.engine.impl.scripting.BeansResolverFactory;
+import org.flowable.engine.impl.scripting.CompiledScriptCache;
 import org.flowable.engine.impl.scripting.ResolverFactory;
 import org.flowable.engine.impl.scripting.ScriptBindingsFactory;
 import org.flowable.engine.impl.scripting.ScriptingEngines;
@@ -388,6 +404,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DmnRepositoryService dmnEngineRepositoryService;
     protected DmnRuleService dmnEngineRuleService;
 
+    /**
+     * How much of the audit trail of the decisions executed by DMN tasks is captured, unless the DMN task sets it with the decisionAuditMode field.
+     * By default the audit trail isn't captured, as the DMN tasks only use the decision results. Failed executions with a captured audit trail are
+     * logged.
+     */
+    protected DecisionExecutionAuditMode dmnDecisionExecutionAuditMode;
+
     // CONTENT ENGINE SERVICES /////////////////////////////////////////////////////
     protected boolean contentEngineInitialized;
     protected ContentService contentService;
@@ -409,6 +432,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // DATA MANAGERS /////////////////////////////////////////////////////////////
 
+    protected AsyncExecutorNodeDataManager asyncExecutorNodeDataManager;
     protected AttachmentDataManager attachmentDataManager;
     protected ByteArrayDataManager byteArrayDataManager;
     protected CommentDataManager commentDataManager;
@@ -437,6 +461,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     // ENTITY MANAGERS ///////////////////////////////////////////////////////////
 
+    protected AsyncExecutorNodeEntityManager asyncExecutorNodeEntityManager;
     protected AttachmentEntityManager attachmentEntityManager;
     protected ByteArrayEntityManager byteArrayEntityManager;
     protected CommentEntityManager commentEntityManager;
@@ -507,9 +532,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * When set, the process definition cache is a {@link ConcurrentDeploymentCache} bounded by the estimated size of the cached models (see
+     * {@link ProcessDefinitionCacheEntryWeigher}) instead of the number of process definitions. Takes precedence over the processDefinitionCacheLimit.
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
+    /**
+     * Enables invalidating the process definition and process definition info caches across the nodes of a cluster. Unless another
+     * {@link DeploymentCacheInvalidationTransport} is set, a version row in ACT_GE_PROPERTY is used, which is read at most once every
+     * deploymentCacheInvalidationPollInterval milliseconds.
+     */
+    protected boolean enableDeploymentCacheInvalidation;
+    protected long deploymentCacheInvalidationPollInterval = 1000L;
+    protected DeploymentCacheInvalidationTransport deploymentCacheInvalidationTransport;
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -569,6 +609,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected BlockingQueue<Runnable> asyncExecutorThreadPoolQueue;
 
+    /**
+     * When set and no {@link #asyncExecutorThreadPoolQueue} is set, a {@link FairShareJobQueue} of size {@link #asyncExecutorThreadPoolQueueSize} is used,
+     * which classifies the jobs with this classifier (for example a {@link JobHandlerTypeJobClassifier}) and shares the threads between the job classes
+     * according to {@link #asyncExecutorJobClassWeights}.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected JobClassifier asyncExecutorJobClassifier;
+
+    /**
+     * The weights of the job classes determined by the {@link #asyncExecutorJobClassifier}. Job classes without weight have weight 1.
+     */
+    protected Map<String, Integer> asyncExecutorJobClassWeights;
+
     /**
      * The time (in seconds) that is waited to gracefully shut down the threadpool used for job execution when the a shutdown on the executor (or process engine) is requested. Default value = 60.
      *
@@ -616,6 +670,69 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorDefaultQueueSizeFullWaitTime;
 
+    /**
+     * When true, the async job acquisition thread adapts its wait times to the load instead of using the fixed wait times above: it backs off exponentially
+     * (from {@link #asyncExecutorMinAsyncJobAcquireWaitTime} up to {@link #asyncExecutorDefaultAsyncJobAcquireWaitTime}) when no jobs are found or when
+     * another executor acquired them first, waits for the thread pool queue to have room for a full batch based on how fast the queue drains, and wakes up
+     * when an async job is created by this engine.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorAdaptiveAcquisition;
+
+    /**
+     * The minimum time (in milliseconds) between two async job acquisitions when {@link #asyncExecutorAdaptiveAcquisition} is enabled. Default value = 100 ms.
+     */
+    protected int asyncExecutorMinAsyncJobAcquireWaitTime = 100;
+
+    /**
+     * When true, the timer job acquisition thread leases the timer jobs that are due within {@link #asyncExecutorTimerWheelLookAheadTime} and keeps them in
+     * an in-memory timer wheel, so they are moved to executable jobs at their due date instead of at the next poll. Timer jobs scheduled by this engine
+     * within the look-ahead window are added to the wheel directly. The database is still polled every {@link #asyncExecutorDefaultTimerJobAcquireWaitTime}
+     * to lease timer jobs created by other nodes.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerWheelEnabled;
+
+    /**
+     * The look-ahead window (in milliseconds) of the timer wheel. Should be larger than {@link #asyncExecutorDefaultTimerJobAcquireWaitTime}. Default value = 30 seconds.
+     */
+    protected int asyncExecutorTimerWheelLookAheadTime = 30 * 1000;
+
+    /**
+     * When true, acquired timer jobs are handed to the async executor threads directly, which delete the timer job and execute its handler in one
+     * transaction. Otherwise, acquired timer jobs are first moved to executable jobs in a separate transaction. Failing timer jobs are moved to executable
+     * jobs, so the regular retry handling applies.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorFusedTimerJobExecution;
+
+    /**
+     * When true, exclusive jobs are executed in one serial lane per process instance: the process instance is locked once and its queued exclusive jobs
+     * are executed back to back, instead of each job locking the process instance and being unacquired when another job of the same process instance
+     * holds the lock.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorExclusiveJobLanesEnabled;
+
+    /**
+     * The job handler types (e.g. 'async-continuation') of the non-exclusive jobs that are executed in batches: a worker thread executes up to
+     * {@link #asyncExecutorJobBatchSize} of these jobs in one transaction. When the transaction of a batch fails, its jobs are executed again one by one.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected Set<String> asyncExecutorBatchJobHandlerTypes;
+
+    /**
+     * The maximum number of jobs executed in one transaction, for the job handler types of {@link #asyncExecutorBatchJobHandlerTypes}.
+     *
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorJobBatchSize = 10;
+
     /**
      * When a job is acquired, it is locked so other async executors can't lock and execute it. While doing this, the 'name' of the lock owner is written into a column of the job.
      *
@@ -663,6 +780,31 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorResetExpiredJobsPageSize = 3;
 
+    /**
+     * Whether the async executor registers itself in the ACT_RU_EXECUTOR_NODE table and writes a heartbeat every
+     * {@link #asyncExecutorHeartbeatInterval}. The jobs and timer jobs locked by an async executor whose heartbeat didn't change for
+     * {@link #asyncExecutorHeartbeatTimeout} are released right away, instead of when their locks expire. Disabled by default.
+     * 
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorHeartbeatEnabled;
+
+    /**
+     * The time (in milliseconds) between two heartbeats of the async executor. By default 10 seconds.
+     * 
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorHeartbeatInterval = 10 * 1000;
+
+    /**
+     * The time (in milliseconds) during which the heartbeat of an async executor must change, after which it is considered dead and its locks are
+     * released. By default (-1) the {@link #asyncExecutorAsyncJobLockTimeInMillis}. A shorter timeout releases the jobs of a dead node sooner, but also
+     * the jobs of a node that is alive and only stalled (for example by a long garbage collection), which are then executed twice.
+     * 
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected int asyncExecutorHeartbeatTimeout = -1;
+
     /**
      * Experimental!
      *
@@ -670,6 +812,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean asyncExecutorMessageQueueMode;
 
+    /**
+     * When true, the async executor claims due jobs and timers with a single conditional update statement per acquisition, instead of locking each selected
+     * job by updating its entity. Jobs already claimed by another executor are skipped instead of causing an optimistic locking exception that fails the whole
+     * acquisition, which keeps acquisition efficient when many executors compete for the same jobs.
+     */
+    protected boolean asyncExecutorClaimJobsInBulk;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      *
@@ -722,6 +871,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ScriptingEngines scriptingEngines;
     protected List<ResolverFactory> resolverFactories;
 
+    /**
+     * The maximum number of compiled scripts kept by the {@link ScriptingEngines}, for the script engines that support compilation (e.g. groovy). The
+     * least recently used compiled scripts are evicted first. A value of 0 or less disables the compilation of scripts.
+     */
+    protected int compiledScriptCacheLimit = 1000;
+
+    /**
+     * The maximum number of parsed expressions kept by the {@link DefaultExpressionManager}, by expression text. The least frequently used parsed
+     * expressions are evicted first. A value of 0 or less disables the cache.
+     */
+    protected int parsedExpressionCacheLimit = ParsedExpressionCache.DEFAULT_LIMIT;
+
     protected BusinessCalendarManager businessCalendarManager;
 
     protected int executionQueryLimit = 20000;
@@ -792,6 +953,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 70; // currently Execution has most params (28). 2000 / 28 = 71.
 
+    /**
+     * If set to true, the updates and deletes of entities are sent to the database as JDBC batches (one batch per entity type) when flushing, instead of one round trip per entity. Default false.
+     * The update counts of the batch are still checked to detect concurrent modifications. Note that some JDBC drivers do not return update counts for batches, in which case optimistic
+     * locking can not be verified for those statements.
+     */
+    protected boolean isBatchFlushEnabled;
+
+    /**
+     * The maximum amount of update or delete statements that are put in one JDBC batch when {@link #isBatchFlushEnabled} is true. By default: 100.
+     */
+    protected int maxNrOfStatementsInBatchFlush = 100;
+
     protected ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -874,6 +1047,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initBehaviorFactory();
         initListenerFactory();
         initBpmnParser();
+        initDeploymentCacheInvalidationTransport();
         initProcessDefinitionCache();
         initProcessDefinitionInfoCache();
         initAppResourceCache();
@@ -1064,6 +1238,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // Data managers ///////////////////////////////////////////////////////////
 
     public void initDataManagers() {
+        if (asyncExecutorNodeDataManager == null) {
+            asyncExecutorNodeDataManager = new MybatisAsyncExecutorNodeDataManager(this);
+        }
         if (attachmentDataManager == null) {
             attachmentDataManager = new MybatisAttachmentDataManager(this);
         }
@@ -1144,6 +1321,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     // Entity managers //////////////////////////////////////////////////////////
 
     public void initEntityManagers() {
+        if (asyncExecutorNodeEntityManager == null) {
+            asyncExecutorNodeEntityManager = new AsyncExecutorNodeEntityManagerImpl(this, asyncExecutorNodeDataManager);
+        }
         if (attachmentEntityManager == null) {
             attachmentEntityManager = new AttachmentEntityManagerImpl(this, attachmentDataManager);
         }
@@ -1260,7 +1440,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 initDbSqlSessionFactory();
             }
 
-            addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            if (performanceSettings.isEnableEntityChangeTracking()) {
+                addSessionFactory(new GenericManagerFactory(EntityCache.class, ChangeTrackingEntityCacheImpl.class));
+            } else {
+                addSessionFactory(new GenericManagerFactory(EntityCache.class, EntityCacheImpl.class));
+            }
         }
 
         if (customSessionFactories != null) {
@@ -1284,6 +1468,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setBulkInsertEnabled(isBulkInsertEnabled, databaseType);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchFlushEnabled(isBatchFlushEnabled);
+        dbSqlSessionFactory.setMaxNrOfStatementsInBatchFlush(maxNrOfStatementsInBatchFlush);
         addSessionFactory(dbSqlSessionFactory);
     }
 
@@ -1375,7 +1561,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
+            if (processDefinitionCacheMaxWeight > 0) {
+                processDefinitionCache = new ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheMaxWeight, new ProcessDefinitionCacheEntryWeigher());
+            } else if (processDefinitionCacheLimit <= 0) {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>();
             } else {
                 processDefinitionCache = new DefaultDeploymentCache<ProcessDefinitionCacheEntry>(processDefinitionCacheLimit);
@@ -1383,6 +1571,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initDeploymentCacheInvalidationTransport() {
+        if (deploymentCacheInvalidationTransport == null && enableDeploymentCacheInvalidation) {
+            deploymentCacheInvalidationTransport = new PropertyDeploymentCacheInvalidationTransport(deploymentCacheInvalidationPollInterval);
+        }
+    }
+
     public void initProcessDefinitionInfoCache() {
         if (processDefinitionInfoCache == null) {
             if (processDefinitionInfoCacheLimit <= 0) {
@@ -1390,6 +1584,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            processDefinitionInfoCache.setInvalidationTransport(deploymentCacheInvalidationTransport);
         }
     }
 
@@ -1436,6 +1631,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             deploymentManager.setProcessEngineConfiguration(this);
             deploymentManager.setProcessDefinitionEntityManager(processDefinitionEntityManager);
             deploymentManager.setDeploymentEntityManager(deploymentEntityManager);
+            deploymentManager.setInvalidationTransport(deploymentCacheInvalidationTransport);
         }
 
         if (appResourceConverter == null) {
@@ -1673,12 +1869,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             defaultAsyncExecutor.setCorePoolSize(asyncExecutorCorePoolSize);
             defaultAsyncExecutor.setMaxPoolSize(asyncExecutorMaxPoolSize);
             defaultAsyncExecutor.setKeepAliveTime(asyncExecutorThreadKeepAliveTime);
+            defaultAsyncExecutor.setExclusiveJobLanesEnabled(asyncExecutorExclusiveJobLanesEnabled);
+            defaultAsyncExecutor.setBatchJobHandlerTypes(asyncExecutorBatchJobHandlerTypes);
+            defaultAsyncExecutor.setJobBatchSize(asyncExecutorJobBatchSize);
 
             // Threadpool queue
             if (asyncExecutorThreadPoolQueue != null) {
                 defaultAsyncExecutor.setThreadPoolQueue(asyncExecutorThreadPoolQueue);
             }
             defaultAsyncExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
+            defaultAsyncExecutor.setJobClassifier(asyncExecutorJobClassifier);
+            defaultAsyncExecutor.setJobClassWeights(asyncExecutorJobClassWeights);
 
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
@@ -1686,6 +1887,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             // Queue full wait time
             defaultAsyncExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
+            defaultAsyncExecutor.setAdaptiveAsyncJobAcquisition(asyncExecutorAdaptiveAcquisition);
+            defaultAsyncExecutor.setMinAsyncJobAcquireWaitTimeInMillis(asyncExecutorMinAsyncJobAcquireWaitTime);
+
+            // Timer wheel and fused timer job execution
+            defaultAsyncExecutor.setTimerWheelEnabled(asyncExecutorTimerWheelEnabled);
+            defaultAsyncExecutor.setTimerWheelLookAheadTimeInMillis(asyncExecutorTimerWheelLookAheadTime);
+            defaultAsyncExecutor.setFusedTimerJobExecution(asyncExecutorFusedTimerJobExecution);
 
             // Job locking
             defaultAsyncExecutor.setTimerLockTimeInMillis(asyncExecutorTimerLockTimeInMillis);
@@ -1698,6 +1906,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             defaultAsyncExecutor.setResetExpiredJobsInterval(asyncExecutorResetExpiredJobsInterval);
             defaultAsyncExecutor.setResetExpiredJobsPageSize(asyncExecutorResetExpiredJobsPageSize);
 
+            // Heartbeat
+            defaultAsyncExecutor.setHeartbeatEnabled(asyncExecutorHeartbeatEnabled);
+            defaultAsyncExecutor.setHeartbeatIntervalInMillis(asyncExecutorHeartbeatInterval);
+            defaultAsyncExecutor.setHeartbeatTimeoutInMillis(asyncExecutorHeartbeatTimeout);
+
             // Shutdown
             defaultAsyncExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
 
@@ -1723,12 +1936,25 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     @Override
     public void initIdGenerator() {
         if (idGenerator == null) {
-            CommandExecutor idGeneratorCommandExecutor = getCommandExecutor();
             DbIdGenerator dbIdGenerator = new DbIdGenerator();
+            initDbIdGenerator(dbIdGenerator);
+            idGenerator = dbIdGenerator;
+
+        } else if (idGenerator instanceof DbIdGenerator) {
+            // e.g. a PrefetchingDbIdGenerator set through the configuration: use the engine settings for everything that isn't set explicitly
+            initDbIdGenerator((DbIdGenerator) idGenerator);
+        }
+    }
+
+    protected void initDbIdGenerator(DbIdGenerator dbIdGenerator) {
+        if (dbIdGenerator.getIdBlockSize() <= 0) {
             dbIdGenerator.setIdBlockSize(idBlockSize);
-            dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
+        }
+        if (dbIdGenerator.getCommandExecutor() == null) {
+            dbIdGenerator.setCommandExecutor(getCommandExecutor());
+        }
+        if (dbIdGenerator.getCommandConfig() == null) {
             dbIdGenerator.setCommandConfig(getDefaultCommandConfig().transactionRequiresNew());
-            idGenerator = dbIdGenerator;
         }
     }
 
@@ -1854,6 +2080,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (scriptingEngines == null) {
             scriptingEngines = new ScriptingEngines(new ScriptBindingsFactory(this, resolverFactories));
         }
+        if (scriptingEngines.getCompiledScriptCache() == null && compiledScriptCacheLimit > 0) {
+            scriptingEngines.setCompiledScriptCache(new CompiledScriptCache(compiledScriptCacheLimit));
+        }
     }
 
     public void initExpressionManager() {
@@ -1862,6 +2091,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
 
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
+
+        if (expressionManager instanceof DefaultExpressionManager && parsedExpressionCacheLimit > 0) {
+            DefaultExpressionManager defaultExpressionManager = (DefaultExpressionManager) expressionManager;
+            if (defaultExpressionManager.getParsedExpressionCache() == null) {
+                defaultExpressionManager.setParsedExpressionCache(new ParsedExpressionCache<ValueExpression>(parsedExpressionCacheLimit));
+            }
+        }
     }
 
     public void initBusinessCalendarManager() {
@@ -2281,6 +2517,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public DecisionExecutionAuditMode getDmnDecisionExecutionAuditMode() {
+        return dmnDecisionExecutionAuditMode;
+    }
+
+    public ProcessEngineConfigurationImpl setDmnDecisionExecutionAuditMode(DecisionExecutionAuditMode dmnDecisionExecutionAuditMode) {
+        this.dmnDecisionExecutionAuditMode = dmnDecisionExecutionAuditMode;
+        return this;
+    }
+
     public boolean isContentEngineInitialized() {
         return contentEngineInitialized;
     }
@@ -2787,6 +3032,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+        return this;
+    }
+
+    public int getParsedExpressionCacheLimit() {
+        return parsedExpressionCacheLimit;
+    }
+
+    public ProcessEngineConfigurationImpl setParsedExpressionCacheLimit(int parsedExpressionCacheLimit) {
+        this.parsedExpressionCacheLimit = parsedExpressionCacheLimit;
+        return this;
+    }
+
     public DeploymentManager getDeploymentManager() {
         return deploymentManager;
     }
@@ -2863,6 +3126,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
+    public boolean isEnableDeploymentCacheInvalidation() {
+        return enableDeploymentCacheInvalidation;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableDeploymentCacheInvalidation(boolean enableDeploymentCacheInvalidation) {
+        this.enableDeploymentCacheInvalidation = enableDeploymentCacheInvalidation;
+        return this;
+    }
+
+    public long getDeploymentCacheInvalidationPollInterval() {
+        return deploymentCacheInvalidationPollInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentCacheInvalidationPollInterval(long deploymentCacheInvalidationPollInterval) {
+        this.deploymentCacheInvalidationPollInterval = deploymentCacheInvalidationPollInterval;
+        return this;
+    }
+
+    public DeploymentCacheInvalidationTransport getDeploymentCacheInvalidationTransport() {
+        return deploymentCacheInvalidationTransport;
+    }
+
+    public ProcessEngineConfigurationImpl setDeploymentCacheInvalidationTransport(DeploymentCacheInvalidationTransport deploymentCacheInvalidationTransport) {
+        this.deploymentCacheInvalidationTransport = deploymentCacheInvalidationTransport;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -3013,6 +3312,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isBatchFlushEnabled() {
+        return isBatchFlushEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setBatchFlushEnabled(boolean isBatchFlushEnabled) {
+        this.isBatchFlushEnabled = isBatchFlushEnabled;
+        return this;
+    }
+
+    public int getMaxNrOfStatementsInBatchFlush() {
+        return maxNrOfStatementsInBatchFlush;
+    }
+
+    public ProcessEngineConfigurationImpl setMaxNrOfStatementsInBatchFlush(int maxNrOfStatementsInBatchFlush) {
+        this.maxNrOfStatementsInBatchFlush = maxNrOfStatementsInBatchFlush;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
@@ -3056,6 +3373,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableEntityChangeTracking(boolean enableEntityChangeTracking) {
+        this.performanceSettings.setEnableEntityChangeTracking(enableEntityChangeTracking);
+        return this;
+    }
+
+    public AsyncExecutorNodeDataManager getAsyncExecutorNodeDataManager() {
+        return asyncExecutorNodeDataManager;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorNodeDataManager(AsyncExecutorNodeDataManager asyncExecutorNodeDataManager) {
+        this.asyncExecutorNodeDataManager = asyncExecutorNodeDataManager;
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -3285,6 +3616,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return enableConfiguratorServiceLoader;
     }
 
+    public AsyncExecutorNodeEntityManager getAsyncExecutorNodeEntityManager() {
+        return asyncExecutorNodeEntityManager;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorNodeEntityManager(AsyncExecutorNodeEntityManager asyncExecutorNodeEntityManager) {
+        this.asyncExecutorNodeEntityManager = asyncExecutorNodeEntityManager;
+        return this;
+    }
+
     public AttachmentEntityManager getAttachmentEntityManager() {
         return attachmentEntityManager;
     }
@@ -3764,6 +4104,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public JobClassifier getAsyncExecutorJobClassifier() {
+        return asyncExecutorJobClassifier;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobClassifier(JobClassifier asyncExecutorJobClassifier) {
+        this.asyncExecutorJobClassifier = asyncExecutorJobClassifier;
+        return this;
+    }
+
+    public Map<String, Integer> getAsyncExecutorJobClassWeights() {
+        return asyncExecutorJobClassWeights;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobClassWeights(Map<String, Integer> asyncExecutorJobClassWeights) {
+        this.asyncExecutorJobClassWeights = asyncExecutorJobClassWeights;
+        return this;
+    }
+
     public long getAsyncExecutorSecondsToWaitOnShutdown() {
         return asyncExecutorSecondsToWaitOnShutdown;
     }
@@ -3818,6 +4176,78 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorAdaptiveAcquisition() {
+        return asyncExecutorAdaptiveAcquisition;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorAdaptiveAcquisition(boolean asyncExecutorAdaptiveAcquisition) {
+        this.asyncExecutorAdaptiveAcquisition = asyncExecutorAdaptiveAcquisition;
+        return this;
+    }
+
+    public int getAsyncExecutorMinAsyncJobAcquireWaitTime() {
+        return asyncExecutorMinAsyncJobAcquireWaitTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMinAsyncJobAcquireWaitTime(int asyncExecutorMinAsyncJobAcquireWaitTime) {
+        this.asyncExecutorMinAsyncJobAcquireWaitTime = asyncExecutorMinAsyncJobAcquireWaitTime;
+        return this;
+    }
+
+    public boolean isAsyncExecutorTimerWheelEnabled() {
+        return asyncExecutorTimerWheelEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelEnabled(boolean asyncExecutorTimerWheelEnabled) {
+        this.asyncExecutorTimerWheelEnabled = asyncExecutorTimerWheelEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorTimerWheelLookAheadTime() {
+        return asyncExecutorTimerWheelLookAheadTime;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerWheelLookAheadTime(int asyncExecutorTimerWheelLookAheadTime) {
+        this.asyncExecutorTimerWheelLookAheadTime = asyncExecutorTimerWheelLookAheadTime;
+        return this;
+    }
+
+    public boolean isAsyncExecutorFusedTimerJobExecution() {
+        return asyncExecutorFusedTimerJobExecution;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorFusedTimerJobExecution(boolean asyncExecutorFusedTimerJobExecution) {
+        this.asyncExecutorFusedTimerJobExecution = asyncExecutorFusedTimerJobExecution;
+        return this;
+    }
+
+    public boolean isAsyncExecutorExclusiveJobLanesEnabled() {
+        return asyncExecutorExclusiveJobLanesEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobLanesEnabled(boolean asyncExecutorExclusiveJobLanesEnabled) {
+        this.asyncExecutorExclusiveJobLanesEnabled = asyncExecutorExclusiveJobLanesEnabled;
+        return this;
+    }
+
+    public Set<String> getAsyncExecutorBatchJobHandlerTypes() {
+        return asyncExecutorBatchJobHandlerTypes;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorBatchJobHandlerTypes(Set<String> asyncExecutorBatchJobHandlerTypes) {
+        this.asyncExecutorBatchJobHandlerTypes = asyncExecutorBatchJobHandlerTypes;
+        return this;
+    }
+
+    public int getAsyncExecutorJobBatchSize() {
+        return asyncExecutorJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorJobBatchSize(int asyncExecutorJobBatchSize) {
+        this.asyncExecutorJobBatchSize = asyncExecutorJobBatchSize;
+        return this;
+    }
+
     public String getAsyncExecutorLockOwner() {
         return asyncExecutorLockOwner;
     }
@@ -3872,6 +4302,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorHeartbeatEnabled() {
+        return asyncExecutorHeartbeatEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorHeartbeatEnabled(boolean asyncExecutorHeartbeatEnabled) {
+        this.asyncExecutorHeartbeatEnabled = asyncExecutorHeartbeatEnabled;
+        return this;
+    }
+
+    public int getAsyncExecutorHeartbeatInterval() {
+        return asyncExecutorHeartbeatInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorHeartbeatInterval(int asyncExecutorHeartbeatInterval) {
+        this.asyncExecutorHeartbeatInterval = asyncExecutorHeartbeatInterval;
+        return this;
+    }
+
+    public int getAsyncExecutorHeartbeatTimeout() {
+        return asyncExecutorHeartbeatTimeout;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorHeartbeatTimeout(int asyncExecutorHeartbeatTimeout) {
+        this.asyncExecutorHeartbeatTimeout = asyncExecutorHeartbeatTimeout;
+        return this;
+    }
+
     public boolean isAsyncExecutorIsMessageQueueMode() {
         return asyncExecutorMessageQueueMode;
     }
@@ -3881,4 +4338,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorClaimJobsInBulk() {
+        return asyncExecutorClaimJobsInBulk;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorClaimJobsInBulk(boolean asyncExecutorClaimJobsInBulk) {
+        this.asyncExecutorClaimJobsInBulk = asyncExecutorClaimJobsInBulk;
+        return this;
+    }
+
 }
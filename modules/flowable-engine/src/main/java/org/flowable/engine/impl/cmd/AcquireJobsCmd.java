@@ -13,12 +13,15 @@
 package org.flowable.engine.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.FairShareJobQueue;
 import org.flowable.engine.impl.interceptor.Command;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
@@ -43,10 +46,27 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
     public AcquiredJobEntities execute(CommandContext commandContext) {
         int maxResults = Math.min(remainingCapacity, asyncExecutor.getMaxAsyncJobsDuePerAcquisition());
 
-        List<JobEntity> jobs = commandContext.getJobEntityManager()
-                .findJobsToExecute(new Page(0, maxResults));
         AcquiredJobEntities acquiredJobs = new AcquiredJobEntities();
 
+        if (commandContext.getProcessEngineConfiguration().isAsyncExecutorClaimJobsInBulk()) {
+            List<JobEntity> jobs = commandContext.getJobEntityManager().claimJobsToExecute(new Page(0, maxResults),
+                    asyncExecutor.getLockOwner(), getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()));
+            for (JobEntity job : jobs) {
+                acquiredJobs.addJob(job);
+            }
+            return acquiredJobs;
+        }
+
+        List<JobEntity> jobs;
+        FairShareJobQueue fairShareJobQueue = getFairShareJobQueue();
+        if (fairShareJobQueue != null) {
+            // Find a full page of candidates and only lock the share of each job class, instead of the first jobs in database order
+            List<JobEntity> candidates = commandContext.getJobEntityManager().findJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+            jobs = fairShareJobQueue.shareJobs(candidates, maxResults);
+        } else {
+            jobs = commandContext.getJobEntityManager().findJobsToExecute(new Page(0, maxResults));
+        }
+
         for (JobEntity job : jobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
             acquiredJobs.addJob(job);
@@ -55,11 +75,22 @@ public class AcquireJobsCmd implements Command<AcquiredJobEntities> {
         return acquiredJobs;
     }
 
+    protected FairShareJobQueue getFairShareJobQueue() {
+        if (asyncExecutor instanceof DefaultAsyncJobExecutor) {
+            return ((DefaultAsyncJobExecutor) asyncExecutor).getFairShareJobQueue();
+        }
+        return null;
+    }
+
     protected void lockJob(CommandContext commandContext, JobEntity job, int lockTimeInMillis) {
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(commandContext.getProcessEngineConfiguration().getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
\ No newline at end of file
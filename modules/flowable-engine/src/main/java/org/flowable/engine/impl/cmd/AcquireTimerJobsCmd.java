@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -36,6 +37,16 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+
+        if (commandContext.getProcessEngineConfiguration().isAsyncExecutorClaimJobsInBulk()) {
+            List<TimerJobEntity> timerJobs = commandContext.getTimerJobEntityManager().claimTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()),
+                    asyncExecutor.getLockOwner(), getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis()));
+            for (TimerJobEntity job : timerJobs) {
+                acquiredJobs.addJob(job);
+            }
+            return acquiredJobs;
+        }
+
         List<TimerJobEntity> timerJobs = commandContext.getTimerJobEntityManager()
                 .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
 
@@ -52,10 +63,14 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
 
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(commandContext.getProcessEngineConfiguration().getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
\ No newline at end of file
@@ -40,6 +40,22 @@ public class ExecuteAsyncJobCmd implements Command<Object>, Serializable {
     }
 
     public Object execute(CommandContext commandContext) {
+        Job job = executeJob(commandContext);
+
+        if (job != null && commandContext.getEventDispatcher().isEnabled()) {
+            commandContext.getEventDispatcher().dispatchEvent(
+                    FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
+        }
+
+        return null;
+    }
+
+    /**
+     * Executes the job, without dispatching the {@link FlowableEngineEventType#JOB_EXECUTION_SUCCESS} event.
+     * 
+     * @return the executed job, or null when the job doesn't exist anymore.
+     */
+    protected Job executeJob(CommandContext commandContext) {
 
         if (jobId == null) {
             throw new FlowableIllegalArgumentException("jobId is null");
@@ -63,12 +79,6 @@ public class ExecuteAsyncJobCmd implements Command<Object>, Serializable {
         }
 
         commandContext.getJobManager().execute(job);
-
-        if (commandContext.getEventDispatcher().isEnabled()) {
-            commandContext.getEventDispatcher().dispatchEvent(
-                    FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
-        }
-
-        return null;
+        return job;
     }
 }
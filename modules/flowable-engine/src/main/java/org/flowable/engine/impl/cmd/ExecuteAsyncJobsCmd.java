@@ -0,0 +1,66 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.runtime.Job;
+
+/**
+ * Executes several async jobs in the same transaction: the jobs are committed together, or not at all.
+ * 
+ * The {@link FlowableEngineEventType#JOB_EXECUTION_SUCCESS} events of the jobs are dispatched when the transaction is committed, so no success is
+ * reported for the jobs of a batch that is rolled back.
+ */
+public class ExecuteAsyncJobsCmd implements Command<Object>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<String> jobIds;
+
+    public ExecuteAsyncJobsCmd(List<String> jobIds) {
+        this.jobIds = jobIds;
+    }
+
+    public Object execute(CommandContext commandContext) {
+        final List<Job> executedJobs = new ArrayList<Job>(jobIds.size());
+        for (String jobId : jobIds) {
+            Job job = new ExecuteAsyncJobCmd(jobId).executeJob(commandContext);
+            if (job != null) {
+                executedJobs.add(job);
+            }
+        }
+
+        if (!executedJobs.isEmpty() && commandContext.getEventDispatcher().isEnabled()) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+                public void execute(CommandContext commandContext) {
+                    for (Job job : executedJobs) {
+                        commandContext.getEventDispatcher().dispatchEvent(
+                                FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
+                    }
+                }
+            });
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,80 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.Serializable;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a timer job that was acquired by an async executor, without moving it to an executable job in a separate transaction first.
+ * 
+ * Returns false when the timer job was not executed, because it doesn't exist anymore or is not locked by the given lock owner anymore.
+ */
+public class ExecuteTimerJobCmd implements Command<Boolean>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static Logger log = LoggerFactory.getLogger(ExecuteTimerJobCmd.class);
+
+    protected String timerJobId;
+    protected String lockOwner;
+
+    public ExecuteTimerJobCmd(String timerJobId, String lockOwner) {
+        this.timerJobId = timerJobId;
+        this.lockOwner = lockOwner;
+    }
+
+    public Boolean execute(CommandContext commandContext) {
+
+        if (timerJobId == null) {
+            throw new FlowableIllegalArgumentException("timerJobId is null");
+        }
+
+        // Refetch the timer job, it could have been deleted (e.g. the process instance was cancelled) since it was acquired
+        TimerJobEntity timerJob = commandContext.getTimerJobEntityManager().findById(timerJobId);
+        if (timerJob == null) {
+            log.debug("Timer job {} does not exist anymore and will not be executed.", timerJobId);
+            return false;
+        }
+
+        if (lockOwner != null && !lockOwner.equals(timerJob.getLockOwner())) {
+            log.debug("Timer job {} is not locked by {} anymore and will not be executed.", timerJobId, lockOwner);
+            return false;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Executing timer job {}", timerJobId);
+        }
+
+        JobEntity job = commandContext.getJobManager().moveTimerJobToExecutableJobAndExecute(timerJob);
+        if (job == null) {
+            return false;
+        }
+
+        if (commandContext.getEventDispatcher().isEnabled()) {
+            commandContext.getEventDispatcher().dispatchEvent(
+                    FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Serializable;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.compatibility.Flowable5CompatibilityHandler;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstance;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.engine.impl.util.Flowable5Util;
+import org.flowable.engine.impl.variable.ByteArrayType;
+import org.flowable.engine.runtime.Execution;
+
+/**
+ * Returns the stored bytes of a variable that is kept in the byte array table (serializable, long string, long json and byte array variables), without
+ * deserializing the value.
+ */
+public class GetExecutionVariableInputStreamCmd implements Command<InputStream>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    protected String executionId;
+    protected String variableName;
+    protected boolean isLocal;
+
+    public GetExecutionVariableInputStreamCmd(String executionId, String variableName, boolean isLocal) {
+        this.executionId = executionId;
+        this.variableName = variableName;
+        this.isLocal = isLocal;
+    }
+
+    public InputStream execute(CommandContext commandContext) {
+        if (executionId == null) {
+            throw new FlowableIllegalArgumentException("executionId is null");
+        }
+        if (variableName == null) {
+            throw new FlowableIllegalArgumentException("variableName is null");
+        }
+
+        ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(executionId);
+
+        if (execution == null) {
+            throw new FlowableObjectNotFoundException("execution " + executionId + " doesn't exist", Execution.class);
+        }
+
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(commandContext, execution.getProcessDefinitionId())) {
+            Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
+            return compatibilityHandler.getExecutionVariableInputStream(executionId, variableName, isLocal);
+        }
+
+        VariableInstance variable = null;
+        if (isLocal) {
+            variable = execution.getVariableInstanceLocal(variableName, false);
+        } else {
+            variable = execution.getVariableInstance(variableName, false);
+        }
+
+        if (variable == null) {
+            return null;
+        }
+
+        if (!(variable instanceof VariableInstanceEntity) || !(((VariableInstanceEntity) variable).getType() instanceof ByteArrayType)) {
+            throw new FlowableIllegalArgumentException("variable " + variableName + " of type " + variable.getTypeName() + " is not stored as a byte array");
+        }
+
+        VariableInstanceEntity variableInstance = (VariableInstanceEntity) variable;
+
+        // The value is not deserialized, only the byte array is fetched
+        if (variableInstance.getByteArrayRef() == null) {
+            return null;
+        }
+        byte[] bytes = variableInstance.getBytes();
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+}
@@ -63,6 +63,8 @@ public class SaveProcessDefinitionInfoCmd implements Command<Void>, Serializable
             throw new FlowableException("Unable to serialize info node " + infoNode);
         }
 
+        commandContext.getProcessEngineConfiguration().getDeploymentManager().publishCacheChange();
+
         return null;
     }
 
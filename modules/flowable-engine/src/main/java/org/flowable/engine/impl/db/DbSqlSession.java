@@ -35,7 +35,14 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.transaction.Transaction;
+import org.apache.ibatis.transaction.managed.ManagedTransaction;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
@@ -694,27 +701,64 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushUpdates() {
-        for (Entity updatedObject : updatedObjects) {
-            String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
-            updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
-
-            if (updateStatement == null) {
-                throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
+        if (dbSqlSessionFactory.isBatchFlushEnabled() && updatedObjects.size() > 1) {
+            flushBatchUpdates();
+        } else {
+            for (Entity updatedObject : updatedObjects) {
+                flushRegularUpdate(updatedObject);
             }
+        }
+        updatedObjects.clear();
+    }
+
+    protected void flushRegularUpdate(Entity updatedObject) {
+        String updateStatement = getMappedUpdateStatement(updatedObject);
+
+        log.debug("updating: {}", updatedObject);
+        int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+        if (updatedRecords == 0) {
+            throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+        }
+
+        // See https://activiti.atlassian.net/browse/ACT-1290
+        if (updatedObject instanceof HasRevision) {
+            ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+        }
+    }
 
-            log.debug("updating: {}", updatedObject);
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+    /**
+     * Groups the updated objects per entity class, so every group ends up in one (or more, depending on the max batch size) JDBC batch.
+     */
+    protected void flushBatchUpdates() {
+        Map<Class<? extends Entity>, List<Entity>> updatedObjectsByClass = new LinkedHashMap<Class<? extends Entity>, List<Entity>>();
+        for (Entity updatedObject : updatedObjects) {
+            Class<? extends Entity> clazz = updatedObject.getClass();
+            if (!updatedObjectsByClass.containsKey(clazz)) {
+                updatedObjectsByClass.put(clazz, new ArrayList<Entity>());
             }
+            updatedObjectsByClass.get(clazz).add(updatedObject);
+        }
+
+        for (List<Entity> entitiesToUpdate : updatedObjectsByClass.values()) {
+            String updateStatement = getMappedUpdateStatement(entitiesToUpdate.get(0));
+            flushBatch(updateStatement, entitiesToUpdate, true);
 
-            // See https://activiti.atlassian.net/browse/ACT-1290
-            if (updatedObject instanceof HasRevision) {
-                ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+            for (Entity updatedObject : entitiesToUpdate) {
+                if (updatedObject instanceof HasRevision) {
+                    ((HasRevision) updatedObject).setRevision(((HasRevision) updatedObject).getRevisionNext());
+                }
             }
+        }
+    }
+
+    protected String getMappedUpdateStatement(Entity updatedObject) {
+        String updateStatement = dbSqlSessionFactory.getUpdateStatement(updatedObject);
+        updateStatement = dbSqlSessionFactory.mapStatement(updateStatement);
 
+        if (updateStatement == null) {
+            throw new FlowableException("no update statement for " + updatedObject.getClass() + " in the ibatis mapping files");
         }
-        updatedObjects.clear();
+        return updateStatement;
     }
 
     protected void flushDeletes() {
@@ -753,12 +797,13 @@ public class DbSqlSession implements Session {
     }
 
     protected void flushDeleteEntities(Class<? extends Entity> entityClass, Collection<Entity> entitiesToDelete) {
+        if (dbSqlSessionFactory.isBatchFlushEnabled() && entitiesToDelete.size() > 1) {
+            flushBatchDeletes(entitiesToDelete);
+            return;
+        }
+
         for (Entity entity : entitiesToDelete) {
-            String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
-            deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
-            if (deleteStatement == null) {
-                throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
-            }
+            String deleteStatement = getMappedDeleteStatement(entity);
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
@@ -773,6 +818,86 @@ public class DbSqlSession implements Session {
         }
     }
 
+    protected void flushBatchDeletes(Collection<Entity> entitiesToDelete) {
+        // The deleted objects are stored per class already, but subclasses (custom entities) could end up in the same map
+        Map<Class<? extends Entity>, List<Entity>> entitiesToDeleteByClass = new LinkedHashMap<Class<? extends Entity>, List<Entity>>();
+        for (Entity entity : entitiesToDelete) {
+            Class<? extends Entity> clazz = entity.getClass();
+            if (!entitiesToDeleteByClass.containsKey(clazz)) {
+                entitiesToDeleteByClass.put(clazz, new ArrayList<Entity>());
+            }
+            entitiesToDeleteByClass.get(clazz).add(entity);
+        }
+
+        for (List<Entity> entities : entitiesToDeleteByClass.values()) {
+            flushBatch(getMappedDeleteStatement(entities.get(0)), entities, false);
+        }
+    }
+
+    protected String getMappedDeleteStatement(Entity entity) {
+        String deleteStatement = dbSqlSessionFactory.getDeleteStatement(entity.getClass());
+        deleteStatement = dbSqlSessionFactory.mapStatement(deleteStatement);
+        if (deleteStatement == null) {
+            throw new FlowableException("no delete statement for " + entity.getClass() + " in the ibatis mapping files");
+        }
+        return deleteStatement;
+    }
+
+    /**
+     * Executes the given update or delete statement for all the passed entities using JDBC batching.
+     * 
+     * A separate MyBatis {@link SqlSession} with a {@link ExecutorType#BATCH} executor is used, sharing the connection (and thus the transaction) of the regular session.
+     * 
+     * When checkAllUpdateCounts is true, every statement is expected to have affected a row. Otherwise, only statements for entities that have a revision are checked.
+     */
+    protected void flushBatch(String statement, List<Entity> entities, boolean checkAllUpdateCounts) {
+        SqlSession batchSqlSession = openBatchSqlSession();
+        try {
+            int index = 0;
+            for (Entity entity : entities) {
+                log.debug("adding to batch {}: {}", statement, entity);
+                batchSqlSession.update(statement, entity);
+                index++;
+
+                if (index % dbSqlSessionFactory.getMaxNrOfStatementsInBatchFlush() == 0) {
+                    verifyBatchResults(batchSqlSession.flushStatements(), checkAllUpdateCounts);
+                }
+            }
+            verifyBatchResults(batchSqlSession.flushStatements(), checkAllUpdateCounts);
+
+        } finally {
+            batchSqlSession.close();
+        }
+
+        // The batch session bypasses the local cache of the regular session, hence it needs to be cleared explicitly
+        sqlSession.clearCache();
+    }
+
+    protected SqlSession openBatchSqlSession() {
+        Configuration configuration = sqlSession.getConfiguration();
+
+        // A managed transaction that doesn't close the connection: commit, rollback and close remain the responsibility of the regular session
+        Transaction transaction = new ManagedTransaction(sqlSession.getConnection(), false);
+        Executor executor = configuration.newExecutor(transaction, ExecutorType.BATCH);
+        return new DefaultSqlSession(configuration, executor, false);
+    }
+
+    protected void verifyBatchResults(List<BatchResult> batchResults, boolean checkAllUpdateCounts) {
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            for (int i = 0; i < updateCounts.length; i++) {
+                // Statement.SUCCESS_NO_INFO (or any other negative value) means the driver doesn't know, nothing can be verified in that case
+                if (updateCounts[i] == 0) {
+                    Object entity = parameterObjects.get(i);
+                    if (checkAllUpdateCounts || entity instanceof HasRevision) {
+                        throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
+                    }
+                }
+            }
+        }
+    }
+
     public void close() {
         sqlSession.close();
     }
@@ -65,6 +65,8 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     protected boolean isDbHistoryUsed = true;
     protected int maxNrOfStatementsInBulkInsert = 100;
+    protected boolean isBatchFlushEnabled;
+    protected int maxNrOfStatementsInBatchFlush = 100;
 
     public Class<?> getSessionType() {
         return DbSqlSession.class;
@@ -318,4 +320,20 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.maxNrOfStatementsInBulkInsert = maxNrOfStatementsInBulkInsert;
     }
 
+    public boolean isBatchFlushEnabled() {
+        return isBatchFlushEnabled;
+    }
+
+    public void setBatchFlushEnabled(boolean isBatchFlushEnabled) {
+        this.isBatchFlushEnabled = isBatchFlushEnabled;
+    }
+
+    public int getMaxNrOfStatementsInBatchFlush() {
+        return maxNrOfStatementsInBatchFlush;
+    }
+
+    public void setMaxNrOfStatementsInBatchFlush(int maxNrOfStatementsInBatchFlush) {
+        this.maxNrOfStatementsInBatchFlush = maxNrOfStatementsInBatchFlush;
+    }
+
 }
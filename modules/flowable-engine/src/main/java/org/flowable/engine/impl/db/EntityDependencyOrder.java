@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntityImpl;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.engine.impl.persistence.entity.CommentEntityImpl;
@@ -82,6 +83,9 @@ public class EntityDependencyOrder {
         /* No FK */
         DELETE_ORDER.add(EventLogEntryEntityImpl.class);
 
+        /* No FK */
+        DELETE_ORDER.add(AsyncExecutorNodeEntityImpl.class);
+
         /*
          * FK to Deployment FK to ByteArray
          */
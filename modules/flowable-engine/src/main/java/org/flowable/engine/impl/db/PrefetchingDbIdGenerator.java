@@ -0,0 +1,166 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.db;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.db.IdBlock;
+import org.flowable.engine.impl.cmd.GetNextIdBlockCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DbIdGenerator} that hands out ids without locking: threads increment an atomic counter over the current id block. When the number of remaining ids in the current block drops to the low
+ * water mark, the next block is fetched in the background, so that threads normally never have to wait for the property row update.
+ * 
+ * Only when the current block is exhausted before the next one is available, threads synchronize: they wait for the pending prefetch, or fetch a block themselves when there is none.
+ * 
+ * Just like with the {@link DbIdGenerator}, ids of blocks that are not used completely (e.g. when the engine is closed) are lost.
+ */
+public class PrefetchingDbIdGenerator extends DbIdGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(PrefetchingDbIdGenerator.class);
+
+    /**
+     * The number of remaining ids in the current block at which the next block is fetched. When not set (or not positive), a quarter of the block size is used.
+     */
+    protected int lowWaterMark;
+
+    protected volatile IdRange currentIdRange;
+    protected Future<IdBlock> prefetchedIdBlock;
+    protected ExecutorService prefetchExecutorService;
+
+    @Override
+    public String getNextId() {
+        while (true) {
+            IdRange idRange = currentIdRange;
+            if (idRange != null) {
+                long id = idRange.nextId.getAndIncrement();
+                if (id <= idRange.lastId) {
+                    if (id == idRange.prefetchId) {
+                        prefetchNewBlock();
+                    }
+                    return Long.toString(id);
+                }
+            }
+            switchToNewBlock(idRange);
+        }
+    }
+
+    /**
+     * Replaces the given, exhausted, id range by the next one. Threads that find the range already replaced simply return and take their id from the new range.
+     */
+    protected synchronized void switchToNewBlock(IdRange exhaustedIdRange) {
+        if (currentIdRange != exhaustedIdRange) {
+            return;
+        }
+
+        IdBlock idBlock = null;
+        if (prefetchedIdBlock != null) {
+            try {
+                idBlock = prefetchedIdBlock.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while waiting for the next id block", e);
+            } catch (ExecutionException e) {
+                log.warn("Prefetching the next id block failed, fetching it again", e.getCause());
+            } finally {
+                prefetchedIdBlock = null;
+            }
+        }
+
+        if (idBlock == null) {
+            idBlock = fetchNewBlock();
+        }
+
+        currentIdRange = new IdRange(idBlock, getLowWaterMark());
+    }
+
+    protected synchronized void prefetchNewBlock() {
+        if (prefetchedIdBlock != null) {
+            return;
+        }
+
+        if (prefetchExecutorService == null) {
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-id-block-prefetch-thread-%d").daemon(true).build();
+            prefetchExecutorService = Executors.newSingleThreadExecutor(threadFactory);
+        }
+
+        prefetchedIdBlock = prefetchExecutorService.submit(new Callable<IdBlock>() {
+
+            public IdBlock call() throws Exception {
+                return fetchNewBlock();
+            }
+
+        });
+    }
+
+    protected IdBlock fetchNewBlock() {
+        return commandExecutor.execute(commandConfig, new GetNextIdBlockCmd(idBlockSize));
+    }
+
+    @Override
+    protected synchronized void getNewBlock() {
+        switchToNewBlock(currentIdRange);
+    }
+
+    /**
+     * Stops the thread used for prefetching. A pending prefetch is still completed.
+     */
+    public synchronized void shutdown() {
+        if (prefetchExecutorService != null) {
+            prefetchExecutorService.shutdown();
+            prefetchExecutorService = null;
+        }
+    }
+
+    public int getLowWaterMark() {
+        if (lowWaterMark > 0) {
+            return Math.min(lowWaterMark, idBlockSize);
+        }
+        return Math.max(1, idBlockSize / 4);
+    }
+
+    public void setLowWaterMark(int lowWaterMark) {
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    /**
+     * The ids of one {@link IdBlock} that are still available.
+     */
+    protected static class IdRange {
+
+        protected final AtomicLong nextId;
+        protected final long lastId;
+
+        /**
+         * The id that, when handed out, triggers the prefetch of the next block.
+         */
+        protected final long prefetchId;
+
+        public IdRange(IdBlock idBlock, int lowWaterMark) {
+            this.nextId = new AtomicLong(idBlock.getNextId());
+            this.lastId = idBlock.getLastId();
+            this.prefetchId = Math.max(idBlock.getNextId(), idBlock.getLastId() - lowWaterMark + 1);
+        }
+
+    }
+
+}
@@ -25,6 +25,7 @@ import javax.el.ListELResolver;
 import javax.el.MapELResolver;
 import javax.el.ValueExpression;
 
+import org.flowable.engine.common.impl.el.ParsedExpressionCache;
 import org.flowable.engine.delegate.Expression;
 import org.flowable.engine.delegate.FlowableFunctionDelegate;
 import org.flowable.engine.delegate.VariableScope;
@@ -58,6 +59,12 @@ public class DefaultExpressionManager implements ExpressionManager {
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
 
+    /**
+     * Parsed value expressions by expression text, so expressions that are created at runtime (e.g. conditions, skip expressions or dynamic
+     * properties) are only parsed once. When null, every expression is parsed.
+     */
+    protected ParsedExpressionCache<ValueExpression> parsedExpressionCache;
+
     public DefaultExpressionManager() {
         this(null);
     }
@@ -89,12 +96,30 @@ public class DefaultExpressionManager implements ExpressionManager {
             this.parsingElContext = new ParsingElContext(functionDelegates);
         }
 
-        ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expression.trim(), Object.class);
+        String trimmedExpression = expression.trim();
+        ValueExpression valueExpression = null;
+        if (parsedExpressionCache != null) {
+            valueExpression = parsedExpressionCache.get(trimmedExpression);
+        }
+
+        if (valueExpression == null) {
+            valueExpression = expressionFactory.createValueExpression(parsingElContext, trimmedExpression, Object.class);
+            if (parsedExpressionCache != null) {
+                parsedExpressionCache.add(trimmedExpression, valueExpression);
+            }
+        }
         return new JuelExpression(this, this.delegateInterceptor, valueExpression, expression);
     }
 
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
+        clearParsedExpressionCache();
+    }
+
+    protected void clearParsedExpressionCache() {
+        if (parsedExpressionCache != null) {
+            parsedExpressionCache.clear();
+        }
     }
 
     public ELContext getElContext(VariableScope variableScope) {
@@ -152,5 +177,16 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     public void setFunctionDelegates(List<FlowableFunctionDelegate> functionDelegates) {
         this.functionDelegates = functionDelegates;
+        // The functions are bound when an expression is parsed
+        this.parsingElContext = null;
+        clearParsedExpressionCache();
+    }
+
+    public ParsedExpressionCache<ValueExpression> getParsedExpressionCache() {
+        return parsedExpressionCache;
+    }
+
+    public void setParsedExpressionCache(ParsedExpressionCache<ValueExpression> parsedExpressionCache) {
+        this.parsedExpressionCache = parsedExpressionCache;
     }
 }
@@ -30,6 +30,7 @@ import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntityManager;
 import org.flowable.engine.impl.persistence.entity.AttachmentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ByteArrayEntityManager;
 import org.flowable.engine.impl.persistence.entity.CommentEntityManager;
@@ -177,6 +178,10 @@ public class CommandContext extends AbstractCommandContext {
         return processEngineConfiguration.getEventLogEntryEntityManager();
     }
 
+    public AsyncExecutorNodeEntityManager getAsyncExecutorNodeEntityManager() {
+        return processEngineConfiguration.getAsyncExecutorNodeEntityManager();
+    }
+
     public JobEntityManager getJobEntityManager() {
         return processEngineConfiguration.getJobEntityManager();
     }
@@ -14,6 +14,7 @@ package org.flowable.engine.impl.jobexecutor;
 
 import org.flowable.engine.common.impl.cfg.TransactionPropagation;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.asyncexecutor.AbstractAsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.cfg.TransactionListener;
 import org.flowable.engine.impl.interceptor.Command;
@@ -47,7 +48,11 @@ public class JobAddedTransactionListener implements TransactionListener {
                 if (log.isTraceEnabled()) {
                     log.trace("notifying job executor of new job");
                 }
-                asyncExecutor.executeAsyncJob(job);
+                boolean executed = asyncExecutor.executeAsyncJob(job);
+                if (!executed && asyncExecutor instanceof AbstractAsyncExecutor) {
+                    // The job was unlocked again, so the acquisition thread is told that there is a job to acquire
+                    ((AbstractAsyncExecutor) asyncExecutor).asyncJobAdded(job);
+                }
                 return null;
             }
         });
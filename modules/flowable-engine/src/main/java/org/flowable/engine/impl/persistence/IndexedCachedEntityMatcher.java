@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence;
+
+import org.flowable.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+
+/**
+ * To be implemented by a {@link CachedEntityMatcher} or {@link SingleCachedEntityMatcher} for which the condition implies a certain key of an {@link EntityCacheIndex}. When querying the
+ * {@link EntityCache}, only the cached entities that are candidates for that key are then passed to the matcher, instead of all cached entities of the type.
+ */
+public interface IndexedCachedEntityMatcher {
+
+    EntityCacheIndex getIndex();
+
+    /**
+     * Returns the key for the given query parameter. When null is returned, all cached entities are checked.
+     */
+    String getIndexKey(Object param);
+
+}
@@ -37,6 +37,13 @@ public class CachedEntity {
         }
     }
 
+    /**
+     * Constructor for subclasses that determine changes in a different way than by diffing the persistent state.
+     */
+    protected CachedEntity(Entity entity) {
+        this.entity = entity;
+    }
+
     public Entity getEntity() {
         return entity;
     }
@@ -54,7 +61,8 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
-        return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
+        Object persistentState = entity.getPersistentState();
+        return persistentState != null && !persistentState.equals(originalPersistentState);
     }
 
 }
\ No newline at end of file
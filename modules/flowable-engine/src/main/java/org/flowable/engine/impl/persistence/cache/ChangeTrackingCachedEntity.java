@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.impl.persistence.entity.ChangeTrackingEntity;
+
+/**
+ * A {@link CachedEntity} for a {@link ChangeTrackingEntity}: no snapshot of the persistent state is taken. Instead, the changed flag of the entity is reset when it is put in the cache and
+ * consulted when determining if the entity needs to be updated.
+ */
+public class ChangeTrackingCachedEntity extends CachedEntity {
+
+    /**
+     * True when the entity was put in the cache without storing its state, which means it must always be seen as changed.
+     */
+    protected boolean alwaysChanged;
+
+    public ChangeTrackingCachedEntity(ChangeTrackingEntity entity, boolean storeState) {
+        super(entity);
+        if (storeState) {
+            entity.setChanged(false);
+        } else {
+            this.alwaysChanged = true;
+        }
+    }
+
+    @Override
+    public boolean hasChanged() {
+        return alwaysChanged || ((ChangeTrackingEntity) entity).isChanged();
+    }
+
+}
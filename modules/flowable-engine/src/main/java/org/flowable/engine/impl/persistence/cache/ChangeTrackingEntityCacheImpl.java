@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.entity.ChangeTrackingEntity;
+
+/**
+ * {@link EntityCache} used when entity change tracking is enabled: entities implementing {@link ChangeTrackingEntity} don't get their persistent state copied when loaded, nor compared when
+ * flushing. All other entities are handled like in the {@link EntityCacheImpl}.
+ */
+public class ChangeTrackingEntityCacheImpl extends EntityCacheImpl {
+
+    @Override
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        if (entity instanceof ChangeTrackingEntity) {
+            return new ChangeTrackingCachedEntity((ChangeTrackingEntity) entity, storeState);
+        }
+        return super.createCachedEntity(entity, storeState);
+    }
+
+}
@@ -59,6 +59,20 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances for the given type that are candidates for the given key of the {@link EntityCacheIndex}: the ones indexed under that key and the ones that
+     * have no key. Like {@link #findInCacheAsCachedObjects(Class)}, this returns null if no instances of the given type are cached.
+     * 
+     * Note that the returned entities still need to be checked against the actual condition, as the indexed properties of an entity can have been changed after it was indexed.
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityCacheIndex index, String indexKey);
+
+    /**
+     * Updates the position of the given {@link Entity} in all the {@link EntityCacheIndex} instances that are currently used for its type. Needs to be called when a property used for indexing
+     * has changed, see {@link EntityCacheUtil#indexKeyChanged(Entity, String, String)}.
+     */
+    void updateIndexes(Entity entity);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
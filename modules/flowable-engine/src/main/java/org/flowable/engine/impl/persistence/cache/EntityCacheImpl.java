@@ -28,6 +28,11 @@ public class EntityCacheImpl implements EntityCache {
 
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<Class<?>, Map<String, CachedEntity>>();
 
+    /**
+     * The secondary indexes per entity type. An index is only built when it is used for the first time for a type, and kept up to date from then on.
+     */
+    protected Map<Class<?>, Map<EntityCacheIndex, CachedEntityIndex>> cachedObjectIndexes = new HashMap<Class<?>, Map<EntityCacheIndex, CachedEntityIndex>>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
@@ -35,11 +40,23 @@ public class EntityCacheImpl implements EntityCache {
             classCache = new HashMap<String, CachedEntity>();
             cachedObjects.put(entity.getClass(), classCache);
         }
-        CachedEntity cachedObject = new CachedEntity(entity, storeState);
+        CachedEntity cachedObject = createCachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<EntityCacheIndex, CachedEntityIndex> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes != null) {
+            for (CachedEntityIndex cachedEntityIndex : classIndexes.values()) {
+                cachedEntityIndex.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
+    protected CachedEntity createCachedEntity(Entity entity, boolean storeState) {
+        return new CachedEntity(entity, storeState);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T findInCache(Class<T> entityClass, String id) {
@@ -77,6 +94,56 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<EntityCacheIndex, CachedEntityIndex> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes != null) {
+            for (CachedEntityIndex cachedEntityIndex : classIndexes.values()) {
+                cachedEntityIndex.remove(entityId);
+            }
+        }
+    }
+
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, EntityCacheIndex index, String indexKey) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        Map<EntityCacheIndex, CachedEntityIndex> classIndexes = cachedObjectIndexes.get(entityClass);
+        if (classIndexes == null) {
+            classIndexes = new HashMap<EntityCacheIndex, CachedEntityIndex>();
+            cachedObjectIndexes.put(entityClass, classIndexes);
+        }
+
+        CachedEntityIndex cachedEntityIndex = classIndexes.get(index);
+        if (cachedEntityIndex == null) {
+            cachedEntityIndex = new CachedEntityIndex(index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                cachedEntityIndex.add(cachedObject);
+            }
+            classIndexes.put(index, cachedEntityIndex);
+        }
+
+        return cachedEntityIndex.getCandidates(indexKey);
+    }
+
+    @Override
+    public void updateIndexes(Entity entity) {
+        Map<EntityCacheIndex, CachedEntityIndex> classIndexes = cachedObjectIndexes.get(entity.getClass());
+        if (classIndexes == null) {
+            return;
+        }
+
+        // Only entities that are actually in this cache are indexed
+        CachedEntity cachedObject = cachedObjects.get(entity.getClass()).get(entity.getId());
+        if (cachedObject == null || cachedObject.getEntity() != entity) {
+            return;
+        }
+
+        for (CachedEntityIndex cachedEntityIndex : classIndexes.values()) {
+            cachedEntityIndex.add(cachedObject);
+        }
     }
 
     @Override
@@ -112,6 +179,67 @@ public class EntityCacheImpl implements EntityCache {
         return cachedObjects;
     }
 
+    /**
+     * The cached entities of one type, grouped by the key of one {@link EntityCacheIndex}.
+     */
+    protected static class CachedEntityIndex {
+
+        protected EntityCacheIndex index;
+        protected Map<String, Map<String, CachedEntity>> cachedObjectsByKey = new HashMap<String, Map<String, CachedEntity>>();
+        protected Map<String, String> keysById = new HashMap<String, String>();
+
+        public CachedEntityIndex(EntityCacheIndex index) {
+            this.index = index;
+        }
+
+        public void add(CachedEntity cachedObject) {
+            String id = cachedObject.getEntity().getId();
+            remove(id);
+
+            String key = index.getIndexKey(cachedObject.getEntity());
+            Map<String, CachedEntity> keyCache = cachedObjectsByKey.get(key);
+            if (keyCache == null) {
+                keyCache = new HashMap<String, CachedEntity>();
+                cachedObjectsByKey.put(key, keyCache);
+            }
+            keyCache.put(id, cachedObject);
+            keysById.put(id, key);
+        }
+
+        public void remove(String id) {
+            if (!keysById.containsKey(id)) {
+                return;
+            }
+
+            String key = keysById.remove(id);
+            Map<String, CachedEntity> keyCache = cachedObjectsByKey.get(key);
+            keyCache.remove(id);
+            if (keyCache.isEmpty()) {
+                cachedObjectsByKey.remove(key);
+            }
+        }
+
+        /**
+         * Returns the entities indexed under the given key, together with the entities that have no key (these can match any key).
+         */
+        public Collection<CachedEntity> getCandidates(String key) {
+            Map<String, CachedEntity> keyCache = cachedObjectsByKey.get(key);
+            Map<String, CachedEntity> nullKeyCache = key != null ? cachedObjectsByKey.get(null) : null;
+
+            if (nullKeyCache == null) {
+                return keyCache != null ? keyCache.values() : Collections.<CachedEntity>emptyList();
+            } else if (keyCache == null) {
+                return nullKeyCache.values();
+            }
+
+            List<CachedEntity> candidates = new ArrayList<CachedEntity>(keyCache.size() + nullKeyCache.size());
+            candidates.addAll(keyCache.values());
+            candidates.addAll(nullKeyCache.values());
+            return candidates;
+        }
+
+    }
+
     @Override
     public void close() {
 
@@ -0,0 +1,32 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * A secondary index on the cached entities of a certain type, typically on a foreign key (parent execution id, process instance id, etc.).
+ * 
+ * The {@link EntityCache} builds the index the first time it is used for a type and keeps it up to date when entities are put in or removed from the cache. An index is only used to narrow
+ * down the cached entities that need to be checked: the entities returned for a key must still be checked against the actual condition, as the key of a cached entity can change.
+ * 
+ * Implementations are used as map keys, so they should be singletons (see {@link EntityCacheIndexes}).
+ */
+public interface EntityCacheIndex {
+
+    /**
+     * Returns the key under which the given entity needs to be indexed. When null is returned, the entity is returned as a candidate for every key.
+     */
+    String getIndexKey(Entity entity);
+
+}
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.entity.AbstractJobEntity;
+import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricIdentityLinkEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * The {@link EntityCacheIndex} instances used by the cached entity matchers of the engine.
+ * 
+ * Entities setting a property that is used as key here must call {@link EntityCacheUtil#indexKeyChanged(Entity, String, String)} when changing it.
+ */
+public class EntityCacheIndexes {
+
+    public static final EntityCacheIndex EXECUTION_BY_PARENT_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((ExecutionEntity) entity).getParentId();
+        }
+    };
+
+    public static final EntityCacheIndex EXECUTION_BY_PROCESS_INSTANCE_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((ExecutionEntity) entity).getProcessInstanceId();
+        }
+    };
+
+    public static final EntityCacheIndex EXECUTION_BY_ROOT_PROCESS_INSTANCE_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((ExecutionEntity) entity).getRootProcessInstanceId();
+        }
+    };
+
+    public static final EntityCacheIndex EXECUTION_BY_SUPER_EXECUTION_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((ExecutionEntity) entity).getSuperExecutionId();
+        }
+    };
+
+    public static final EntityCacheIndex EVENT_SUBSCRIPTION_BY_EXECUTION_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((EventSubscriptionEntity) entity).getExecutionId();
+        }
+    };
+
+    public static final EntityCacheIndex EVENT_SUBSCRIPTION_BY_PROCESS_INSTANCE_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((EventSubscriptionEntity) entity).getProcessInstanceId();
+        }
+    };
+
+    public static final EntityCacheIndex EVENT_SUBSCRIPTION_BY_EVENT_TYPE_AND_NAME = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            EventSubscriptionEntity eventSubscriptionEntity = (EventSubscriptionEntity) entity;
+            return getEventTypeAndNameKey(eventSubscriptionEntity.getEventType(), eventSubscriptionEntity.getEventName());
+        }
+    };
+
+    public static final EntityCacheIndex JOB_BY_EXECUTION_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((AbstractJobEntity) entity).getExecutionId();
+        }
+    };
+
+    public static final EntityCacheIndex TASK_BY_EXECUTION_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((TaskEntity) entity).getExecutionId();
+        }
+    };
+
+    public static final EntityCacheIndex VARIABLE_INSTANCE_BY_EXECUTION_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((VariableInstanceEntity) entity).getExecutionId();
+        }
+    };
+
+    public static final EntityCacheIndex IDENTITY_LINK_BY_PROCESS_INSTANCE_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((IdentityLinkEntity) entity).getProcessInstanceId();
+        }
+    };
+
+    public static final EntityCacheIndex HISTORIC_ACTIVITY_INSTANCE_BY_EXECUTION_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((HistoricActivityInstanceEntity) entity).getExecutionId();
+        }
+    };
+
+    public static final EntityCacheIndex HISTORIC_VARIABLE_INSTANCE_BY_PROCESS_INSTANCE_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((HistoricVariableInstanceEntity) entity).getProcessInstanceId();
+        }
+    };
+
+    public static final EntityCacheIndex HISTORIC_VARIABLE_INSTANCE_BY_TASK_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((HistoricVariableInstanceEntity) entity).getTaskId();
+        }
+    };
+
+    public static final EntityCacheIndex HISTORIC_IDENTITY_LINK_BY_PROCESS_INSTANCE_ID = new EntityCacheIndex() {
+        public String getIndexKey(Entity entity) {
+            return ((HistoricIdentityLinkEntity) entity).getProcessInstanceId();
+        }
+    };
+
+    public static String getEventTypeAndNameKey(String eventType, String eventName) {
+        if (eventType == null || eventName == null) {
+            return null;
+        }
+        return eventType + ":" + eventName;
+    }
+
+}
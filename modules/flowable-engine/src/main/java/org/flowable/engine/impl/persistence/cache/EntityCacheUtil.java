@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.CommandContext;
+
+public class EntityCacheUtil {
+
+    /**
+     * To be called by an entity after a property that is used as key by an {@link EntityCacheIndex} has been changed.
+     * 
+     * Entities without key are candidates for every key anyway, so only changes of an existing key need to be propagated to the {@link EntityCache}. This also means that entities being populated
+     * when loaded from the database never hit the cache here.
+     */
+    public static void indexKeyChanged(Entity entity, String oldValue, String newValue) {
+        if (oldValue != null && !oldValue.equals(newValue)) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext != null) {
+                commandContext.getEntityCache().updateIndexes(entity);
+            }
+        }
+    }
+
+}
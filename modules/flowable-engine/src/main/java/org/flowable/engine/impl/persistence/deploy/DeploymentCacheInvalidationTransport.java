@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.engine.impl.interceptor.CommandContext;
+
+/**
+ * Channel through which the nodes of a cluster tell each other that process definitions were deployed or deleted, or that their dynamic info
+ * (see {@link org.flowable.engine.DynamicBpmnService}) was changed.
+ *
+ * Instead of checking the database on every access, the {@link DeploymentManager} and {@link ProcessDefinitionInfoCache} only revalidate
+ * their cached objects when the version returned by {@link #getVersion(CommandContext)} differs from the version at which an object was last validated.
+ */
+public interface DeploymentCacheInvalidationTransport {
+
+    /**
+     * Called in the transaction that deploys or deletes process definitions, or changes their info. The change must become visible to all nodes (including
+     * the current one) once that transaction is committed.
+     */
+    void publishChange(CommandContext commandContext);
+
+    /**
+     * @return the version of the deployment caches as known to this node. Must change (and never decrease) when a change was published by any node.
+     */
+    long getVersion(CommandContext commandContext);
+
+}
@@ -22,11 +22,13 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntityManager;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -46,6 +48,7 @@ public class DeploymentManager {
     protected DeploymentCache<Object> appResourceCache;
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
     protected List<Deployer> deployers;
+    protected DeploymentCacheInvalidationTransport invalidationTransport;
 
     protected ProcessEngineConfigurationImpl processEngineConfiguration;
     protected ProcessDefinitionEntityManager processDefinitionEntityManager;
@@ -59,6 +62,10 @@ public class DeploymentManager {
         for (Deployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
+
+        if (deployment.isNew()) {
+            publishCacheChange();
+        }
     }
 
     public ProcessDefinition findDeployedProcessDefinitionById(String processDefinitionId) {
@@ -67,7 +74,7 @@ public class DeploymentManager {
         }
 
         // first try the cache
-        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinitionId);
+        ProcessDefinitionCacheEntry cacheEntry = getValidatedCacheEntry(processDefinitionId);
         ProcessDefinition processDefinition = cacheEntry != null ? cacheEntry.getProcessDefinition() : null;
 
         if (processDefinition == null) {
@@ -116,7 +123,7 @@ public class DeploymentManager {
         String processDefinitionId = processDefinition.getId();
         String deploymentId = processDefinition.getDeploymentId();
 
-        ProcessDefinitionCacheEntry cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
+        ProcessDefinitionCacheEntry cachedProcessDefinition = getValidatedCacheEntry(processDefinitionId);
 
         if (cachedProcessDefinition == null) {
             if (Flowable5Util.isFlowable5ProcessDefinition(processDefinition, processEngineConfiguration)) {
@@ -214,6 +221,48 @@ public class DeploymentManager {
 
         appResourceCache.remove(deploymentId);
         knowledgeBaseCache.remove(deploymentId);
+
+        publishCacheChange();
+    }
+
+    /**
+     * Returns the cached entry for the given process definition. When an invalidation transport is set and the cache version changed since the entry was
+     * last validated, the entry is only returned if the process definition still exists, as it might have been deleted on another node.
+     */
+    protected ProcessDefinitionCacheEntry getValidatedCacheEntry(String processDefinitionId) {
+        ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinitionId);
+        if (cacheEntry != null && invalidationTransport != null && Context.getCommandContext() != null) {
+            long cacheVersion = getCacheVersion();
+            if (cacheEntry.getCacheVersion() != cacheVersion) {
+                if (processDefinitionEntityManager.findById(processDefinitionId) == null) {
+                    processDefinitionCache.remove(processDefinitionId);
+                    processDefinitionInfoCache.remove(processDefinitionId);
+                    return null;
+                }
+                cacheEntry.setCacheVersion(cacheVersion);
+            }
+        }
+        return cacheEntry;
+    }
+
+    /**
+     * @return the current version of the deployment caches, or -1 when no invalidation transport is set.
+     */
+    public long getCacheVersion() {
+        CommandContext commandContext = Context.getCommandContext();
+        if (invalidationTransport == null || commandContext == null) {
+            return -1;
+        }
+        return invalidationTransport.getVersion(commandContext);
+    }
+
+    /**
+     * Lets other nodes know that process definitions were deployed or deleted, or that their info changed.
+     */
+    public void publishCacheChange() {
+        if (invalidationTransport != null) {
+            invalidationTransport.publishChange(Context.getCommandContext());
+        }
     }
 
     // getters and setters
@@ -227,6 +276,14 @@ public class DeploymentManager {
         this.deployers = deployers;
     }
 
+    public DeploymentCacheInvalidationTransport getInvalidationTransport() {
+        return invalidationTransport;
+    }
+
+    public void setInvalidationTransport(DeploymentCacheInvalidationTransport invalidationTransport) {
+        this.invalidationTransport = invalidationTransport;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
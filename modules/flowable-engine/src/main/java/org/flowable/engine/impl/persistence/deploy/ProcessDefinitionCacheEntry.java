@@ -28,6 +28,7 @@ public class ProcessDefinitionCacheEntry implements Serializable {
     protected ProcessDefinition processDefinition;
     protected BpmnModel bpmnModel;
     protected Process process;
+    protected volatile long cacheVersion = -1; // version of the deployment caches at which this entry was last validated
 
     public ProcessDefinitionCacheEntry(ProcessDefinition processDefinition, BpmnModel bpmnModel, Process process) {
         this.processDefinition = processDefinition;
@@ -59,4 +60,12 @@ public class ProcessDefinitionCacheEntry implements Serializable {
         this.process = process;
     }
 
+    public long getCacheVersion() {
+        return cacheVersion;
+    }
+
+    public void setCacheVersion(long cacheVersion) {
+        this.cacheVersion = cacheVersion;
+    }
+
 }
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.engine.common.impl.persistence.deploy.CacheWeigher;
+
+/**
+ * Estimates the size of a {@link ProcessDefinitionCacheEntry} as the number of flow elements (including those in subprocesses) of its {@link BpmnModel},
+ * as these make up the bulk of the memory a cached process definition takes.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements CacheWeigher<ProcessDefinitionCacheEntry> {
+
+    public int weigh(String id, ProcessDefinitionCacheEntry cacheEntry) {
+        int weight = 1;
+        BpmnModel bpmnModel = cacheEntry.getBpmnModel();
+        if (bpmnModel != null) {
+            for (Process process : bpmnModel.getProcesses()) {
+                weight += process.findFlowElementsOfType(FlowElement.class, true).size();
+            }
+        }
+        return weight;
+    }
+
+}
@@ -41,6 +41,7 @@ public class ProcessDefinitionInfoCache {
 
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
+    protected DeploymentCacheInvalidationTransport invalidationTransport;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
@@ -104,13 +105,29 @@ public class ProcessDefinitionInfoCache {
         return cache.size();
     }
 
+    public DeploymentCacheInvalidationTransport getInvalidationTransport() {
+        return invalidationTransport;
+    }
+
+    /**
+     * When set, cached info is only checked against the database when the cache version has changed, instead of on every access.
+     */
+    public void setInvalidationTransport(DeploymentCacheInvalidationTransport invalidationTransport) {
+        this.invalidationTransport = invalidationTransport;
+    }
+
     protected ProcessDefinitionInfoCacheObject retrieveProcessDefinitionInfoCacheObject(String processDefinitionId, CommandContext commandContext) {
         ProcessDefinitionInfoEntityManager infoEntityManager = commandContext.getProcessDefinitionInfoEntityManager();
         ObjectMapper objectMapper = commandContext.getProcessEngineConfiguration().getObjectMapper();
 
+        long cacheVersion = invalidationTransport != null ? invalidationTransport.getVersion(commandContext) : -1;
+
         ProcessDefinitionInfoCacheObject cacheObject = null;
         if (cache.containsKey(processDefinitionId)) {
             cacheObject = cache.get(processDefinitionId);
+            if (invalidationTransport != null && cacheObject.getCacheVersion() == cacheVersion) {
+                return cacheObject;
+            }
         } else {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
@@ -134,6 +151,11 @@ public class ProcessDefinitionInfoCache {
             cacheObject.setInfoNode(objectMapper.createObjectNode());
         }
 
+        if (invalidationTransport != null) {
+            cacheObject.setCacheVersion(cacheVersion);
+            cache.put(processDefinitionId, cacheObject);
+        }
+
         return cacheObject;
     }
 
@@ -22,6 +22,7 @@ public class ProcessDefinitionInfoCacheObject {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected volatile long cacheVersion = -1; // version of the deployment caches at which this object was last validated
 
     public String getId() {
         return id;
@@ -46,4 +47,12 @@ public class ProcessDefinitionInfoCacheObject {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
+
+    public long getCacheVersion() {
+        return cacheVersion;
+    }
+
+    public void setCacheVersion(long cacheVersion) {
+        this.cacheVersion = cacheVersion;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.TransactionListener;
+import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.PropertyEntity;
+import org.flowable.engine.impl.persistence.entity.PropertyEntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCacheInvalidationTransport} that uses the revision of the <i>cache.version</i> row in ACT_GE_PROPERTY as version.
+ *
+ * Publishing a change increments the revision, without optimistic locking so concurrent deployments on different nodes don't fail. The row is read at most
+ * once every poll interval, so other nodes see a change with a delay of at most the poll interval. Changes made by this node are seen as soon as
+ * their transaction is committed.
+ */
+public class PropertyDeploymentCacheInvalidationTransport implements DeploymentCacheInvalidationTransport {
+
+    private static final Logger logger = LoggerFactory.getLogger(PropertyDeploymentCacheInvalidationTransport.class);
+
+    public static final String CACHE_VERSION_PROPERTY = "cache.version";
+
+    protected long pollInterval;
+
+    protected volatile long lastPollTime;
+    protected AtomicLong polledVersion = new AtomicLong();
+    protected AtomicLong localVersion = new AtomicLong();
+
+    public PropertyDeploymentCacheInvalidationTransport() {
+        this(1000L);
+    }
+
+    public PropertyDeploymentCacheInvalidationTransport(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public void publishChange(CommandContext commandContext) {
+        int updatedRows = commandContext.getDbSqlSession().update("incrementPropertyRevision", CACHE_VERSION_PROPERTY);
+        if (updatedRows == 0) {
+            createCacheVersionProperty(commandContext.getProcessEngineConfiguration());
+            commandContext.getDbSqlSession().update("incrementPropertyRevision", CACHE_VERSION_PROPERTY);
+        }
+
+        Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+            public void execute(CommandContext commandContext) {
+                localVersion.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Creates the property in a separate transaction, so that the row lock taken by the increment is the only one held by the calling transaction. Fails when
+     * another node created the property concurrently, which is fine.
+     */
+    protected void createCacheVersionProperty(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            processEngineConfiguration.getCommandExecutor().execute(processEngineConfiguration.getDefaultCommandConfig().transactionRequiresNew(), new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    PropertyEntityManager propertyEntityManager = commandContext.getPropertyEntityManager();
+                    if (propertyEntityManager.findById(CACHE_VERSION_PROPERTY) == null) {
+                        PropertyEntity property = propertyEntityManager.create();
+                        property.setName(CACHE_VERSION_PROPERTY);
+                        propertyEntityManager.insert(property);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            logger.debug("Could not create the {} property, it was probably created concurrently", CACHE_VERSION_PROPERTY, e);
+        }
+    }
+
+    public long getVersion(CommandContext commandContext) {
+        long now = System.currentTimeMillis();
+        if (now - lastPollTime >= pollInterval) {
+            lastPollTime = now;
+            PropertyEntity property = commandContext.getPropertyEntityManager().findById(CACHE_VERSION_PROPERTY);
+            if (property != null) {
+                updatePolledVersion(property.getRevision());
+            }
+        }
+        return polledVersion.get() + localVersion.get();
+    }
+
+    protected void updatePolledVersion(long version) {
+        // Polls can finish out of order, the version must never go back
+        long current = polledVersion.get();
+        while (version > current && !polledVersion.compareAndSet(current, version)) {
+            current = polledVersion.get();
+        }
+    }
+
+    public long getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(long pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+}
@@ -23,13 +23,14 @@ import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.impl.db.BulkDeleteable;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 
 /**
  * Abstract job entity class.
  *
  * @author Tijs Rademakers
  */
-public abstract class AbstractJobEntityImpl extends AbstractEntity implements AbstractJobEntity, BulkDeleteable, Serializable {
+public abstract class AbstractJobEntityImpl extends AbstractEntity implements AbstractJobEntity, ChangeTrackingEntity, BulkDeleteable, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -73,9 +74,11 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     // getters and setters ////////////////////////////////////////////////////////
 
     public void setExecution(ExecutionEntity execution) {
+        String oldExecutionId = this.executionId;
         executionId = execution.getId();
         processInstanceId = execution.getProcessInstanceId();
         processDefinitionId = execution.getProcessDefinitionId();
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
     }
 
     public Date getDuedate() {
@@ -83,6 +86,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     }
 
     public void setDuedate(Date duedate) {
+        trackChange(this.duedate, duedate);
         this.duedate = duedate;
     }
 
@@ -91,7 +95,9 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     }
 
     public void setExecutionId(String executionId) {
+        String oldExecutionId = this.executionId;
         this.executionId = executionId;
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
     }
 
     public int getRetries() {
@@ -99,6 +105,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     }
 
     public void setRetries(int retries) {
+        trackChange(this.retries, retries);
         this.retries = retries;
     }
 
@@ -155,6 +162,7 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     }
 
     public void setJobHandlerType(String jobHandlerType) {
+        trackChange(this.jobHandlerType, jobHandlerType);
         this.jobHandlerType = jobHandlerType;
     }
 
@@ -203,7 +211,9 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
         if (exceptionByteArrayRef == null) {
             exceptionByteArrayRef = new ByteArrayRef();
         }
+        String exceptionByteArrayId = exceptionByteArrayRef.getId();
         exceptionByteArrayRef.setValue("stacktrace", getUtf8Bytes(exception));
+        trackChange(exceptionByteArrayId, exceptionByteArrayRef.getId());
     }
 
     public String getExceptionMessage() {
@@ -211,7 +221,9 @@ public abstract class AbstractJobEntityImpl extends AbstractEntity implements Ab
     }
 
     public void setExceptionMessage(String exceptionMessage) {
-        this.exceptionMessage = StringUtils.abbreviate(exceptionMessage, MAX_EXCEPTION_MESSAGE_LENGTH);
+        String abbreviatedExceptionMessage = StringUtils.abbreviate(exceptionMessage, MAX_EXCEPTION_MESSAGE_LENGTH);
+        trackChange(this.exceptionMessage, abbreviatedExceptionMessage);
+        this.exceptionMessage = abbreviatedExceptionMessage;
     }
 
     public ByteArrayRef getExceptionByteArrayRef() {
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+
+import org.flowable.engine.common.impl.persistence.entity.AbstractEntityNoRevision;
+
+public class AsyncExecutorNodeEntityImpl extends AbstractEntityNoRevision implements AsyncExecutorNodeEntity {
+
+    protected String hostName;
+    protected int remainingCapacity;
+    protected Date startTime;
+    protected Date heartbeatTime;
+
+    public AsyncExecutorNodeEntityImpl() {
+    }
+
+    @Override
+    public Object getPersistentState() {
+        return null; // Not updatable, heartbeats are written with an update statement
+    }
+
+    public String getLockOwner() {
+        return id;
+    }
+
+    public String getHostName() {
+        return hostName;
+    }
+
+    public void setHostName(String hostName) {
+        this.hostName = hostName;
+    }
+
+    public int getRemainingCapacity() {
+        return remainingCapacity;
+    }
+
+    public void setRemainingCapacity(int remainingCapacity) {
+        this.remainingCapacity = remainingCapacity;
+    }
+
+    public Date getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(Date startTime) {
+        this.startTime = startTime;
+    }
+
+    public Date getHeartbeatTime() {
+        return heartbeatTime;
+    }
+
+    public void setHeartbeatTime(Date heartbeatTime) {
+        this.heartbeatTime = heartbeatTime;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncExecutorNodeEntity[lockOwner=" + id + ", hostName=" + hostName + ", heartbeatTime=" + heartbeatTime + "]";
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.persistence.entity.EntityManager;
+import org.flowable.engine.runtime.AsyncExecutorNode;
+
+public interface AsyncExecutorNodeEntityManager extends EntityManager<AsyncExecutorNodeEntity> {
+
+    List<AsyncExecutorNode> findAllAsyncExecutorNodes();
+
+    /**
+     * Writes the heartbeat of an async executor node that is already registered.
+     * 
+     * @return the number of updated nodes, 0 when the node isn't registered (anymore).
+     */
+    int updateHeartbeat(String lockOwner, String hostName, int remainingCapacity, Date heartbeatTime);
+
+    /**
+     * Removes the async executor node, but only when its last heartbeat is still the given heartbeat time (or when the given time is null).
+     */
+    int deleteAsyncExecutorNode(String lockOwner, Date heartbeatTime);
+
+}
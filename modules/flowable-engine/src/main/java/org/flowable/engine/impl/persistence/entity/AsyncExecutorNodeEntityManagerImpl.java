@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.data.AsyncExecutorNodeDataManager;
+import org.flowable.engine.runtime.AsyncExecutorNode;
+
+public class AsyncExecutorNodeEntityManagerImpl extends AbstractEntityManager<AsyncExecutorNodeEntity> implements AsyncExecutorNodeEntityManager {
+
+    protected AsyncExecutorNodeDataManager asyncExecutorNodeDataManager;
+
+    public AsyncExecutorNodeEntityManagerImpl(ProcessEngineConfigurationImpl processEngineConfiguration, AsyncExecutorNodeDataManager asyncExecutorNodeDataManager) {
+        super(processEngineConfiguration);
+        this.asyncExecutorNodeDataManager = asyncExecutorNodeDataManager;
+    }
+
+    @Override
+    protected DataManager<AsyncExecutorNodeEntity> getDataManager() {
+        return asyncExecutorNodeDataManager;
+    }
+
+    @Override
+    public List<AsyncExecutorNode> findAllAsyncExecutorNodes() {
+        return asyncExecutorNodeDataManager.findAllAsyncExecutorNodes();
+    }
+
+    @Override
+    public int updateHeartbeat(String lockOwner, String hostName, int remainingCapacity, Date heartbeatTime) {
+        return asyncExecutorNodeDataManager.updateHeartbeat(lockOwner, hostName, remainingCapacity, heartbeatTime);
+    }
+
+    @Override
+    public int deleteAsyncExecutorNode(String lockOwner, Date heartbeatTime) {
+        return asyncExecutorNodeDataManager.deleteAsyncExecutorNode(lockOwner, heartbeatTime);
+    }
+
+    public AsyncExecutorNodeDataManager getAsyncExecutorNodeDataManager() {
+        return asyncExecutorNodeDataManager;
+    }
+
+    public void setAsyncExecutorNodeDataManager(AsyncExecutorNodeDataManager asyncExecutorNodeDataManager) {
+        this.asyncExecutorNodeDataManager = asyncExecutorNodeDataManager;
+    }
+
+}
@@ -14,7 +14,13 @@ package org.flowable.engine.impl.persistence.entity;
 
 import java.io.Serializable;
 
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.variable.ValueFields;
+import org.flowable.engine.impl.variable.VariableType;
 
 /**
  * <p>
@@ -32,6 +38,11 @@ public class ByteArrayRef implements Serializable {
     private ByteArrayEntity entity;
     protected boolean deleted;
 
+    /**
+     * Used to fetch and deserialize the value when it's first needed outside of a command context.
+     */
+    protected transient CommandExecutor commandExecutor;
+
     public ByteArrayRef() {
     }
 
@@ -94,13 +105,48 @@ public class ByteArrayRef implements Serializable {
         }
     }
 
+    /**
+     * Returns the value of the variable that stores its bytes in this byte array. Outside of a command context, the bytes are fetched and the value is
+     * deserialized in a command of the engine, so the classes of the value are loaded with the class loader of the engine.
+     */
+    public Object getValue(final VariableType type, final ValueFields valueFields) {
+        if (id != null && commandExecutor != null && Context.getCommandContext() == null) {
+            return commandExecutor.execute(new Command<Object>() {
+                public Object execute(CommandContext commandContext) {
+                    return type.getValue(valueFields);
+                }
+            });
+        }
+        return type.getValue(valueFields);
+    }
+
     private void ensureInitialized() {
         if (id != null && entity == null) {
-            entity = Context.getCommandContext().getByteArrayEntityManager().findById(id);
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext == null && commandExecutor != null) {
+                entity = commandExecutor.execute(new Command<ByteArrayEntity>() {
+                    public ByteArrayEntity execute(CommandContext commandContext) {
+                        return commandContext.getByteArrayEntityManager().findById(id);
+                    }
+                });
+            } else {
+                entity = commandContext.getByteArrayEntityManager().findById(id);
+            }
+            if (entity == null) {
+                throw new FlowableObjectNotFoundException("Byte array " + id + " not found", ByteArrayEntity.class);
+            }
             name = entity.getName();
         }
     }
 
+    /**
+     * Sets the command executor that fetches and deserializes the value when it's first needed outside of a command context, for example when the value of a
+     * queried variable is read after the query.
+     */
+    public void setCommandExecutor(CommandExecutor commandExecutor) {
+        this.commandExecutor = commandExecutor;
+    }
+
     public boolean isDeleted() {
         return deleted;
     }
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * An {@link Entity} that keeps track itself of changes to the fields that make up its persistent state (see {@link Entity#getPersistentState()}).
+ * 
+ * When entity change tracking is enabled (see {@link org.flowable.engine.impl.cfg.PerformanceSettings#isEnableEntityChangeTracking()}), this flag is used when flushing to determine if an update is
+ * needed, instead of diffing the persistent state with a snapshot taken when the entity was loaded.
+ * 
+ * Implementations must make sure that every modification of the persistent state sets the changed flag.
+ */
+public interface ChangeTrackingEntity extends Entity {
+
+    boolean isChanged();
+
+    void setChanged(boolean changed);
+
+}
@@ -19,6 +19,7 @@ import java.util.HashMap;
 
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 
 /**
  * @author Joram Barrez
@@ -60,7 +61,9 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
     }
 
     public void setEventType(String eventType) {
+        String oldEventType = this.eventType;
         this.eventType = eventType;
+        EntityCacheUtil.indexKeyChanged(this, oldEventType, this.eventType);
     }
 
     public String getEventName() {
@@ -68,7 +71,9 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
     }
 
     public void setEventName(String eventName) {
+        String oldEventName = this.eventName;
         this.eventName = eventName;
+        EntityCacheUtil.indexKeyChanged(this, oldEventName, this.eventName);
     }
 
     public String getExecutionId() {
@@ -76,7 +81,9 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
     }
 
     public void setExecutionId(String executionId) {
+        String oldExecutionId = this.executionId;
         this.executionId = executionId;
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
     }
 
     public ExecutionEntity getExecution() {
@@ -87,11 +94,15 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
     }
 
     public void setExecution(ExecutionEntity execution) {
+        String oldExecutionId = this.executionId;
+        String oldProcessInstanceId = this.processInstanceId;
         this.execution = execution;
         if (execution != null) {
             this.executionId = execution.getId();
             this.processInstanceId = execution.getProcessInstanceId();
         }
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     public String getProcessInstanceId() {
@@ -99,7 +110,9 @@ public abstract class EventSubscriptionEntityImpl extends AbstractEntity impleme
     }
 
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     public String getConfiguration() {
@@ -29,6 +29,7 @@ import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 
 /**
@@ -39,7 +40,7 @@ import org.flowable.engine.impl.util.ProcessDefinitionUtil;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity, ChangeTrackingEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -267,8 +268,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     public void setCurrentFlowElement(FlowElement currentFlowElement) {
         this.currentFlowElement = currentFlowElement;
         if (currentFlowElement != null) {
+            trackChange(this.activityId, currentFlowElement.getId());
             this.activityId = currentFlowElement.getId();
         } else {
+            trackChange(this.activityId, null);
             this.activityId = null;
         }
     }
@@ -310,6 +313,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setBusinessKey(String businessKey) {
+        trackChange(this.businessKey, businessKey);
         this.businessKey = businessKey;
     }
 
@@ -320,6 +324,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     // process definition ///////////////////////////////////////////////////////
 
     public void setProcessDefinitionId(String processDefinitionId) {
+        trackChange(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -374,10 +379,12 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setProcessInstance(ExecutionEntity processInstance) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstance = (ExecutionEntityImpl) processInstance;
         if (processInstance != null) {
             this.processInstanceId = this.processInstance.getId();
         }
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     public boolean isProcessInstanceType() {
@@ -399,13 +406,17 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setParent(ExecutionEntity parent) {
+        String oldParentId = this.parentId;
         this.parent = (ExecutionEntityImpl) parent;
 
         if (parent != null) {
+            trackChange(this.parentId, parent.getId());
             this.parentId = parent.getId();
         } else {
+            trackChange(this.parentId, null);
             this.parentId = null;
         }
+        EntityCacheUtil.indexKeyChanged(this, oldParentId, this.parentId);
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -420,16 +431,20 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setSuperExecution(ExecutionEntity superExecution) {
+        String oldSuperExecutionId = this.superExecutionId;
         this.superExecution = (ExecutionEntityImpl) superExecution;
         if (superExecution != null) {
             superExecution.setSubProcessInstance(null);
         }
 
         if (superExecution != null) {
+            trackChange(this.superExecutionId, ((ExecutionEntityImpl) superExecution).getId());
             this.superExecutionId = ((ExecutionEntityImpl) superExecution).getId();
         } else {
+            trackChange(this.superExecutionId, null);
             this.superExecutionId = null;
         }
+        EntityCacheUtil.indexKeyChanged(this, oldSuperExecutionId, this.superExecutionId);
     }
 
     protected void ensureSuperExecutionInitialized() {
@@ -465,13 +480,17 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setRootProcessInstance(ExecutionEntity rootProcessInstance) {
+        String oldRootProcessInstanceId = this.rootProcessInstanceId;
         this.rootProcessInstance = (ExecutionEntityImpl) rootProcessInstance;
 
         if (rootProcessInstance != null) {
+            trackChange(this.rootProcessInstanceId, rootProcessInstance.getId());
             this.rootProcessInstanceId = rootProcessInstance.getId();
         } else {
+            trackChange(this.rootProcessInstanceId, null);
             this.rootProcessInstanceId = null;
         }
+        EntityCacheUtil.indexKeyChanged(this, oldRootProcessInstanceId, this.rootProcessInstanceId);
     }
 
     public String getRootProcessInstanceId() {
@@ -479,7 +498,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
+        String oldRootProcessInstanceId = this.rootProcessInstanceId;
+        trackChange(this.rootProcessInstanceId, rootProcessInstanceId);
         this.rootProcessInstanceId = rootProcessInstanceId;
+        EntityCacheUtil.indexKeyChanged(this, oldRootProcessInstanceId, this.rootProcessInstanceId);
     }
 
     // scopes ///////////////////////////////////////////////////////////////////
@@ -489,11 +511,13 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setScope(boolean isScope) {
+        trackChange(this.isScope, isScope);
         this.isScope = isScope;
     }
 
     public void forceUpdate() {
         this.forcedUpdate = true;
+        this.isChanged = true;
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -648,7 +672,9 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     public String getParentId() {
@@ -656,7 +682,10 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setParentId(String parentId) {
+        String oldParentId = this.parentId;
+        trackChange(this.parentId, parentId);
         this.parentId = parentId;
+        EntityCacheUtil.indexKeyChanged(this, oldParentId, this.parentId);
     }
 
     public String getActivityId() {
@@ -668,6 +697,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setConcurrent(boolean isConcurrent) {
+        trackChange(this.isConcurrent, isConcurrent);
         this.isConcurrent = isConcurrent;
     }
 
@@ -676,10 +706,12 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setActive(boolean isActive) {
+        trackChange(this.isActive, isActive);
         this.isActive = isActive;
     }
 
     public void inactivate() {
+        trackChange(this.isActive, false);
         this.isActive = false;
     }
 
@@ -712,6 +744,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setSuspensionState(int suspensionState) {
+        trackChange(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -724,6 +757,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setEventScope(boolean isEventScope) {
+        trackChange(this.isEventScope, isEventScope);
         this.isEventScope = isEventScope;
     }
 
@@ -761,6 +795,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setName(String name) {
+        trackChange(this.name, name);
         this.name = name;
     }
 
@@ -805,6 +840,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setLockTime(Date lockTime) {
+        trackChange(this.lockTime, lockTime);
         this.lockTime = lockTime;
     }
 
@@ -848,6 +884,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setStartUserId(String startUserId) {
+        trackChange(this.startUserId, startUserId);
         this.startUserId = startUserId;
     }
 
@@ -856,6 +893,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setStartTime(Date startTime) {
+        trackChange(this.startTime, startTime);
         this.startTime = startTime;
     }
 
@@ -864,6 +902,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
+        trackChange(this.eventSubscriptionCount, eventSubscriptionCount);
         this.eventSubscriptionCount = eventSubscriptionCount;
     }
 
@@ -872,6 +911,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setTaskCount(int taskCount) {
+        trackChange(this.taskCount, taskCount);
         this.taskCount = taskCount;
     }
 
@@ -880,6 +920,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setJobCount(int jobCount) {
+        trackChange(this.jobCount, jobCount);
         this.jobCount = jobCount;
     }
 
@@ -888,6 +929,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setTimerJobCount(int timerJobCount) {
+        trackChange(this.timerJobCount, timerJobCount);
         this.timerJobCount = timerJobCount;
     }
 
@@ -896,6 +938,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setSuspendedJobCount(int suspendedJobCount) {
+        trackChange(this.suspendedJobCount, suspendedJobCount);
         this.suspendedJobCount = suspendedJobCount;
     }
 
@@ -904,6 +947,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setDeadLetterJobCount(int deadLetterJobCount) {
+        trackChange(this.deadLetterJobCount, deadLetterJobCount);
         this.deadLetterJobCount = deadLetterJobCount;
     }
 
@@ -912,6 +956,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setVariableCount(int variableCount) {
+        trackChange(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -920,6 +965,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     }
 
     public void setIdentityLinkCount(int identityLinkCount) {
+        trackChange(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
 
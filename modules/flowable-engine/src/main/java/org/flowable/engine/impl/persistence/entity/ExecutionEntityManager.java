@@ -13,6 +13,7 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -96,4 +97,13 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void clearProcessInstanceLockTime(String processInstanceId);
 
+    /**
+     * Extends the lock of a process instance that was locked with {@link #updateProcessInstanceLockTime(String)}, without unlocking it first. The lock
+     * is only extended when it has not expired yet and is not later than the given lock time, so a lock taken by someone else after the given lock
+     * expired is left alone.
+     * 
+     * @return the new lock time, or null when the lock could not be extended.
+     */
+    Date extendProcessInstanceLockTime(String processInstanceId, Date currentLockTime);
+
 }
\ No newline at end of file
@@ -679,6 +679,19 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         executionDataManager.clearProcessInstanceLockTime(processInstanceId);
     }
 
+    @Override
+    public Date extendProcessInstanceLockTime(String processInstanceId, Date currentLockTime) {
+        Date now = getClock().getCurrentTime();
+        Date lockDate = new Date(now.getTime() + getAsyncExecutor().getAsyncJobLockTimeInMillis());
+
+        // One second of slack, for databases that round the stored lock time
+        Date maxCurrentLockTime = new Date(currentLockTime.getTime() + 1000L);
+        if (executionDataManager.extendProcessInstanceLockTime(processInstanceId, maxCurrentLockTime, lockDate, now)) {
+            return lockDate;
+        }
+        return null;
+    }
+
     @Override
     public String updateProcessInstanceBusinessKey(ExecutionEntity executionEntity, String businessKey) {
         if (executionEntity.isProcessInstanceType() && businessKey != null) {
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 
 /**
  * @author Christian Stettler
@@ -82,7 +83,9 @@ public class HistoricActivityInstanceEntityImpl extends HistoricScopeInstanceEnt
     }
 
     public void setExecutionId(String executionId) {
+        String oldExecutionId = this.executionId;
         this.executionId = executionId;
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
     }
 
     public String getAssignee() {
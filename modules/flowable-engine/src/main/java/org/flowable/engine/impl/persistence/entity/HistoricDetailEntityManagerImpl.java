@@ -78,7 +78,7 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
         historicVariableUpdate.setDoubleValue(variableInstance.getDoubleValue());
         historicVariableUpdate.setLongValue(variableInstance.getLongValue());
 
-        if (variableInstance.getBytes() != null) {
+        if (variableInstance.getByteArrayRef() != null && variableInstance.getBytes() != null) {
             historicVariableUpdate.setBytes(variableInstance.getBytes());
         }
 
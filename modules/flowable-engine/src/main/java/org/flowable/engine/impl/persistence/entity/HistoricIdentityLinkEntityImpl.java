@@ -20,6 +20,7 @@ import java.util.Map;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntityNoRevision;
 import org.flowable.engine.impl.db.BulkDeleteable;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 
 /**
  * @author Frederik Heremans
@@ -118,7 +119,9 @@ public class HistoricIdentityLinkEntityImpl extends AbstractEntityNoRevision imp
     }
 
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     @Override
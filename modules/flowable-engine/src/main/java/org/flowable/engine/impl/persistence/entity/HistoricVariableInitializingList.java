@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import org.flowable.engine.impl.context.Context;
+import org.flowable.engine.impl.variable.ByteArrayType;
 import org.flowable.engine.impl.variable.CacheableVariable;
 import org.flowable.engine.impl.variable.JPAEntityListVariableType;
 import org.flowable.engine.impl.variable.JPAEntityVariableType;
@@ -59,11 +60,19 @@ public class HistoricVariableInitializingList extends ArrayList<HistoricVariable
     }
 
     /**
-     * If the passed {@link HistoricVariableInstanceEntity} is a binary variable and the command-context is active, the variable value is fetched to ensure the byte-array is populated.
+     * If the command-context is active, the value of the passed {@link HistoricVariableInstanceEntity} is fetched. The byte-array of a binary variable is only fetched when its value is needed.
      */
     protected void initializeVariable(HistoricVariableInstanceEntity e) {
         if (Context.getCommandContext() != null && e != null && e.getVariableType() != null) {
-            e.getValue();
+            if (e.getVariableType() instanceof ByteArrayType) {
+                // The bytes are fetched and the value is deserialized when it is first needed. After the command context is closed, that happens in a
+                // new command, so the value is the one stored at that time and an exception is thrown when the variable was deleted in the meantime
+                if (e.getByteArrayRef() != null) {
+                    e.getByteArrayRef().setCommandExecutor(Context.getProcessEngineConfiguration().getCommandExecutor());
+                }
+            } else {
+                e.getValue();
+            }
 
             // make sure JPA entities are cached for later retrieval
             if (JPAEntityVariableType.TYPE_NAME.equals(e.getVariableType().getTypeName()) || JPAEntityListVariableType.TYPE_NAME.equals(e.getVariableType().getTypeName())) {
@@ -20,6 +20,7 @@ import java.util.HashMap;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.impl.db.BulkDeleteable;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 import org.flowable.engine.impl.variable.VariableType;
 
 /**
@@ -74,7 +75,11 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
     @Override
     public Object getValue() {
         if (!variableType.isCachable() || cachedValue == null) {
-            cachedValue = variableType.getValue(this);
+            if (byteArrayRef != null) {
+                cachedValue = byteArrayRef.getValue(variableType, this);
+            } else {
+                cachedValue = variableType.getValue(this);
+            }
         }
         return cachedValue;
     }
@@ -181,7 +186,9 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     @Override
@@ -196,7 +203,9 @@ public class HistoricVariableInstanceEntityImpl extends AbstractEntity implement
 
     @Override
     public void setTaskId(String taskId) {
+        String oldTaskId = this.taskId;
         this.taskId = taskId;
+        EntityCacheUtil.indexKeyChanged(this, oldTaskId, this.taskId);
     }
 
     @Override
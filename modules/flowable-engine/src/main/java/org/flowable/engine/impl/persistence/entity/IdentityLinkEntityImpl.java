@@ -20,6 +20,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntityNoRevision;
 import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.db.BulkDeleteable;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 
 /**
  * @author Joram Barrez
@@ -121,7 +122,9 @@ public class IdentityLinkEntityImpl extends AbstractEntityNoRevision implements
     }
 
     public void setProcessInstanceId(String processInstanceId) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstanceId = processInstanceId;
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     public String getProcessDefId() {
@@ -152,8 +155,10 @@ public class IdentityLinkEntityImpl extends AbstractEntityNoRevision implements
     }
 
     public void setProcessInstance(ExecutionEntity processInstance) {
+        String oldProcessInstanceId = this.processInstanceId;
         this.processInstance = processInstance;
         this.processInstanceId = processInstance.getId();
+        EntityCacheUtil.indexKeyChanged(this, oldProcessInstanceId, this.processInstanceId);
     }
 
     public ProcessDefinitionEntity getProcessDef() {
@@ -49,6 +49,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
     }
 
     public void setLockOwner(String claimedBy) {
+        trackChange(this.lockOwner, claimedBy);
         this.lockOwner = claimedBy;
     }
 
@@ -57,6 +58,7 @@ public class JobEntityImpl extends AbstractJobEntityImpl implements JobEntity {
     }
 
     public void setLockExpirationTime(Date claimedUntil) {
+        trackChange(this.lockExpirationTime, claimedUntil);
         this.lockExpirationTime = claimedUntil;
     }
 
@@ -12,7 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -41,6 +44,14 @@ public interface JobEntityManager extends EntityManager<JobEntity> {
      */
     List<JobEntity> findJobsToExecute(Page page);
 
+    /**
+     * Locks {@link JobEntity} instances that are eligible to be executed for the given lock owner, using a single conditional update instead of updating
+     * each job with optimistic locking. Jobs that were locked concurrently by another lock owner are skipped, instead of failing the whole acquisition.
+     * 
+     * Returns the jobs that were locked.
+     */
+    List<JobEntity> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime);
+
     /**
      * Returns all {@link JobEntity} instances related to on {@link ExecutionEntity}.
      */
@@ -71,6 +82,34 @@ public interface JobEntityManager extends EntityManager<JobEntity> {
      */
     void resetExpiredJob(String jobId);
 
+    /**
+     * Returns the lock owners of the jobs with an expired lock, with the oldest lock expiration time of each lock owner. The key is null for jobs
+     * with an expired lock but without lock owner.
+     */
+    Map<String, Date> findExpiredJobLockOwners(Date now);
+
+    /**
+     * Resets all jobs of the given lock owner (which can be null) that have an expired lock, with one update statement.
+     * 
+     * Returns the number of jobs that were reset.
+     */
+    int releaseExpiredJobLocks(String lockOwner, Date now);
+
+    /**
+     * Resets all jobs locked by the given lock owner, expired or not, with one update statement. Used when the lock owner is known to be dead.
+     * 
+     * Returns the number of jobs that were reset.
+     */
+    int releaseJobLocks(String lockOwner);
+
+    /**
+     * Sets a new lock expiration time on the given jobs that are locked by the given lock owner, for jobs that are held by the lock owner for longer
+     * than the async job lock time before they are executed. The revision of the jobs is not changed.
+     * 
+     * Returns the number of jobs of which the lock was extended.
+     */
+    int extendJobLocks(String lockOwner, Collection<String> jobIds, Date lockExpirationTime);
+
     /**
      * Changes the tenantId for all jobs related to a given {@link DeploymentEntity}.
      */
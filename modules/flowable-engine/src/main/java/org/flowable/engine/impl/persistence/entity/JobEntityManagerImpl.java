@@ -13,7 +13,10 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -88,6 +91,11 @@ public class JobEntityManagerImpl extends AbstractEntityManager<JobEntity> imple
         return jobDataManager.findJobsToExecute(page);
     }
 
+    @Override
+    public List<JobEntity> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        return jobDataManager.claimJobsToExecute(page, lockOwner, lockExpirationTime);
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(String executionId) {
         return jobDataManager.findJobsByExecutionId(executionId);
@@ -108,6 +116,26 @@ public class JobEntityManagerImpl extends AbstractEntityManager<JobEntity> imple
         jobDataManager.resetExpiredJob(jobId);
     }
 
+    @Override
+    public Map<String, Date> findExpiredJobLockOwners(Date now) {
+        return jobDataManager.findExpiredJobLockOwners(now);
+    }
+
+    @Override
+    public int releaseExpiredJobLocks(String lockOwner, Date now) {
+        return jobDataManager.releaseExpiredJobLocks(lockOwner, now);
+    }
+
+    @Override
+    public int releaseJobLocks(String lockOwner) {
+        return jobDataManager.releaseJobLocks(lockOwner);
+    }
+
+    @Override
+    public int extendJobLocks(String lockOwner, Collection<String> jobIds, Date lockExpirationTime) {
+        return jobDataManager.extendJobLocks(lockOwner, jobIds, lockExpirationTime);
+    }
+
     @Override
     public List<Job> findJobsByQueryCriteria(JobQueryImpl jobQuery, Page page) {
         return jobDataManager.findJobsByQueryCriteria(jobQuery, page);
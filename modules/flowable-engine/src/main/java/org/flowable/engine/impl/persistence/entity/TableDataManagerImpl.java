@@ -110,6 +110,8 @@ public class TableDataManagerImpl extends AbstractManager implements TableDataMa
 
         entityToTableNameMap.put(EventLogEntryEntity.class, "ACT_EVT_LOG");
 
+        entityToTableNameMap.put(AsyncExecutorNodeEntity.class, "ACT_RU_EXECUTOR_NODE");
+
         // and now the map for the API types (does not cover all cases)
         apiTypeToTableNameMap.put(Task.class, "ACT_RU_TASK");
         apiTypeToTableNameMap.put(Execution.class, "ACT_RU_EXECUTION");
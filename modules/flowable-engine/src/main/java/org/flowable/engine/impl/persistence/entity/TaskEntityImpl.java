@@ -32,6 +32,7 @@ import org.flowable.engine.impl.context.Context;
 import org.flowable.engine.impl.db.BulkDeleteable;
 import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.CountingTaskEntity;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 import org.flowable.engine.task.DelegationState;
 import org.flowable.engine.task.IdentityLink;
 import org.flowable.engine.task.IdentityLinkType;
@@ -42,7 +43,7 @@ import org.flowable.engine.task.IdentityLinkType;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, Serializable, BulkDeleteable {
+public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, ChangeTrackingEntity, Serializable, BulkDeleteable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -152,6 +153,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        this.isChanged = true;
     }
 
     // variables //////////////////////////////////////////////////////////////////
@@ -307,33 +309,39 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setName(String taskName) {
+        trackChange(this.name, taskName);
         this.name = taskName;
     }
 
     @Override
     public void setDescription(String description) {
+        trackChange(this.description, description);
         this.description = description;
     }
 
     @Override
     public void setAssignee(String assignee) {
         this.originalAssignee = this.assignee;
+        trackChange(this.assignee, assignee);
         this.assignee = assignee;
         assigneeUpdatedCount++;
     }
 
     @Override
     public void setOwner(String owner) {
+        trackChange(this.owner, owner);
         this.owner = owner;
     }
 
     @Override
     public void setDueDate(Date dueDate) {
+        trackChange(this.dueDate, dueDate);
         this.dueDate = dueDate;
     }
 
     @Override
     public void setPriority(int priority) {
+        trackChange(this.priority, priority);
         this.priority = priority;
     }
 
@@ -344,6 +352,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setParentTaskId(String parentTaskId) {
+        trackChange(this.parentTaskId, parentTaskId);
         this.parentTaskId = parentTaskId;
     }
 
@@ -440,6 +449,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setCreateTime(Date createTime) {
+        trackChange(this.createTime, createTime);
         this.createTime = createTime;
     }
 
@@ -460,6 +470,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
+        trackChange(this.processDefinitionId, processDefinitionId);
         this.processDefinitionId = processDefinitionId;
     }
 
@@ -509,7 +520,10 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setExecutionId(String executionId) {
+        String oldExecutionId = this.executionId;
+        trackChange(this.executionId, executionId);
         this.executionId = executionId;
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
     }
 
     @Override
@@ -546,6 +560,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setDelegationState(DelegationState delegationState) {
+        trackChange(this.delegationState, delegationState);
         this.delegationState = delegationState;
     }
 
@@ -554,7 +569,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     }
 
     public void setDelegationStateString(String delegationStateString) {
-        this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
+        setDelegationState(delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
     }
 
     @Override
@@ -595,6 +610,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setSuspensionState(int suspensionState) {
+        trackChange(this.suspensionState, suspensionState);
         this.suspensionState = suspensionState;
     }
 
@@ -673,6 +689,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setClaimTime(Date claimTime) {
+        trackChange(this.claimTime, claimTime);
         this.claimTime = claimTime;
     }
 
@@ -692,6 +709,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setVariableCount(int variableCount) {
+        trackChange(this.variableCount, variableCount);
         this.variableCount = variableCount;
     }
 
@@ -702,6 +720,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
+        trackChange(this.identityLinkCount, identityLinkCount);
         this.identityLinkCount = identityLinkCount;
     }
 
@@ -43,6 +43,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
     }
 
     public void setLockOwner(String claimedBy) {
+        trackChange(this.lockOwner, claimedBy);
         this.lockOwner = claimedBy;
     }
 
@@ -51,6 +52,7 @@ public class TimerJobEntityImpl extends AbstractJobEntityImpl implements TimerJo
     }
 
     public void setLockExpirationTime(Date claimedUntil) {
+        trackChange(this.lockExpirationTime, claimedUntil);
         this.lockExpirationTime = claimedUntil;
     }
 
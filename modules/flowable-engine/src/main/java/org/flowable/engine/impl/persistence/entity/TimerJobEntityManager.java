@@ -12,7 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -40,6 +43,49 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Locks {@link TimerJobEntity} instances that are eligible to execute for the given lock owner, using a single conditional update. Timer jobs that were
+     * locked concurrently by another lock owner are skipped, instead of failing the whole acquisition.
+     * 
+     * Returns the timer jobs that were locked.
+     */
+    List<TimerJobEntity> claimTimerJobsToExecute(Page page, String lockOwner, Date lockExpirationTime);
+
+    /**
+     * Locks {@link TimerJobEntity} instances that are due before the given date for the given lock owner, so they can be fired by that lock owner at their
+     * due date. Timer jobs that are locked by another lock owner are skipped, unless that lock has expired.
+     * 
+     * Returns the timer jobs that were locked.
+     */
+    List<TimerJobEntity> leaseTimerJobs(Date maxDueDate, Page page, String lockOwner, Date lockExpirationTime);
+
+    /**
+     * Removes the lock of the given {@link TimerJobEntity} instances, if they are still locked by the given lock owner.
+     * 
+     * Returns the number of timer jobs that were unlocked.
+     */
+    int releaseTimerJobLeases(String lockOwner, Collection<String> timerJobIds);
+
+    /**
+     * Returns the lock owners of the timer jobs with an expired lock, with the oldest lock expiration time of each lock owner.
+     */
+    Map<String, Date> findExpiredTimerJobLockOwners(Date now);
+
+    /**
+     * Removes the lock of all timer jobs of the given lock owner (which can be null) that have an expired lock, with one update statement.
+     * 
+     * Returns the number of timer jobs that were unlocked.
+     */
+    int releaseExpiredTimerJobLocks(String lockOwner, Date now);
+
+    /**
+     * Removes the lock of all timer jobs locked by the given lock owner, expired or not, with one update statement. Used when the lock owner is known
+     * to be dead.
+     * 
+     * Returns the number of timer jobs that were unlocked.
+     */
+    int releaseTimerJobLocks(String lockOwner);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * 
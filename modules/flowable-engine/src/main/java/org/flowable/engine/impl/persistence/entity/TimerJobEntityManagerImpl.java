@@ -14,8 +14,10 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.Page;
@@ -70,6 +72,36 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return jobDataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<TimerJobEntity> claimTimerJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        return jobDataManager.claimTimerJobsToExecute(page, lockOwner, lockExpirationTime);
+    }
+
+    @Override
+    public List<TimerJobEntity> leaseTimerJobs(Date maxDueDate, Page page, String lockOwner, Date lockExpirationTime) {
+        return jobDataManager.leaseTimerJobs(maxDueDate, page, lockOwner, lockExpirationTime);
+    }
+
+    @Override
+    public int releaseTimerJobLeases(String lockOwner, Collection<String> timerJobIds) {
+        return jobDataManager.releaseTimerJobLeases(lockOwner, timerJobIds);
+    }
+
+    @Override
+    public Map<String, Date> findExpiredTimerJobLockOwners(Date now) {
+        return jobDataManager.findExpiredTimerJobLockOwners(now);
+    }
+
+    @Override
+    public int releaseExpiredTimerJobLocks(String lockOwner, Date now) {
+        return jobDataManager.releaseExpiredTimerJobLocks(lockOwner, now);
+    }
+
+    @Override
+    public int releaseTimerJobLocks(String lockOwner) {
+        return jobDataManager.releaseTimerJobLocks(lockOwner);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return jobDataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
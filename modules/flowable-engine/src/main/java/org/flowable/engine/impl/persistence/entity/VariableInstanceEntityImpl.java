@@ -19,6 +19,7 @@ import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
 import org.flowable.engine.impl.db.BulkDeleteable;
+import org.flowable.engine.impl.persistence.cache.EntityCacheUtil;
 import org.flowable.engine.impl.variable.ValueFields;
 import org.flowable.engine.impl.variable.VariableType;
 
@@ -27,7 +28,7 @@ import org.flowable.engine.impl.variable.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, BulkDeleteable, Serializable {
+public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, ChangeTrackingEntity, BulkDeleteable, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -77,13 +78,16 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setExecution(ExecutionEntity execution) {
+        String oldExecutionId = this.executionId;
         this.executionId = execution.getId();
         this.processInstanceId = execution.getProcessInstanceId();
         forceUpdate();
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
     }
 
     public void forceUpdate() {
         forcedUpdate = true;
+        isChanged = true;
     }
 
     public void setProcessInstanceId(String processInstanceId) {
@@ -91,7 +95,9 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setExecutionId(String executionId) {
+        String oldExecutionId = this.executionId;
         this.executionId = executionId;
+        EntityCacheUtil.indexKeyChanged(this, oldExecutionId, this.executionId);
     }
 
     // byte array value ///////////////////////////////////////////////////////////
@@ -105,7 +111,9 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
+        String byteArrayId = byteArrayRef.getId();
         byteArrayRef.setValue("var-" + name, bytes);
+        trackChange(byteArrayId, byteArrayRef.getId());
     }
 
     public ByteArrayRef getByteArrayRef() {
@@ -122,7 +130,11 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
 
     public Object getValue() {
         if (!type.isCachable() || cachedValue == null) {
-            cachedValue = type.getValue(this);
+            if (byteArrayRef != null) {
+                cachedValue = byteArrayRef.getValue(type, this);
+            } else {
+                cachedValue = type.getValue(this);
+            }
         }
         return cachedValue;
     }
@@ -186,6 +198,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setLongValue(Long longValue) {
+        trackChange(this.longValue, longValue);
         this.longValue = longValue;
     }
 
@@ -194,6 +207,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setDoubleValue(Double doubleValue) {
+        trackChange(this.doubleValue, doubleValue);
         this.doubleValue = doubleValue;
     }
 
@@ -202,6 +216,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setTextValue(String textValue) {
+        trackChange(this.textValue, textValue);
         this.textValue = textValue;
     }
 
@@ -210,6 +225,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     }
 
     public void setTextValue2(String textValue2) {
+        trackChange(this.textValue2, textValue2);
         this.textValue2 = textValue2;
     }
 
@@ -24,6 +24,7 @@ import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.db.DbSqlSession;
 import org.flowable.engine.impl.persistence.AbstractManager;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.cache.CachedEntity;
 import org.flowable.engine.impl.persistence.cache.EntityCache;
@@ -91,9 +92,20 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
     @SuppressWarnings("unchecked")
     protected EntityImpl getEntity(String selectQuery, Object parameter, SingleCachedEntityMatcher<EntityImpl> cachedEntityMatcher, boolean checkDatabase) {
         // Cache
-        for (EntityImpl cachedEntity : getEntityCache().findInCache(getManagedEntityClass())) {
-            if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
-                return cachedEntity;
+        Collection<CachedEntity> indexedCachedObjects = findIndexedCachedObjects(getManagedEntityClass(), cachedEntityMatcher, parameter);
+        if (indexedCachedObjects != null) {
+            for (CachedEntity cachedObject : indexedCachedObjects) {
+                EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
+                if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
+                    return cachedEntity;
+                }
+            }
+
+        } else {
+            for (EntityImpl cachedEntity : getEntityCache().findInCache(getManagedEntityClass())) {
+                if (cachedEntityMatcher.isRetained(cachedEntity, parameter)) {
+                    return cachedEntity;
+                }
             }
         }
 
@@ -127,8 +139,9 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
         if (checkCache) {
 
             Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+            Collection<CachedEntity> candidateCachedObjects = findCandidateCachedObjects(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter);
 
-            if ((cachedObjects != null && cachedObjects.size() > 0) || getManagedEntitySubClasses() != null) {
+            if ((candidateCachedObjects != null && candidateCachedObjects.size() > 0) || getManagedEntitySubClasses() != null) {
 
                 HashMap<String, EntityImpl> entityMap = new HashMap<String, EntityImpl>(result.size());
 
@@ -138,8 +151,8 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
                 }
 
                 // Cache entities
-                if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                if (candidateCachedObjects != null && cachedEntityMatcher != null) {
+                    for (CachedEntity cachedObject : candidateCachedObjects) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -149,7 +162,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
                 if (getManagedEntitySubClasses() != null && cachedEntityMatcher != null) {
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                        Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                        Collection<CachedEntity> subclassCachedObjects = findCandidateCachedObjects(entitySubClass, null, cachedEntityMatcher, parameter);
                         if (subclassCachedObjects != null) {
                             for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -182,12 +195,13 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
     protected List<EntityImpl> getListFromCache(CachedEntityMatcher<EntityImpl> entityMatcher, Object parameter) {
         Collection<CachedEntity> cachedObjects = getEntityCache().findInCacheAsCachedObjects(getManagedEntityClass());
+        Collection<CachedEntity> candidateCachedObjects = findCandidateCachedObjects(getManagedEntityClass(), cachedObjects, entityMatcher, parameter);
 
         DbSqlSession dbSqlSession = getDbSqlSession();
 
-        List<EntityImpl> result = new ArrayList<EntityImpl>(cachedObjects.size());
-        if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+        List<EntityImpl> result = new ArrayList<EntityImpl>(candidateCachedObjects.size());
+        if (candidateCachedObjects != null && entityMatcher != null) {
+            for (CachedEntity cachedObject : candidateCachedObjects) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedEntity)) {
                     result.add(cachedEntity);
@@ -197,7 +211,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
 
         if (getManagedEntitySubClasses() != null && entityMatcher != null) {
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
-                Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
+                Collection<CachedEntity> subclassCachedObjects = findCandidateCachedObjects(entitySubClass, null, entityMatcher, parameter);
                 if (subclassCachedObjects != null) {
                     for (CachedEntity subclassCachedObject : subclassCachedObjects) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
@@ -212,4 +226,34 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> extends Abs
         return result;
     }
 
+    /**
+     * Returns the cached entities of the given type that need to be checked by the matcher. When the matcher is an {@link IndexedCachedEntityMatcher}, only the candidates from the index are
+     * returned. Otherwise, these are the given cached entities or, when null is passed, all cached entities of the type.
+     */
+    protected Collection<CachedEntity> findCandidateCachedObjects(Class<?> entityClass, Collection<CachedEntity> cachedObjects, Object cachedEntityMatcher, Object parameter) {
+        Collection<CachedEntity> indexedCachedObjects = findIndexedCachedObjects(entityClass, cachedEntityMatcher, parameter);
+        if (indexedCachedObjects != null) {
+            return indexedCachedObjects;
+        }
+
+        if (cachedObjects != null) {
+            return cachedObjects;
+        }
+        return getEntityCache().findInCacheAsCachedObjects(entityClass);
+    }
+
+    /**
+     * Returns the candidates from the index of the given matcher, or null if the matcher is not indexed, gives no index key for the parameter or when no entities of the type are cached.
+     */
+    protected Collection<CachedEntity> findIndexedCachedObjects(Class<?> entityClass, Object cachedEntityMatcher, Object parameter) {
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher indexedCachedEntityMatcher = (IndexedCachedEntityMatcher) cachedEntityMatcher;
+            String indexKey = indexedCachedEntityMatcher.getIndexKey(parameter);
+            if (indexKey != null) {
+                return getEntityCache().findInCacheAsCachedObjects(entityClass, indexedCachedEntityMatcher.getIndex(), indexKey);
+            }
+        }
+        return null;
+    }
+
 }
@@ -72,4 +72,6 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     void clearProcessInstanceLockTime(String processInstanceId);
 
+    boolean extendProcessInstanceLockTime(String processInstanceId, Date maxCurrentLockTime, Date lockDate, Date now);
+
 }
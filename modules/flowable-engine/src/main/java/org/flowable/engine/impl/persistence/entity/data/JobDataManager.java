@@ -12,7 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -27,6 +30,8 @@ public interface JobDataManager extends DataManager<JobEntity> {
 
     List<JobEntity> findJobsToExecute(Page page);
 
+    List<JobEntity> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime);
+
     List<JobEntity> findJobsByExecutionId(final String executionId);
 
     List<JobEntity> findJobsByProcessInstanceId(final String processInstanceId);
@@ -41,4 +46,12 @@ public interface JobDataManager extends DataManager<JobEntity> {
 
     void resetExpiredJob(String jobId);
 
+    Map<String, Date> findExpiredJobLockOwners(Date now);
+
+    int releaseExpiredJobLocks(String lockOwner, Date now);
+
+    int releaseJobLocks(String lockOwner);
+
+    int extendJobLocks(String lockOwner, Collection<String> jobIds, Date lockExpirationTime);
+
 }
@@ -12,7 +12,10 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -28,6 +31,18 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
 
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    List<TimerJobEntity> claimTimerJobsToExecute(Page page, String lockOwner, Date lockExpirationTime);
+
+    List<TimerJobEntity> leaseTimerJobs(Date maxDueDate, Page page, String lockOwner, Date lockExpirationTime);
+
+    int releaseTimerJobLeases(String lockOwner, Collection<String> timerJobIds);
+
+    Map<String, Date> findExpiredTimerJobLockOwners(Date now);
+
+    int releaseExpiredTimerJobLocks(String lockOwner, Date now);
+
+    int releaseTimerJobLocks(String lockOwner);
+
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String jobHandlerType, String processDefinitionKey);
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.entity.data.impl;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntity;
+import org.flowable.engine.impl.persistence.entity.AsyncExecutorNodeEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.AbstractDataManager;
+import org.flowable.engine.impl.persistence.entity.data.AsyncExecutorNodeDataManager;
+import org.flowable.engine.runtime.AsyncExecutorNode;
+
+public class MybatisAsyncExecutorNodeDataManager extends AbstractDataManager<AsyncExecutorNodeEntity> implements AsyncExecutorNodeDataManager {
+
+    public MybatisAsyncExecutorNodeDataManager(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        super(processEngineConfiguration);
+    }
+
+    @Override
+    public Class<? extends AsyncExecutorNodeEntity> getManagedEntityClass() {
+        return AsyncExecutorNodeEntityImpl.class;
+    }
+
+    @Override
+    public AsyncExecutorNodeEntity create() {
+        return new AsyncExecutorNodeEntityImpl();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<AsyncExecutorNode> findAllAsyncExecutorNodes() {
+        return getDbSqlSession().selectList("selectAllAsyncExecutorNodes");
+    }
+
+    @Override
+    public int updateHeartbeat(String lockOwner, String hostName, int remainingCapacity, Date heartbeatTime) {
+        Map<String, Object> params = new HashMap<String, Object>(4);
+        params.put("id", lockOwner);
+        params.put("hostName", hostName);
+        params.put("remainingCapacity", remainingCapacity);
+        params.put("heartbeatTime", heartbeatTime);
+        return getDbSqlSession().update("updateAsyncExecutorNodeHeartbeat", params);
+    }
+
+    @Override
+    public int deleteAsyncExecutorNode(String lockOwner, Date heartbeatTime) {
+        Map<String, Object> params = new HashMap<String, Object>(2);
+        params.put("id", lockOwner);
+        params.put("heartbeatTime", heartbeatTime);
+        return getDbSqlSession().getSqlSession().delete("deleteAsyncExecutorNodeWithHeartbeat", params);
+    }
+
+}
@@ -333,4 +333,14 @@ public class MybatisExecutionDataManager extends AbstractDataManager<ExecutionEn
         getDbSqlSession().update("clearProcessInstanceLockTime", params);
     }
 
+    @Override
+    public boolean extendProcessInstanceLockTime(String processInstanceId, Date maxCurrentLockTime, Date lockDate, Date now) {
+        HashMap<String, Object> params = new HashMap<String, Object>();
+        params.put("id", processInstanceId);
+        params.put("maxCurrentLockTime", maxCurrentLockTime);
+        params.put("lockTime", lockDate);
+        params.put("now", now);
+        return getDbSqlSession().update("extendProcessInstanceLockTime", params) > 0;
+    }
+
 }
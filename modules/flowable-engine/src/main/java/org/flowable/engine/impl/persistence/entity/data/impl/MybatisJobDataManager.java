@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +58,54 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         return getDbSqlSession().selectList("selectJobsToExecute", null, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<JobEntity> claimJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        // The candidates are not cached, as they are either updated in memory or fetched again below with their new revision
+        List<JobEntity> candidates = getDbSqlSession().selectList("selectJobsToExecute", null, page, false);
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<String> ids = new ArrayList<String>(candidates.size());
+        for (JobEntity candidate : candidates) {
+            ids.add(candidate.getId());
+        }
+
+        Map<String, Object> params = new HashMap<String, Object>(3);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        params.put("ids", ids);
+        int claimedJobs = getDbSqlSession().update("claimJobs", params);
+        if (claimedJobs == 0) {
+            return new ArrayList<JobEntity>();
+
+        } else if (claimedJobs == candidates.size()) {
+            // Every candidate was claimed, no need to fetch them again
+            for (JobEntity candidate : candidates) {
+                candidate.setRevision(candidate.getRevisionNext());
+                candidate.setLockOwner(lockOwner);
+                candidate.setLockExpirationTime(lockExpirationTime);
+            }
+            return candidates;
+        }
+
+        // Another executor claimed some of the candidates in the meantime. A candidate was claimed by this statement
+        // when it's locked by this owner with the revision that follows the one it was selected with.
+        Map<String, Integer> claimedRevisions = new HashMap<String, Integer>(candidates.size());
+        for (JobEntity candidate : candidates) {
+            claimedRevisions.put(candidate.getId(), candidate.getRevisionNext());
+        }
+
+        List<JobEntity> claimedJobEntities = new ArrayList<JobEntity>(claimedJobs);
+        for (JobEntity jobEntity : (List<JobEntity>) getDbSqlSession().selectList("selectJobsClaimedByLockOwner", params)) {
+            if (claimedRevisions.get(jobEntity.getId()).intValue() == jobEntity.getRevision()) {
+                claimedJobEntities.add(jobEntity);
+            }
+        }
+        return claimedJobEntities;
+    }
+
     @Override
     public List<JobEntity> findJobsByExecutionId(final String executionId) {
         return getList("selectJobsByExecutionId", executionId, jobsByExecutionIdMatcher, true);
@@ -101,4 +151,46 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         getDbSqlSession().update("resetExpiredJob", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Date> findExpiredJobLockOwners(Date now) {
+        Map<String, Object> params = new HashMap<String, Object>(1);
+        params.put("now", now);
+        List<Map<String, Object>> rows = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectExpiredJobLockOwners", params, 0, Integer.MAX_VALUE);
+
+        Map<String, Date> lockOwners = new HashMap<String, Date>(rows.size());
+        for (Map<String, Object> row : rows) {
+            lockOwners.put((String) row.get("lockOwner"), (Date) row.get("minLockExpirationTime"));
+        }
+        return lockOwners;
+    }
+
+    @Override
+    public int releaseExpiredJobLocks(String lockOwner, Date now) {
+        Map<String, Object> params = new HashMap<String, Object>(2);
+        params.put("lockOwner", lockOwner);
+        params.put("now", now);
+        return getDbSqlSession().update("releaseExpiredJobLocks", params);
+    }
+
+    @Override
+    public int releaseJobLocks(String lockOwner) {
+        Map<String, Object> params = new HashMap<String, Object>(1);
+        params.put("lockOwner", lockOwner);
+        return getDbSqlSession().update("releaseJobLocksOfLockOwner", params);
+    }
+
+    @Override
+    public int extendJobLocks(String lockOwner, Collection<String> jobIds, Date lockExpirationTime) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Object> params = new HashMap<String, Object>(3);
+        params.put("lockOwner", lockOwner);
+        params.put("ids", jobIds);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return getDbSqlSession().update("extendJobLocks", params);
+    }
+
 }
@@ -12,12 +12,15 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.common.impl.Page;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.impl.TimerJobQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.CachedEntityMatcher;
@@ -69,6 +72,122 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", now, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> claimTimerJobsToExecute(Page page, String lockOwner, Date lockExpirationTime) {
+        // The candidates are not cached, as they are either updated in memory or fetched again below with their new revision
+        List<TimerJobEntity> candidates = getDbSqlSession().selectList("selectTimerJobsToExecute", getClock().getCurrentTime(), page, false);
+
+        Map<String, Object> params = new HashMap<String, Object>(4);
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return claimTimerJobs(candidates, "claimTimerJobs", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> leaseTimerJobs(Date maxDueDate, Page page, String lockOwner, Date lockExpirationTime) {
+        Map<String, Object> params = new HashMap<String, Object>(4);
+        params.put("maxDueDate", maxDueDate);
+        params.put("now", getClock().getCurrentTime());
+
+        // The timer jobs that are due first are leased first, the capacity could be taken by timer jobs due much later otherwise
+        ListQueryParameterObject parameter = new ListQueryParameterObject();
+        parameter.setParameter(params);
+        parameter.setOrderByColumns("RES.DUEDATE_ asc");
+        List<TimerJobEntity> candidates = getDbSqlSession().selectList("selectTimerJobsToLease", parameter, page, false);
+
+        params.put("lockOwner", lockOwner);
+        params.put("lockExpirationTime", lockExpirationTime);
+        return claimTimerJobs(candidates, "leaseTimerJobs", params);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<TimerJobEntity> claimTimerJobs(List<TimerJobEntity> candidates, String claimStatement, Map<String, Object> params) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        List<String> ids = new ArrayList<String>(candidates.size());
+        for (TimerJobEntity candidate : candidates) {
+            ids.add(candidate.getId());
+        }
+
+        Date lockExpirationTime = (Date) params.get("lockExpirationTime");
+        String lockOwner = (String) params.get("lockOwner");
+
+        params.put("ids", ids);
+        int claimedJobs = getDbSqlSession().update(claimStatement, params);
+        if (claimedJobs == 0) {
+            return new ArrayList<TimerJobEntity>();
+
+        } else if (claimedJobs == candidates.size()) {
+            // Every candidate was claimed, no need to fetch them again
+            for (TimerJobEntity candidate : candidates) {
+                candidate.setRevision(candidate.getRevisionNext());
+                candidate.setLockOwner(lockOwner);
+                candidate.setLockExpirationTime(lockExpirationTime);
+            }
+            return candidates;
+        }
+
+        // Another executor claimed some of the candidates in the meantime. A candidate was claimed by this statement
+        // when it's locked by this owner with the revision that follows the one it was selected with.
+        Map<String, Integer> claimedRevisions = new HashMap<String, Integer>(candidates.size());
+        for (TimerJobEntity candidate : candidates) {
+            claimedRevisions.put(candidate.getId(), candidate.getRevisionNext());
+        }
+
+        List<TimerJobEntity> claimedTimerJobs = new ArrayList<TimerJobEntity>(claimedJobs);
+        for (TimerJobEntity timerJob : (List<TimerJobEntity>) getDbSqlSession().selectList("selectTimerJobsClaimedByLockOwner", params)) {
+            if (claimedRevisions.get(timerJob.getId()).intValue() == timerJob.getRevision()) {
+                claimedTimerJobs.add(timerJob);
+            }
+        }
+        return claimedTimerJobs;
+    }
+
+    @Override
+    public int releaseTimerJobLeases(String lockOwner, Collection<String> timerJobIds) {
+        if (timerJobIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Object> params = new HashMap<String, Object>(2);
+        params.put("lockOwner", lockOwner);
+        params.put("ids", timerJobIds);
+        return getDbSqlSession().update("releaseTimerJobLeases", params);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Date> findExpiredTimerJobLockOwners(Date now) {
+        Map<String, Object> params = new HashMap<String, Object>(1);
+        params.put("now", now);
+        List<Map<String, Object>> rows = getDbSqlSession().selectListWithRawParameterWithoutFilter("selectExpiredTimerJobLockOwners", params, 0, Integer.MAX_VALUE);
+
+        Map<String, Date> lockOwners = new HashMap<String, Date>(rows.size());
+        for (Map<String, Object> row : rows) {
+            lockOwners.put((String) row.get("lockOwner"), (Date) row.get("minLockExpirationTime"));
+        }
+        return lockOwners;
+    }
+
+    @Override
+    public int releaseExpiredTimerJobLocks(String lockOwner, Date now) {
+        Map<String, Object> params = new HashMap<String, Object>(2);
+        params.put("lockOwner", lockOwner);
+        params.put("now", now);
+        return getDbSqlSession().update("releaseExpiredTimerJobLocks", params);
+    }
+
+    @Override
+    public int releaseTimerJobLocks(String lockOwner) {
+        Map<String, Object> params = new HashMap<String, Object>(1);
+        params.put("lockOwner", lockOwner);
+        return getDbSqlSession().update("releaseTimerJobLocksOfLockOwner", params);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
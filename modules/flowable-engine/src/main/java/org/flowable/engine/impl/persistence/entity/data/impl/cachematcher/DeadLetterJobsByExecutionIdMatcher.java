@@ -13,16 +13,29 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.DeadLetterJobEntity;
 
 /**
  * @author Joram Barrez
  */
-public class DeadLetterJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<DeadLetterJobEntity> {
+public class DeadLetterJobsByExecutionIdMatcher extends CachedEntityMatcherAdapter<DeadLetterJobEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(DeadLetterJobEntity jobEntity, Object param) {
         return jobEntity.getExecutionId() != null && jobEntity.getExecutionId().equals(param); // param = executionId
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.JOB_BY_EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -15,12 +15,15 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
@@ -32,4 +35,15 @@ public class EventSubscriptionsByExecutionAndTypeMatcher extends CachedEntityMat
                 && eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals(executionId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.EVENT_SUBSCRIPTION_BY_EXECUTION_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("executionId");
+    }
+
+}
@@ -13,16 +13,29 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByExecutionIdMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
         return eventSubscriptionEntity.getExecutionId() != null && eventSubscriptionEntity.getExecutionId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.EVENT_SUBSCRIPTION_BY_EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -16,12 +16,15 @@ import java.util.Map;
 
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class EventSubscriptionsByNameMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByNameMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     @SuppressWarnings("unchecked")
@@ -43,4 +46,16 @@ public class EventSubscriptionsByNameMatcher extends CachedEntityMatcherAdapter<
         return false;
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.EVENT_SUBSCRIPTION_BY_EVENT_TYPE_AND_NAME;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexKey(Object parameter) {
+        Map<String, String> params = (Map<String, String>) parameter;
+        return EntityCacheIndexes.getEventTypeAndNameKey(params.get("eventType"), params.get("eventName"));
+    }
+
+}
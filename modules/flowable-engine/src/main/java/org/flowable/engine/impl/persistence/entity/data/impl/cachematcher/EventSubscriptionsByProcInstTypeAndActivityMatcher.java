@@ -15,12 +15,15 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.EventSubscriptionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class EventSubscriptionsByProcInstTypeAndActivityMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> {
+public class EventSubscriptionsByProcInstTypeAndActivityMatcher extends CachedEntityMatcherAdapter<EventSubscriptionEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(EventSubscriptionEntity eventSubscriptionEntity, Object parameter) {
@@ -35,4 +38,15 @@ public class EventSubscriptionsByProcInstTypeAndActivityMatcher extends CachedEn
                 && eventSubscriptionEntity.getActivityId() != null && eventSubscriptionEntity.getActivityId().equals(activityId);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.EVENT_SUBSCRIPTION_BY_PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("processInstanceId");
+    }
+
+}
@@ -16,12 +16,15 @@ import java.util.Collection;
 import java.util.Map;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -33,4 +36,15 @@ public class ExecutionsByParentExecutionIdAndActivityIdEntityMatcher extends Cac
                 && executionEntity.getActivityId() != null && activityIds.contains(executionEntity.getActivityId());
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.EXECUTION_BY_PARENT_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexKey(Object parameter) {
+        return (String) ((Map<String, Object>) parameter).get("parentExecutionId");
+    }
+
+}
@@ -13,12 +13,15 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.HistoricIdentityLinkEntity;
 
 /**
  * @author Joram Barrez
  */
-public class HistoricIdentityLinksByProcInstMatcher extends CachedEntityMatcherAdapter<HistoricIdentityLinkEntity> {
+public class HistoricIdentityLinksByProcInstMatcher extends CachedEntityMatcherAdapter<HistoricIdentityLinkEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(HistoricIdentityLinkEntity historicIdentityLinkEntity, Object parameter) {
@@ -26,4 +29,14 @@ public class HistoricIdentityLinksByProcInstMatcher extends CachedEntityMatcherA
                 && historicIdentityLinkEntity.getProcessInstanceId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.HISTORIC_IDENTITY_LINK_BY_PROCESS_INSTANCE_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -12,13 +12,16 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
 import org.flowable.engine.impl.persistence.SingleCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class SubProcessInstanceExecutionBySuperExecutionIdMatcher implements SingleCachedEntityMatcher<ExecutionEntity> {
+public class SubProcessInstanceExecutionBySuperExecutionIdMatcher implements SingleCachedEntityMatcher<ExecutionEntity>, IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(ExecutionEntity executionEntity, Object parameter) {
@@ -26,4 +29,14 @@ public class SubProcessInstanceExecutionBySuperExecutionIdMatcher implements Sin
                 && ((String) parameter).equals(executionEntity.getSuperExecutionId());
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.EXECUTION_BY_SUPER_EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -13,16 +13,29 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.TaskEntity;
 
 /**
  * @author Joram Barrez
  */
-public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(TaskEntity taskEntity, Object parameter) {
         return taskEntity.getExecutionId() != null && parameter.equals(taskEntity.getExecutionId());
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.TASK_BY_EXECUTION_ID;
+    }
+
+    @Override
+    public String getIndexKey(Object parameter) {
+        return (String) parameter;
+    }
+
+}
@@ -15,12 +15,15 @@ package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 import java.util.Map;
 
 import org.flowable.engine.impl.persistence.CachedEntityMatcherAdapter;
+import org.flowable.engine.impl.persistence.IndexedCachedEntityMatcher;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndex;
+import org.flowable.engine.impl.persistence.cache.EntityCacheIndexes;
 import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> {
+public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatcherAdapter<HistoricActivityInstanceEntity> implements IndexedCachedEntityMatcher {
 
     @Override
     public boolean isRetained(HistoricActivityInstanceEntity entity, Object parameter) {
@@ -33,4 +36,15 @@ public class UnfinishedHistoricActivityInstanceMatcher extends CachedEntityMatch
                 && entity.getEndTime() == null;
     }
 
-}
\ No newline at end of file
+    @Override
+    public EntityCacheIndex getIndex() {
+        return EntityCacheIndexes.HISTORIC_ACTIVITY_INSTANCE_BY_EXECUTION_ID;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public String getIndexKey(Object parameter) {
+        return ((Map<String, String>) parameter).get("executionId");
+    }
+
+}
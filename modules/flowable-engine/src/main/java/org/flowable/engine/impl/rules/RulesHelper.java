@@ -16,8 +16,8 @@ package org.flowable.engine.impl.rules;
 import org.drools.KnowledgeBase;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.context.Context;
-import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.repository.Deployment;
 
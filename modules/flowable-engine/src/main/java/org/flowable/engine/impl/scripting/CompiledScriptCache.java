@@ -0,0 +1,148 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.scripting;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.script.CompiledScript;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded LRU cache of the {@link CompiledScript}s of the {@link ScriptingEngines}, by script language and script text. Keeps hit, miss and eviction
+ * counts, so the limit can be tuned to the number of distinct scripts of the deployed process definitions.
+ */
+public class CompiledScriptCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompiledScriptCache.class);
+
+    protected final int limit;
+    protected final Map<CacheKey, CompiledScript> cache;
+
+    protected final AtomicLong hitCount = new AtomicLong();
+    protected final AtomicLong missCount = new AtomicLong();
+    protected final AtomicLong evictionCount = new AtomicLong();
+
+    public CompiledScriptCache(final int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        this.limit = limit;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<CacheKey, CompiledScript>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CompiledScript> eldest) {
+                boolean removeEldest = size() > limit;
+                if (removeEldest) {
+                    evictionCount.incrementAndGet();
+                    if (logger.isTraceEnabled()) {
+                        logger.trace("Compiled script cache limit is reached, {} script will be evicted", eldest.getKey().language);
+                    }
+                }
+                return removeEldest;
+            }
+
+        });
+    }
+
+    /**
+     * @return the compiled script, or null when the script is not cached (counted as a miss).
+     */
+    public CompiledScript get(String language, String script) {
+        CompiledScript compiledScript = cache.get(new CacheKey(language, script));
+        if (compiledScript != null) {
+            hitCount.incrementAndGet();
+        } else {
+            missCount.incrementAndGet();
+        }
+        return compiledScript;
+    }
+
+    public void add(String language, String script, CompiledScript compiledScript) {
+        cache.put(new CacheKey(language, script), compiledScript);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    /**
+     * @return the share of lookups that found a compiled script, between 0 and 1.
+     */
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long lookups = hits + missCount.get();
+        return lookups > 0 ? (double) hits / lookups : 0.0;
+    }
+
+    public void resetStatistics() {
+        hitCount.set(0);
+        missCount.set(0);
+        evictionCount.set(0);
+    }
+
+    protected static class CacheKey {
+
+        protected final String language;
+        protected final String script;
+
+        public CacheKey(String language, String script) {
+            this.language = language;
+            this.script = script;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * language.hashCode() + script.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return language.equals(other.language) && script.equals(other.script);
+        }
+
+    }
+
+}
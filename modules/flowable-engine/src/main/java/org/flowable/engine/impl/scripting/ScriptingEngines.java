@@ -17,6 +17,8 @@ import java.util.List;
 import java.util.Map;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -42,6 +44,11 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Compiled scripts of the cached script engines that implement {@link Compilable}. When null, scripts are evaluated from their text every time.
+     */
+    protected CompiledScriptCache compiledScriptCache;
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -84,12 +91,46 @@ public class ScriptingEngines {
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            CompiledScript compiledScript = getCompiledScript(script, language, scriptEngine);
+            if (compiledScript != null) {
+                return evaluateCompiledScript(compiledScript, bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    protected Object evaluateCompiledScript(CompiledScript compiledScript, Bindings bindings) throws ScriptException {
+        try {
+            return compiledScript.eval(bindings);
+        } catch (Exception e) {
+            // Wrapped like groovy does when evaluating the script text, so the exception message and the causes (e.g. a BpmnError) stay the same
+            throw new ScriptException(e);
+        }
+    }
+
+    /**
+     * Scripts are only compiled for cached script engines: a compiled script keeps a reference to its engine, so the engine has to allow
+     * multi-threaded access. JUEL scripts are not compiled, as JUEL resolves the variables when the expression is parsed (and caches parsed
+     * expressions itself).
+     * 
+     * @return the compiled script, or null when the script needs to be evaluated by the engine.
+     */
+    protected CompiledScript getCompiledScript(String script, String language, ScriptEngine scriptEngine) throws ScriptException {
+        if (compiledScriptCache == null || script == null || !(scriptEngine instanceof Compilable) || scriptEngine instanceof JuelScriptEngine
+                || cachedEngines.get(language) != scriptEngine) {
+            return null;
+        }
+
+        CompiledScript compiledScript = compiledScriptCache.get(language, script);
+        if (compiledScript == null) {
+            compiledScript = ((Compilable) scriptEngine).compile(script);
+            compiledScriptCache.add(language, script, compiledScript);
+        }
+        return compiledScript;
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -139,6 +180,14 @@ public class ScriptingEngines {
         return scriptBindingsFactory.createBindings(variableScope, storeScriptVariables);
     }
 
+    public CompiledScriptCache getCompiledScriptCache() {
+        return compiledScriptCache;
+    }
+
+    public void setCompiledScriptCache(CompiledScriptCache compiledScriptCache) {
+        this.compiledScriptCache = compiledScriptCache;
+    }
+
     public ScriptBindingsFactory getScriptBindingsFactory() {
         return scriptBindingsFactory;
     }
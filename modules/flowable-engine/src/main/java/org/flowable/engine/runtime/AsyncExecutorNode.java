@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.runtime;
+
+import java.util.Date;
+
+/**
+ * An async executor that is (or was recently) alive, as registered in the heartbeat registry. Every active async executor periodically writes its
+ * heartbeat; the lock owner is the value it uses to lock jobs.
+ */
+public interface AsyncExecutorNode {
+
+    /**
+     * @return the lock owner of the async executor, which is the value of the LOCK_OWNER_ column of the jobs it locked.
+     */
+    String getLockOwner();
+
+    String getHostName();
+
+    /**
+     * @return the number of jobs the async executor could still accept (the remaining capacity of its thread pool queue) at the last heartbeat.
+     */
+    int getRemainingCapacity();
+
+    Date getStartTime();
+
+    Date getHeartbeatTime();
+
+}
@@ -289,6 +289,12 @@ public interface ProcessInstanceQuery extends Query<ProcessInstanceQuery, Proces
      */
     ProcessInstanceQuery limitProcessInstanceVariables(Integer processInstanceVariablesLimit);
 
+    /**
+     * Leave out the variables that are stored in the byte array table (serializable, long string, long json and byte array variables) when the variables
+     * are included in the query result, so large values are not fetched.
+     */
+    ProcessInstanceQuery excludeByteArrayVariables();
+
     /**
      * Only select process instances that failed due to an exception happening during a job execution.
      */
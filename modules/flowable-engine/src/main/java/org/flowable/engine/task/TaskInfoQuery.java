@@ -523,6 +523,12 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
      */
     T limitTaskVariables(Integer taskVariablesLimit);
 
+    /**
+     * Leave out the variables that are stored in the byte array table (serializable, long string, long json and byte array variables) when the variables
+     * are included in the query result, so large values are not fetched.
+     */
+    T excludeByteArrayVariables();
+
     /**
      * Include identity links in the task query result
      */
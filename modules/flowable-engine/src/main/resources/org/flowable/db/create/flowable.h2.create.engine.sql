@@ -269,6 +269,15 @@ create table ACT_EVT_LOG (
     IS_PROCESSED_ bit default 0
 );
 
+create table ACT_RU_EXECUTOR_NODE (
+    ID_ varchar(255) not null,
+    HOST_NAME_ varchar(255),
+    REMAINING_CAPACITY_ integer,
+    START_TIME_ timestamp null,
+    HEARTBEAT_TIME_ timestamp null,
+    primary key (ID_)
+);
+
 create table ACT_PROCDEF_INFO (
 	ID_ varchar(64) not null,
     PROC_DEF_ID_ varchar(64) not null,
@@ -285,6 +294,8 @@ create index ACT_IDX_IDENT_LNK_GROUP on ACT_RU_IDENTITYLINK(GROUP_ID_);
 create index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR(CONFIGURATION_);
 create index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE(TASK_ID_);
 create index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK(PROC_DEF_ID_);
+create index ACT_IDX_JOB_LOCK_EXP on ACT_RU_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
+create index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
 create index ACT_IDX_INFO_PROCDEF on ACT_PROCDEF_INFO(PROC_DEF_ID_);
 
 alter table ACT_GE_BYTEARRAY
@@ -270,6 +270,15 @@ create table ACT_EVT_LOG (
     primary key (LOG_NR_)
 );
 
+create table ACT_RU_EXECUTOR_NODE (
+    ID_ nvarchar(255) not null,
+    HOST_NAME_ nvarchar(255),
+    REMAINING_CAPACITY_ int,
+    START_TIME_ datetime null,
+    HEARTBEAT_TIME_ datetime null,
+    primary key (ID_)
+);
+
 create table ACT_PROCDEF_INFO (
 	ID_ nvarchar(64) not null,
     PROC_DEF_ID_ nvarchar(64) not null,
@@ -286,6 +295,8 @@ create index ACT_IDX_IDENT_LNK_GROUP on ACT_RU_IDENTITYLINK(GROUP_ID_);
 create index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR(CONFIGURATION_);
 create index ACT_IDX_VARIABLE_TASK_ID on ACT_RU_VARIABLE(TASK_ID_);
 create index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK(PROC_DEF_ID_);
+create index ACT_IDX_JOB_LOCK_EXP on ACT_RU_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
+create index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
 create index ACT_IDX_EXECUTION_PROC on ACT_RU_EXECUTION(PROC_DEF_ID_);
 create index ACT_IDX_EXECUTION_PARENT on ACT_RU_EXECUTION(PARENT_ID_);
 create index ACT_IDX_EXECUTION_SUPER on ACT_RU_EXECUTION(SUPER_EXEC_);
@@ -272,6 +272,15 @@ create table ACT_EVT_LOG (
 
 create sequence act_evt_log_seq;
 
+create table ACT_RU_EXECUTOR_NODE (
+    ID_ NVARCHAR2(255) not null,
+    HOST_NAME_ NVARCHAR2(255),
+    REMAINING_CAPACITY_ INTEGER,
+    START_TIME_ TIMESTAMP(6) null,
+    HEARTBEAT_TIME_ TIMESTAMP(6) null,
+    primary key (ID_)
+);
+
 create table ACT_PROCDEF_INFO (
 	ID_ NVARCHAR2(64) not null,
     PROC_DEF_ID_ NVARCHAR2(64) not null,
@@ -329,6 +338,8 @@ alter table ACT_RU_IDENTITYLINK
     references ACT_RU_TASK (ID_);
 
 create index ACT_IDX_ATHRZ_PROCEDEF  on ACT_RU_IDENTITYLINK(PROC_DEF_ID_);
+create index ACT_IDX_JOB_LOCK_EXP on ACT_RU_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
+create index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
 alter table ACT_RU_IDENTITYLINK
     add constraint ACT_FK_ATHRZ_PROCEDEF
     foreign key (PROC_DEF_ID_) 
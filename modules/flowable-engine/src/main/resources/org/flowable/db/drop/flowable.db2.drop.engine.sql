@@ -111,6 +111,8 @@ alter table ACT_PROCDEF_INFO
 
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_;
 drop index ACT_IDX_ATHRZ_PROCEDEF;
+drop index ACT_IDX_JOB_LOCK_EXP;
+drop index ACT_IDX_TJOB_LOCK_EXP;
     
 drop table ACT_GE_PROPERTY;
 drop table ACT_GE_BYTEARRAY;
@@ -127,4 +129,5 @@ drop table ACT_RU_SUSPENDED_JOB;
 drop table ACT_RU_DEADLETTER_JOB;
 drop table ACT_RU_EVENT_SUBSCR;
 drop table ACT_EVT_LOG;
+drop table ACT_RU_EXECUTOR_NODE;
 drop table ACT_PROCDEF_INFO;
@@ -13,6 +13,7 @@ drop table if exists ACT_RU_IDENTITYLINK cascade constraints;
 drop table if exists ACT_RU_VARIABLE cascade constraints;
 drop table if exists ACT_RU_EVENT_SUBSCR cascade constraints;
 drop table if exists ACT_EVT_LOG cascade constraints;
+drop table if exists ACT_RU_EXECUTOR_NODE cascade constraints;
 drop table if exists ACT_PROCDEF_INFO cascade constraints;
 
 drop index if exists ACT_IDX_EXEC_BUSKEY;
@@ -22,4 +23,6 @@ drop index if exists ACT_IDX_IDENT_LNK_GROUP;
 drop index if exists ACT_IDX_VARIABLE_TASK_ID;
 drop index if exists ACT_IDX_EVENT_SUBSCR_CONFIG_;
 drop index if exists ACT_IDX_ATHRZ_PROCEDEF;
+drop index if exists ACT_IDX_JOB_LOCK_EXP;
+drop index if exists ACT_IDX_TJOB_LOCK_EXP;
 drop index if exists ACT_IDX_INFO_PROCDEF;
\ No newline at end of file
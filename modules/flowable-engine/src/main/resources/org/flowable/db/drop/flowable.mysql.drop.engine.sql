@@ -111,6 +111,8 @@ alter table ACT_PROCDEF_INFO
     drop FOREIGN KEY ACT_FK_INFO_PROCDEF;
     
 drop index ACT_IDX_ATHRZ_PROCEDEF on ACT_RU_IDENTITYLINK;
+drop index ACT_IDX_JOB_LOCK_EXP on ACT_RU_JOB;
+drop index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB;
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_ on ACT_RU_EVENT_SUBSCR;
     
 drop table if exists ACT_GE_PROPERTY;
@@ -128,4 +130,5 @@ drop table if exists ACT_RU_SUSPENDED_JOB;
 drop table if exists ACT_RU_DEADLETTER_JOB;
 drop table if exists ACT_RU_EVENT_SUBSCR;
 drop table if exists ACT_EVT_LOG;
+drop table if exists ACT_RU_EXECUTOR_NODE;
 drop table if exists ACT_PROCDEF_INFO;
\ No newline at end of file
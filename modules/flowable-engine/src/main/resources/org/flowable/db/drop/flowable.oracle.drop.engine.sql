@@ -150,6 +150,8 @@ alter table ACT_PROCDEF_INFO
 drop index ACT_IDX_EVENT_SUBSCR_CONFIG_;
 drop index ACT_IDX_EVENT_SUBSCR;
 drop index ACT_IDX_ATHRZ_PROCEDEF;
+drop index ACT_IDX_JOB_LOCK_EXP;
+drop index ACT_IDX_TJOB_LOCK_EXP;
 drop index ACT_IDX_PROCDEF_INFO_PROC;
 
 drop table ACT_GE_PROPERTY;
@@ -169,4 +171,5 @@ drop table ACT_RU_EVENT_SUBSCR;
 
 drop sequence act_evt_log_seq;
 drop table ACT_EVT_LOG;
+drop table ACT_RU_EXECUTOR_NODE;
 drop table ACT_PROCDEF_INFO;
\ No newline at end of file
@@ -13,4 +13,5 @@ drop table if exists ACT_RU_IDENTITYLINK cascade;
 drop table if exists ACT_RU_VARIABLE cascade;
 drop table if exists ACT_RU_EVENT_SUBSCR cascade;
 drop table if exists ACT_EVT_LOG cascade;
+drop table if exists ACT_RU_EXECUTOR_NODE cascade;
 drop table if exists ACT_PROCDEF_INFO cascade;
\ No newline at end of file
@@ -1 +1,13 @@
+create table ACT_RU_EXECUTOR_NODE (
+    ID_ NVARCHAR2(255) not null,
+    HOST_NAME_ NVARCHAR2(255),
+    REMAINING_CAPACITY_ INTEGER,
+    START_TIME_ TIMESTAMP(6) null,
+    HEARTBEAT_TIME_ TIMESTAMP(6) null,
+    primary key (ID_)
+);
+
+create index ACT_IDX_JOB_LOCK_EXP on ACT_RU_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
+create index ACT_IDX_TJOB_LOCK_EXP on ACT_RU_TIMER_JOB(LOCK_EXP_TIME_, LOCK_OWNER_);
+
 update ACT_GE_PROPERTY set VALUE_ = '6.0.1.0' where NAME_ = 'schema.version';
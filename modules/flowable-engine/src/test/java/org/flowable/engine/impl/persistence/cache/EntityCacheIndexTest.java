@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.junit.Test;
+
+public class EntityCacheIndexTest {
+
+    @Test
+    public void testIndexedLookup() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        assertNull(entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, EntityCacheIndexes.EXECUTION_BY_PARENT_ID, "parent1"));
+
+        entityCache.put(createExecution("1", "parent1"), true);
+        entityCache.put(createExecution("2", "parent1"), true);
+        entityCache.put(createExecution("3", "parent2"), true);
+        entityCache.put(createExecution("4", null), true);
+
+        // Entities without key are candidates for every key
+        assertEquals(ids("1", "2", "4"), findIds(entityCache, "parent1"));
+        assertEquals(ids("3", "4"), findIds(entityCache, "parent2"));
+        assertEquals(ids("4"), findIds(entityCache, "parent3"));
+
+        // Entities put after the index was built
+        entityCache.put(createExecution("5", "parent2"), true);
+        assertEquals(ids("3", "4", "5"), findIds(entityCache, "parent2"));
+
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "3");
+        assertEquals(ids("4", "5"), findIds(entityCache, "parent2"));
+    }
+
+    @Test
+    public void testIndexKeyChanged() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        ExecutionEntityImpl execution = createExecution("1", "parent1");
+        entityCache.put(execution, true);
+        assertEquals(ids("1"), findIds(entityCache, "parent1"));
+
+        execution.setParentId("parent2");
+        entityCache.updateIndexes(execution);
+        assertTrue(findIds(entityCache, "parent1").isEmpty());
+        assertEquals(ids("1"), findIds(entityCache, "parent2"));
+
+        // An entity that is not the cached instance is ignored
+        ExecutionEntityImpl otherInstance = createExecution("1", "parent3");
+        entityCache.updateIndexes(otherInstance);
+        assertEquals(ids("1"), findIds(entityCache, "parent2"));
+    }
+
+    protected ExecutionEntityImpl createExecution(String id, String parentId) {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId(id);
+        execution.setParentId(parentId);
+        return execution;
+    }
+
+    protected Set<String> findIds(EntityCacheImpl entityCache, String parentId) {
+        Collection<CachedEntity> cachedEntities = entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, EntityCacheIndexes.EXECUTION_BY_PARENT_ID, parentId);
+        Set<String> ids = new HashSet<String>();
+        for (CachedEntity cachedEntity : cachedEntities) {
+            ids.add(cachedEntity.getEntity().getId());
+        }
+        return ids;
+    }
+
+    protected Set<String> ids(String... ids) {
+        Set<String> result = new HashSet<String>();
+        for (String id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+}
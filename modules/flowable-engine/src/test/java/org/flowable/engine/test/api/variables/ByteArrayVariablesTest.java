@@ -0,0 +1,206 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.util.IoUtil;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.history.HistoricTaskInstance;
+import org.flowable.engine.history.HistoricVariableInstance;
+import org.flowable.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class ByteArrayVariablesTest extends PluggableFlowableTestCase {
+
+    protected ProcessInstance startProcessInstanceWithByteArrayVariables() {
+        char[] longString = new char[5000];
+        Arrays.fill(longString, 'a');
+
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("serializableVar", new SerializableVariableTest.TestSerializableVariable(7));
+        variables.put("bytesVar", "some bytes".getBytes());
+        variables.put("longStringVar", new String(longString));
+        variables.put("stringVar", "small");
+        variables.put("intVar", 123);
+        return runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testGetVariableInputStream() throws Exception {
+        ProcessInstance processInstance = startProcessInstanceWithByteArrayVariables();
+
+        assertEquals("some bytes", new String(IoUtil.readInputStream(runtimeService.getVariableInputStream(processInstance.getId(), "bytesVar"), "bytesVar")));
+
+        // Serializable and long string variables are stored in their java serialized form
+        ObjectInputStream objectInputStream = new ObjectInputStream(runtimeService.getVariableInputStream(processInstance.getId(), "serializableVar"));
+        try {
+            assertEquals(7, ((SerializableVariableTest.TestSerializableVariable) objectInputStream.readObject()).getNumber());
+        } finally {
+            IoUtil.closeSilently(objectInputStream);
+        }
+
+        objectInputStream = new ObjectInputStream(runtimeService.getVariableInputStreamLocal(processInstance.getId(), "longStringVar"));
+        try {
+            assertEquals(5000, ((String) objectInputStream.readObject()).length());
+        } finally {
+            IoUtil.closeSilently(objectInputStream);
+        }
+
+        assertNull(runtimeService.getVariableInputStream(processInstance.getId(), "unknownVar"));
+
+        try {
+            runtimeService.getVariableInputStream(processInstance.getId(), "intVar");
+            fail("Exception expected");
+        } catch (FlowableIllegalArgumentException e) {
+            assertTextPresent("not stored as a byte array", e.getMessage());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testQueryVariablesAreDeserializedOnAccess() {
+        ProcessInstance processInstance = startProcessInstanceWithByteArrayVariables();
+
+        ProcessInstance queriedProcessInstance = runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                .includeProcessVariables().singleResult();
+
+        VariableInstanceEntity serializableVariable = null;
+        for (VariableInstanceEntity variableInstance : ((ExecutionEntityImpl) queriedProcessInstance).getQueryVariables()) {
+            if ("serializableVar".equals(variableInstance.getName())) {
+                serializableVariable = variableInstance;
+            }
+        }
+        assertNotNull(serializableVariable);
+        assertNull(serializableVariable.getCachedValue());
+
+        Map<String, Object> variables = queriedProcessInstance.getProcessVariables();
+        assertEquals(5, variables.size());
+        assertEquals(7, ((SerializableVariableTest.TestSerializableVariable) variables.get("serializableVar")).getNumber());
+        assertEquals("some bytes", new String((byte[]) variables.get("bytesVar")));
+        assertEquals(5000, ((String) variables.get("longStringVar")).length());
+
+        // The bytes of historic variables are also fetched when the value is read, after the query
+        if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            HistoricVariableInstance historicVariable = historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                    .variableName("serializableVar").singleResult();
+            assertEquals(7, ((SerializableVariableTest.TestSerializableVariable) historicVariable.getValue()).getNumber());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testQueryVariablesAreDeserializedWithEngineClassLoader() {
+        ProcessInstance processInstance = startProcessInstanceWithByteArrayVariables();
+
+        ProcessInstance queriedProcessInstance = runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                .includeProcessVariables().singleResult();
+
+        final List<String> loadedClassNames = new ArrayList<String>();
+        ClassLoader originalClassLoader = processEngineConfiguration.getClassLoader();
+        processEngineConfiguration.setClassLoader(new ClassLoader(ByteArrayVariablesTest.class.getClassLoader()) {
+
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+                loadedClassNames.add(name);
+                return super.loadClass(name);
+            }
+        });
+        try {
+            Object value = queriedProcessInstance.getProcessVariables().get("serializableVar");
+            assertEquals(7, ((SerializableVariableTest.TestSerializableVariable) value).getNumber());
+        } finally {
+            processEngineConfiguration.setClassLoader(originalClassLoader);
+        }
+
+        // The value is deserialized after the query command closed, but still with the class loader of the engine
+        assertTrue(loadedClassNames.contains(SerializableVariableTest.TestSerializableVariable.class.getName()));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testQueryVariableDeletedBeforeAccess() {
+        ProcessInstance processInstance = startProcessInstanceWithByteArrayVariables();
+
+        ProcessInstance queriedProcessInstance = runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                .includeProcessVariables().singleResult();
+
+        // The byte array is only fetched when the value is first needed, the variable doesn't exist anymore by then
+        runtimeService.removeVariable(processInstance.getId(), "serializableVar");
+
+        try {
+            queriedProcessInstance.getProcessVariables();
+            fail("Exception expected");
+        } catch (FlowableObjectNotFoundException e) {
+            assertEquals(ByteArrayEntity.class, e.getObjectClass());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testExcludeByteArrayVariables() {
+        ProcessInstance processInstance = startProcessInstanceWithByteArrayVariables();
+
+        Map<String, Object> variables = runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId())
+                .includeProcessVariables().excludeByteArrayVariables().singleResult().getProcessVariables();
+        assertEquals(2, variables.size());
+        assertEquals("small", variables.get("stringVar"));
+        assertEquals(123, variables.get("intVar"));
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setVariableLocal(task.getId(), "localBytesVar", "local bytes".getBytes());
+        taskService.setVariableLocal(task.getId(), "localIntVar", 1);
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).includeProcessVariables().excludeByteArrayVariables().singleResult();
+        assertEquals(2, task.getProcessVariables().size());
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).includeTaskLocalVariables().excludeByteArrayVariables().singleResult();
+        assertEquals(1, task.getTaskLocalVariables().size());
+        assertEquals(1, task.getTaskLocalVariables().get("localIntVar"));
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).includeProcessVariables().includeTaskLocalVariables()
+                .excludeByteArrayVariables().singleResult();
+        assertEquals(2, task.getProcessVariables().size());
+        assertEquals(1, task.getTaskLocalVariables().size());
+
+        task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).includeProcessVariables().includeTaskLocalVariables().singleResult();
+        assertEquals(5, task.getProcessVariables().size());
+        assertEquals(2, task.getTaskLocalVariables().size());
+
+        if (processEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId())
+                    .includeProcessVariables().excludeByteArrayVariables().singleResult();
+            assertEquals(2, historicProcessInstance.getProcessVariables().size());
+
+            historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId())
+                    .includeProcessVariables().singleResult();
+            assertEquals(5, historicProcessInstance.getProcessVariables().size());
+            assertEquals(7, ((SerializableVariableTest.TestSerializableVariable) historicProcessInstance.getProcessVariables().get("serializableVar")).getNumber());
+
+            HistoricTaskInstance historicTask = historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstance.getId())
+                    .includeProcessVariables().includeTaskLocalVariables().excludeByteArrayVariables().singleResult();
+            assertEquals(2, historicTask.getProcessVariables().size());
+            assertEquals(1, historicTask.getTaskLocalVariables().size());
+        }
+    }
+
+}
@@ -21,8 +21,11 @@ import java.util.Map;
 import javax.sql.DataSource;
 
 import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.multitenant.ExecutorPerTenantAsyncExecutor;
 import org.flowable.engine.impl.asyncexecutor.multitenant.SharedExecutorServiceAsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.multitenant.TenantJobAcquisitionState;
+import org.flowable.engine.impl.asyncexecutor.multitenant.TenantMultiplexingAsyncExecutor;
 import org.flowable.engine.impl.cfg.multitenant.MultiSchemaMultiTenantProcessEngineConfiguration;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -72,6 +75,14 @@ public class MultiTenantProcessEngineTest {
     }
 
     private void setupProcessEngine(boolean sharedExecutor) {
+        if (sharedExecutor) {
+            setupProcessEngine(new SharedExecutorServiceAsyncExecutor(tenantInfoHolder));
+        } else {
+            setupProcessEngine(new ExecutorPerTenantAsyncExecutor(tenantInfoHolder));
+        }
+    }
+
+    private void setupProcessEngine(AsyncExecutor asyncExecutor) {
         config = new MultiSchemaMultiTenantProcessEngineConfiguration(tenantInfoHolder);
 
         config.setDatabaseType(MultiSchemaMultiTenantProcessEngineConfiguration.DATABASE_TYPE_H2);
@@ -80,11 +91,7 @@ public class MultiTenantProcessEngineTest {
         config.setAsyncExecutorActivate(true);
         config.setDisableIdmEngine(true);
 
-        if (sharedExecutor) {
-            config.setAsyncExecutor(new SharedExecutorServiceAsyncExecutor(tenantInfoHolder));
-        } else {
-            config.setAsyncExecutor(new ExecutorPerTenantAsyncExecutor(tenantInfoHolder));
-        }
+        config.setAsyncExecutor(asyncExecutor);
 
         config.registerTenant("alfresco", createDataSource("jdbc:h2:mem:activiti-mt-alfresco;DB_CLOSE_DELAY=1000", "sa", ""));
         config.registerTenant("acme", createDataSource("jdbc:h2:mem:activiti-mt-acme;DB_CLOSE_DELAY=1000", "sa", ""));
@@ -105,6 +112,22 @@ public class MultiTenantProcessEngineTest {
         runProcessInstanceTest();
     }
 
+    @Test
+    public void testStartProcessInstancesWithTenantMultiplexingAsyncExecutor() throws Exception {
+        TenantMultiplexingAsyncExecutor asyncExecutor = new TenantMultiplexingAsyncExecutor(tenantInfoHolder);
+        asyncExecutor.setMaxConcurrentJobsPerTenant(2);
+        setupProcessEngine(asyncExecutor);
+        runProcessInstanceTest();
+
+        // One acquisition thread serves all tenants
+        Assert.assertEquals(4, asyncExecutor.getTenantIds().size());
+        Assert.assertNotNull(asyncExecutor.getTenantState("dailyplanet"));
+        Assert.assertTrue(asyncExecutor.getAsyncJobAcquisitionMetrics().getAcquisitionCount() > 0);
+        for (TenantJobAcquisitionState tenantState : asyncExecutor.getTenantStates()) {
+            Assert.assertEquals(0, tenantState.getActiveJobCount());
+        }
+    }
+
     protected void runProcessInstanceTest() throws InterruptedException {
         // Generate data
         startProcessInstances("joram");
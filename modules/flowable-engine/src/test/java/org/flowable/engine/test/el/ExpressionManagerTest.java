@@ -15,13 +15,22 @@ package org.flowable.engine.test.el;
 
 import static org.junit.Assert.assertThat;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import javax.el.ValueExpression;
+
+import org.flowable.engine.common.impl.el.ParsedExpressionCache;
 import org.flowable.engine.delegate.Expression;
+import org.flowable.engine.impl.el.DefaultExpressionManager;
 import org.flowable.engine.impl.el.NoExecutionVariableScope;
 import org.flowable.engine.impl.identity.Authentication;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.hamcrest.core.Is;
@@ -42,6 +51,44 @@ public class ExpressionManagerTest extends PluggableFlowableTestCase {
         assertThat(value, Is.<Object>is(true));
     }
 
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testParsedExpressionCache() {
+        DefaultExpressionManager expressionManager = (DefaultExpressionManager) processEngineConfiguration.getExpressionManager();
+        ParsedExpressionCache<ValueExpression> parsedExpressionCache = expressionManager.getParsedExpressionCache();
+        assertNotNull(parsedExpressionCache);
+
+        long hitCount = parsedExpressionCache.getHitCount();
+        long missCount = parsedExpressionCache.getMissCount();
+        String expressionText = "#{testParsedExpressionCache == 2 + 3}";
+
+        Expression expression = expressionManager.createExpression(expressionText);
+        Expression sameExpression = expressionManager.createExpression(" " + expressionText + " ");
+        assertEquals(missCount + 1, parsedExpressionCache.getMissCount());
+        assertEquals(hitCount + 1, parsedExpressionCache.getHitCount());
+        assertEquals(" " + expressionText + " ", sameExpression.getExpressionText());
+
+        // The parsed expression is shared, the variables are resolved when the expression is evaluated
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.<String, Object> singletonMap("testParsedExpressionCache", 5));
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.<String, Object> singletonMap("testParsedExpressionCache", 6));
+        List<Execution> executions = runtimeService.createExecutionQuery().processDefinitionKey("oneTaskProcess").onlyChildExecutions().list();
+        assertEquals(2, executions.size());
+        for (Execution execution : executions) {
+            boolean expected = ((Integer) runtimeService.getVariable(execution.getId(), "testParsedExpressionCache")) == 5;
+            assertEquals(expected, evaluate(expression, execution.getId()));
+            assertEquals(expected, evaluate(sameExpression, execution.getId()));
+        }
+    }
+
+    protected Object evaluate(final Expression expression, final String executionId) {
+        return managementService.executeCommand(new Command<Object>() {
+
+            @Override
+            public Object execute(CommandContext commandContext) {
+                return expression.getValue(commandContext.getExecutionEntityManager().findById(executionId));
+            }
+        });
+    }
+
     @Deployment
     public void testMethodExpressions() {
         // Process contains 2 service tasks. one containing a method with no
@@ -0,0 +1,138 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import org.flowable.engine.impl.asyncexecutor.AcquireAsyncJobsDueRunnable;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.AsyncJobAcquisitionMetrics;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.jobexecutor.AsyncJobAddedNotification;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.test.Deployment;
+
+public class AdaptiveAsyncJobAcquisitionTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncTaskTest.testAsyncScript.bpmn20.xml")
+    public void testAdaptiveWaitTimes() {
+        // The async executor is not started, so the acquisition is driven by the test
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        asyncExecutor.setAdaptiveAsyncJobAcquisition(true);
+        asyncExecutor.setMinAsyncJobAcquireWaitTimeInMillis(100);
+        asyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(1000);
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(2);
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(asyncExecutor);
+
+        // Nothing to acquire: exponential backoff up to the default wait time
+        assertEquals(100, runnable.acquire());
+        assertEquals(200, runnable.acquire());
+        assertEquals(400, runnable.acquire());
+        assertEquals(800, runnable.acquire());
+        assertEquals(1000, runnable.acquire());
+        assertEquals(1000, runnable.acquire());
+
+        // A job added by the engine resets the backoff
+        runnable.asyncJobAdded();
+        assertEquals(100, runnable.acquire());
+        assertEquals(200, runnable.acquire());
+
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("asyncScript");
+        }
+
+        // A full batch is acquired, there is room for more, so the next acquisition is immediate
+        assertEquals(0, runnable.acquire());
+        // Only one job left: all due jobs are acquired, wait the minimum time
+        assertEquals(100, runnable.acquire());
+        assertEquals(100, runnable.acquire());
+        assertEquals(200, runnable.acquire());
+
+        AsyncJobAcquisitionMetrics metrics = runnable.getMetrics();
+        assertEquals(12, metrics.getAcquisitionCount());
+        assertEquals(10, metrics.getEmptyAcquisitionCount());
+        assertEquals(3, metrics.getAcquiredJobCount());
+        assertEquals(0, metrics.getRejectedJobCount());
+        assertEquals(2 / 12.0, metrics.getHitRate(), 0.0001);
+        assertTrue(metrics.getAverageAcquisitionTimeInMillis() > 0);
+        assertTrue(metrics.getMaxAcquisitionTimeInMillis() >= metrics.getAverageAcquisitionTimeInMillis());
+    }
+
+    public void testNoWakeUpWithoutAdaptiveAcquisition() {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        TestAcquireAsyncJobsDueRunnable runnable = new TestAcquireAsyncJobsDueRunnable(asyncExecutor);
+        runnable.asyncJobAdded();
+        assertFalse(runnable.isAsyncJobAdded());
+    }
+
+    public void testOnlyJobsNotExecutedLocallyWakeUpAcquisition() {
+        final TestAsyncExecutor asyncExecutor = new TestAsyncExecutor();
+        final JobEntity job = new JobEntityImpl();
+
+        processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+            public Void execute(CommandContext commandContext) {
+                asyncExecutor.accept = true;
+                new AsyncJobAddedNotification(job, asyncExecutor).closed(commandContext);
+                assertEquals(1, asyncExecutor.executedJobs);
+                assertEquals(0, asyncExecutor.addedJobs);
+
+                asyncExecutor.accept = false;
+                new AsyncJobAddedNotification(job, asyncExecutor).closed(commandContext);
+                assertEquals(2, asyncExecutor.executedJobs);
+                assertEquals(1, asyncExecutor.addedJobs);
+                return null;
+            }
+        });
+    }
+
+    static class TestAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected boolean accept;
+        protected int executedJobs;
+        protected int addedJobs;
+
+        @Override
+        public boolean executeAsyncJob(Job job) {
+            executedJobs++;
+            return accept;
+        }
+
+        @Override
+        public void asyncJobAdded(Job job) {
+            addedJobs++;
+        }
+
+    }
+
+    static class TestAcquireAsyncJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+        public TestAcquireAsyncJobsDueRunnable(AsyncExecutor asyncExecutor) {
+            super(asyncExecutor);
+        }
+
+        public long acquire() {
+            return acquireAndExecuteJobsAdaptively(asyncExecutor.getProcessEngineConfiguration().getCommandExecutor());
+        }
+
+        public boolean isAsyncJobAdded() {
+            return asyncJobAdded;
+        }
+
+    }
+
+}
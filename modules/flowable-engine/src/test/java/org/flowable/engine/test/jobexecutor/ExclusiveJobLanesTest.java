@@ -0,0 +1,205 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.ExclusiveJobLanes;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.cmd.LockExclusiveJobCmd;
+import org.flowable.engine.impl.cmd.UnlockExclusiveJobCmd;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+public class ExclusiveJobLanesTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ExclusiveJobLanesTest.bpmn20.xml")
+    public void testJobsOfProcessInstanceShareOneLane() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelAsyncProcess");
+        ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("parallelAsyncProcess");
+        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(3, jobs.size());
+
+        RecordingExecutor executor = new RecordingExecutor();
+        ExclusiveJobLanes lanes = createLanes(executor);
+        for (Job job : jobs) {
+            assertTrue(lanes.isLaneJob(job));
+            assertTrue(lanes.execute(job));
+        }
+        assertTrue(lanes.execute(managementService.createJobQuery().processInstanceId(otherProcessInstance.getId()).list().get(0)));
+
+        // One lane per process instance
+        assertEquals(2, executor.runnables.size());
+        assertEquals(2, lanes.getLaneCount());
+
+        executor.runnables.get(0).run();
+        assertEquals(1, lanes.getLaneCount());
+        assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(true, runtimeService.getVariable(processInstance.getId(), "a"));
+        assertEquals(true, runtimeService.getVariable(processInstance.getId(), "b"));
+        assertEquals(true, runtimeService.getVariable(processInstance.getId(), "c"));
+        assertNotNull(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("wait").singleResult());
+        assertNull(getProcessInstanceLockTime(processInstance.getId()));
+
+        executor.runnables.get(1).run();
+        assertEquals(0, lanes.getLaneCount());
+        assertEquals(2, managementService.createJobQuery().processInstanceId(otherProcessInstance.getId()).count());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        runtimeService.deleteProcessInstance(otherProcessInstance.getId(), "test");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ExclusiveJobLanesTest.bpmn20.xml")
+    public void testLaneJobsAreUnacquiredWhenProcessInstanceIsLocked() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelAsyncProcess");
+        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+        Set<String> jobIds = new HashSet<String>();
+        for (Job job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        // Another executor holds the process instance lock
+        managementService.executeCommand(new LockExclusiveJobCmd(jobs.get(0)));
+
+        RecordingExecutor executor = new RecordingExecutor();
+        ExclusiveJobLanes lanes = createLanes(executor);
+        for (Job job : jobs) {
+            lanes.execute(job);
+        }
+        executor.runnables.get(0).run();
+
+        assertEquals(0, lanes.getLaneCount());
+        assertNull(runtimeService.getVariable(processInstance.getId(), "a"));
+        List<Job> unacquiredJobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(3, unacquiredJobs.size());
+        for (Job job : unacquiredJobs) {
+            assertFalse(jobIds.contains(job.getId()));
+        }
+
+        managementService.executeCommand(new UnlockExclusiveJobCmd(jobs.get(0)));
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ExclusiveJobLanesTest.bpmn20.xml")
+    public void testRejectedLane() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelAsyncProcess");
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).list().get(0);
+
+        ExclusiveJobLanes lanes = createLanes(new Executor() {
+
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        });
+        assertFalse(lanes.execute(job));
+        assertEquals(0, lanes.getLaneCount());
+        assertEquals(3, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(0, managementService.createJobQuery().jobId(job.getId()).count());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/ExclusiveJobLanesTest.bpmn20.xml")
+    public void testLocksAreExtendedWithoutUnlocking() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelAsyncProcess");
+
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        asyncExecutor.setLockOwner("laneExecutor");
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(3);
+        int lockTimeInMillis = asyncExecutor.getAsyncJobLockTimeInMillis();
+        AcquiredJobEntities acquiredJobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor));
+        assertEquals(3, acquiredJobs.size());
+
+        RecordingExecutor executor = new RecordingExecutor();
+        TestExclusiveJobLanes lanes = new TestExclusiveJobLanes(asyncExecutor, executor);
+        for (JobEntity job : acquiredJobs.getJobs()) {
+            lanes.execute(job);
+        }
+        Runnable lane = executor.runnables.get(0);
+        Job lockJob = acquiredJobs.getJobs().iterator().next();
+        managementService.executeCommand(new LockExclusiveJobCmd(lockJob));
+
+        // Half the lock time later, both the process instance and the queued jobs get a new lock time
+        Date renewalTime = new Date(startTime.getTime() + lockTimeInMillis / 2);
+        processEngineConfiguration.getClock().setCurrentTime(renewalTime);
+        Date renewedLockTime = lanes.renewLocks(lane, new Date(startTime.getTime() + lockTimeInMillis));
+        assertEquals(new Date(renewalTime.getTime() + lockTimeInMillis), renewedLockTime);
+        assertEquals(renewedLockTime, getProcessInstanceLockTime(processInstance.getId()));
+        for (Job job : managementService.createJobQuery().processInstanceId(processInstance.getId()).list()) {
+            assertEquals("laneExecutor", ((JobEntity) job).getLockOwner());
+            assertEquals(renewedLockTime, ((JobEntity) job).getLockExpirationTime());
+        }
+
+        // A lock that was taken over by someone else after it expired is not extended
+        processEngineConfiguration.getClock().setCurrentTime(new Date(renewedLockTime.getTime() + 1000));
+        managementService.executeCommand(new LockExclusiveJobCmd(lockJob));
+        assertNull(lanes.renewLocks(lane, renewedLockTime));
+
+        managementService.executeCommand(new UnlockExclusiveJobCmd(lockJob));
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        processEngineConfiguration.resetClock();
+    }
+
+    protected ExclusiveJobLanes createLanes(Executor executor) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        return new ExclusiveJobLanes(asyncExecutor, executor);
+    }
+
+    protected Object getProcessInstanceLockTime(final String processInstanceId) {
+        // The lock time is only mapped for process instance queries
+        ExecutionEntity processInstance = (ExecutionEntity) runtimeService.createProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        return processInstance.getLockTime();
+    }
+
+    static class TestExclusiveJobLanes extends ExclusiveJobLanes {
+
+        public TestExclusiveJobLanes(AsyncExecutor asyncExecutor, Executor executor) {
+            super(asyncExecutor, executor);
+        }
+
+        public Date renewLocks(Runnable lane, Date lockTime) {
+            return renewLocks((Lane) lane, lockTime);
+        }
+
+    }
+
+    static class RecordingExecutor implements Executor {
+
+        protected List<Runnable> runnables = new ArrayList<Runnable>();
+
+        @Override
+        public void execute(Runnable runnable) {
+            runnables.add(runnable);
+        }
+
+    }
+
+}
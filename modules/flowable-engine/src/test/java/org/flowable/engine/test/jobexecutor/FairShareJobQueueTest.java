@@ -0,0 +1,231 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import junit.framework.TestCase;
+
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.engine.impl.asyncexecutor.FairShareJobQueue;
+import org.flowable.engine.impl.asyncexecutor.JobClassStatistics;
+import org.flowable.engine.impl.asyncexecutor.JobHandlerTypeJobClassifier;
+import org.flowable.engine.impl.asyncexecutor.ProcessDefinitionKeyJobClassifier;
+import org.flowable.engine.impl.asyncexecutor.TenantJobClassifier;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+
+public class FairShareJobQueueTest extends TestCase {
+
+    public void testWeightedRoundRobin() {
+        Map<String, Integer> weights = new HashMap<String, Integer>();
+        weights.put("slow", 2);
+        FairShareJobQueue queue = new FairShareJobQueue(100, new JobHandlerTypeJobClassifier(), weights);
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(queue.offer(runnable("slow")));
+        }
+        for (int i = 0; i < 3; i++) {
+            assertTrue(queue.offer(runnable("timer")));
+        }
+        assertEquals(9, queue.size());
+
+        assertEquals("slow,slow,timer,slow,slow,timer,slow,slow,timer", pollAll(queue));
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+
+    public void testJobClassJoiningLater() {
+        FairShareJobQueue queue = new FairShareJobQueue(100, new JobHandlerTypeJobClassifier(), null);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(runnable("flood"));
+        }
+        assertEquals("flood", handlerType(queue.poll()));
+
+        // A job of another class doesn't wait for the whole flood
+        queue.offer(runnable("message"));
+        assertEquals("message,flood,flood,flood,flood", pollAll(queue));
+    }
+
+    public void testCapacity() throws Exception {
+        FairShareJobQueue queue = new FairShareJobQueue(2, new JobHandlerTypeJobClassifier(), null);
+        assertTrue(queue.offer(runnable("a")));
+        assertTrue(queue.offer(runnable("b")));
+        assertEquals(0, queue.remainingCapacity());
+        assertFalse(queue.offer(runnable("c")));
+        assertFalse(queue.offer(runnable("c"), 10, TimeUnit.MILLISECONDS));
+
+        queue.poll();
+        assertEquals(1, queue.remainingCapacity());
+        assertTrue(queue.offer(runnable("c")));
+    }
+
+    public void testRemoveAndDrain() {
+        FairShareJobQueue queue = new FairShareJobQueue(10, new JobHandlerTypeJobClassifier(), null);
+        Runnable first = runnable("a");
+        Runnable second = runnable("b");
+        Runnable third = runnable("b");
+        queue.offer(first);
+        queue.offer(second);
+        queue.offer(third);
+
+        assertTrue(queue.remove(second));
+        assertFalse(queue.remove(second));
+        assertEquals(2, queue.size());
+
+        List<Runnable> runnables = new ArrayList<Runnable>();
+        for (Runnable runnable : queue) {
+            runnables.add(runnable);
+        }
+        assertEquals(2, runnables.size());
+        assertTrue(runnables.contains(first));
+        assertTrue(runnables.contains(third));
+
+        List<Runnable> drained = new ArrayList<Runnable>();
+        assertEquals(2, queue.drainTo(drained));
+        assertEquals(0, queue.size());
+        assertEquals(1, queue.getJobClassStatistics().get("b").getDequeuedJobCount());
+        assertEquals(0, queue.getJobClassStatistics().get("b").getQueueSize());
+    }
+
+    public void testStatistics() throws Exception {
+        FairShareJobQueue queue = new FairShareJobQueue(10, new JobHandlerTypeJobClassifier(), null);
+        queue.offer(runnable("a"));
+        queue.offer(runnable("a"));
+        queue.offer(new Runnable() {
+
+            public void run() {
+            }
+        });
+
+        JobClassStatistics statistics = queue.getJobClassStatistics().get("a");
+        assertEquals(2, statistics.getQueueSize());
+        assertEquals(2, statistics.getEnqueuedJobCount());
+        assertEquals(1, queue.getJobClassStatistics().get(FairShareJobQueue.DEFAULT_JOB_CLASS).getQueueSize());
+
+        Thread.sleep(5);
+        queue.take();
+        queue.take();
+        queue.take();
+        assertEquals(0, statistics.getQueueSize());
+        assertEquals(2, statistics.getDequeuedJobCount());
+        assertTrue(statistics.getAverageWaitTimeInMillis() > 0);
+        assertTrue(statistics.getMaxWaitTimeInMillis() >= statistics.getAverageWaitTimeInMillis());
+        assertNull(queue.poll(1, TimeUnit.MILLISECONDS));
+    }
+
+    public void testShareJobs() {
+        Map<String, Integer> weights = new HashMap<String, Integer>();
+        weights.put("slow", 2);
+        FairShareJobQueue queue = new FairShareJobQueue(100, new JobHandlerTypeJobClassifier(), weights);
+        queue.offer(runnable("slow"));
+        queue.offer(runnable("slow"));
+
+        // The jobs found in database order, the flood comes first
+        List<JobEntity> jobs = new ArrayList<JobEntity>();
+        for (int i = 0; i < 6; i++) {
+            jobs.add(job("slow"));
+        }
+        jobs.add(job("timer"));
+        jobs.add(job("timer"));
+        JobEntity message = job("message");
+        jobs.add(message);
+
+        // The queued slow jobs count for their class
+        List<JobEntity> sharedJobs = queue.shareJobs(jobs, 5);
+        assertEquals(5, sharedJobs.size());
+        assertEquals("timer,message,slow,slow,timer", handlerTypes(sharedJobs));
+        assertSame(message, sharedJobs.get(1));
+
+        assertEquals(jobs.size(), queue.shareJobs(jobs, Integer.MAX_VALUE).size());
+    }
+
+    public void testClassifiers() {
+        JobEntity job = new JobEntityImpl();
+        assertEquals(FairShareJobQueue.DEFAULT_JOB_CLASS, new JobHandlerTypeJobClassifier().classify(job));
+        assertEquals(FairShareJobQueue.DEFAULT_JOB_CLASS, new ProcessDefinitionKeyJobClassifier().classify(job));
+        assertEquals(FairShareJobQueue.DEFAULT_JOB_CLASS, new TenantJobClassifier().classify(job));
+
+        job.setJobHandlerType("async-continuation");
+        job.setProcessDefinitionId("orderProcess:3:1234");
+        job.setTenantId("acme");
+        assertEquals("async-continuation", new JobHandlerTypeJobClassifier().classify(job));
+        assertEquals("orderProcess", new ProcessDefinitionKeyJobClassifier().classify(job));
+        assertEquals("acme", new TenantJobClassifier().classify(job));
+
+        job.setProcessDefinitionId("1234");
+        assertEquals("1234", new ProcessDefinitionKeyJobClassifier().classify(job));
+    }
+
+    public void testThreadPoolExecutor() throws Exception {
+        FairShareJobQueue queue = new FairShareJobQueue(100, new JobHandlerTypeJobClassifier(), null);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, queue);
+        final CountDownLatch latch = new CountDownLatch(20);
+        for (int i = 0; i < 20; i++) {
+            executor.execute(new Runnable() {
+
+                public void run() {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    protected Runnable runnable(String jobHandlerType) {
+        return new ExecuteAsyncRunnable(job(jobHandlerType), null);
+    }
+
+    protected JobEntity job(String jobHandlerType) {
+        JobEntity job = new JobEntityImpl();
+        job.setJobHandlerType(jobHandlerType);
+        return job;
+    }
+
+    protected String handlerTypes(List<JobEntity> jobs) {
+        StringBuilder result = new StringBuilder();
+        for (JobEntity job : jobs) {
+            if (result.length() > 0) {
+                result.append(',');
+            }
+            result.append(job.getJobHandlerType());
+        }
+        return result.toString();
+    }
+
+    protected String handlerType(Runnable runnable) {
+        return ((ExecuteAsyncRunnable) runnable).getJob().getJobHandlerType();
+    }
+
+    protected String pollAll(FairShareJobQueue queue) {
+        StringBuilder result = new StringBuilder();
+        Runnable runnable = queue.poll();
+        while (runnable != null) {
+            if (result.length() > 0) {
+                result.append(',');
+            }
+            result.append(handlerType(runnable));
+            runnable = queue.poll();
+        }
+        return result.toString();
+    }
+
+}
@@ -0,0 +1,183 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.Date;
+
+import org.flowable.engine.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
+import org.flowable.engine.impl.asyncexecutor.ExecuteTimerJobRunnable;
+import org.flowable.engine.impl.asyncexecutor.ExecuteTimerJobRunnableFactory;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.engine.impl.cmd.ExecuteTimerJobCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.JobEntityImpl;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+public class FusedTimerJobExecutionTest extends PluggableFlowableTestCase {
+
+    protected static final long HOUR = 60 * 60 * 1000L;
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/FusedTimerJobExecutionTest.bpmn20.xml")
+    public void testTimerJobExecutedInOneTransaction() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("timerProcess");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + HOUR + 1000));
+        TimerJobEntity timerJob = acquireTimerJob("fusedExecutor");
+        assertEquals("fusedExecutor", timerJob.getLockOwner());
+
+        new ExecuteTimerJobRunnable(timerJob, processEngineConfiguration).run();
+
+        assertEquals(0, managementService.createTimerJobQuery().count());
+        assertEquals(0, managementService.createJobQuery().count());
+        assertEquals("true", runtimeService.getVariable(processInstance.getId(), "invoked"));
+        assertNotNull(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("wait").singleResult());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/FusedTimerJobExecutionTest.bpmn20.xml")
+    public void testTimerJobLockedByOtherOwnerIsNotExecuted() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("timerProcess");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + HOUR + 1000));
+        TimerJobEntity timerJob = acquireTimerJob("fusedExecutor");
+
+        assertFalse(managementService.executeCommand(new ExecuteTimerJobCmd(timerJob.getId(), "otherExecutor")));
+        assertEquals(1, managementService.createTimerJobQuery().count());
+        assertNull(runtimeService.getVariable(processInstance.getId(), "invoked"));
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        assertFalse(managementService.executeCommand(new ExecuteTimerJobCmd(timerJob.getId(), "fusedExecutor")));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/FusedTimerJobExecutionTest.bpmn20.xml")
+    public void testFailingTimerJobIsHandledAsFailedJob() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("failingTimerProcess");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + HOUR + 1000));
+        TimerJobEntity timerJob = acquireTimerJob("fusedExecutor");
+
+        new ExecuteTimerJobRunnable(timerJob, processEngineConfiguration).run();
+
+        // The failed attempt counts against the retries, the job is not executed again right away
+        assertEquals(0, managementService.createJobQuery().count());
+        Job retryTimerJob = managementService.createTimerJobQuery().singleResult();
+        assertNotNull(retryTimerJob);
+        assertEquals(timerJob.getId(), retryTimerJob.getId());
+        assertEquals(timerJob.getRetries() - 1, retryTimerJob.getRetries());
+        assertNotNull(retryTimerJob.getExceptionMessage());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/FusedTimerJobExecutionTest.bpmn20.xml")
+    public void testUnacquireReleasesTimerJobLock() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("timerProcess");
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + HOUR + 1000));
+        final TimerJobEntity timerJob = acquireTimerJob("fusedExecutor");
+
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                commandContext.getJobManager().unacquire(timerJob);
+                return null;
+            }
+        });
+
+        TimerJobEntity releasedTimerJob = (TimerJobEntity) managementService.createTimerJobQuery().singleResult();
+        assertNull(releasedTimerJob.getLockOwner());
+        assertNull(releasedTimerJob.getLockExpirationTime());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+    }
+
+    public void testRunnableFactory() {
+        final Runnable asyncJobRunnable = new TestRunnable();
+        final Runnable timerJobRunnable = new TestRunnable();
+        TestAsyncExecutor asyncExecutor = new TestAsyncExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+
+        // A factory that does not create timer job runnables is only used for async jobs
+        asyncExecutor.setExecuteAsyncRunnableFactory(new ExecuteAsyncRunnableFactory() {
+
+            @Override
+            public Runnable createExecuteAsyncRunnable(Job job, ProcessEngineConfigurationImpl processEngineConfiguration) {
+                return asyncJobRunnable;
+            }
+        });
+        assertSame(asyncJobRunnable, asyncExecutor.createRunnableForJob(new JobEntityImpl()));
+        assertTrue(asyncExecutor.createRunnableForJob(new TimerJobEntityImpl()) instanceof ExecuteTimerJobRunnable);
+
+        asyncExecutor.setExecuteAsyncRunnableFactory(new ExecuteTimerJobRunnableFactory() {
+
+            @Override
+            public Runnable createExecuteAsyncRunnable(Job job, ProcessEngineConfigurationImpl processEngineConfiguration) {
+                return asyncJobRunnable;
+            }
+
+            @Override
+            public Runnable createExecuteTimerJobRunnable(TimerJobEntity timerJob, ProcessEngineConfigurationImpl processEngineConfiguration) {
+                return timerJobRunnable;
+            }
+        });
+        assertSame(asyncJobRunnable, asyncExecutor.createRunnableForJob(new JobEntityImpl()));
+        assertSame(timerJobRunnable, asyncExecutor.createRunnableForJob(new TimerJobEntityImpl()));
+    }
+
+    protected TimerJobEntity acquireTimerJob(String lockOwner) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        asyncExecutor.setLockOwner(lockOwner);
+
+        AcquiredTimerJobEntities acquiredJobs = managementService.executeCommand(new AcquireTimerJobsCmd(asyncExecutor));
+        assertEquals(1, acquiredJobs.size());
+        return acquiredJobs.getJobs().iterator().next();
+    }
+
+    static class TestAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        @Override
+        public Runnable createRunnableForJob(Job job) {
+            return super.createRunnableForJob(job);
+        }
+
+    }
+
+    static class TestRunnable implements Runnable {
+
+        @Override
+        public void run() {
+        }
+
+    }
+
+}
@@ -0,0 +1,307 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.FairShareJobQueue;
+import org.flowable.engine.impl.asyncexecutor.JobBatches;
+import org.flowable.engine.impl.asyncexecutor.JobClassifier;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.api.event.TestFlowableEventListener;
+
+public class JobBatchesTest extends PluggableFlowableTestCase {
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testJobsExecutedInOneBatch() {
+        List<ProcessInstance> processInstances = new ArrayList<ProcessInstance>();
+        for (int i = 0; i < 3; i++) {
+            processInstances.add(runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false)));
+        }
+
+        RecordingExecutor executor = new RecordingExecutor();
+        JobBatches batches = createBatches(executor, 10, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            assertTrue(batches.isBatchJob(job));
+            assertTrue(batches.execute(job));
+        }
+
+        // One worker takes all jobs
+        assertEquals(1, executor.runnables.size());
+        assertEquals(3, batches.getPendingJobCount());
+
+        executor.runnables.get(0).run();
+        assertEquals(0, batches.getPendingJobCount());
+        assertEquals(0, managementService.createJobQuery().count());
+        for (ProcessInstance processInstance : processInstances) {
+            assertEquals(true, runtimeService.getVariable(processInstance.getId(), "done"));
+            assertNotNull(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("wait").singleResult());
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testFailingJobDoesNotRollBackBatch() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+        ProcessInstance failingProcessInstance = runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", true));
+
+        RecordingExecutor executor = new RecordingExecutor();
+        JobBatches batches = createBatches(executor, 10, 100);
+        for (Job job : managementService.createJobQuery().list()) {
+            batches.execute(job);
+        }
+        executor.runnables.get(0).run();
+
+        // The batch failed, the jobs were executed separately
+        assertEquals(true, runtimeService.getVariable(processInstance.getId(), "done"));
+        assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+
+        assertNull(runtimeService.getVariable(failingProcessInstance.getId(), "done"));
+        Job failedJob = managementService.createTimerJobQuery().processInstanceId(failingProcessInstance.getId()).singleResult();
+        assertNotNull(failedJob);
+        assertEquals(2, failedJob.getRetries());
+        assertNotNull(failedJob.getExceptionMessage());
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        runtimeService.deleteProcessInstance(failingProcessInstance.getId(), "test");
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testSuccessEventsOnlyForCommittedJobs() {
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        runtimeService.addEventListener(listener, FlowableEngineEventType.JOB_EXECUTION_SUCCESS);
+        try {
+            for (int i = 0; i < 2; i++) {
+                runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+            }
+            RecordingExecutor executor = new RecordingExecutor();
+            JobBatches batches = createBatches(executor, 10, 100);
+            for (Job job : managementService.createJobQuery().list()) {
+                batches.execute(job);
+            }
+            executor.runnables.get(0).run();
+            assertEquals(2, listener.getEventsReceived().size());
+
+            // The rolled back batch reports no success, the job that succeeds on its own reports it once
+            listener.clearEventsReceived();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+            ProcessInstance failingProcessInstance = runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", true));
+            Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+            executor = new RecordingExecutor();
+            batches = createBatches(executor, 10, 100);
+            batches.execute(job);
+            batches.execute(managementService.createJobQuery().processInstanceId(failingProcessInstance.getId()).singleResult());
+            executor.runnables.get(0).run();
+
+            int successEvents = 0;
+            for (FlowableEvent event : listener.getEventsReceived()) {
+                if (job.getId().equals(((Job) ((FlowableEntityEvent) event).getEntity()).getId())) {
+                    successEvents++;
+                }
+            }
+            assertEquals(1, successEvents);
+            assertEquals(true, runtimeService.getVariable(processInstance.getId(), "done"));
+
+            for (ProcessInstance remainingProcessInstance : runtimeService.createProcessInstanceQuery().list()) {
+                runtimeService.deleteProcessInstance(remainingProcessInstance.getId(), "test");
+            }
+
+        } finally {
+            runtimeService.removeEventListener(listener);
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testLocksOfPendingJobsAreExtended() {
+        for (int i = 0; i < 2; i++) {
+            runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+        }
+
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        asyncExecutor.setAsyncJobLockTimeInMillis(10000);
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(2);
+        Collection<JobEntity> jobs = managementService.executeCommand(new AcquireJobsCmd(asyncExecutor)).getJobs();
+        assertEquals(2, jobs.size());
+
+        Date startTime = processEngineConfiguration.getClock().getCurrentTime();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 60000L));
+        try {
+            final List<Date> lockExpirationTimes = new ArrayList<Date>();
+            RecordingExecutor executor = new RecordingExecutor();
+            JobBatches batches = new JobBatches(asyncExecutor, executor, Collections.singleton(AsyncContinuationJobHandler.TYPE), 1, 100, 1) {
+
+                @Override
+                protected void renewLocksIfNeeded() {
+                    // Pretend the locks were extended a long time ago
+                    lastLockRenewalTime = 0L;
+                    super.renewLocksIfNeeded();
+                    for (Job job : managementService.createJobQuery().list()) {
+                        lockExpirationTimes.add(((JobEntity) job).getLockExpirationTime());
+                    }
+                }
+            };
+            for (JobEntity job : jobs) {
+                assertTrue(batches.execute(job));
+            }
+            assertEquals(1, executor.runnables.size());
+            executor.runnables.get(0).run();
+
+            // After the first batch, the lock of the pending job is extended from the current time
+            assertEquals(1, lockExpirationTimes.size());
+            assertEquals(startTime.getTime() + 60000L + 10000L, lockExpirationTimes.get(0).getTime());
+            assertEquals(0, managementService.createJobQuery().count());
+
+        } finally {
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testWorkersAndCapacity() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+        }
+        List<Job> jobs = managementService.createJobQuery().list();
+
+        RecordingExecutor executor = new RecordingExecutor();
+        JobBatches batches = createBatches(executor, 2, 4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(batches.execute(jobs.get(i)));
+        }
+        assertFalse(batches.execute(jobs.get(4)));
+
+        // A second worker is started for the second full batch, the maximum number of workers is 2
+        assertEquals(2, executor.runnables.size());
+        assertEquals(4, batches.getPendingJobCount());
+
+        executor.runnables.get(0).run();
+        executor.runnables.get(1).run();
+        assertEquals(0, batches.getPendingJobCount());
+        assertEquals(1, managementService.createJobQuery().count());
+        assertEquals(4, runtimeService.createExecutionQuery().activityId("wait").count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testWorkerPerJobClass() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+        ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+
+        JobClassifier processInstanceClassifier = new JobClassifier() {
+
+            @Override
+            public String classify(Job job) {
+                return job.getProcessInstanceId();
+            }
+        };
+        FairShareJobQueue queue = new FairShareJobQueue(10, processInstanceClassifier, null);
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        JobBatches batches = new JobBatches(asyncExecutor, new QueueExecutor(queue), Collections.singleton(AsyncContinuationJobHandler.TYPE), 10, 100, 2,
+                processInstanceClassifier);
+        for (Job job : managementService.createJobQuery().list()) {
+            assertTrue(batches.execute(job));
+        }
+
+        // One worker per job class, classified by the jobs it executes
+        assertEquals(2, queue.size());
+        assertEquals(1, queue.getJobClassStatistics().get(processInstance.getId()).getQueueSize());
+        assertEquals(1, queue.getJobClassStatistics().get(otherProcessInstance.getId()).getQueueSize());
+
+        queue.poll().run();
+        queue.poll().run();
+        assertEquals(0, batches.getPendingJobCount());
+        assertEquals(0, managementService.createJobQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testNonBatchJobs() {
+        runtimeService.startProcessInstanceByKey("exclusiveProcess");
+        Job exclusiveJob = managementService.createJobQuery().singleResult();
+
+        JobBatches batches = createBatches(new RecordingExecutor(), 10, 100);
+        assertFalse(batches.isBatchJob(exclusiveJob));
+
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+        Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertFalse(new JobBatches(asyncExecutor, new RecordingExecutor(), Collections.singleton("other-handler"), 10, 100, 2).isBatchJob(job));
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/jobexecutor/JobBatchesTest.bpmn20.xml")
+    public void testRejectedWorker() {
+        runtimeService.startProcessInstanceByKey("batchProcess", Collections.<String, Object> singletonMap("fail", false));
+        Job job = managementService.createJobQuery().singleResult();
+
+        JobBatches batches = createBatches(new Executor() {
+
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException();
+            }
+        }, 10, 100);
+        assertFalse(batches.execute(job));
+        assertEquals(0, batches.getPendingJobCount());
+    }
+
+    protected JobBatches createBatches(Executor executor, int batchSize, int capacity) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        return new JobBatches(asyncExecutor, executor, Collections.singleton(AsyncContinuationJobHandler.TYPE), batchSize, capacity, 2);
+    }
+
+    static class QueueExecutor implements Executor {
+
+        protected FairShareJobQueue queue;
+
+        public QueueExecutor(FairShareJobQueue queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void execute(Runnable runnable) {
+            if (!queue.offer(runnable)) {
+                throw new RejectedExecutionException();
+            }
+        }
+
+    }
+
+    static class RecordingExecutor implements Executor {
+
+        protected List<Runnable> runnables = new ArrayList<Runnable>();
+
+        @Override
+        public void execute(Runnable runnable) {
+            runnables.add(runnable);
+        }
+
+    }
+
+}
@@ -16,11 +16,18 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutorHeartbeatCmd;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.engine.impl.asyncexecutor.FindExpiredJobsCmd;
+import org.flowable.engine.impl.asyncexecutor.ReleaseExpiredJobLocksCmd;
 import org.flowable.engine.impl.asyncexecutor.ResetExpiredJobsCmd;
 import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.AsyncExecutorNode;
 import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.JobQuery;
 import org.flowable.engine.test.Deployment;
@@ -94,6 +101,161 @@ public class ResetExpiredJobsTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Deployment(resources = { "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/timer/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml" })
+    public void testReleaseExpiredJobLocksPerLockOwner() {
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        Date expired = new Date(now.getTime() - 1000);
+        Date notExpired = new Date(now.getTime() + 60000);
+
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("myProcess");
+        }
+        runtimeService.startProcessInstanceByKey("intermediateTimerEventExample");
+
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertEquals(3, jobs.size());
+        lockJob(jobs.get(0).getId(), "deadNode", expired);
+        lockJob(jobs.get(1).getId(), "deadNode", expired);
+        lockJob(jobs.get(2).getId(), "liveNode", notExpired);
+        lockTimerJob(managementService.createTimerJobQuery().singleResult().getId(), "deadNode", expired);
+
+        ReleaseExpiredJobLocksCmd.Result result = managementService.executeCommand(new ReleaseExpiredJobLocksCmd());
+        assertEquals(1, result.getLockOwnerCount());
+        assertEquals(2, result.getJobCount());
+        assertEquals(1, result.getTimerJobCount());
+        assertEquals(expired, result.getMinLockExpirationTime());
+        assertEquals(1000, result.getMaxRecoveryDelayInMillis());
+
+        // Only the lock of the live node is left
+        assertEquals(2, managementService.createJobQuery().unlocked().count());
+        JobEntity lockedJob = (JobEntity) managementService.createJobQuery().locked().singleResult();
+        assertEquals(jobs.get(2).getId(), lockedJob.getId());
+        assertEquals("liveNode", lockedJob.getLockOwner());
+
+        TimerJobEntity timerJob = (TimerJobEntity) managementService.createTimerJobQuery().singleResult();
+        assertNull(timerJob.getLockOwner());
+        assertNull(timerJob.getLockExpirationTime());
+
+        // Nothing expired anymore
+        result = managementService.executeCommand(new ReleaseExpiredJobLocksCmd());
+        assertEquals(0, result.getLockOwnerCount());
+        assertNull(result.getMinLockExpirationTime());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/jobexecutor/ResetExpiredJobsTest.testResetExpiredJobs.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/timer/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml" })
+    public void testReleaseJobLocksOfDeadAsyncExecutorNode() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        AsyncExecutorHeartbeatCmd.HeartbeatObservations node1Observations = new AsyncExecutorHeartbeatCmd.HeartbeatObservations();
+
+        try {
+            AsyncExecutorHeartbeatCmd.Result result = managementService.executeCommand(
+                    new AsyncExecutorHeartbeatCmd("node1", "host1", 10, startTime, 30000, node1Observations));
+            assertEquals(0, result.getDeadNodeCount());
+
+            // The clock of node2 is an hour behind, that doesn't make it look dead
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() - 3600000));
+            managementService.executeCommand(new AsyncExecutorHeartbeatCmd("node2", "host2", 20, startTime, 30000,
+                    new AsyncExecutorHeartbeatCmd.HeartbeatObservations()));
+            processEngineConfiguration.getClock().setCurrentTime(startTime);
+            result = managementService.executeCommand(new AsyncExecutorHeartbeatCmd("node1", "host1", 10, startTime, 30000, node1Observations));
+            assertEquals(0, result.getDeadNodeCount());
+
+            List<AsyncExecutorNode> nodes = managementService.getAsyncExecutorNodes();
+            assertEquals(2, nodes.size());
+            assertEquals("node1", nodes.get(0).getLockOwner());
+            assertEquals("host1", nodes.get(0).getHostName());
+            assertEquals(10, nodes.get(0).getRemainingCapacity());
+            assertEquals("node2", nodes.get(1).getLockOwner());
+
+            // Locks of node2 that won't expire for a long time
+            runtimeService.startProcessInstanceByKey("myProcess");
+            runtimeService.startProcessInstanceByKey("intermediateTimerEventExample");
+            Date lockExpirationTime = new Date(startTime.getTime() + 3600000);
+            lockJob(managementService.createJobQuery().singleResult().getId(), "node2", lockExpirationTime);
+            lockTimerJob(managementService.createTimerJobQuery().singleResult().getId(), "node2", lockExpirationTime);
+
+            // node1 keeps beating, node2 stops
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 20000));
+            result = managementService.executeCommand(new AsyncExecutorHeartbeatCmd("node1", "host1", 5, startTime, 30000, node1Observations));
+            assertEquals(0, result.getDeadNodeCount());
+            assertEquals(5, managementService.getAsyncExecutorNodes().get(0).getRemainingCapacity());
+
+            // The timeout counts from when node1 first read the last heartbeat of node2
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 40000));
+            result = managementService.executeCommand(new AsyncExecutorHeartbeatCmd("node1", "host1", 5, startTime, 30000, node1Observations));
+            assertEquals(1, result.getDeadNodeCount());
+            assertEquals(1, result.getJobCount());
+            assertEquals(1, result.getTimerJobCount());
+
+            nodes = managementService.getAsyncExecutorNodes();
+            assertEquals(1, nodes.size());
+            assertEquals("node1", nodes.get(0).getLockOwner());
+            assertEquals(startTime, nodes.get(0).getStartTime());
+            assertEquals(new Date(startTime.getTime() + 40000), nodes.get(0).getHeartbeatTime());
+
+            assertEquals(0, managementService.createJobQuery().locked().count());
+            TimerJobEntity timerJob = (TimerJobEntity) managementService.createTimerJobQuery().singleResult();
+            assertNull(timerJob.getLockOwner());
+            assertNull(timerJob.getLockExpirationTime());
+
+        } finally {
+            deleteAsyncExecutorNode("node1");
+            deleteAsyncExecutorNode("node2");
+        }
+    }
+
+    public void testHeartbeatDefaults() {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        assertFalse(asyncExecutor.isHeartbeatEnabled());
+        assertEquals(asyncExecutor.getAsyncJobLockTimeInMillis(), asyncExecutor.getHeartbeatTimeoutInMillis());
+
+        asyncExecutor.setAsyncJobLockTimeInMillis(600000);
+        assertEquals(600000, asyncExecutor.getHeartbeatTimeoutInMillis());
+        asyncExecutor.setHeartbeatTimeoutInMillis(60000);
+        assertEquals(60000, asyncExecutor.getHeartbeatTimeoutInMillis());
+    }
+
+    protected void deleteAsyncExecutorNode(final String lockOwner) {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                commandContext.getAsyncExecutorNodeEntityManager().deleteAsyncExecutorNode(lockOwner, null);
+                return null;
+            }
+        });
+    }
+
+    protected void lockJob(final String jobId, final String lockOwner, final Date lockExpirationTime) {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                JobEntity job = commandContext.getJobEntityManager().findById(jobId);
+                job.setLockOwner(lockOwner);
+                job.setLockExpirationTime(lockExpirationTime);
+                return null;
+            }
+        });
+    }
+
+    protected void lockTimerJob(final String timerJobId, final String lockOwner, final Date lockExpirationTime) {
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                TimerJobEntity timerJob = commandContext.getTimerJobEntityManager().findById(timerJobId);
+                timerJob.setLockOwner(lockOwner);
+                timerJob.setLockExpirationTime(lockExpirationTime);
+                return null;
+            }
+        });
+    }
+
     protected void assertJobDetails(boolean locked) {
         JobQuery jobQuery = managementService.createJobQuery();
 
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.flowable.engine.impl.asyncexecutor.TimerWheel;
+
+public class TimerWheelTest extends TestCase {
+
+    public void testItemsAreReturnedInTheirTick() {
+        TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 1000);
+        assertTrue(wheel.add("a", 1025));
+        assertTrue(wheel.add("b", 1029));
+        assertTrue(wheel.add("c", 1050));
+        assertEquals(3, wheel.size());
+
+        assertTrue(wheel.advance(1019).isEmpty());
+        assertEquals(items("a", "b"), sortedItems(wheel.advance(1020)));
+        assertEquals(1, wheel.size());
+        assertTrue(wheel.advance(1049).isEmpty());
+        assertEquals(items("c"), sortedItems(wheel.advance(1055)));
+        assertTrue(wheel.isEmpty());
+    }
+
+    public void testItemDueInCurrentTickIsNotAdded() {
+        TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 1005);
+        assertEquals(1000, wheel.getCurrentTime());
+        assertFalse(wheel.add("a", 1009));
+        assertFalse(wheel.add("b", 500));
+        assertTrue(wheel.add("c", 1010));
+        assertEquals(1, wheel.size());
+    }
+
+    public void testOverflowWheelsCascade() {
+        // The innermost wheel covers 80 ms, the first overflow wheel 640 ms, the second one 5120 ms
+        TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 0);
+        assertTrue(wheel.add("a", 75));
+        assertTrue(wheel.add("b", 300));
+        assertTrue(wheel.add("c", 4000));
+
+        List<String> fired = new ArrayList<String>();
+        for (long time = 0; time <= 4100; time += 10) {
+            for (TimerWheel.Entry<String> entry : wheel.advance(time)) {
+                // Items are never returned before the tick that contains their due time
+                assertTrue(entry.getDueTime() < time + 10);
+                assertTrue(entry.getDueTime() >= time);
+                fired.add(entry.getItem());
+            }
+        }
+        assertEquals(items("a", "b", "c"), fired);
+        assertTrue(wheel.isEmpty());
+    }
+
+    public void testLargeJump() {
+        TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 0);
+        assertTrue(wheel.add("a", 50));
+        assertTrue(wheel.add("b", 500));
+        assertTrue(wheel.add("c", 100000));
+        assertTrue(wheel.add("d", 100005));
+        assertTrue(wheel.add("e", 200000));
+
+        assertEquals(items("a", "b"), sortedItems(wheel.advance(99995)));
+        assertEquals(3, wheel.size());
+        assertEquals(items("c", "d"), sortedItems(wheel.advance(100000)));
+        assertEquals(items("e"), sortedItems(wheel.advance(300000)));
+        assertTrue(wheel.isEmpty());
+    }
+
+    public void testSkipEmptyTicks() {
+        TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 0);
+        assertTrue(wheel.advance(123456).isEmpty());
+        assertEquals(123450, wheel.getCurrentTime());
+        assertFalse(wheel.add("a", 123455));
+        assertTrue(wheel.add("b", 123460));
+        assertEquals(items("b"), sortedItems(wheel.advance(123460)));
+    }
+
+    public void testClear() {
+        TimerWheel<String> wheel = new TimerWheel<String>(10, 8, 0);
+        wheel.add("a", 20);
+        wheel.add("b", 2000);
+        wheel.add("c", 20000);
+
+        List<String> cleared = wheel.clear();
+        Collections.sort(cleared);
+        assertEquals(items("a", "b", "c"), cleared);
+        assertTrue(wheel.isEmpty());
+        assertTrue(wheel.advance(30000).isEmpty());
+    }
+
+    protected List<String> items(String... items) {
+        List<String> list = new ArrayList<String>();
+        for (String item : items) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    protected List<String> sortedItems(List<TimerWheel.Entry<String>> entries) {
+        List<String> items = new ArrayList<String>();
+        for (TimerWheel.Entry<String> entry : entries) {
+            items.add(entry.getItem());
+        }
+        Collections.sort(items);
+        return items;
+    }
+
+}
@@ -19,6 +19,8 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.impl.scripting.CompiledScriptCache;
+import org.flowable.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -68,6 +70,58 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         verifyExceptionInStacktrace(expectedException, IllegalStateException.class);
     }
 
+    @Deployment
+    public void testCompiledScriptCache() {
+        CompiledScriptCache compiledScriptCache = processEngineConfiguration.getScriptingEngines().getCompiledScriptCache();
+        assertNotNull(compiledScriptCache);
+        compiledScriptCache.clear();
+        compiledScriptCache.resetStatistics();
+
+        for (int i = 0; i < 3; i++) {
+            String id = runtimeService.startProcessInstanceByKey("compiledScriptCache", CollectionUtil.map("a", i, "b", 1)).getId();
+            assertEquals(i + 1, ((Number) runtimeService.getVariable(id, "sum")).intValue());
+        }
+
+        // The script is compiled once, the other evaluations use the compiled script
+        assertEquals(1, compiledScriptCache.size());
+        assertEquals(1, compiledScriptCache.getMissCount());
+        assertEquals(2, compiledScriptCache.getHitCount());
+        assertEquals(2 / 3.0, compiledScriptCache.getHitRate(), 0.0001);
+    }
+
+    @Deployment
+    public void testFailingCompiledScript() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        CompiledScriptCache compiledScriptCache = scriptingEngines.getCompiledScriptCache();
+        compiledScriptCache.clear();
+
+        String uncachedMessage;
+        scriptingEngines.setCompiledScriptCache(null);
+        try {
+            uncachedMessage = startFailingCompiledScript("run");
+        } finally {
+            scriptingEngines.setCompiledScriptCache(compiledScriptCache);
+        }
+        assertTrue(uncachedMessage.endsWith("java.lang.IllegalStateException: Failed for run"));
+
+        // The message of a failing compiled script is the same as when evaluating the script text, both when compiling and when reusing the script
+        for (int i = 0; i < 2; i++) {
+            assertEquals(uncachedMessage, startFailingCompiledScript("run"));
+        }
+        assertEquals(1, compiledScriptCache.size());
+    }
+
+    protected String startFailingCompiledScript(String input) {
+        try {
+            runtimeService.startProcessInstanceByKey("failingCompiledScript", CollectionUtil.singletonMap("input", input));
+            fail("Exception expected");
+            return null;
+        } catch (FlowableException e) {
+            verifyExceptionInStacktrace(e, IllegalStateException.class);
+            return e.getMessage();
+        }
+    }
+
     @Deployment
     public void testAutoStoreVariables() {
         // The first script should NOT store anything as 'autoStoreVariables' is set to false
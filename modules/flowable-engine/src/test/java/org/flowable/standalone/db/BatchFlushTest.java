@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.db;
+
+import java.util.List;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class BatchFlushTest extends ResourceFlowableTestCase {
+
+    public BatchFlushTest() {
+        super("org/flowable/standalone/db/batchflush.flowable.cfg.xml");
+    }
+
+    @Deployment
+    public void testParallelTasks() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelTasks");
+
+        List<Task> tasks = taskService.createTaskQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(5, tasks.size());
+
+        // Updates all tasks in one transaction (more tasks than the max batch size)
+        final String processInstanceId = processInstance.getId();
+        managementService.executeCommand(new Command<Void>() {
+            public Void execute(CommandContext commandContext) {
+                List<TaskEntity> taskEntities = commandContext.getTaskEntityManager().findTasksByProcessInstanceId(processInstanceId);
+                for (TaskEntity taskEntity : taskEntities) {
+                    taskEntity.setAssignee("kermit");
+                }
+                return null;
+            }
+        });
+        assertEquals(5, taskService.createTaskQuery().processInstanceId(processInstance.getId()).taskAssignee("kermit").count());
+
+        for (Task task : tasks) {
+            taskService.complete(task.getId());
+        }
+        assertProcessEnded(processInstance.getId());
+        assertEquals(0, runtimeService.createExecutionQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/db/BatchFlushTest.testParallelTasks.bpmn20.xml")
+    public void testOptimisticLocking() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("parallelTasks");
+        final String processInstanceId = processInstance.getId();
+
+        try {
+            managementService.executeCommand(new Command<Void>() {
+                public Void execute(CommandContext commandContext) {
+                    List<TaskEntity> taskEntities = commandContext.getTaskEntityManager().findTasksByProcessInstanceId(processInstanceId);
+                    for (TaskEntity taskEntity : taskEntities) {
+                        taskEntity.setAssignee("kermit");
+                    }
+
+                    // Concurrent update of one of the tasks in a separate transaction
+                    final String taskId = taskEntities.get(2).getId();
+                    processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(), new Command<Void>() {
+                        public Void execute(CommandContext commandContext) {
+                            commandContext.getTaskEntityManager().findById(taskId).setAssignee("gonzo");
+                            return null;
+                        }
+                    });
+                    return null;
+                }
+            });
+            fail("Expected optimistic locking exception");
+        } catch (FlowableOptimisticLockingException e) {
+            // expected
+        }
+
+        assertEquals(0, taskService.createTaskQuery().processInstanceId(processInstanceId).taskAssignee("kermit").count());
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstanceId).taskAssignee("gonzo").count());
+    }
+
+}
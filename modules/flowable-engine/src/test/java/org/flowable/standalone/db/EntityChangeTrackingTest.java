@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.db;
+
+import org.flowable.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.persistence.cache.ChangeTrackingEntityCacheImpl;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.TaskEntity;
+import org.flowable.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class EntityChangeTrackingTest extends ResourceFlowableTestCase {
+
+    public EntityChangeTrackingTest() {
+        super("org/flowable/standalone/db/changetracking.flowable.cfg.xml");
+    }
+
+    @Deployment
+    public void testChangeTracking() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("changeTracking");
+        runtimeService.setVariable(processInstance.getId(), "myVar", "hello");
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+
+        final String processInstanceId = processInstance.getId();
+        final String taskId = task.getId();
+
+        int executionRevision = getExecutionRevision(processInstanceId);
+        int taskRevision = getTaskRevision(taskId);
+        int variableRevision = getVariableRevision(processInstanceId, "myVar");
+
+        // Reading (and setting values that are equal to the current ones) should not lead to any update
+        managementService.executeCommand(new Command<Void>() {
+            public Void execute(CommandContext commandContext) {
+                assertTrue(commandContext.getEntityCache() instanceof ChangeTrackingEntityCacheImpl);
+
+                ExecutionEntity execution = commandContext.getExecutionEntityManager().findById(processInstanceId);
+                execution.setActive(execution.isActive());
+                execution.setName(execution.getName());
+                execution.getVariables();
+
+                TaskEntity taskEntity = commandContext.getTaskEntityManager().findById(taskId);
+                taskEntity.setName(taskEntity.getName());
+                taskEntity.setPriority(taskEntity.getPriority());
+                return null;
+            }
+        });
+
+        assertEquals(executionRevision, getExecutionRevision(processInstanceId));
+        assertEquals(taskRevision, getTaskRevision(taskId));
+        assertEquals(variableRevision, getVariableRevision(processInstanceId, "myVar"));
+
+        // Changes through the setters are flushed
+        taskService.setAssignee(taskId, "kermit");
+        runtimeService.setVariable(processInstanceId, "myVar", "world");
+
+        assertEquals(taskRevision + 1, getTaskRevision(taskId));
+        assertEquals("kermit", taskService.createTaskQuery().taskId(taskId).singleResult().getAssignee());
+        assertEquals(variableRevision + 1, getVariableRevision(processInstanceId, "myVar"));
+        assertEquals("world", runtimeService.getVariable(processInstanceId, "myVar"));
+
+        taskService.complete(taskId);
+        assertProcessEnded(processInstanceId);
+    }
+
+    protected int getExecutionRevision(final String executionId) {
+        return managementService.executeCommand(new Command<Integer>() {
+            public Integer execute(CommandContext commandContext) {
+                return commandContext.getExecutionEntityManager().findById(executionId).getRevision();
+            }
+        });
+    }
+
+    protected int getTaskRevision(final String taskId) {
+        return managementService.executeCommand(new Command<Integer>() {
+            public Integer execute(CommandContext commandContext) {
+                return commandContext.getTaskEntityManager().findById(taskId).getRevision();
+            }
+        });
+    }
+
+    protected int getVariableRevision(final String executionId, final String variableName) {
+        return managementService.executeCommand(new Command<Integer>() {
+            public Integer execute(CommandContext commandContext) {
+                VariableInstanceEntity variableInstance = commandContext.getVariableInstanceEntityManager().findVariableInstanceByExecutionAndName(executionId, variableName);
+                return variableInstance.getRevision();
+            }
+        });
+    }
+
+}
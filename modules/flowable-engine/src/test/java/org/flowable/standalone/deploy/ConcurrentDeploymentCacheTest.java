@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.MonitoredDeploymentCache;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+public class ConcurrentDeploymentCacheTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.test.flowable.cfg.xml");
+    }
+
+    public void testCacheBoundedByModelWeight() {
+        // Each process definition has 5 flow elements, weighing 6. The configured max weight is 20, so only 3 fit.
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+        assertEquals(0, processDefinitionCache.size());
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        for (int i = 1; i <= 5; i++) {
+            repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+            assertEquals(Math.min(i, 3), processDefinitionCache.size());
+            assertEquals(Math.min(i, 3) * 6, processDefinitionCache.getWeightedSize());
+        }
+        assertEquals(2, processDefinitionCache.getEvictionCount());
+
+        // Evicted definitions are loaded again when needed
+        long missCount = processDefinitionCache.getMissCount();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+        assertNotNull(repositoryService.getBpmnModel(processDefinition.getId()));
+        assertTrue(processDefinitionCache.getMissCount() > missCount);
+        assertTrue(processDefinitionCache.contains(processDefinition.getId()));
+        assertEquals(3, processDefinitionCache.size());
+
+        // Cleanup
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+    public void testLeastFrequentlyUsedIsEvicted() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>(3);
+        cache.add("a", "A");
+        cache.add("b", "B");
+        cache.add("c", "C");
+
+        // 'a' is oldest, but used most, so 'b' should be evicted first
+        for (int i = 0; i < 5; i++) {
+            assertEquals("A", cache.get("a"));
+        }
+        assertEquals("C", cache.get("c"));
+
+        cache.add("d", "D");
+        assertEquals(3, cache.size());
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+        assertTrue(cache.contains("d"));
+
+        assertNull(cache.get("b"));
+        assertEquals(6, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.remove("a");
+        assertEquals(2, cache.getWeightedSize());
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeightedSize());
+    }
+
+    public void testRecentlyUsedObjectsWinOverFormerlyPopularObjectsAfterAging() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>(2);
+        cache.setAgingSampleFactor(1);
+
+        cache.add("a", "A");
+        for (int i = 0; i < 14; i++) {
+            cache.get("a");
+        }
+        cache.add("b", "B");
+        cache.add("c", "C");
+        assertFalse(cache.contains("b"));
+
+        // 'c' is used a lot now, while 'a' isn't used anymore
+        for (int i = 0; i < 10; i++) {
+            cache.get("c");
+        }
+        cache.add("d", "D");
+        assertFalse(cache.contains("a"));
+        assertTrue(cache.contains("c"));
+        assertTrue(cache.contains("d"));
+    }
+
+    public void testEvictionKeepsLargeCacheWithinLimit() {
+        MonitoredDeploymentCache<String> cache = new ConcurrentDeploymentCache<String>(100);
+        for (int i = 0; i < 1000; i++) {
+            cache.add("key" + i, "value" + i);
+            if (i % 10 == 0) {
+                // Keep some objects popular
+                for (int j = 0; j < 5; j++) {
+                    cache.get("key0");
+                }
+            }
+        }
+
+        assertEquals(100, cache.size());
+        assertEquals(900, cache.getEvictionCount());
+        assertTrue(cache.contains("key0"));
+        assertTrue(cache.contains("key999"));
+    }
+
+}
@@ -0,0 +1,91 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Simulates a second cluster node with a second process engine on the same database.
+ */
+public class DeploymentCacheInvalidationTest extends ResourceFlowableTestCase {
+
+    protected ProcessEngine otherNode;
+
+    public DeploymentCacheInvalidationTest() {
+        super("org/flowable/standalone/deploy/deployment.cache.invalidation.test.flowable.cfg.xml");
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        ProcessEngineConfigurationImpl otherNodeConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        otherNodeConfiguration.setEngineName("otherNode");
+        otherNodeConfiguration.setJdbcUrl(processEngineConfiguration.getJdbcUrl());
+        otherNodeConfiguration.setDatabaseSchemaUpdate("true");
+        otherNodeConfiguration.setEnableDeploymentCacheInvalidation(true);
+        otherNodeConfiguration.setDeploymentCacheInvalidationPollInterval(0);
+        otherNode = otherNodeConfiguration.buildProcessEngine();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        otherNode.close();
+        super.tearDown();
+    }
+
+    public void testDeleteDeploymentOnOtherNode() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+
+        // Load the process definition in the cache of the other node
+        assertNotNull(otherNode.getRepositoryService().getProcessDefinition(processDefinition.getId()));
+
+        repositoryService.deleteDeployment(deploymentId, true);
+
+        try {
+            otherNode.getRepositoryService().getProcessDefinition(processDefinition.getId());
+            fail();
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    public void testProcessDefinitionInfoChangeOnOtherNode() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy().getId();
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).singleResult();
+
+        ObjectNode infoNode = dynamicBpmnService.getProcessDefinitionInfo(processDefinition.getId());
+        assertEquals(0, infoNode.size());
+        assertEquals(0, otherNode.getDynamicBpmnService().getProcessDefinitionInfo(processDefinition.getId()).size());
+
+        infoNode = processEngineConfiguration.getObjectMapper().createObjectNode();
+        infoNode.put("key", "value");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinition.getId(), infoNode);
+
+        assertEquals("value", dynamicBpmnService.getProcessDefinitionInfo(processDefinition.getId()).get("key").asText());
+        assertEquals("value", otherNode.getDynamicBpmnService().getProcessDefinitionInfo(processDefinition.getId()).get("key").asText());
+
+        for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.idgenerator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.impl.cfg.IdGenerator;
+import org.flowable.engine.common.impl.persistence.TimeOrderedIdGenerator;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.task.Task;
+import org.flowable.engine.test.Deployment;
+
+public class TimeOrderedIdGeneratorTest extends ResourceFlowableTestCase {
+
+    public TimeOrderedIdGeneratorTest() throws Exception {
+        super("org/flowable/standalone/idgenerator/timeorderedidgenerator.test.flowable.cfg.xml");
+    }
+
+    public void testIdsAreOrdered() {
+        IdGenerator idGenerator = processEngineConfiguration.getIdGenerator();
+        assertTrue(idGenerator instanceof TimeOrderedIdGenerator);
+
+        String previousId = idGenerator.getNextId();
+        assertEquals(36, previousId.length());
+        for (int i = 0; i < 100000; i++) {
+            String id = idGenerator.getNextId();
+            assertTrue(id + " should sort after " + previousId, id.compareTo(previousId) > 0);
+            previousId = id;
+        }
+    }
+
+    public void testIdsAreUniqueAcrossGenerators() throws Exception {
+        // Two generators with the same node id, as two engines in the same JVM could be configured
+        final IdGenerator[] idGenerators = new IdGenerator[] { new TimeOrderedIdGenerator(1L), new TimeOrderedIdGenerator(1L) };
+
+        final Set<String> ids = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        for (int i = 0; i < 10; i++) {
+            final IdGenerator idGenerator = idGenerators[i % 2];
+            executorService.execute(new Runnable() {
+                public void run() {
+                    for (int j = 0; j < 5000; j++) {
+                        ids.add(idGenerator.getNextId());
+                    }
+                }
+            });
+        }
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(50000, ids.size());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/idgenerator/UuidGeneratorTest.testUuidGeneratorUsage.bpmn20.xml")
+    public void testTimeOrderedIdGeneratorUsage() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(5);
+        for (int i = 0; i < 50; i++) {
+            executorService.execute(new Runnable() {
+                public void run() {
+                    runtimeService.startProcessInstanceByKey("simpleProcess");
+                }
+            });
+        }
+
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(50, runtimeService.createProcessInstanceQuery().count());
+
+        List<Task> tasks = taskService.createTaskQuery().list();
+        while (!tasks.isEmpty()) {
+            for (Task task : tasks) {
+                taskService.complete(task.getId());
+            }
+            tasks = taskService.createTaskQuery().list();
+        }
+
+        assertEquals(50, historyService.createHistoricProcessInstanceQuery().finished().count());
+    }
+
+}
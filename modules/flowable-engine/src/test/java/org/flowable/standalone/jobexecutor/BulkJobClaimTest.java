@@ -0,0 +1,113 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.jobexecutor;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.engine.impl.asyncexecutor.AcquiredJobEntities;
+import org.flowable.engine.impl.asyncexecutor.AcquiredTimerJobEntities;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.cmd.AcquireJobsCmd;
+import org.flowable.engine.impl.cmd.AcquireTimerJobsCmd;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.JobEntity;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.test.Deployment;
+
+public class BulkJobClaimTest extends ResourceFlowableTestCase {
+
+    public BulkJobClaimTest() {
+        super("org/flowable/standalone/jobexecutor/bulkjobclaim.test.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/standalone/jobexecutor/BulkJobClaimTest.bpmn20.xml")
+    public void testClaimAsyncJobs() {
+        for (int i = 0; i < 5; i++) {
+            runtimeService.startProcessInstanceByKey("asyncProcess");
+        }
+        assertEquals(5, managementService.createJobQuery().count());
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        DefaultAsyncJobExecutor firstExecutor = createAsyncExecutor("firstExecutor");
+        DefaultAsyncJobExecutor secondExecutor = createAsyncExecutor("secondExecutor");
+
+        AcquiredJobEntities firstJobs = commandExecutor.execute(new AcquireJobsCmd(firstExecutor));
+        AcquiredJobEntities secondJobs = commandExecutor.execute(new AcquireJobsCmd(secondExecutor));
+        assertEquals(3, firstJobs.size());
+        assertEquals(2, secondJobs.size());
+        assertEquals(0, commandExecutor.execute(new AcquireJobsCmd(firstExecutor)).size());
+
+        Set<String> jobIds = new HashSet<String>();
+        for (JobEntity job : firstJobs.getJobs()) {
+            assertEquals("firstExecutor", job.getLockOwner());
+            assertNotNull(job.getLockExpirationTime());
+            jobIds.add(job.getId());
+
+            // The claimed entities reflect the stored lock, without being fetched again
+            JobEntity storedJob = (JobEntity) managementService.createJobQuery().jobId(job.getId()).singleResult();
+            assertEquals(storedJob.getRevision(), job.getRevision());
+            assertEquals(storedJob.getLockExpirationTime(), job.getLockExpirationTime());
+        }
+        for (JobEntity job : secondJobs.getJobs()) {
+            assertEquals("secondExecutor", job.getLockOwner());
+            assertNotNull(job.getLockExpirationTime());
+            jobIds.add(job.getId());
+        }
+        assertEquals(5, jobIds.size());
+
+        // The claimed jobs can be executed as usual
+        for (Job job : managementService.createJobQuery().list()) {
+            managementService.executeJob(job.getId());
+        }
+        assertEquals(0, managementService.createJobQuery().count());
+        assertEquals(5, runtimeService.createProcessInstanceQuery().variableValueEquals("invoked", "true").count());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/jobexecutor/BulkJobClaimTest.bpmn20.xml")
+    public void testClaimTimerJobs() {
+        Date startTime = processEngineConfiguration.getClock().getCurrentTime();
+        runtimeService.startProcessInstanceByKey("timerProcess");
+        runtimeService.startProcessInstanceByKey("timerProcess");
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        DefaultAsyncJobExecutor firstExecutor = createAsyncExecutor("firstExecutor");
+        DefaultAsyncJobExecutor secondExecutor = createAsyncExecutor("secondExecutor");
+        assertEquals(0, commandExecutor.execute(new AcquireTimerJobsCmd(firstExecutor)).size());
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + (2 * 60 * 60 * 1000)));
+        AcquiredTimerJobEntities firstJobs = commandExecutor.execute(new AcquireTimerJobsCmd(firstExecutor));
+        assertEquals(2, firstJobs.size());
+        for (TimerJobEntity job : firstJobs.getJobs()) {
+            assertEquals("firstExecutor", job.getLockOwner());
+        }
+        assertEquals(0, commandExecutor.execute(new AcquireTimerJobsCmd(secondExecutor)).size());
+
+        for (TimerJobEntity job : firstJobs.getJobs()) {
+            Job executableJob = managementService.moveTimerToExecutableJob(job.getId());
+            managementService.executeJob(executableJob.getId());
+        }
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    }
+
+    protected DefaultAsyncJobExecutor createAsyncExecutor(String lockOwner) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setLockOwner(lockOwner);
+        asyncExecutor.setMaxAsyncJobsDuePerAcquisition(3);
+        return asyncExecutor;
+    }
+
+}
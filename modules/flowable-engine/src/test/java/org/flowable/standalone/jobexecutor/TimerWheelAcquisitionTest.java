@@ -0,0 +1,278 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.jobexecutor;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.impl.asyncexecutor.AbstractAsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.engine.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.engine.impl.asyncexecutor.TimerWheelAcquireTimerJobsRunnable;
+import org.flowable.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.TimerJobEntity;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.Job;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+public class TimerWheelAcquisitionTest extends ResourceFlowableTestCase {
+
+    protected static final long HOUR = 60 * 60 * 1000L;
+
+    public TimerWheelAcquisitionTest() {
+        super("org/flowable/standalone/jobexecutor/timerwheel.test.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = "org/flowable/standalone/jobexecutor/TimerWheelTest.bpmn20.xml")
+    public void testLeaseAndFireTimerJobs() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT1H"));
+        runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT1H"));
+
+        TestTimerWheelRunnable runnable = createRunnable("wheelExecutor");
+
+        // Not due within the look-ahead window
+        runnable.lease();
+        assertEquals(0, runnable.getScheduledTimerJobCount());
+        assertNull(getTimerJobs().get(0).getLockOwner());
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + HOUR - 2000));
+        runnable.lease();
+        assertEquals(2, runnable.getScheduledTimerJobCount());
+        for (TimerJobEntity timerJob : getTimerJobs()) {
+            assertEquals("wheelExecutor", timerJob.getLockOwner());
+            assertNotNull(timerJob.getLockExpirationTime());
+        }
+
+        // Already leased, so not leased again
+        runnable.lease();
+        assertEquals(2, runnable.getScheduledTimerJobCount());
+
+        assertEquals(0, runnable.fireDueTimerJobs());
+        assertEquals(2, managementService.createTimerJobQuery().count());
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + HOUR));
+        assertEquals(2, runnable.fireDueTimerJobs());
+        assertEquals(0, runnable.getScheduledTimerJobCount());
+        assertEquals(0, managementService.createTimerJobQuery().count());
+        assertEquals(2, managementService.createJobQuery().count());
+
+        for (Job job : managementService.createJobQuery().list()) {
+            managementService.executeJob(job.getId());
+        }
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/jobexecutor/TimerWheelTest.bpmn20.xml")
+    public void testReleaseLeases() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT3S"));
+
+        TestTimerWheelRunnable runnable = createRunnable("wheelExecutor");
+        runnable.lease();
+        assertEquals(1, runnable.getScheduledTimerJobCount());
+        assertEquals("wheelExecutor", getTimerJobs().get(0).getLockOwner());
+
+        runnable.release();
+        assertEquals(0, runnable.getScheduledTimerJobCount());
+        TimerJobEntity timerJob = getTimerJobs().get(0);
+        assertNull(timerJob.getLockOwner());
+        assertNull(timerJob.getLockExpirationTime());
+
+        // A released timer job can be leased by another node
+        TestTimerWheelRunnable otherRunnable = createRunnable("otherExecutor");
+        otherRunnable.lease();
+        assertEquals("otherExecutor", getTimerJobs().get(0).getLockOwner());
+
+        // A timer job deleted in the meantime is skipped
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 3000));
+        assertEquals(1, otherRunnable.fireDueTimerJobs());
+        assertEquals(0, managementService.createJobQuery().count());
+    }
+
+    @Deployment(resources = "org/flowable/standalone/jobexecutor/TimerWheelTest.bpmn20.xml")
+    public void testCapacity() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT3S"));
+        }
+
+        // The wheel only leases the timer jobs it has room for
+        CapacityAsyncExecutor asyncExecutor = new CapacityAsyncExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        asyncExecutor.setLockOwner("wheelExecutor");
+        asyncExecutor.setFusedTimerJobExecution(true);
+        TestTimerWheelRunnable runnable = new TestTimerWheelRunnable(asyncExecutor, 2);
+        runnable.lease();
+        assertEquals(2, runnable.getScheduledTimerJobCount());
+        assertEquals(2, managementService.createTimerJobQuery().count() - countUnleasedTimerJobs());
+
+        // Due timer jobs are only fired while the async executor has capacity left
+        processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 3000));
+        asyncExecutor.remainingCapacity = 1;
+        assertEquals(1, runnable.fireDueTimerJobs());
+        assertEquals(1, runnable.getScheduledTimerJobCount());
+        assertEquals(1, asyncExecutor.executedJobs);
+
+        assertEquals(0, runnable.fireDueTimerJobs());
+        assertEquals(1, runnable.getScheduledTimerJobCount());
+
+        asyncExecutor.remainingCapacity = 10;
+        assertEquals(1, runnable.fireDueTimerJobs());
+        assertEquals(0, runnable.getScheduledTimerJobCount());
+        assertEquals(2, asyncExecutor.executedJobs);
+
+        for (ProcessInstance processInstance : runtimeService.createProcessInstanceQuery().list()) {
+            runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        }
+    }
+
+    @Deployment(resources = "org/flowable/standalone/jobexecutor/TimerWheelTest.bpmn20.xml")
+    public void testTimerJobsDueFirstAreLeasedFirst() {
+        Date startTime = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT4S"));
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT1S"));
+
+        // Only one timer job fits, the one due first is leased
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        asyncExecutor.setLockOwner("wheelExecutor");
+        TestTimerWheelRunnable runnable = new TestTimerWheelRunnable(asyncExecutor, 1);
+        runnable.lease();
+        assertEquals(1, runnable.getScheduledTimerJobCount());
+        TimerJobEntity timerJob = (TimerJobEntity) managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals("wheelExecutor", timerJob.getLockOwner());
+        assertEquals(1, countUnleasedTimerJobs());
+
+        for (ProcessInstance remainingProcessInstance : runtimeService.createProcessInstanceQuery().list()) {
+            runtimeService.deleteProcessInstance(remainingProcessInstance.getId(), "test");
+        }
+    }
+
+    protected long countUnleasedTimerJobs() {
+        long count = 0;
+        for (TimerJobEntity timerJob : getTimerJobs()) {
+            if (timerJob.getLockOwner() == null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Deployment(resources = "org/flowable/standalone/jobexecutor/TimerWheelTest.bpmn20.xml")
+    public void testTimerScheduledByEngineGoesStraightIntoWheel() throws Exception {
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.start();
+        try {
+            TimerWheelAcquireTimerJobsRunnable timerWheel = ((AbstractAsyncExecutor) asyncExecutor).getTimerWheel();
+            assertNotNull(timerWheel);
+
+            Date startTime = new Date();
+            processEngineConfiguration.getClock().setCurrentTime(startTime);
+
+            // Outside of the look-ahead window: inserted without lease
+            ProcessInstance lateProcessInstance = runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT1H"));
+            assertNull(((TimerJobEntity) managementService.createTimerJobQuery().processInstanceId(lateProcessInstance.getId()).singleResult()).getLockOwner());
+
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("timerProcess", durationVariable("PT10S"));
+            Job timerJob = managementService.createTimerJobQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertEquals(asyncExecutor.getLockOwner(), ((TimerJobEntity) timerJob).getLockOwner());
+            assertEquals(1, timerWheel.getScheduledTimerJobCount());
+
+            processEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 10000));
+            long maxWaitTime = System.currentTimeMillis() + 10000;
+            while (runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count() > 0) {
+                assertTrue("Timer job was not fired", System.currentTimeMillis() < maxWaitTime);
+                Thread.sleep(50);
+            }
+            assertEquals(0, timerWheel.getScheduledTimerJobCount());
+
+            runtimeService.deleteProcessInstance(lateProcessInstance.getId(), "test");
+
+        } finally {
+            asyncExecutor.shutdown();
+        }
+    }
+
+    protected Map<String, Object> durationVariable(String duration) {
+        return Collections.<String, Object> singletonMap("duration", duration);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected List<TimerJobEntity> getTimerJobs() {
+        return (List<TimerJobEntity>) (List<?>) managementService.createTimerJobQuery().list();
+    }
+
+    protected TestTimerWheelRunnable createRunnable(String lockOwner) {
+        DefaultAsyncJobExecutor asyncExecutor = new DefaultAsyncJobExecutor();
+        asyncExecutor.setProcessEngineConfiguration(processEngineConfiguration);
+        asyncExecutor.setLockOwner(lockOwner);
+        return new TestTimerWheelRunnable(asyncExecutor);
+    }
+
+    static class CapacityAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected int remainingCapacity;
+        protected int executedJobs;
+
+        @Override
+        public boolean executeAsyncJob(Job job) {
+            remainingCapacity--;
+            executedJobs++;
+            return true;
+        }
+
+        @Override
+        public int getRemainingCapacity() {
+            return remainingCapacity;
+        }
+
+    }
+
+    static class TestTimerWheelRunnable extends TimerWheelAcquireTimerJobsRunnable {
+
+        public TestTimerWheelRunnable(AsyncExecutor asyncExecutor) {
+            this(asyncExecutor, 100);
+        }
+
+        public TestTimerWheelRunnable(AsyncExecutor asyncExecutor, int capacity) {
+            super(asyncExecutor, asyncExecutor.getProcessEngineConfiguration().getJobManager(), 5000, 10, 64, capacity);
+        }
+
+        public void lease() {
+            leaseTimerJobs(getCommandExecutor());
+        }
+
+        public int fireDueTimerJobs() {
+            return fireDueTimerJobs(getCommandExecutor());
+        }
+
+        public void release() {
+            releaseLeases(getCommandExecutor());
+        }
+
+        protected CommandExecutor getCommandExecutor() {
+            return asyncExecutor.getProcessEngineConfiguration().getCommandExecutor();
+        }
+
+    }
+
+}
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.el.ValueExpression;
 import javax.sql.DataSource;
 
 import org.apache.commons.lang3.StringUtils;
@@ -30,8 +31,11 @@ import org.flowable.engine.common.AbstractEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.cfg.BeansConfigurationHelper;
 import org.flowable.engine.common.impl.cfg.TransactionContextFactory;
+import org.flowable.engine.common.impl.el.ParsedExpressionCache;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
 import org.flowable.engine.common.impl.interceptor.SessionFactory;
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.common.runtime.Clock;
 import org.flowable.form.api.FormManagementService;
 import org.flowable.form.api.FormRepositoryService;
@@ -63,7 +67,6 @@ import org.flowable.form.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.form.engine.impl.parser.FormDefinitionParseFactory;
 import org.flowable.form.engine.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.Deployer;
-import org.flowable.form.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.form.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
@@ -168,8 +171,19 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
     protected DeploymentManager deploymentManager;
 
     protected int formDefinitionCacheLimit = -1; // By default, no limit
+
+    /**
+     * When enabled, the form definition cache is a {@link ConcurrentDeploymentCache}, which doesn't lock on lookups, evicts the least frequently used form
+     * definitions when the formDefinitionCacheLimit is reached and keeps hit/miss statistics.
+     */
+    protected boolean enableConcurrentFormDefinitionCache;
     protected DeploymentCache<FormDefinitionCacheEntry> formDefinitionCache;
 
+    /**
+     * The maximum number of parsed expressions kept by the {@link ExpressionManager}, by expression text. A value of 0 or less disables the cache.
+     */
+    protected int parsedExpressionCacheLimit = ParsedExpressionCache.DEFAULT_LIMIT;
+
     public static FormEngineConfiguration createFormEngineConfigurationFromResourceDefault() {
         return createFormEngineConfigurationFromResource("flowable.form.cfg.xml", "formEngineConfiguration");
     }
@@ -251,6 +265,9 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
         if (expressionManager == null) {
             expressionManager = new ExpressionManager();
         }
+        if (expressionManager.getParsedExpressionCache() == null && parsedExpressionCacheLimit > 0) {
+            expressionManager.setParsedExpressionCache(new ParsedExpressionCache<ValueExpression>(parsedExpressionCacheLimit));
+        }
     }
 
     // Data managers
@@ -453,7 +470,9 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
 
         // Decision cache
         if (formDefinitionCache == null) {
-            if (formDefinitionCacheLimit <= 0) {
+            if (enableConcurrentFormDefinitionCache) {
+                formDefinitionCache = new ConcurrentDeploymentCache<FormDefinitionCacheEntry>(formDefinitionCacheLimit);
+            } else if (formDefinitionCacheLimit <= 0) {
                 formDefinitionCache = new DefaultDeploymentCache<FormDefinitionCacheEntry>();
             } else {
                 formDefinitionCache = new DefaultDeploymentCache<FormDefinitionCacheEntry>(formDefinitionCacheLimit);
@@ -737,6 +756,24 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration {
         return this;
     }
 
+    public int getParsedExpressionCacheLimit() {
+        return parsedExpressionCacheLimit;
+    }
+
+    public FormEngineConfiguration setParsedExpressionCacheLimit(int parsedExpressionCacheLimit) {
+        this.parsedExpressionCacheLimit = parsedExpressionCacheLimit;
+        return this;
+    }
+
+    public boolean isEnableConcurrentFormDefinitionCache() {
+        return enableConcurrentFormDefinitionCache;
+    }
+
+    public FormEngineConfiguration setEnableConcurrentFormDefinitionCache(boolean enableConcurrentFormDefinitionCache) {
+        this.enableConcurrentFormDefinitionCache = enableConcurrentFormDefinitionCache;
+        return this;
+    }
+
     public DeploymentCache<FormDefinitionCacheEntry> getFormDefinitionCache() {
         return formDefinitionCache;
     }
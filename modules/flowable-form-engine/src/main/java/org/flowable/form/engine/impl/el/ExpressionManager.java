@@ -24,6 +24,7 @@ import javax.el.ListELResolver;
 import javax.el.MapELResolver;
 import javax.el.ValueExpression;
 
+import org.flowable.engine.common.impl.el.ParsedExpressionCache;
 import org.flowable.form.engine.FormExpression;
 
 /**
@@ -43,6 +44,11 @@ public class ExpressionManager {
     protected ELContext parsingElContext = new ParsingElContext();
     protected Map<Object, Object> beans;
 
+    /**
+     * Parsed value expressions by expression text. When null, every expression is parsed.
+     */
+    protected ParsedExpressionCache<ValueExpression> parsedExpressionCache;
+
     public ExpressionManager() {
         this(null);
     }
@@ -61,12 +67,26 @@ public class ExpressionManager {
     }
 
     public FormExpression createExpression(String expression) {
-        ValueExpression valueExpression = expressionFactory.createValueExpression(parsingElContext, expression.trim(), Object.class);
+        String trimmedExpression = expression.trim();
+        ValueExpression valueExpression = null;
+        if (parsedExpressionCache != null) {
+            valueExpression = parsedExpressionCache.get(trimmedExpression);
+        }
+
+        if (valueExpression == null) {
+            valueExpression = expressionFactory.createValueExpression(parsingElContext, trimmedExpression, Object.class);
+            if (parsedExpressionCache != null) {
+                parsedExpressionCache.add(trimmedExpression, valueExpression);
+            }
+        }
         return new JuelExpression(valueExpression, expression, this);
     }
 
     public void setExpressionFactory(ExpressionFactory expressionFactory) {
         this.expressionFactory = expressionFactory;
+        if (parsedExpressionCache != null) {
+            parsedExpressionCache.clear();
+        }
     }
 
     public FlowableFormElContext createElContext(Map<String, Object> variables) {
@@ -101,4 +121,12 @@ public class ExpressionManager {
         this.beans = beans;
     }
 
+    public ParsedExpressionCache<ValueExpression> getParsedExpressionCache() {
+        return parsedExpressionCache;
+    }
+
+    public void setParsedExpressionCache(ParsedExpressionCache<ValueExpression> parsedExpressionCache) {
+        this.parsedExpressionCache = parsedExpressionCache;
+    }
+
 }
@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.form.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Collections;
+
+import javax.el.ExpressionFactory;
+import javax.el.ValueExpression;
+
+import org.flowable.engine.common.impl.el.ParsedExpressionCache;
+import org.flowable.form.engine.FormExpression;
+import org.flowable.form.engine.impl.el.ExpressionManager;
+import org.junit.Test;
+
+public class ExpressionManagerTest extends AbstractFlowableFormTest {
+
+    @Test
+    public void parsedExpressionCache() {
+        ExpressionManager expressionManager = formEngineConfiguration.getExpressionManager();
+        ParsedExpressionCache<ValueExpression> parsedExpressionCache = expressionManager.getParsedExpressionCache();
+        assertNotNull(parsedExpressionCache);
+
+        long hitCount = parsedExpressionCache.getHitCount();
+        long missCount = parsedExpressionCache.getMissCount();
+        String expressionText = "${parsedExpressionCache == 2 + 3}";
+
+        FormExpression expression = expressionManager.createExpression(expressionText);
+        FormExpression sameExpression = expressionManager.createExpression(" " + expressionText + " ");
+        assertEquals(missCount + 1, parsedExpressionCache.getMissCount());
+        assertEquals(hitCount + 1, parsedExpressionCache.getHitCount());
+        assertEquals(" " + expressionText + " ", sameExpression.getExpressionText());
+
+        // The parsed expression is shared, the variables are resolved when the expression is evaluated
+        assertEquals(true, expression.getValue(Collections.<String, Object> singletonMap("parsedExpressionCache", 5)));
+        assertEquals(false, sameExpression.getValue(Collections.<String, Object> singletonMap("parsedExpressionCache", 6)));
+    }
+
+    @Test
+    public void parsedExpressionCacheClearedWithNewExpressionFactory() {
+        ExpressionManager expressionManager = new ExpressionManager();
+        ParsedExpressionCache<ValueExpression> parsedExpressionCache = new ParsedExpressionCache<ValueExpression>(10);
+        expressionManager.setParsedExpressionCache(parsedExpressionCache);
+
+        expressionManager.createExpression("${a + b}");
+        expressionManager.createExpression("${a + b}");
+        assertEquals(1, parsedExpressionCache.getMissCount());
+        assertEquals(1, parsedExpressionCache.getHitCount());
+
+        // Expressions parsed with the previous factory are not reused
+        expressionManager.setExpressionFactory(ExpressionFactory.newInstance());
+        expressionManager.createExpression("${a + b}");
+        assertEquals(2, parsedExpressionCache.getMissCount());
+        assertEquals(1, parsedExpressionCache.getHitCount());
+    }
+
+}
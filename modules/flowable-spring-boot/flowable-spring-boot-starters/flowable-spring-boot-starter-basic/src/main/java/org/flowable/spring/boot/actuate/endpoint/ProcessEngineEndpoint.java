@@ -19,9 +19,10 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.MonitoredDeploymentCache;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.deploy.DefaultDeploymentCache;
-import org.flowable.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
@@ -87,6 +88,12 @@ public class ProcessEngineEndpoint extends AbstractEndpoint<Map<String, Object>>
         DeploymentCache<ProcessDefinitionCacheEntry> deploymentCache = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache();
         if (deploymentCache instanceof DefaultDeploymentCache) {
             metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
+        } else if (deploymentCache instanceof MonitoredDeploymentCache) {
+            MonitoredDeploymentCache<ProcessDefinitionCacheEntry> monitoredCache = (MonitoredDeploymentCache<ProcessDefinitionCacheEntry>) deploymentCache;
+            metrics.put("cachedProcessDefinitionCount", monitoredCache.size());
+            metrics.put("processDefinitionCacheHitCount", monitoredCache.getHitCount());
+            metrics.put("processDefinitionCacheMissCount", monitoredCache.getMissCount());
+            metrics.put("processDefinitionCacheEvictionCount", monitoredCache.getEvictionCount());
         }
         return metrics;
     }
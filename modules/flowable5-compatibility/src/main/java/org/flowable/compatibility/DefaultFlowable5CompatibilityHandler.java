@@ -13,6 +13,7 @@
 
 package org.flowable.compatibility;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.Collection;
 import java.util.Date;
@@ -34,8 +35,10 @@ import org.activiti.engine.impl.interceptor.Command;
 import org.activiti.engine.impl.interceptor.CommandContext;
 import org.activiti.engine.impl.persistence.deploy.DeploymentManager;
 import org.activiti.engine.impl.persistence.entity.ExecutionEntity;
+import org.activiti.engine.impl.persistence.entity.VariableInstanceEntity;
 import org.activiti.engine.impl.pvm.delegate.ActivityExecution;
 import org.activiti.engine.impl.scripting.ScriptingEngines;
+import org.activiti.engine.impl.variable.ByteArrayType;
 import org.activiti.engine.repository.DeploymentBuilder;
 import org.activiti.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.bpmn.model.BpmnModel;
@@ -69,6 +72,7 @@ import org.flowable.engine.impl.persistence.entity.VariableInstance;
 import org.flowable.engine.impl.repository.DeploymentBuilderImpl;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.Job;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.Attachment;
@@ -407,6 +411,41 @@ public class DefaultFlowable5CompatibilityHandler implements Flowable5Compatibil
         }
     }
 
+    public InputStream getExecutionVariableInputStream(final String executionId, final String variableName, final boolean isLocal) {
+        final ProcessEngineConfigurationImpl processEngineConfig = (ProcessEngineConfigurationImpl) getProcessEngine().getProcessEngineConfiguration();
+        try {
+            return processEngineConfig.getCommandExecutor().execute(new Command<InputStream>() {
+
+                @Override
+                public InputStream execute(CommandContext commandContext) {
+                    ExecutionEntity execution = commandContext.getExecutionEntityManager().findExecutionById(executionId);
+                    if (execution == null) {
+                        throw new FlowableObjectNotFoundException("execution " + executionId + " doesn't exist", Execution.class);
+                    }
+
+                    VariableInstance variable = isLocal ? execution.getVariableInstanceLocal(variableName) : execution.getVariableInstance(variableName);
+                    if (variable == null) {
+                        return null;
+                    }
+
+                    // The type name is not set on variables loaded by the Flowable 5 engine
+                    String typeName = variable instanceof VariableInstanceEntity ? ((VariableInstanceEntity) variable).getType().getTypeName() : variable.getTypeName();
+                    if (!(variable instanceof VariableInstanceEntity) || !(((VariableInstanceEntity) variable).getType() instanceof ByteArrayType)) {
+                        throw new FlowableIllegalArgumentException("variable " + variableName + " of type " + typeName + " is not stored as a byte array");
+                    }
+
+                    // The value is not deserialized, only the byte array is fetched
+                    byte[] bytes = ((VariableInstanceEntity) variable).getBytes();
+                    return bytes != null ? new ByteArrayInputStream(bytes) : null;
+                }
+            });
+
+        } catch (org.activiti.engine.ActivitiException e) {
+            handleActivitiException(e);
+            return null;
+        }
+    }
+
     public Map<String, Object> getExecutionVariables(String executionId, Collection<String> variableNames, boolean isLocal) {
         try {
             if (isLocal) {
@@ -19,6 +19,8 @@ import java.util.Map;
 import java.util.Set;
 
 import org.activiti.engine.impl.test.PluggableFlowableTestCase;
+import org.activiti.engine.impl.util.IoUtil;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.impl.persistence.entity.VariableInstance;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.engine.runtime.ProcessInstance;
@@ -87,6 +89,26 @@ public class RuntimeVariablesTest extends PluggableFlowableTestCase {
         assertEquals(serializableTypeVar, variables.get(0).getValue());
     }
 
+    @Deployment(resources = {
+            "org/activiti/engine/test/api/runtime/RuntimeVariablesTest.testGetVariablesByExecutionIds.bpmn20.xml"
+    })
+    public void testGetVariableInputStream() {
+        Map<String, Object> variables = new HashMap<String, Object>();
+        variables.put("bytesVar", "some bytes".getBytes());
+        variables.put("stringVar", "small");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        assertEquals("some bytes", new String(IoUtil.readInputStream(runtimeService.getVariableInputStream(processInstance.getId(), "bytesVar"), "bytesVar")));
+        assertNull(runtimeService.getVariableInputStreamLocal(processInstance.getId(), "unknownVar"));
+
+        try {
+            runtimeService.getVariableInputStream(processInstance.getId(), "stringVar");
+            fail("Exception expected");
+        } catch (FlowableIllegalArgumentException e) {
+            assertTextPresent("not stored as a byte array", e.getMessage());
+        }
+    }
+
     private void checkVariable(String executionId, String name, String value, List<VariableInstance> variables) {
         for (VariableInstance variable : variables) {
             if (executionId.equals(variable.getExecutionId())) {